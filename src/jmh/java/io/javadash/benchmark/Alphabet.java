@@ -0,0 +1,57 @@
+package io.javadash.benchmark;
+
+import java.util.Random;
+
+/**
+ * Character repertoire of the generated {@code StringUtils} benchmark input.
+ */
+public enum Alphabet {
+    /**
+     * Plain ASCII letters and digits.
+     */
+    ASCII("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"),
+    /**
+     * ASCII mixed with accented Latin-1 Supplement and Latin Extended-A letters, the input {@code deburr} targets.
+     */
+    LATIN_1("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZÀÇÈÌÒÙÝß"
+        + "àçèéìñòöùýĀāĆć"),
+    /**
+     * ASCII mixed with Greek, Cyrillic, CJK and supplementary-plane characters (surrogate pairs).
+     */
+    UNICODE("abcdefghijklmnopqrstuvwxyzABCDEFGHIJΑβγДжя中文字"
+        + "😀🚀𐐷");
+
+    private static final String[] SEPARATORS = {" ", "_", "-", ""};
+
+    private final int[] codePoints;
+
+    Alphabet(String characters) {
+        this.codePoints = characters.codePoints().toArray();
+    }
+
+    /**
+     * Generates identifier-like text of {@code length} chars: words of 3 to 8 characters joined by spaces,
+     * underscores, hyphens or a camel-case boundary, wrapped in a leading and trailing space.
+     *
+     * @param length The number of UTF-16 chars to generate.
+     * @param seed   The seed of the random generator, so runs are reproducible.
+     * @return Returns the generated text.
+     */
+    public String generate(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(length + 2);
+        builder.append(' ');
+        while (builder.length() < length) {
+            int wordLength = 3 + random.nextInt(6);
+            for (int i = 0; i < wordLength && builder.length() < length; i++) {
+                builder.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+            }
+            builder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        builder.setLength(length - 1);
+        if (Character.isHighSurrogate(builder.charAt(length - 2))) {
+            builder.setCharAt(length - 2, 'x');
+        }
+        return builder.append(' ').toString();
+    }
+}
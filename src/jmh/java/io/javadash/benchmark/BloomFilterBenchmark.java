@@ -0,0 +1,83 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.primitive.BloomFilter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CollectionUtils#differenceFiltered(java.util.Collection, BloomFilter, java.util.function.Predicate)} of
+ * {@code size} fresh IDs against {@code target} historical ones, a tenth of them shared. The exact lookup is a
+ * {@code HashSet} here; in production it is a store call, so {@code lookups} per call matters more than the time.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar BloomFilterBenchmark -p target=10000000 -jvmArgs -Xmx4g
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BloomFilterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BloomState {
+        @Param({"100000"})
+        public int size;
+
+        @Param({"1000000", "10000000"})
+        public int target;
+
+        @Param({"false", "true"})
+        public boolean offHeap;
+
+        public List<Integer> today;
+        public Set<Integer> historical;
+        public BloomFilter<Integer> filter;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            today = Distribution.UNIQUE.generate(size, target - size / 10, 1L);
+            historical = new HashSet<>(Distribution.SORTED.generate(target, 0, 2L));
+            filter = BloomFilter.create(target, 0.01, BloomFilter::hash, offHeap);
+            filter.putAll(historical);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            filter.close();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> hashSetDifference(BloomState state) {
+        return CollectionUtils.difference(state.today, state.historical);
+    }
+
+    @Benchmark
+    public List<Integer> bloomDifference(BloomState state) {
+        return CollectionUtils.differenceFiltered(state.today, state.filter, state.historical::contains);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean mightContain(BloomState state) {
+        return state.filter.mightContain(state.today.get(state.size / 2));
+    }
+}
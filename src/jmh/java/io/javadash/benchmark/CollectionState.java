@@ -0,0 +1,75 @@
+package io.javadash.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inputs for the linear and log-linear {@code CollectionUtils} benchmarks.
+ *
+ * <p>{@code other} holds values shifted by half of {@code size}, so it overlaps {@code source} by roughly 50%,
+ * which keeps set operations (difference, intersection, union, xor) from degenerating into trivial cases.
+ */
+@State(Scope.Benchmark)
+public class CollectionState {
+    /**
+     * A value that never occurs in the generated inputs, used to force full scans.
+     */
+    public static final int MISSING = -1;
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public CollectionType type;
+
+    @Param
+    public Distribution distribution;
+
+    public Collection<Integer> source;
+    public Collection<Integer> other;
+    public List<List<Integer>> nested;
+    public List<Object> deepNested;
+    public List<List<Integer>> pairs;
+    public List<Integer> indexes;
+    public List<Collection<Integer>> grouped;
+    public int half;
+
+    @Setup
+    public void setUp() {
+        List<Integer> values = distribution.generate(size, 0, 1L);
+        source = type.create(values);
+        other = type.create(distribution.generate(size, size / 2, 2L));
+        half = source.size() / 2;
+        nested = new ArrayList<>();
+        deepNested = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += 16) {
+            List<Integer> group = values.subList(i, Math.min(i + 16, values.size()));
+            nested.add(group);
+            deepNested.add(Arrays.asList(group.get(0), new ArrayList<Object>(group)));
+        }
+        pairs = new ArrayList<>(values.size());
+        indexes = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            pairs.add(Arrays.asList(values.get(i), i));
+            if (i % 10 == 0) {
+                indexes.add(i);
+            }
+        }
+        grouped = Arrays.asList(source, other);
+    }
+
+    /**
+     * Copies {@code source} for methods that mutate their input, see {@code CollectionUtilsBenchmark.copy}.
+     *
+     * @return Returns a fresh collection of the benchmarked type.
+     */
+    public Collection<Integer> copy() {
+        return type.create(source);
+    }
+}
@@ -0,0 +1,56 @@
+package io.javadash.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The collection implementation handed to the benchmarked method.
+ */
+public enum CollectionType {
+    ARRAY_LIST,
+    LINKED_LIST,
+    /**
+     * Duplicates are collapsed, so {@link Distribution#FEW_UNIQUE} inputs end up much smaller than {@code size}.
+     */
+    HASH_SET;
+
+    /**
+     * Copies {@code values} into a new collection of this type.
+     *
+     * @param <T>    The type of elements in the collection.
+     * @param values The values to copy.
+     * @return Returns the new collection.
+     */
+    public <T> Collection<T> create(Collection<? extends T> values) {
+        switch (this) {
+            case LINKED_LIST:
+                return new LinkedList<>(values);
+            case HASH_SET:
+                return new HashSet<>(values);
+            default:
+                return new ArrayList<>(values);
+        }
+    }
+
+    /**
+     * Copies {@code values} into a new list of this type.
+     *
+     * @param <T>    The type of elements in the list.
+     * @param values The values to copy.
+     * @return Returns the new list.
+     * @throws IllegalStateException if this type is not a {@link List}.
+     */
+    public <T> List<T> createList(Collection<? extends T> values) {
+        switch (this) {
+            case ARRAY_LIST:
+                return new ArrayList<>(values);
+            case LINKED_LIST:
+                return new LinkedList<>(values);
+            default:
+                throw new IllegalStateException(this + " is not a List");
+        }
+    }
+}
@@ -0,0 +1,572 @@
+package io.javadash.benchmark;
+
+import static io.javadash.benchmark.CollectionState.MISSING;
+
+import io.javadash.CollectionUtils;
+import io.javadash.SortKey;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One benchmark per public {@link CollectionUtils} method with a linear or log-linear implementation.
+ *
+ * <p>The positional methods ({@code indexOf}, {@code lastIndexOf}, {@code nth}, {@code findIndex},
+ * {@code findLastIndex}, {@code zip}, {@code unzip}, ...) run over every collection type to show they stay linear
+ * without {@code RandomAccess}.
+ *
+ * <p>Methods that scan the input once per element live in {@link CollectionUtilsQuadraticBenchmark} instead,
+ * because they cannot finish at the larger sizes used here. Methods that mutate their argument benchmark a fresh
+ * copy; subtract {@link #copy} to get the cost of the call alone.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar CollectionUtilsBenchmark.uniq -p size=1000000 -p type=ARRAY_LIST
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+
+    @Benchmark
+    public Collection<Integer> copy(CollectionState state) {
+        return state.copy();
+    }
+
+    @Benchmark
+    public List<Integer> copyList(ListState state) {
+        return state.copy();
+    }
+
+    @Benchmark
+    public boolean isEmpty(CollectionState state) {
+        return CollectionUtils.isEmpty(state.source);
+    }
+
+    @Benchmark
+    public List<List<Integer>> chunk(CollectionState state) {
+        return CollectionUtils.chunk(state.source, 16);
+    }
+
+    @Benchmark
+    public List<Integer> compact(CollectionState state) {
+        return CollectionUtils.compact(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> concat(CollectionState state) {
+        return CollectionUtils.concat(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> difference(CollectionState state) {
+        return CollectionUtils.difference(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> differenceBy(CollectionState state) {
+        return CollectionUtils.differenceBy(state.source, value -> value % 2 == 0, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> drop(CollectionState state) {
+        return CollectionUtils.drop(state.source, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> dropRight(CollectionState state) {
+        return CollectionUtils.dropRight(state.source, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> dropWhile(CollectionState state) {
+        int half = state.half;
+        return CollectionUtils.dropWhile(state.source, value -> value < half);
+    }
+
+    @Benchmark
+    public List<Integer> dropRightWhile(CollectionState state) {
+        int half = state.half;
+        return CollectionUtils.dropRightWhile(state.source, value -> value > half);
+    }
+
+    @Benchmark
+    public List<Integer> fill(ListState state) {
+        return CollectionUtils.fill(state.copy(), 0, 0, state.size);
+    }
+
+    @Benchmark
+    public int findIndex(CollectionState state) {
+        return CollectionUtils.findIndex(state.source, value -> value == MISSING, 0);
+    }
+
+    @Benchmark
+    public int findLastIndex(CollectionState state) {
+        return CollectionUtils.findLastIndex(state.source, value -> value == MISSING, state.size);
+    }
+
+    @Benchmark
+    public List<?> flatten(CollectionState state) {
+        return CollectionUtils.flatten(state.nested);
+    }
+
+    @Benchmark
+    public List<Object> flattenDeep(CollectionState state) {
+        return CollectionUtils.flattenDeep(state.deepNested);
+    }
+
+    @Benchmark
+    public List<Object> flattenDepth(CollectionState state) {
+        return CollectionUtils.flattenDepth(state.deepNested, 2);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> fromPairs(CollectionState state) {
+        return CollectionUtils.fromPairs(state.pairs);
+    }
+
+    @Benchmark
+    public int indexOf(CollectionState state) {
+        return CollectionUtils.indexOf(state.source, MISSING);
+    }
+
+    @Benchmark
+    public int indexOfFromIndex(CollectionState state) {
+        return CollectionUtils.indexOf(state.source, MISSING, 0);
+    }
+
+    @Benchmark
+    public Optional<Integer> head(CollectionState state) {
+        return CollectionUtils.head(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> initial(CollectionState state) {
+        return CollectionUtils.initial(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> intersection(CollectionState state) {
+        return CollectionUtils.intersection(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionBy(CollectionState state) {
+        return CollectionUtils.intersectionBy(state.source, value -> value % 2 == 0, state.other);
+    }
+
+    @Benchmark
+    public String join(CollectionState state) {
+        return CollectionUtils.join(state.source, ",");
+    }
+
+    @Benchmark
+    public Optional<Integer> last(CollectionState state) {
+        return CollectionUtils.last(state.source);
+    }
+
+    @Benchmark
+    public int lastIndexOf(CollectionState state) {
+        return CollectionUtils.lastIndexOf(state.source, MISSING);
+    }
+
+    @Benchmark
+    public int lastIndexOfFromIndex(CollectionState state) {
+        return CollectionUtils.lastIndexOf(state.source, MISSING, state.size - 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> nth(CollectionState state) {
+        return CollectionUtils.nth(state.source, state.half);
+    }
+
+    @Benchmark
+    public Collection<? extends Integer> pull(CollectionState state) {
+        return CollectionUtils.pull(state.copy(), 0, 1, MISSING);
+    }
+
+    @Benchmark
+    public Collection<? extends Integer> pullAll(CollectionState state) {
+        return CollectionUtils.pullAll(state.copy(), state.other);
+    }
+
+    @Benchmark
+    public Collection<? extends Integer> pullAllBy(CollectionState state) {
+        return CollectionUtils.pullAllBy(state.copy(), state.other, value -> value % 1024);
+    }
+
+    @Benchmark
+    public List<Integer> pullAt(CollectionState state) {
+        return CollectionUtils.pullAt(state.source, state.indexes);
+    }
+
+    @Benchmark
+    public List<Integer> remove(CollectionState state) {
+        return CollectionUtils.remove(state.copy(), value -> value % 2 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> reverse(CollectionState state) {
+        return CollectionUtils.reverse(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> slice(CollectionState state) {
+        return CollectionUtils.slice(state.source, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> sliceRange(CollectionState state) {
+        return CollectionUtils.slice(state.source, state.half / 2, state.half);
+    }
+
+    /**
+     * The zero-copy counterpart of {@link #sliceRange}; O(1) for {@code ARRAY_LIST}, one copy for the other types.
+     */
+    @Benchmark
+    public List<Integer> viewSliceRange(CollectionState state) {
+        return CollectionUtils.views().slice(state.source, state.half / 2, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> viewReverse(CollectionState state) {
+        return CollectionUtils.views().reverse(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> viewConcat(CollectionState state) {
+        return CollectionUtils.views().concat(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> tail(CollectionState state) {
+        return CollectionUtils.tail(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> take(CollectionState state) {
+        return CollectionUtils.take(state.source, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> takeRight(CollectionState state) {
+        return CollectionUtils.takeRight(state.source, state.half);
+    }
+
+    @Benchmark
+    public List<Integer> takeRightWhile(CollectionState state) {
+        int half = state.half;
+        return CollectionUtils.takeRightWhile(state.source, value -> value > half);
+    }
+
+    @Benchmark
+    public List<Integer> takeWhile(CollectionState state) {
+        int half = state.half;
+        return CollectionUtils.takeWhile(state.source, value -> value < half);
+    }
+
+    @Benchmark
+    public List<Integer> topBy100(CollectionState state) {
+        return CollectionUtils.topBy(state.source, 100, Comparator.<Integer>naturalOrder());
+    }
+
+    @Benchmark
+    public List<Integer> union(CollectionState state) {
+        return CollectionUtils.union(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> unionBy(CollectionState state) {
+        return CollectionUtils.unionBy(value -> value / 2, state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> uniq(CollectionState state) {
+        return CollectionUtils.uniq(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> uniqBy(CollectionState state) {
+        return CollectionUtils.uniqBy(state.source, value -> value / 2);
+    }
+
+    @Benchmark
+    public List<Integer> without(CollectionState state) {
+        return CollectionUtils.without(state.source, 0, 1, MISSING);
+    }
+
+    @Benchmark
+    public List<Integer> xor(CollectionState state) {
+        return CollectionUtils.xor(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> xorBy(CollectionState state) {
+        return CollectionUtils.xorBy(value -> value / 2, state.source, state.other);
+    }
+
+    @Benchmark
+    public List<List<Integer>> unzip(CollectionState state) {
+        return CollectionUtils.unzip(state.grouped);
+    }
+
+    @Benchmark
+    public List<Integer> unzipWith(CollectionState state) {
+        return CollectionUtils.unzipWith(state.grouped, group -> group.get(0));
+    }
+
+    @Benchmark
+    public List<List<Integer>> zip(CollectionState state) {
+        return CollectionUtils.zip(state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> zipWith(CollectionState state) {
+        return CollectionUtils.zipWith(group -> group.get(0), state.source, state.other);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> zipObject(CollectionState state) {
+        return CollectionUtils.zipObject(state.source, state.other);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countBy(CollectionState state) {
+        return CollectionUtils.countBy(state.source, value -> value % 16);
+    }
+
+    @Benchmark
+    public boolean every(CollectionState state) {
+        return CollectionUtils.every(state.source, value -> value != MISSING);
+    }
+
+    @Benchmark
+    public boolean everyMap(MapState state) {
+        return CollectionUtils.every(state.map, (key, value) -> value != MISSING);
+    }
+
+    @Benchmark
+    public List<Integer> filter(CollectionState state) {
+        return CollectionUtils.filter(state.source, value -> value % 2 == 0);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> filterMap(MapState state) {
+        return CollectionUtils.filter(state.map, (key, value) -> value % 2 == 0);
+    }
+
+    @Benchmark
+    public Optional<Integer> find(CollectionState state) {
+        return CollectionUtils.find(state.source, value -> value == MISSING);
+    }
+
+    @Benchmark
+    public Optional<Integer> findLast(CollectionState state) {
+        return CollectionUtils.findLast(state.source, value -> value == MISSING);
+    }
+
+    @Benchmark
+    public List<Integer> flatMap(CollectionState state) {
+        return CollectionUtils.flatMap(state.source, value -> Arrays.asList(value, value));
+    }
+
+    @Benchmark
+    public List<?> flatMapDeep(CollectionState state) {
+        return CollectionUtils.flatMapDeep(state.source,
+            value -> Collections.singletonList(Collections.singletonList(value)));
+    }
+
+    @Benchmark
+    public List<?> flatMapDepth(CollectionState state) {
+        return CollectionUtils.flatMapDepth(state.source,
+            value -> Collections.singletonList(Collections.singletonList(value)), 2);
+    }
+
+    @Benchmark
+    public void forEach(CollectionState state, Blackhole blackhole) {
+        CollectionUtils.forEach(state.source, blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachMap(MapState state, Blackhole blackhole) {
+        CollectionUtils.forEach(state.map, (key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public void forEachRight(ListState state, Blackhole blackhole) {
+        CollectionUtils.forEachRight(state.source, blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachRightMap(MapState state, Blackhole blackhole) {
+        CollectionUtils.forEachRight(state.map, (key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy(CollectionState state) {
+        return CollectionUtils.groupBy(state.source, value -> value % 16);
+    }
+
+    @Benchmark
+    public boolean includes(CollectionState state) {
+        return CollectionUtils.includes(state.source, MISSING);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> keyBy(CollectionState state) {
+        return CollectionUtils.keyBy(state.source, value -> value);
+    }
+
+    @Benchmark
+    public List<Integer> map(CollectionState state) {
+        return CollectionUtils.map(state.source, value -> value + 1);
+    }
+
+    @Benchmark
+    public List<Integer> orderBy(CollectionState state) {
+        return CollectionUtils.orderBy(state.source, Comparator.reverseOrder());
+    }
+
+    @Benchmark
+    public List<Integer> orderByChainedComparator(CollectionState state) {
+        Comparator<Integer> comparator = Comparator
+            .<Integer, String>comparing(value -> Integer.toHexString(value % 4096))
+            .thenComparing(Comparator.<Integer>comparingInt(value -> value % 1000).reversed())
+            .thenComparingDouble(Math::sqrt);
+        return CollectionUtils.orderBy(state.source, comparator);
+    }
+
+    @Benchmark
+    public List<Integer> orderBySortKeys(CollectionState state) {
+        return CollectionUtils.orderBy(state.source,
+            SortKey.<Integer, String>asc(value -> Integer.toHexString(value % 4096)),
+            SortKey.<Integer>descLong(value -> value % 1000),
+            SortKey.<Integer>ascDouble(Math::sqrt));
+    }
+
+    @Benchmark
+    public List<Integer> orderByTake100(CollectionState state) {
+        return CollectionUtils.take(CollectionUtils.orderBy(state.source, Comparator.reverseOrder()), 100);
+    }
+
+    @Benchmark
+    public List<List<Integer>> partition(CollectionState state) {
+        return CollectionUtils.partition(state.source, value -> value % 2 == 0);
+    }
+
+    @Benchmark
+    public Integer reduce(CollectionState state) {
+        return CollectionUtils.reduce(state.source, 0, Integer::sum);
+    }
+
+    @Benchmark
+    public Optional<Integer> reduceWithoutIdentity(CollectionState state) {
+        return CollectionUtils.reduce(state.source, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer reduceRight(ListState state) {
+        return CollectionUtils.reduceRight(state.source, 0, Integer::sum);
+    }
+
+    @Benchmark
+    public Optional<Integer> reduceRightWithoutIdentity(ListState state) {
+        return CollectionUtils.reduceRight(state.source, Integer::sum);
+    }
+
+    @Benchmark
+    public List<Integer> reject(CollectionState state) {
+        return CollectionUtils.reject(state.source, value -> value % 2 == 0);
+    }
+
+    @Benchmark
+    public Optional<Integer> sample(CollectionState state) {
+        return CollectionUtils.sample(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> sampleSize(CollectionState state) {
+        return CollectionUtils.sampleSize(state.source, 10);
+    }
+
+    @Benchmark
+    public List<Integer> shuffle(CollectionState state) {
+        return CollectionUtils.shuffle(state.source);
+    }
+
+    @Benchmark
+    public int size(CollectionState state) {
+        return CollectionUtils.size(state.source);
+    }
+
+    @Benchmark
+    public boolean some(CollectionState state) {
+        return CollectionUtils.some(state.source, value -> value == MISSING);
+    }
+
+    @Benchmark
+    public Optional<Integer> min(CollectionState state) {
+        return CollectionUtils.min(state.source);
+    }
+
+    @Benchmark
+    public Optional<Integer> minBy(CollectionState state) {
+        return CollectionUtils.minBy(state.source, value -> -value);
+    }
+
+    @Benchmark
+    public Optional<Integer> max(CollectionState state) {
+        return CollectionUtils.max(state.source);
+    }
+
+    @Benchmark
+    public Optional<Integer> maxBy(CollectionState state) {
+        return CollectionUtils.maxBy(state.source, value -> -value);
+    }
+
+    @Benchmark
+    public OptionalDouble mean(CollectionState state) {
+        return CollectionUtils.mean(state.source);
+    }
+
+    @Benchmark
+    public OptionalDouble meanBy(CollectionState state) {
+        return CollectionUtils.meanBy(state.source, Number::doubleValue);
+    }
+
+    /**
+     * {@code take(map(filter(...)))} with the eager methods, which builds two full-size intermediate lists.
+     */
+    @Benchmark
+    public List<Integer> eagerFilterMapTake(CollectionState state) {
+        return CollectionUtils.take(CollectionUtils.map(CollectionUtils.filter(state.source, value -> value % 2 == 0),
+            value -> value * 3), 10);
+    }
+
+    @Benchmark
+    public List<Integer> chainFilterMapTake(CollectionState state) {
+        return CollectionUtils.chain(state.source).filter(value -> value % 2 == 0).map(value -> value * 3).take(10)
+            .value();
+    }
+
+    @Benchmark
+    public List<Integer> chainFilterMap(CollectionState state) {
+        return CollectionUtils.chain(state.source).filter(value -> value % 2 == 0).map(value -> value * 3).value();
+    }
+}
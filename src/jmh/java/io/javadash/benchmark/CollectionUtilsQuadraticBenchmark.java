@@ -0,0 +1,112 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.Equivalence;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link CollectionUtils} methods whose implementation is O(n·m): the {@code *With} family
+ * compares every pair of elements. The {@code *WithEquivalence} benchmarks run the same calls through the
+ * {@link Equivalence} overloads, which hash instead, and the {@code *WithComparator} ones through tree sets, for
+ * comparison.
+ *
+ * <p>Sizes stop at 10k so a full run completes; comparing consecutive sizes shows the growth rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsQuadraticBenchmark {
+
+    @Benchmark
+    public Collection<Integer> copy(QuadraticState state) {
+        return state.copy();
+    }
+
+    @Benchmark
+    public List<Integer> differenceWith(QuadraticState state) {
+        return CollectionUtils.differenceWith(state.source, Objects::equals, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWith(QuadraticState state) {
+        return CollectionUtils.intersectionWith(state.source, Objects::equals, state.other);
+    }
+
+    @Benchmark
+    public Collection<? extends Integer> pullAllWith(QuadraticState state) {
+        return CollectionUtils.pullAllWith(state.copy(), state.other, Objects::equals);
+    }
+
+    @Benchmark
+    public List<Integer> unionWith(QuadraticState state) {
+        return CollectionUtils.unionWith(Objects::equals, state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> uniqWith(QuadraticState state) {
+        return CollectionUtils.uniqWith(state.source, Objects::equals);
+    }
+
+    @Benchmark
+    public List<Integer> xorWith(QuadraticState state) {
+        return CollectionUtils.xorWith(Objects::equals, state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> differenceWithEquivalence(QuadraticState state) {
+        return CollectionUtils.differenceWith(state.source, Equivalence.equals(), state.other);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWithEquivalence(QuadraticState state) {
+        return CollectionUtils.intersectionWith(state.source, Equivalence.equals(), state.other);
+    }
+
+    @Benchmark
+    public Collection<? extends Integer> pullAllWithEquivalence(QuadraticState state) {
+        return CollectionUtils.pullAllWith(state.copy(), state.other, Equivalence.equals());
+    }
+
+    @Benchmark
+    public List<Integer> unionWithEquivalence(QuadraticState state) {
+        return CollectionUtils.unionWith(Equivalence.equals(), state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> uniqWithEquivalence(QuadraticState state) {
+        return CollectionUtils.uniqWith(state.source, Equivalence.equals());
+    }
+
+    @Benchmark
+    public List<Integer> xorWithEquivalence(QuadraticState state) {
+        return CollectionUtils.xorWith(Equivalence.equals(), state.source, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> differenceWithComparator(QuadraticState state) {
+        return CollectionUtils.differenceWithComparator(state.source, Comparator.naturalOrder(), state.other);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWithComparator(QuadraticState state) {
+        return CollectionUtils.intersectionWithComparator(state.source, Comparator.naturalOrder(), state.other);
+    }
+
+    @Benchmark
+    public List<Integer> uniqWithComparator(QuadraticState state) {
+        return CollectionUtils.uniqWithComparator(state.source, Comparator.naturalOrder());
+    }
+}
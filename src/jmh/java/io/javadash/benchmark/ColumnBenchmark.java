@@ -0,0 +1,89 @@
+package io.javadash.benchmark;
+
+import io.javadash.NumberUtils;
+import io.javadash.primitive.DoubleColumn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link NumberUtils} aggregations over an off-heap {@link DoubleColumn} against the boxed {@code List<Double>}
+ * methods. Run with {@code -prof gc} and compare the heap each setup needs.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar ColumnBenchmark -p size=10000000 -jvmArgs -Xmx2g
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SeriesState {
+        @Param({"1000000", "10000000"})
+        public int size;
+
+        public List<Double> boxed;
+        public DoubleColumn column;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(1L);
+            boxed = new ArrayList<>(size);
+            column = new DoubleColumn(size);
+            for (int i = 0; i < size; i++) {
+                double value = random.nextGaussian();
+                boxed.add(value);
+                column.append(value);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            column.close();
+        }
+    }
+
+    @Benchmark
+    public double boxedSum(SeriesState state) {
+        return NumberUtils.sumDouble(state.boxed);
+    }
+
+    @Benchmark
+    public double columnSum(SeriesState state) {
+        return NumberUtils.sumOf(state.column);
+    }
+
+    @Benchmark
+    public OptionalDouble boxedMean(SeriesState state) {
+        return NumberUtils.meanBy(Double::doubleValue, state.boxed.toArray(new Double[0]));
+    }
+
+    @Benchmark
+    public OptionalDouble columnMean(SeriesState state) {
+        return NumberUtils.meanOf(state.column);
+    }
+
+    @Benchmark
+    public OptionalDouble columnVariance(SeriesState state) {
+        return NumberUtils.varianceOf(state.column);
+    }
+}
@@ -0,0 +1,127 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.NumberUtils;
+import io.javadash.StringUtils;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A short suite over the core {@code CollectionUtils}, {@code StringUtils} and {@code NumberUtils} operations,
+ * run by {@link RegressionGate} and compared against the checked-in baseline.
+ *
+ * <p>Keep it small: every benchmark added here lengthens the gate and needs a baseline entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 300, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 300, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class CoreBenchmark {
+
+    @Benchmark
+    public List<Integer> uniq(CoreState state) {
+        return CollectionUtils.uniq(state.integers);
+    }
+
+    @Benchmark
+    public List<Integer> difference(CoreState state) {
+        return CollectionUtils.difference(state.integers, state.others);
+    }
+
+    @Benchmark
+    public List<Integer> intersection(CoreState state) {
+        return CollectionUtils.intersection(state.integers, state.others);
+    }
+
+    @Benchmark
+    public List<Integer> xor(CoreState state) {
+        return CollectionUtils.xor(state.integers, state.others);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy(CoreState state) {
+        return CollectionUtils.groupBy(state.integers, value -> value % 16);
+    }
+
+    @Benchmark
+    public List<Integer> orderBy(CoreState state) {
+        return CollectionUtils.orderBy(state.integers, Comparator.reverseOrder());
+    }
+
+    @Benchmark
+    public List<Object> flattenDeep(CoreState state) {
+        return CollectionUtils.flattenDeep(state.nested);
+    }
+
+    @Benchmark
+    public List<List<Integer>> zip(CoreState state) {
+        return CollectionUtils.zip(state.integers, state.others);
+    }
+
+    @Benchmark
+    public int lastIndexOf(CoreState state) {
+        return CollectionUtils.lastIndexOf(state.integers, CollectionState.MISSING);
+    }
+
+    @Benchmark
+    public List<Integer> take(CoreState state) {
+        return CollectionUtils.take(state.integers, state.size / 2);
+    }
+
+    @Benchmark
+    public String camelCase(CoreState state) {
+        return StringUtils.camelCase(state.text);
+    }
+
+    @Benchmark
+    public String kebabCase(CoreState state) {
+        return StringUtils.kebabCase(state.text);
+    }
+
+    @Benchmark
+    public String snakeCase(CoreState state) {
+        return StringUtils.snakeCase(state.text);
+    }
+
+    @Benchmark
+    public String startCase(CoreState state) {
+        return StringUtils.startCase(state.text);
+    }
+
+    @Benchmark
+    public String deburr(CoreState state) {
+        return StringUtils.deburr(state.text);
+    }
+
+    @Benchmark
+    public int sumInt(CoreState state) {
+        return NumberUtils.sumInt(state.integers);
+    }
+
+    @Benchmark
+    public double sumDouble(CoreState state) {
+        return NumberUtils.sumDouble(state.doubles);
+    }
+
+    @Benchmark
+    public OptionalDouble mean(CoreState state) {
+        return NumberUtils.mean(state.doubleArray);
+    }
+
+    @Benchmark
+    public Optional<Double> max(CoreState state) {
+        return NumberUtils.max(state.doubleArray);
+    }
+}
@@ -0,0 +1,41 @@
+package io.javadash.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fixed-size inputs for {@link CoreBenchmark}. The size is a parameter only so the gate can be pointed at larger
+ * inputs locally; the checked-in baseline is recorded with the default.
+ */
+@State(Scope.Benchmark)
+public class CoreState {
+    @Param({"10000"})
+    public int size;
+
+    public List<Integer> integers;
+    public List<Integer> others;
+    public List<Double> doubles;
+    public Double[] doubleArray;
+    public List<Object> nested;
+    public String text;
+
+    @Setup
+    public void setUp() {
+        integers = Distribution.FEW_UNIQUE.generate(size, 0, 1L);
+        others = Distribution.UNIQUE.generate(size, size / 2, 2L);
+        doubles = new ArrayList<>(size);
+        nested = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            doubles.add(integers.get(i) / 3.0);
+            if (i % 4 == 0) {
+                nested.add(new ArrayList<Object>(integers.subList(i, Math.min(i + 4, size))));
+            }
+        }
+        doubleArray = doubles.toArray(new Double[0]);
+        text = Alphabet.LATIN_1.generate(64, 1L);
+    }
+}
@@ -0,0 +1,51 @@
+package io.javadash.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shape of the generated benchmark input.
+ */
+public enum Distribution {
+    /**
+     * Every value is distinct and the order is shuffled.
+     */
+    UNIQUE,
+    /**
+     * Every value is distinct and already in ascending order.
+     */
+    SORTED,
+    /**
+     * Values are drawn from a range one hundredth the size of the input, so most of them repeat.
+     */
+    FEW_UNIQUE;
+
+    /**
+     * Generates {@code size} integers following this distribution, starting at {@code offset}.
+     *
+     * @param size   The number of values to generate.
+     * @param offset The value added to every generated element.
+     * @param seed   The seed of the random generator, so runs are reproducible.
+     * @return Returns the generated values.
+     */
+    public List<Integer> generate(int size, int offset, long seed) {
+        Random random = new Random(seed);
+        List<Integer> values = new ArrayList<>(size);
+        if (this == FEW_UNIQUE) {
+            int bound = Math.max(1, size / 100);
+            for (int i = 0; i < size; i++) {
+                values.add(offset + random.nextInt(bound));
+            }
+            return values;
+        }
+        for (int i = 0; i < size; i++) {
+            values.add(offset + i);
+        }
+        if (this == UNIQUE) {
+            Collections.shuffle(values, random);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,42 @@
+package io.javadash.benchmark;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inputs for the {@code CollectionUtils} methods that require (or cast to) a {@link List}.
+ */
+@State(Scope.Benchmark)
+public class ListState {
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST"})
+    public CollectionType type;
+
+    @Param
+    public Distribution distribution;
+
+    public List<Integer> source;
+    public List<Integer> other;
+    public int half;
+
+    @Setup
+    public void setUp() {
+        source = type.createList(distribution.generate(size, 0, 1L));
+        other = type.createList(distribution.generate(size, size / 2, 2L));
+        half = size / 2;
+    }
+
+    /**
+     * Copies {@code source} for methods that mutate their input.
+     *
+     * @return Returns a fresh list of the benchmarked type.
+     */
+    public List<Integer> copy() {
+        return type.createList(source);
+    }
+}
@@ -0,0 +1,27 @@
+package io.javadash.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inputs for the {@code Map} overloads of {@code CollectionUtils}.
+ */
+@State(Scope.Benchmark)
+public class MapState {
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    public Map<Integer, Integer> map;
+
+    @Setup
+    public void setUp() {
+        map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, i);
+        }
+    }
+}
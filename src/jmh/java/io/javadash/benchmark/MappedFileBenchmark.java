@@ -0,0 +1,81 @@
+package io.javadash.benchmark;
+
+import io.javadash.NumberUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link NumberUtils#summarizeDoubles} over a memory-mapped dump against reading the dump into a {@code List<Double>}
+ * and calling {@link NumberUtils#sumDouble}. The file stays in the page cache between iterations.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar MappedFileBenchmark -p size=10000000 -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedFileBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DumpState {
+        @Param({"1000000", "10000000"})
+        public int size;
+
+        public Path path;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            Random random = new Random(1L);
+            ByteBuffer buffer = ByteBuffer.allocate(size * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < size; i++) {
+                buffer.putDouble(random.nextGaussian());
+            }
+            path = Files.createTempFile("javadash-dump", ".bin");
+            Files.write(path, buffer.array());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public double heapSum(DumpState state) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(state.path)).order(ByteOrder.LITTLE_ENDIAN);
+        List<Double> values = new ArrayList<>(state.size);
+        while (buffer.hasRemaining()) {
+            values.add(buffer.getDouble());
+        }
+        return NumberUtils.sumDouble(values);
+    }
+
+    @Benchmark
+    public DoubleSummaryStatistics mappedSummary(DumpState state) {
+        return NumberUtils.summarizeDoubles(state.path);
+    }
+}
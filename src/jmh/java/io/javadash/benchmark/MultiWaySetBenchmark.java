@@ -0,0 +1,93 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CollectionUtils#difference}, {@link CollectionUtils#intersection} and {@link CollectionUtils#xor} with
+ * {@code lists} other collections, to check that the cost grows with the total input size rather than with
+ * {@code size} times {@code lists}. Each other collection holds {@code size / 10} values spread over the source; for
+ * intersection and xor they overlap one another and the source by half.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar MultiWaySetBenchmark -p size=1000000 -p lists=10 -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiWaySetBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class MultiWayState {
+        @Param({"100000", "1000000"})
+        public int size;
+
+        @Param({"1", "5", "10"})
+        public int lists;
+
+        public List<Integer> source;
+        public List<Integer>[] exclusions;
+        public List<Integer>[] overlapping;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            source = Distribution.UNIQUE.generate(size, 0, 1L);
+            exclusions = new List[lists];
+            overlapping = new List[lists];
+            for (int i = 0; i < lists; i++) {
+                exclusions[i] = Distribution.UNIQUE.generate(size / 10, i * (size / 10), i + 2L);
+                overlapping[i] = Distribution.UNIQUE.generate(size / 2, size / 4 * (i % 2), i + 2L);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> difference(MultiWayState state) {
+        return CollectionUtils.difference(state.source, state.exclusions);
+    }
+
+    @Benchmark
+    public List<Integer> differenceBy(MultiWayState state) {
+        return CollectionUtils.differenceBy(state.source, value -> value % 2 == 0, state.exclusions);
+    }
+
+    @Benchmark
+    public List<Integer> intersection(MultiWayState state) {
+        return CollectionUtils.intersection(state.source, state.overlapping);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionBy(MultiWayState state) {
+        return CollectionUtils.intersectionBy(state.source, value -> value % 2 == 0, state.overlapping);
+    }
+
+    @Benchmark
+    public List<Integer> xor(MultiWayState state) {
+        List<List<Integer>> collections = new ArrayList<>(Arrays.asList(state.overlapping));
+        collections.add(state.source);
+        return CollectionUtils.xorAll(collections);
+    }
+
+    @Benchmark
+    public List<Integer> xorBy(MultiWayState state) {
+        return CollectionUtils.xorBy(value -> value / 2, state.overlapping);
+    }
+}
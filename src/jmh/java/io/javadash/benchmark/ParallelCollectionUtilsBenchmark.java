@@ -0,0 +1,80 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.ParallelCollectionUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ParallelCollectionUtils} on the common pool against the sequential {@link CollectionUtils} methods.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar ParallelCollectionUtilsBenchmark -p size=1000000,10000000 -p type=ARRAY_LIST
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCollectionUtilsBenchmark {
+    private static final ParallelCollectionUtils PARALLEL = ParallelCollectionUtils.withCommonPool();
+
+    @Benchmark
+    public List<Integer> map(CollectionState state) {
+        return CollectionUtils.map(state.source, value -> value * 31 + 7);
+    }
+
+    @Benchmark
+    public List<Integer> parallelMap(CollectionState state) {
+        return PARALLEL.map(state.source, value -> value * 31 + 7);
+    }
+
+    @Benchmark
+    public List<Integer> filter(CollectionState state) {
+        return CollectionUtils.filter(state.source, value -> value % 3 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> parallelFilter(CollectionState state) {
+        return PARALLEL.filter(state.source, value -> value % 3 == 0);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy(CollectionState state) {
+        return CollectionUtils.groupBy(state.source, value -> value % 16);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelGroupBy(CollectionState state) {
+        return PARALLEL.groupBy(state.source, value -> value % 16);
+    }
+
+    @Benchmark
+    public List<Integer> topBy(CollectionState state) {
+        return CollectionUtils.topBy(state.source, 100, Integer::compareTo);
+    }
+
+    @Benchmark
+    public List<Integer> parallelTopBy(CollectionState state) {
+        return PARALLEL.topBy(state.source, 100, Integer::compareTo);
+    }
+
+    @Benchmark
+    public Integer reduce(CollectionState state) {
+        return CollectionUtils.reduce(state.source, 0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer parallelReduce(CollectionState state) {
+        return PARALLEL.reduce(state.source, 0, Integer::sum);
+    }
+}
@@ -0,0 +1,83 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.NumberUtils;
+import io.javadash.primitive.IntList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link IntList} aggregations against the boxed {@link NumberUtils} and {@link CollectionUtils} methods over the
+ * same values.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar PrimitiveListBenchmark -p size=1000000 -p distribution=UNIQUE -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class PrimitiveState {
+        @Param({"1000", "1000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        public List<Integer> boxed;
+        public IntList primitive;
+
+        @Setup
+        public void setUp() {
+            boxed = distribution.generate(size, 0, 1L);
+            primitive = IntList.from(boxed);
+        }
+    }
+
+    @Benchmark
+    public int boxedSum(PrimitiveState state) {
+        return NumberUtils.sumInt(state.boxed);
+    }
+
+    @Benchmark
+    public long primitiveSum(PrimitiveState state) {
+        return state.primitive.sum();
+    }
+
+    @Benchmark
+    public OptionalDouble boxedMean(PrimitiveState state) {
+        return NumberUtils.mean(state.boxed.toArray(new Integer[0]));
+    }
+
+    @Benchmark
+    public OptionalDouble primitiveMean(PrimitiveState state) {
+        return state.primitive.mean();
+    }
+
+    @Benchmark
+    public List<Integer> boxedUniq(PrimitiveState state) {
+        return CollectionUtils.uniq(state.boxed);
+    }
+
+    @Benchmark
+    public IntList primitiveUniq(PrimitiveState state) {
+        return state.primitive.uniq();
+    }
+}
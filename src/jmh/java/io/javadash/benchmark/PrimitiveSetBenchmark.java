@@ -0,0 +1,107 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.primitive.IntArrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link IntArrays} set operations against the boxed {@link CollectionUtils} methods over the same IDs. The second
+ * input overlaps the first by roughly 50%, like {@link CollectionState#other}.
+ *
+ * <p>Pass {@code -p size=10000000} to measure larger inputs.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar PrimitiveSetBenchmark -p size=100000 -p distribution=UNIQUE -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveSetBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IdState {
+        @Param({"10000", "100000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        public List<Integer> boxed;
+        public List<Integer> boxedOther;
+        public int[] ids;
+        public int[] otherIds;
+
+        @Setup
+        public void setUp() {
+            boxed = distribution.generate(size, 0, 1L);
+            boxedOther = distribution.generate(size, size / 2, 2L);
+            ids = boxed.stream().mapToInt(Integer::intValue).toArray();
+            otherIds = boxedOther.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> boxedUniq(IdState state) {
+        return CollectionUtils.uniq(state.boxed);
+    }
+
+    @Benchmark
+    public int[] primitiveUniq(IdState state) {
+        return IntArrays.uniq(state.ids);
+    }
+
+    @Benchmark
+    public List<Integer> boxedDifference(IdState state) {
+        return CollectionUtils.difference(state.boxed, state.boxedOther);
+    }
+
+    @Benchmark
+    public int[] primitiveDifference(IdState state) {
+        return IntArrays.difference(state.ids, state.otherIds);
+    }
+
+    @Benchmark
+    public List<Integer> boxedIntersection(IdState state) {
+        return CollectionUtils.intersection(state.boxed, state.boxedOther);
+    }
+
+    @Benchmark
+    public int[] primitiveIntersection(IdState state) {
+        return IntArrays.intersection(state.ids, state.otherIds);
+    }
+
+    @Benchmark
+    public List<Integer> boxedUnion(IdState state) {
+        return CollectionUtils.union(state.boxed, state.boxedOther);
+    }
+
+    @Benchmark
+    public int[] primitiveUnion(IdState state) {
+        return IntArrays.union(state.ids, state.otherIds);
+    }
+
+    @Benchmark
+    public List<Integer> boxedXor(IdState state) {
+        return CollectionUtils.xor(state.boxed, state.boxedOther);
+    }
+
+    @Benchmark
+    public int[] primitiveXor(IdState state) {
+        return IntArrays.xor(state.ids, state.otherIds);
+    }
+}
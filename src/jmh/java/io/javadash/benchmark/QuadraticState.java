@@ -0,0 +1,44 @@
+package io.javadash.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inputs for {@link CollectionUtilsQuadraticBenchmark}, capped at sizes the nested scans can finish in.
+ */
+@State(Scope.Benchmark)
+public class QuadraticState {
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param
+    public CollectionType type;
+
+    @Param
+    public Distribution distribution;
+
+    public Collection<Integer> source;
+    public Collection<Integer> other;
+    public List<Collection<Integer>> grouped;
+
+    @Setup
+    public void setUp() {
+        source = type.create(distribution.generate(size, 0, 1L));
+        other = type.create(distribution.generate(size, size / 2, 2L));
+        grouped = Arrays.asList(source, other);
+    }
+
+    /**
+     * Copies {@code source} for methods that mutate their input.
+     *
+     * @return Returns a fresh collection of the benchmarked type.
+     */
+    public Collection<Integer> copy() {
+        return type.create(source);
+    }
+}
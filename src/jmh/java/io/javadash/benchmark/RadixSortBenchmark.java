@@ -0,0 +1,109 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The radix sorting {@code orderByInt}, {@code orderByLong} and {@code orderByString} against
+ * {@link CollectionUtils#orderBy(java.util.Collection, Comparator)}, which sorts with {@code stream().sorted()}, on
+ * events with an {@code int} priority, a {@code long} timestamp spread over three days and a short ASCII code.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar RadixSortBenchmark -p size=10000000 -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixSortBenchmark {
+
+    public static final class Event {
+        final int priority;
+        final long timestamp;
+        final String code;
+
+        Event(int priority, long timestamp, String code) {
+            this.priority = priority;
+            this.timestamp = timestamp;
+            this.code = code;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EventState {
+        @Param({"100000", "1000000"})
+        public int size;
+
+        public List<Event> events;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42L);
+            long start = 1_700_000_000_000L;
+            events = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String code = Integer.toString(random.nextInt(1 << 20), 36).toUpperCase();
+                events.add(new Event(random.nextInt(1000), start + random.nextInt(3 * 86_400_000), code));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Event> orderByComparingInt(EventState state) {
+        return CollectionUtils.orderBy(state.events, Comparator.comparingInt(Event::getPriority));
+    }
+
+    @Benchmark
+    public List<Event> orderByInt(EventState state) {
+        return CollectionUtils.orderByInt(state.events, Event::getPriority);
+    }
+
+    @Benchmark
+    public List<Event> orderByComparingLong(EventState state) {
+        return CollectionUtils.orderBy(state.events, Comparator.comparingLong(Event::getTimestamp));
+    }
+
+    @Benchmark
+    public List<Event> orderByLong(EventState state) {
+        return CollectionUtils.orderByLong(state.events, Event::getTimestamp);
+    }
+
+    @Benchmark
+    public List<Event> orderByComparingString(EventState state) {
+        return CollectionUtils.orderBy(state.events, Comparator.comparing(Event::getCode));
+    }
+
+    @Benchmark
+    public List<Event> orderByString(EventState state) {
+        return CollectionUtils.orderByString(state.events, Event::getCode);
+    }
+}
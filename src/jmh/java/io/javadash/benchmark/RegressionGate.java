@@ -0,0 +1,215 @@
+package io.javadash.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link CoreBenchmark}, writes the results as JMH JSON and compares every score against a checked-in baseline
+ * recorded in the same format. Everything runs in-process and on local files.
+ *
+ * <p>A benchmark regresses when it is slower than its baseline by more than the threshold even after both scores are
+ * moved to the favorable end of their {@code scoreError} bounds, so noise within the error of either run does not fail
+ * the gate. A baseline benchmark matched by {@code javadash.perf.include} that the run did not produce, e.g. because
+ * it was renamed or removed, fails the gate too: refresh the baseline in the same change.
+ *
+ * <p>Configured with system properties:
+ * <ul>
+ * <li>{@code javadash.perf.baseline}: baseline file, default {@code src/jmh/resources/perf-baseline.json}.</li>
+ * <li>{@code javadash.perf.result}: where the current results are written, default
+ * {@code target/perf-result.json}.</li>
+ * <li>{@code javadash.perf.threshold}: allowed slowdown as a fraction of the baseline score, default {@code 0.30}.</li>
+ * <li>{@code javadash.perf.failOnRegression}: exit with status 1 on a regression ({@code true}, the default) or only
+ * print a warning ({@code false}).</li>
+ * <li>{@code javadash.perf.include}: benchmark pattern to run, default {@code CoreBenchmark}.</li>
+ * <li>{@code javadash.perf.updateBaseline}: overwrite the baseline with the current results instead of comparing.</li>
+ * </ul>
+ *
+ * <p>Absolute scores depend on the machine, so record the baseline on the machine that runs the gate, and regenerate
+ * it whenever {@link CoreBenchmark} changes:
+ *
+ * <pre>
+ *     mvn -Pbenchmark,perf-gate -DskipTests integration-test -Djavadash.perf.updateBaseline=true
+ * </pre>
+ */
+public final class RegressionGate {
+    private RegressionGate() {
+    }
+
+    /**
+     * Runs the gate.
+     *
+     * @param args Ignored, the gate is configured with system properties.
+     * @throws IOException     if the baseline or result file cannot be read or written.
+     * @throws RunnerException if JMH fails to run.
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        Path baseline = Paths.get(System.getProperty("javadash.perf.baseline", "src/jmh/resources/perf-baseline.json"));
+        Path result = Paths.get(System.getProperty("javadash.perf.result", "target/perf-result.json"));
+        double threshold = Double.parseDouble(System.getProperty("javadash.perf.threshold", "0.30"));
+        boolean failOnRegression = Boolean.parseBoolean(System.getProperty("javadash.perf.failOnRegression", "true"));
+        String include = System.getProperty("javadash.perf.include", CoreBenchmark.class.getSimpleName());
+
+        Path parent = result.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Options options = new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.toString())
+            .build();
+        new Runner(options).run();
+
+        if (Boolean.getBoolean("javadash.perf.updateBaseline")) {
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + ", rerun with -Djavadash.perf.updateBaseline=true");
+            return;
+        }
+        Pattern included = Pattern.compile(include);
+        Map<String, Score> expected = new LinkedHashMap<>();
+        read(baseline).forEach((key, score) -> {
+            if (included.matcher(score.benchmark).find()) {
+                expected.put(key, score);
+            }
+        });
+        List<String> regressions = compare(expected, read(result), threshold);
+        if (regressions.isEmpty()) {
+            System.out.println("No benchmark regressed by more than " + percent(threshold) + " or went missing");
+            return;
+        }
+        System.out.println((failOnRegression ? "FAILED: " : "WARNING: ") + regressions.size()
+            + " benchmark(s) regressed by more than " + percent(threshold) + " or went missing");
+        regressions.forEach(line -> System.out.println("  " + line));
+        if (failOnRegression) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares current scores against the baseline and prints one line per benchmark.
+     *
+     * @param baseline  The baseline scores expected in this run, keyed by benchmark and parameters.
+     * @param current   The current scores, keyed by benchmark and parameters.
+     * @param threshold The allowed slowdown as a fraction of the baseline score.
+     * @return Returns a description of every regression beyond {@code threshold} and of every baseline score missing
+     *     from the current ones.
+     */
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.println(String.format("%-60s %12.3f %-8s (no baseline)", entry.getKey(), after.value,
+                    after.unit));
+                continue;
+            }
+            String line = String.format("%-60s %12.3f +/- %.3f -> %12.3f +/- %.3f %-8s %+7.1f%% (at least %+.1f%%)",
+                entry.getKey(), before.value, before.error, after.value, after.error, after.unit,
+                after.slowdownFrom(before) * 100, after.boundedSlowdownFrom(before) * 100);
+            System.out.println(line);
+            if (after.boundedSlowdownFrom(before) > threshold) {
+                regressions.add(line);
+            }
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                String line = String.format("%-60s (missing from this run)", key);
+                System.out.println(line);
+                regressions.add(line);
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads the primary scores of a JMH JSON result file.
+     *
+     * @param file The file to read.
+     * @return Returns the scores keyed by benchmark name and sorted parameters.
+     * @throws IOException if the file cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Score> read(Path file) throws IOException {
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (Object item : (List<Object>) JsonReader.parse(json)) {
+            Map<String, Object> run = (Map<String, Object>) item;
+            Map<String, Object> params = (Map<String, Object>) run.get("params");
+            Map<String, Object> metric = (Map<String, Object>) run.get("primaryMetric");
+            String key = run.get("benchmark") + (params == null ? "" : String.valueOf(new TreeMap<>(params)));
+            // JMH writes the error of a single measurement iteration as "NaN"
+            Object error = metric.get("scoreError");
+            scores.put(key, new Score((String) run.get("benchmark"), (String) run.get("mode"),
+                ((Number) metric.get("score")).doubleValue(),
+                error instanceof Number && !Double.isNaN(((Number) error).doubleValue())
+                    ? ((Number) error).doubleValue() : 0,
+                (String) metric.get("scoreUnit")));
+        }
+        return scores;
+    }
+
+    private static String percent(double fraction) {
+        return String.format("%.0f%%", fraction * 100);
+    }
+
+    /**
+     * A primary metric score and its error, together with the benchmark and mode it was measured in.
+     */
+    static final class Score {
+        final String benchmark;
+        final String mode;
+        final double value;
+        final double error;
+        final String unit;
+
+        Score(String benchmark, String mode, double value, double error, String unit) {
+            this.benchmark = benchmark;
+            this.mode = mode;
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        /**
+         * Computes how much slower this score is than {@code baseline}: positive means slower. Throughput is higher
+         * is better; every other JMH mode measures time, where lower is better.
+         */
+        double slowdownFrom(Score baseline) {
+            if ("thrpt".equals(mode)) {
+                return baseline.value / value - 1;
+            }
+            return value / baseline.value - 1;
+        }
+
+        /**
+         * Computes the smallest slowdown from {@code baseline} that both scores allow within their errors: this score
+         * at the fast end of its error bounds against the baseline at its slow end.
+         */
+        double boundedSlowdownFrom(Score baseline) {
+            if ("thrpt".equals(mode)) {
+                return (baseline.value - baseline.error) / (value + error) - 1;
+            }
+            return (value - error) / (baseline.value + baseline.error) - 1;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.javadash.benchmark;
+
+import io.javadash.CollectionUtils;
+import io.javadash.SortedCollectionUtils;
+import io.javadash.primitive.IntArrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Merge-based {@link SortedCollectionUtils} against the hash-based {@link CollectionUtils} and {@link IntArrays}
+ * operations on the same sorted inputs. {@code skew} is how many times larger the second input is than the first,
+ * which is where galloping pays off for intersection and difference.
+ *
+ * <pre>{@code
+ *      java -jar target/benchmarks.jar SortedSetBenchmark -p size=10000 -p skew=100 -prof gc
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedSetBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SortedState {
+        @Param({"1000", "10000"})
+        public int size;
+
+        @Param({"1", "100"})
+        public int skew;
+
+        public List<Integer> list;
+        public List<Integer> other;
+        public int[] array;
+        public int[] otherArray;
+
+        @Setup
+        public void setUp() {
+            list = Distribution.SORTED.generate(size, 0, 1L);
+            other = Distribution.SORTED.generate(size * skew, size / 2, 2L);
+            array = list.stream().mapToInt(Integer::intValue).toArray();
+            otherArray = other.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> hashIntersection(SortedState state) {
+        return CollectionUtils.intersection(state.list, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> sortedIntersection(SortedState state) {
+        return SortedCollectionUtils.intersection(state.list, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> hashDifference(SortedState state) {
+        return CollectionUtils.difference(state.list, state.other);
+    }
+
+    @Benchmark
+    public List<Integer> sortedDifference(SortedState state) {
+        return SortedCollectionUtils.difference(state.list, state.other);
+    }
+
+    @Benchmark
+    public int[] hashIntArrayIntersection(SortedState state) {
+        return IntArrays.intersection(state.array, state.otherArray);
+    }
+
+    @Benchmark
+    public int[] sortedIntArrayIntersection(SortedState state) {
+        return SortedCollectionUtils.intersection(state.array, state.otherArray);
+    }
+
+    @Benchmark
+    public int[] hashIntArrayUnion(SortedState state) {
+        return IntArrays.union(state.array, state.otherArray);
+    }
+
+    @Benchmark
+    public int[] sortedIntArrayUnion(SortedState state) {
+        return SortedCollectionUtils.union(state.array, state.otherArray);
+    }
+}
@@ -0,0 +1,31 @@
+package io.javadash.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inputs for {@link StringUtilsBenchmark}. The default lengths span a typical JSON key up to a short paragraph.
+ */
+@State(Scope.Benchmark)
+public class StringState {
+    @Param({"8", "32", "256", "4096"})
+    public int length;
+
+    @Param
+    public Alphabet alphabet;
+
+    public String text;
+    public String prefix;
+    public String suffix;
+    public String word;
+
+    @Setup
+    public void setUp() {
+        text = alphabet.generate(length, 1L);
+        prefix = text.substring(0, text.length() / 2);
+        suffix = text.substring(text.length() / 2);
+        word = text.trim();
+    }
+}
@@ -0,0 +1,205 @@
+package io.javadash.benchmark;
+
+import io.javadash.StringUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * One benchmark per public {@link StringUtils} method over ASCII, Latin-1 and mixed Unicode input.
+ *
+ * <p>Allocation is what matters for the case converters, so run this suite with the GC profiler, either through
+ * {@link #main} or by adding {@code -prof gc}; {@code gc.alloc.rate.norm} is the number of bytes allocated per call.
+ *
+ * <pre>{@code
+ *      java -cp target/benchmarks.jar io.javadash.benchmark.StringUtilsBenchmark
+ *      java -jar target/benchmarks.jar StringUtilsBenchmark.camelCase -prof gc -p alphabet=ASCII
+ * }</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    /**
+     * Runs the benchmarks of this class, or those matching the patterns in {@code args}, with the GC profiler
+     * attached.
+     *
+     * @param args Extra JMH command line arguments, e.g. {@code -p length=32}.
+     * @throws CommandLineOptionException if {@code args} cannot be parsed.
+     * @throws RunnerException              if JMH fails to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine).addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(StringUtilsBenchmark.class.getSimpleName());
+        }
+        new Runner(builder.build()).run();
+    }
+
+    @Benchmark
+    public boolean isEmpty(StringState state) {
+        return StringUtils.isEmpty(state.text);
+    }
+
+    @Benchmark
+    public boolean includes(StringState state) {
+        return StringUtils.includes(state.text, state.suffix);
+    }
+
+    @Benchmark
+    public String camelCase(StringState state) {
+        return StringUtils.camelCase(state.text);
+    }
+
+    @Benchmark
+    public String capitalize(StringState state) {
+        return StringUtils.capitalize(state.word);
+    }
+
+    @Benchmark
+    public String deburr(StringState state) {
+        return StringUtils.deburr(state.text);
+    }
+
+    @Benchmark
+    public boolean endsWith(StringState state) {
+        return StringUtils.endsWith(state.text, state.suffix);
+    }
+
+    @Benchmark
+    public String escape(StringState state) {
+        return StringUtils.escape(state.text);
+    }
+
+    @Benchmark
+    public String escapeRegExp(StringState state) {
+        return StringUtils.escapeRegExp(state.text);
+    }
+
+    @Benchmark
+    public String kebabCase(StringState state) {
+        return StringUtils.kebabCase(state.text);
+    }
+
+    @Benchmark
+    public String lowerCase(StringState state) {
+        return StringUtils.lowerCase(state.text);
+    }
+
+    @Benchmark
+    public String lowerFirst(StringState state) {
+        return StringUtils.lowerFirst(state.word);
+    }
+
+    @Benchmark
+    public String pad(StringState state) {
+        return StringUtils.pad(state.word, state.length * 2, "*-");
+    }
+
+    @Benchmark
+    public String padStart(StringState state) {
+        return StringUtils.padStart(state.word, state.length * 2, "*-");
+    }
+
+    @Benchmark
+    public String padEnd(StringState state) {
+        return StringUtils.padEnd(state.word, state.length * 2, "*-");
+    }
+
+    @Benchmark
+    public String repeat(StringState state) {
+        return StringUtils.repeat(state.word, 4);
+    }
+
+    @Benchmark
+    public String replace(StringState state) {
+        return StringUtils.replace(state.text, "[aeiou]", "_");
+    }
+
+    @Benchmark
+    public String snakeCase(StringState state) {
+        return StringUtils.snakeCase(state.text);
+    }
+
+    @Benchmark
+    public List<String> split(StringState state) {
+        return StringUtils.split(state.text, "_");
+    }
+
+    @Benchmark
+    public String startCase(StringState state) {
+        return StringUtils.startCase(state.text);
+    }
+
+    @Benchmark
+    public boolean startsWith(StringState state) {
+        return StringUtils.startsWith(state.text, state.prefix);
+    }
+
+    @Benchmark
+    public String toLower(StringState state) {
+        return StringUtils.toLower(state.text);
+    }
+
+    @Benchmark
+    public String toUpper(StringState state) {
+        return StringUtils.toUpper(state.text);
+    }
+
+    @Benchmark
+    public String trim(StringState state) {
+        return StringUtils.trim(state.text, " ");
+    }
+
+    @Benchmark
+    public String trimWhitespace(StringState state) {
+        return StringUtils.trim(state.text, null);
+    }
+
+    @Benchmark
+    public String trimStart(StringState state) {
+        return StringUtils.trimStart(state.text, " ");
+    }
+
+    @Benchmark
+    public String trimStartWhitespace(StringState state) {
+        return StringUtils.trimStart(state.text, null);
+    }
+
+    @Benchmark
+    public String trimEnd(StringState state) {
+        return StringUtils.trimEnd(state.text, " ");
+    }
+
+    @Benchmark
+    public String trimEndWhitespace(StringState state) {
+        return StringUtils.trimEnd(state.text, null);
+    }
+
+    @Benchmark
+    public String upperCase(StringState state) {
+        return StringUtils.upperCase(state.text);
+    }
+
+    @Benchmark
+    public String upperFirst(StringState state) {
+        return StringUtils.upperFirst(state.word);
+    }
+}
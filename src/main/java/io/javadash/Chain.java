@@ -0,0 +1,498 @@
+package io.javadash;
+
+import static io.javadash.core.Validate.isFalsy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy sequence of operations over an {@link Iterable}, created by {@link CollectionUtils#chain(Iterable)}.
+ *
+ * <p>Stages such as {@link #filter}, {@link #map} and {@link #take} only describe the pipeline. Nothing runs until a
+ * terminal operation ({@link #value()}, {@link #find}, {@link #some}, ...) is called, which pushes every source element
+ * through all stages in a single pass without intermediate lists. {@link #take}, {@link #find}, {@link #some},
+ * {@link #every} and {@link #head()} stop reading the source as soon as the result is known.
+ *
+ * <p>Each stage treats {@code null} like the {@code CollectionUtils} method of the same name, e.g. {@link #filter}
+ * and {@link #map} skip {@code null} elements, {@link #take} keeps them. A chain is immutable and can be run more
+ * than once; every terminal operation reads the source again.
+ *
+ * <pre>{@code
+ *      List<String> names = CollectionUtils.chain(users)
+ *          .filter(User::isActive)
+ *          .map(User::getName)
+ *          .take(10)
+ *          .value();
+ *      // => the first ten active names, reading only as many users as needed
+ * }</pre>
+ *
+ * @param <T> The type of the elements at the end of the pipeline.
+ */
+public final class Chain<T> {
+    private final Iterable<?> source;
+    private final Function<Sink<T>, Sink<Object>> pipeline;
+
+    private Chain(Iterable<?> source, Function<Sink<T>, Sink<Object>> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Chain<T> of(Iterable<? extends T> source) {
+        return new Chain<>(source == null ? Collections.emptyList() : source, sink -> (Sink<Object>) sink);
+    }
+
+    /**
+     * Appends a stage that wraps the downstream sink.
+     */
+    private <R> Chain<R> then(Function<Sink<R>, Sink<T>> stage) {
+        Function<Sink<T>, Sink<Object>> upstream = pipeline;
+        return new Chain<>(source, downstream -> upstream.apply(stage.apply(downstream)));
+    }
+
+    /**
+     * Keeps the non-null elements {@code predicate} returns {@code true} for, as {@link CollectionUtils#filter}.
+     *
+     * @param predicate The function invoked per element.
+     * @return Returns the new chain.
+     */
+    public Chain<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            @Override
+            public boolean accept(T value) {
+                return value == null || !predicate.test(value) || downstream.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Drops {@code null} elements and the ones {@code predicate} returns {@code true} for, as
+     * {@link CollectionUtils#reject}.
+     *
+     * @param predicate The function invoked per element.
+     * @return Returns the new chain.
+     */
+    public Chain<T> reject(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return filter(value -> !predicate.test(value));
+    }
+
+    /**
+     * Drops falsy elements ({@code null}, {@code false}, {@code 0}, {@code NaN}, {@code ""}), as
+     * {@link CollectionUtils#compact}.
+     *
+     * @return Returns the new chain.
+     */
+    public Chain<T> compact() {
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            @Override
+            public boolean accept(T value) {
+                return isFalsy(value) || downstream.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Maps each non-null element through {@code iteratee} and drops {@code null} results, as
+     * {@link CollectionUtils#map}.
+     *
+     * @param <R>      The type of the mapped elements.
+     * @param iteratee The function invoked per element.
+     * @return Returns the new chain.
+     */
+    public <R> Chain<R> map(Function<? super T, ? extends R> iteratee) {
+        Objects.requireNonNull(iteratee);
+        return then(downstream -> new ChainedSink<T, R>(downstream) {
+            @Override
+            public boolean accept(T value) {
+                if (value == null) {
+                    return true;
+                }
+                R mapped = iteratee.apply(value);
+                return mapped == null || downstream.accept(mapped);
+            }
+        });
+    }
+
+    /**
+     * Maps each element to a collection and flattens the results one level, skipping {@code null} collections, as
+     * {@link CollectionUtils#flatMap}.
+     *
+     * @param <R>      The type of the mapped elements.
+     * @param iteratee The function invoked per element.
+     * @return Returns the new chain.
+     */
+    public <R> Chain<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> iteratee) {
+        Objects.requireNonNull(iteratee);
+        return then(downstream -> new ChainedSink<T, R>(downstream) {
+            @Override
+            public boolean accept(T value) {
+                Iterable<? extends R> mapped = iteratee.apply(value);
+                if (mapped != null) {
+                    for (R element : mapped) {
+                        if (!downstream.accept(element)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Keeps the first occurrence of each element, as {@link CollectionUtils#uniq}.
+     *
+     * @return Returns the new chain.
+     */
+    public Chain<T> uniq() {
+        return uniqBy(Function.identity());
+    }
+
+    /**
+     * Keeps the first element of each key computed by {@code iteratee}, as {@link CollectionUtils#uniqBy}.
+     *
+     * @param iteratee The function computing the key of each element.
+     * @return Returns the new chain.
+     */
+    public Chain<T> uniqBy(Function<? super T, ?> iteratee) {
+        Objects.requireNonNull(iteratee);
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            private final Set<Object> seen = new HashSet<>();
+
+            @Override
+            public boolean accept(T value) {
+                return !seen.add(iteratee.apply(value)) || downstream.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Keeps the first {@code n} elements and stops reading the source after them, as {@link CollectionUtils#take}.
+     *
+     * @param n The number of elements to take, none when negative.
+     * @return Returns the new chain.
+     */
+    public Chain<T> take(int n) {
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            private int remaining = Math.max(n, 0);
+
+            @Override
+            public boolean accept(T value) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining--;
+                return downstream.accept(value) && remaining > 0;
+            }
+        });
+    }
+
+    /**
+     * Skips the first {@code n} elements, as {@link CollectionUtils#drop}.
+     *
+     * @param n The number of elements to drop, none when negative.
+     * @return Returns the new chain.
+     */
+    public Chain<T> drop(int n) {
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            private int remaining = Math.max(n, 0);
+
+            @Override
+            public boolean accept(T value) {
+                if (remaining > 0) {
+                    remaining--;
+                    return true;
+                }
+                return downstream.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Skips elements while {@code predicate} returns {@code true}, as {@link CollectionUtils#dropWhile}.
+     *
+     * @param predicate The function invoked per element until it returns {@code false}.
+     * @return Returns the new chain.
+     */
+    public Chain<T> dropWhile(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(downstream -> new ChainedSink<T, T>(downstream) {
+            private boolean dropping = true;
+
+            @Override
+            public boolean accept(T value) {
+                if (dropping && predicate.test(value)) {
+                    return true;
+                }
+                dropping = false;
+                return downstream.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Groups the elements into lists of {@code size}, the last one holding the remainder, as
+     * {@link CollectionUtils#chunk}. Each chunk is a new list, so only one chunk is buffered at a time.
+     *
+     * @param size The length of each chunk, no chunks when less than 1.
+     * @return Returns the new chain.
+     */
+    public Chain<List<T>> chunk(int size) {
+        if (size < 1) {
+            return this.<List<T>>then(downstream -> value -> false);
+        }
+        return then(downstream -> new ChainedSink<T, List<T>>(downstream) {
+            private List<T> buffer = new ArrayList<>(size);
+            private boolean stopped;
+
+            @Override
+            public boolean accept(T value) {
+                buffer.add(value);
+                if (buffer.size() < size) {
+                    return true;
+                }
+                List<T> full = buffer;
+                buffer = new ArrayList<>(size);
+                stopped = !downstream.accept(full);
+                return !stopped;
+            }
+
+            @Override
+            public void end() {
+                if (!stopped && !buffer.isEmpty()) {
+                    downstream.accept(buffer);
+                }
+                downstream.end();
+            }
+        });
+    }
+
+    /**
+     * Runs the pipeline and collects the result.
+     *
+     * @return Returns a new list of the elements that reach the end of the pipeline.
+     */
+    public List<T> value() {
+        List<T> result = new ArrayList<>();
+        run(value -> {
+            result.add(value);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Runs the pipeline until an element matches.
+     *
+     * @param predicate The function invoked per non-null element.
+     * @return Returns the first non-null element {@code predicate} returns {@code true} for, else empty.
+     */
+    public Optional<T> find(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        List<T> found = new ArrayList<>(1);
+        run(value -> {
+            if (value != null && predicate.test(value)) {
+                found.add(value);
+                return false;
+            }
+            return true;
+        });
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    /**
+     * Runs the pipeline until an element matches.
+     *
+     * @param predicate The function invoked per non-null element.
+     * @return Returns {@code true} if {@code predicate} returns {@code true} for any non-null element.
+     */
+    public boolean some(Predicate<? super T> predicate) {
+        return find(predicate).isPresent();
+    }
+
+    /**
+     * Runs the pipeline until an element does not match, as {@link CollectionUtils#every}.
+     *
+     * @param predicate The function invoked per element.
+     * @return Returns {@code true} if the pipeline yields at least one element and all of them match.
+     */
+    public boolean every(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        boolean[] state = {false, true};
+        run(value -> {
+            state[0] = true;
+            state[1] = predicate.test(value);
+            return state[1];
+        });
+        return state[0] && state[1];
+    }
+
+    /**
+     * Runs the pipeline for its first element only.
+     *
+     * @return Returns the first element, else empty if there is none or it is {@code null}.
+     */
+    public Optional<T> head() {
+        List<T> found = new ArrayList<>(1);
+        run(value -> {
+            found.add(value);
+            return false;
+        });
+        return found.isEmpty() ? Optional.empty() : Optional.ofNullable(found.get(0));
+    }
+
+    /**
+     * Runs the pipeline and folds its non-null elements, as {@link CollectionUtils#reduce(java.util.Collection,
+     * Object, BinaryOperator)}.
+     *
+     * @param identity    The initial value.
+     * @param accumulator The function invoked per non-null element.
+     * @return Returns the accumulated value.
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        List<T> result = new ArrayList<>(Collections.singletonList(identity));
+        run(value -> {
+            if (value != null) {
+                result.set(0, accumulator.apply(result.get(0), value));
+            }
+            return true;
+        });
+        return result.get(0);
+    }
+
+    /**
+     * Runs the pipeline and invokes {@code iteratee} for each non-null element.
+     *
+     * @param iteratee The function invoked per element.
+     */
+    public void forEach(Consumer<? super T> iteratee) {
+        Objects.requireNonNull(iteratee);
+        run(value -> {
+            if (value != null) {
+                iteratee.accept(value);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Runs the pipeline and joins its non-null elements, as {@link CollectionUtils#join}.
+     *
+     * @param separator The separator, {@code ","} when {@code null} or empty.
+     * @return Returns the joined string.
+     */
+    public String join(String separator) {
+        StringJoiner joiner = new StringJoiner(separator == null || separator.isEmpty() ? "," : separator);
+        forEach(value -> joiner.add(String.valueOf(value)));
+        return joiner.toString();
+    }
+
+    /**
+     * Runs the pipeline and groups its non-null elements by key, as {@link CollectionUtils#groupBy}.
+     *
+     * @param <K>      The type of the keys.
+     * @param iteratee The function computing the key of each element.
+     * @return Returns the map of keys to the elements having them.
+     */
+    public <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> iteratee) {
+        Objects.requireNonNull(iteratee);
+        Map<K, List<T>> result = new HashMap<>();
+        forEach(value -> result.computeIfAbsent(iteratee.apply(value), key -> new ArrayList<>()).add(value));
+        return result;
+    }
+
+    /**
+     * Runs the pipeline and counts its elements by key, as {@link CollectionUtils#countBy}.
+     *
+     * @param <K>      The type of the keys.
+     * @param iteratee The function computing the key of each element.
+     * @return Returns the map of keys to their number of elements, in first-seen order.
+     */
+    public <K> Map<K, Long> countBy(Function<? super T, ? extends K> iteratee) {
+        Objects.requireNonNull(iteratee);
+        Map<K, Long> result = new LinkedHashMap<>();
+        run(value -> {
+            result.merge(iteratee.apply(value), 1L, Long::sum);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Runs the pipeline and counts its elements.
+     *
+     * @return Returns the number of elements that reach the end of the pipeline.
+     */
+    public long size() {
+        long[] count = {0};
+        run(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Pushes the source through the pipeline into {@code terminal} until a stage or the terminal asks to stop.
+     */
+    private void run(Sink<T> terminal) {
+        Sink<Object> head = pipeline.apply(terminal);
+        for (Object value : source) {
+            if (!head.accept(value)) {
+                break;
+            }
+        }
+        head.end();
+    }
+
+    /**
+     * Receives the elements of one run of the pipeline.
+     */
+    @FunctionalInterface
+    interface Sink<T> {
+        /**
+         * Receives the next element.
+         *
+         * @return Returns {@code false} once no more elements are wanted.
+         */
+        boolean accept(T value);
+
+        /**
+         * Called once after the last element, so buffering stages can flush.
+         */
+        default void end() {
+        }
+    }
+
+    /**
+     * A stage forwarding to the next sink of the pipeline.
+     */
+    private abstract static class ChainedSink<T, R> implements Sink<T> {
+        final Sink<R> downstream;
+
+        ChainedSink(Sink<R> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void end() {
+            downstream.end();
+        }
+    }
+}
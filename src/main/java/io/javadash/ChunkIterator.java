@@ -0,0 +1,52 @@
+package io.javadash;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Pulls the elements of a source iterator into lists of {@code size}, one list per {@link #next()} call, so only the
+ * chunk being filled is held in memory. Each chunk is a new list; the last one holds the remainder and is trimmed to
+ * its length.
+ *
+ * @param <T> The type of the elements.
+ */
+final class ChunkIterator<T> implements Iterator<List<T>> {
+    /**
+     * Chunks start with at most this capacity and grow, so a huge {@code size} over a short source allocates little.
+     */
+    static final int MAX_INITIAL_CAPACITY = 1 << 13;
+
+    private final Iterator<? extends T> source;
+    private final int size;
+
+    ChunkIterator(Iterator<? extends T> source, int size) {
+        this.source = source;
+        this.size = size;
+    }
+
+    static int initialCapacity(int size) {
+        return Math.min(size, MAX_INITIAL_CAPACITY);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!source.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ArrayList<T> chunk = new ArrayList<>(initialCapacity(size));
+        while (chunk.size() < size && source.hasNext()) {
+            chunk.add(source.next());
+        }
+        if (chunk.size() < size) {
+            chunk.trimToSize();
+        }
+        return chunk;
+    }
+}
@@ -1,23 +1,34 @@
 package io.javadash;
 
 import static io.javadash.core.BaseLibrary.baseDifference;
+import static io.javadash.core.BaseLibrary.baseDifferenceAll;
+import static io.javadash.core.BaseLibrary.baseDifferenceOrdered;
 import static io.javadash.core.BaseLibrary.baseFlatten;
 import static io.javadash.core.BaseLibrary.baseIntersection;
+import static io.javadash.core.BaseLibrary.baseIntersectionAll;
+import static io.javadash.core.BaseLibrary.baseIntersectionOrdered;
 import static io.javadash.core.BaseLibrary.baseList;
 import static io.javadash.core.BaseLibrary.baseSlice;
+import static io.javadash.core.BaseLibrary.baseStream;
 import static io.javadash.core.BaseLibrary.baseUniq;
+import static io.javadash.core.BaseLibrary.baseUniqOrdered;
 import static io.javadash.core.BaseLibrary.baseWhile;
 import static io.javadash.core.BaseLibrary.baseXor;
 import static io.javadash.core.BaseLibrary.baseXorBy;
 import static io.javadash.core.BaseLibrary.baseXorWith;
 import static io.javadash.core.Validate.hasNullOrEmptyList;
-import static io.javadash.core.Validate.isEmpty;
 import static io.javadash.core.Validate.isFalsy;
 import static io.javadash.core.Validate.isValidArray;
 import static io.javadash.core.Validate.isValidRestList;
 import static io.javadash.core.Validate.isValidRestZip;
 
+import io.javadash.core.BoundedHeap;
+import io.javadash.core.IndexSort;
+import io.javadash.core.Positional;
 import io.javadash.core.Validate;
+import io.javadash.metrics.ComplexityGuard;
+import io.javadash.metrics.Metrics;
+import io.javadash.primitive.BloomFilter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,15 +47,23 @@
 import java.util.OptionalDouble;
 import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CollectionUtils {
 
@@ -64,7 +83,12 @@ public class CollectionUtils {
      * {@code false} otherwise
      */
     public static boolean isEmpty(final Object collection) {
-        return Validate.isEmpty(collection);
+        long startNanos = Metrics.start();
+        try {
+            return Validate.isEmpty(collection);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.isEmpty", collection);
+        }
     }
 
     /**
@@ -85,15 +109,162 @@ public static boolean isEmpty(final Object collection) {
      * @return Returns the new collection of chunks.
      */
     public static <T> List<List<T>> chunk(Collection<? extends T> collection, int size) {
-        if (isEmpty(collection) || size < 1) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || size < 1) {
+                return Collections.emptyList();
+            }
+            int length = collection.size();
+            List<List<T>> result = new ArrayList<>((length - 1) / size + 1);
+            Iterator<? extends T> iterator = collection.iterator();
+            for (int remaining = length; remaining > 0; remaining -= size) {
+                List<T> chunk = new ArrayList<>(Math.min(size, remaining));
+                while (chunk.size() < size && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                result.add(chunk);
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.chunk", collection);
+        }
+    }
+
+    /**
+     * Lazily splits the elements of iterator into groups the length of size, like {@link #chunk(Collection, int)}.
+     * Each {@code next()} call reads one chunk from the source into a new list, so memory stays bounded by one chunk
+     * however long, or unbounded, the source is.
+     *
+     * <pre>{@code
+     *      Iterator<Row> rows = cursor.iterator(); // millions of rows
+     *      Iterator<List<Row>> batches = CollectionUtils.chunked(rows, 1000);
+     *      while (batches.hasNext()) {
+     *          repository.insertAll(batches.next());
+     *      }
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterator.
+     * @param iterator The elements to split, consumed as chunks are read.
+     * @param size     The length of each chunk.
+     * @return Returns the iterator of chunks, empty when iterator is {@code null} or size is less than 1.
+     */
+    public static <T> Iterator<List<T>> chunked(Iterator<? extends T> iterator, int size) {
+        long startNanos = Metrics.start();
+        try {
+            if (iterator == null || size < 1) {
+                return Collections.emptyIterator();
+            }
+            return new ChunkIterator<>(iterator, size);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.chunked", null);
+        }
+    }
+
+    /**
+     * Lazily splits the elements of iterable into groups the length of size; see {@link #chunked(Iterator, int)}.
+     * Every iteration of the result reads iterable again.
+     *
+     * <pre>{@code
+     *      for (List<Row> batch : CollectionUtils.chunked(rows, 1000)) {
+     *          repository.insertAll(batch);
+     *      }
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to split.
+     * @param size     The length of each chunk.
+     * @return Returns the iterable of chunks, empty when iterable is {@code null} or size is less than 1.
+     */
+    public static <T> Iterable<List<T>> chunked(Iterable<? extends T> iterable, int size) {
+        long startNanos = Metrics.start();
+        try {
+            if (iterable == null || size < 1) {
+                return Collections.emptyList();
+            }
+            return () -> new ChunkIterator<>(iterable.iterator(), size);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.chunked", iterable);
+        }
+    }
+
+    /**
+     * Lazily splits the elements of stream into groups the length of size; see {@link #chunked(Iterator, int)}. The
+     * source stream is pulled one chunk at a time and closed with the returned stream.
+     *
+     * <pre>{@code
+     *      try (Stream<String> lines = Files.lines(path)) {
+     *          CollectionUtils.chunked(lines, 500).forEach(repository::insertAll);
+     *      }
+     * }</pre>
+     *
+     * @param <T>    The type of elements in the stream.
+     * @param stream The elements to split.
+     * @param size   The length of each chunk.
+     * @return Returns the sequential stream of chunks, empty when stream is {@code null} or size is less than 1.
+     */
+    public static <T> Stream<List<T>> chunked(Stream<? extends T> stream, int size) {
+        long startNanos = Metrics.start();
+        try {
+            if (stream == null) {
+                return Stream.empty();
+            }
+            if (size < 1) {
+                return Stream.<List<T>>empty().onClose(stream::close);
+            }
+            Iterator<List<T>> chunks = new ChunkIterator<>(stream.iterator(), size);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(stream::close);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.chunked", null);
+        }
+    }
+
+    /**
+     * Splits the elements of iterable into groups the length of size and invokes action for each group, in a single
+     * pass that reuses one buffer. Nothing is allocated per chunk, so the list passed to action is read-only and only
+     * valid during the call: it is cleared and refilled for the next chunk. Copy it to keep it, or use
+     * {@link #chunked(Iterable, int)} for independent chunks.
+     *
+     * <pre>{@code
+     *      try (Stream<Row> rows = repository.streamAll()) {
+     *          CollectionUtils.forEachChunk(rows::iterator, 1000, batch -> statement.executeBatch(batch));
+     *      }
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to split, iterated once.
+     * @param size     The length of each chunk, no chunks when less than 1.
+     * @param action   The function invoked per chunk.
+     * @return Returns the number of chunks passed to action.
+     */
+    public static <T> long forEachChunk(Iterable<? extends T> iterable, int size, Consumer<? super List<T>> action) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(action);
+            if (iterable == null || size < 1) {
+                return 0L;
+            }
+            List<T> buffer = new ArrayList<>(ChunkIterator.initialCapacity(size));
+            List<T> view = Collections.unmodifiableList(buffer);
+            long chunks = 0L;
+            for (T value : iterable) {
+                buffer.add(value);
+                if (buffer.size() == size) {
+                    action.accept(view);
+                    buffer.clear();
+                    chunks++;
+                }
+            }
+            if (!buffer.isEmpty()) {
+                action.accept(view);
+                buffer.clear();
+                chunks++;
+            }
+            return chunks;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.forEachChunk", iterable);
         }
-        List<T> list = new ArrayList<>(collection);
-        int length = list.size();
-        int chunkCount = (int) Math.ceil((double) length / size);
-        return IntStream.range(0, chunkCount)
-            .mapToObj(i -> list.subList(i * size, Math.min((i + 1) * size, length)))
-            .collect(Collectors.toList());
     }
 
     /**
@@ -113,13 +284,18 @@ public static <T> List<List<T>> chunk(Collection<? extends T> collection, int si
      * @return Returns the new collection of filtered values.
      */
     public static <T> List<T> compact(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            return list.stream()
+                .filter(value -> !isFalsy(value))
+                .collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.compact", collection);
         }
-        List<T> list = new ArrayList<>(collection);
-        return list.stream()
-            .filter(value -> !isFalsy(value))
-            .collect(Collectors.toList());
     }
 
     /**
@@ -143,15 +319,20 @@ public static <T> List<T> compact(Collection<? extends T> collection) {
      */
     @SafeVarargs
     public static <T> List<T> concat(Collection<? extends T> collection, Collection<? extends T>... values) {
-        List<T> result = !isEmpty(collection) ? new ArrayList<>(collection) : new ArrayList<>();
-        for (Collection<? extends T> value : values) {
-            if (value != null) {
-                result.addAll(value.stream()
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
+        long startNanos = Metrics.start();
+        try {
+            List<T> result = !Validate.isEmpty(collection) ? new ArrayList<>(collection) : new ArrayList<>();
+            for (Collection<? extends T> value : values) {
+                if (value != null) {
+                    result.addAll(value.stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.concat", collection);
         }
-        return result;
     }
 
     /**
@@ -175,19 +356,57 @@ public static <T> List<T> concat(Collection<? extends T> collection, Collection<
      */
     @SafeVarargs
     public static <T> List<T> difference(Collection<? extends T> collection, Collection<? extends T>... values) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        if (!isValidRestList(values)) {
-            return new ArrayList<>(collection);
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            if (!isValidRestList(values)) {
+                return new ArrayList<>(collection);
+            }
+            return baseDifferenceAll(collection, values, null);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.difference", collection);
         }
-        Set<T> resultSet = new LinkedHashSet<>(collection);
-        for (Collection<? extends T> value : values) {
-            if (value != null) {
-                resultSet.retainAll(baseDifference(collection, value));
+    }
+
+    /**
+     * Creates a collection of the distinct values of collection that are not in a target too large to hash, in
+     * their original order. The Bloom filter built over the target clears most values at the cost of a few bit
+     * tests; only the values it may hold are checked with the exact lookup.
+     *
+     * <pre>{@code
+     *      BloomFilter<Long> historical = BloomFilter.readFrom(Paths.get("historical.bloom"));
+     *      List<Long> fresh = CollectionUtils.differenceFiltered(todayIds, historical, historicalStore::contains);
+     *      // => the IDs of today that historicalStore does not contain
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to inspect.
+     * @param target     The filter holding every value of the target.
+     * @param contains   The exact membership test of the target, called only when the filter may hold a value.
+     * @return Returns the new collection of filtered values.
+     */
+    public static <T> List<T> differenceFiltered(Collection<? extends T> collection, BloomFilter<? super T> target,
+                                                 Predicate<? super T> contains) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(target);
+            Objects.requireNonNull(contains);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            Set<T> seen = new HashSet<>();
+            List<T> result = new ArrayList<>();
+            for (T element : collection) {
+                if (seen.add(element) && (!target.mightContain(element) || !contains.test(element))) {
+                    result.add(element);
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.differenceFiltered", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
     /**
@@ -217,22 +436,19 @@ public static <T> List<T> difference(Collection<? extends T> collection, Collect
     @SafeVarargs
     public static <T> List<T> differenceBy(Collection<? extends T> collection, Predicate<T> predicate,
                                            Collection<? extends T>... values) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        if (!isValidRestList(values)) {
-            return new ArrayList<>(collection);
-        }
-        List<T> source = baseList(collection, predicate);
-        Set<T> resultSet = new LinkedHashSet<>(source);
-        for (Collection<? extends T> value : values) {
-            if (value != null) {
-                List<T> target = baseList(value, predicate);
-                resultSet.retainAll(baseDifference(source, target));
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            if (!isValidRestList(values)) {
+                return new ArrayList<>(collection);
             }
+            return baseDifferenceAll(collection, values, predicate);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.differenceBy", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
     /**
@@ -259,20 +475,99 @@ public static <T> List<T> differenceBy(Collection<? extends T> collection, Predi
     @SafeVarargs
     public static <T> List<T> differenceWith(Collection<? extends T> collection, BiPredicate<T, T> comparator,
                                              Collection<? extends T>... values) {
-        Objects.requireNonNull(comparator);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            if (!isValidRestList(values)) {
+                return new ArrayList<>(collection);
+            }
+            Set<T> resultSet = new LinkedHashSet<>(collection);
+            for (Collection<? extends T> valueList : values) {
+                if (valueList != null) {
+                    resultSet.retainAll(new HashSet<>(baseDifference(collection, valueList, comparator)));
+                }
+            }
+            return new ArrayList<>(resultSet);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.differenceWith", collection);
         }
-        if (!isValidRestList(values)) {
-            return new ArrayList<>(collection);
+    }
+
+    /**
+     * This method is like differenceWith except that values are compared with an equivalence, which lets the
+     * exclusions be hashed once: O(n + m) instead of a comparison per pair. Null elements are dropped and the result
+     * keeps the first of the elements equivalent to each other.
+     *
+     * <pre>{@code
+     *      List<String> input = Arrays.asList("Apple", "Banana", "Cherry");
+     *      List<String> exclude = Arrays.asList("banana", "cherry");
+     *      CollectionUtils.differenceWith(input, Equivalence.caseInsensitive(), exclude);
+     *      // => ["Apple"];
+     *  }</pre>
+     *
+     * @param <T>         The type of elements in the collections.
+     * @param collection  The collection to inspect.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @param values      The collections to exclude.
+     * @return Returns the new collection of filtered values.
+     */
+    @SafeVarargs
+    public static <T> List<T> differenceWith(Collection<? extends T> collection, Equivalence<? super T> equivalence,
+                                             Collection<? extends T>... values) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(equivalence);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            if (!isValidRestList(values)) {
+                return new ArrayList<>(collection);
+            }
+            return baseDifferenceAll(collection, values, element -> true, equivalence::wrap);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.differenceWith", collection);
         }
-        Set<T> resultSet = new LinkedHashSet<>(collection);
-        for (Collection<? extends T> valueList : values) {
-            if (valueList != null) {
-                resultSet.retainAll(baseDifference(collection, valueList, comparator));
+    }
+
+    /**
+     * This method is like differenceWith except that values are compared with a comparator, equal when it returns
+     * {@code 0}. The exclusions are kept in a tree set, so the cost is O((n + m) log(n + m)) comparisons instead of
+     * one per pair; use it when the equality is an ordering and the values have no natural hash. Null elements are
+     * dropped and the result keeps the first of the elements equal to each other, in their original order.
+     *
+     * <pre>{@code
+     *      List<String> input = Arrays.asList("Apple", "Banana", "Cherry");
+     *      List<String> exclude = Arrays.asList("banana", "cherry");
+     *      CollectionUtils.differenceWithComparator(input, String.CASE_INSENSITIVE_ORDER, exclude);
+     *      // => ["Apple"];
+     *  }</pre>
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param collection The collection to inspect.
+     * @param comparator The ordering deciding which values are equal.
+     * @param values     The collections to exclude.
+     * @return Returns the new collection of filtered values.
+     */
+    @SafeVarargs
+    public static <T> List<T> differenceWithComparator(Collection<? extends T> collection,
+                                                       Comparator<? super T> comparator,
+                                                       Collection<? extends T>... values) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
             }
+            if (!isValidRestList(values)) {
+                return new ArrayList<>(collection);
+            }
+            return baseDifferenceOrdered(collection, values, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.differenceWithComparator", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
 
@@ -294,16 +589,21 @@ public static <T> List<T> differenceWith(Collection<? extends T> collection, BiP
      * @return Returns the slice of collection.
      */
     public static <T> List<T> drop(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        int size = list.size();
-        int nStep = Math.max(0, n);
-        if (nStep >= size) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            int size = list.size();
+            int nStep = Math.max(0, n);
+            if (nStep >= size) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(list.subList(nStep, size));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.drop", collection);
         }
-        return new ArrayList<>(list.subList(nStep, size));
     }
 
     /**
@@ -324,16 +624,21 @@ public static <T> List<T> drop(Collection<? extends T> collection, int n) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> dropRight(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        int length = list.size();
-        if (n <= 0) {
-            return list;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            int length = list.size();
+            if (n <= 0) {
+                return list;
+            }
+            int nStep = Math.min(n, length);
+            return new ArrayList<>(list.subList(0, length - nStep));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.dropRight", collection);
         }
-        int nStep = Math.min(n, length);
-        return new ArrayList<>(list.subList(0, length - nStep));
     }
 
     /**
@@ -355,16 +660,21 @@ public static <T> List<T> dropRight(Collection<? extends T> collection, int n) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> dropWhile(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        int index = 0;
-        while (index < list.size() && predicate.test(list.get(index))) {
-            index++;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            int index = 0;
+            while (index < list.size() && predicate.test(list.get(index))) {
+                index++;
+            }
+            return new ArrayList<>(list.subList(index, list.size()));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.dropWhile", collection);
         }
-        return new ArrayList<>(list.subList(index, list.size()));
     }
 
     /**
@@ -386,16 +696,21 @@ public static <T> List<T> dropWhile(Collection<? extends T> collection, Predicat
      * @return Returns the slice of collection.
      */
     public static <T> List<T> dropRightWhile(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        int index = list.size() - 1;
-        while (index >= 0 && predicate.test(list.get(index))) {
-            index--;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            int index = list.size() - 1;
+            while (index >= 0 && predicate.test(list.get(index))) {
+                index--;
+            }
+            return new ArrayList<>(list.subList(0, index + 1));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.dropRightWhile", collection);
         }
-        return new ArrayList<>(list.subList(0, index + 1));
     }
 
     /**
@@ -418,15 +733,20 @@ public static <T> List<T> dropRightWhile(Collection<? extends T> collection, Pre
      * @return Returns list.
      */
     public static <T> List<T> fill(List<T> list, T value, int start, int end) {
-        if (isEmpty(list)) {
-            return Collections.emptyList();
-        }
-        int startN = Math.max(0, start);
-        int endN = Math.min(list.size(), end);
-        for (int i = startN; i < endN; i++) {
-            list.set(i, value);
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(list)) {
+                return Collections.emptyList();
+            }
+            int startN = Math.max(0, start);
+            int endN = Math.min(list.size(), end);
+            for (int i = startN; i < endN; i++) {
+                list.set(i, value);
+            }
+            return list;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.fill", list);
         }
-        return list;
     }
 
     /**
@@ -449,18 +769,16 @@ public static <T> List<T> fill(List<T> list, T value, int start, int end) {
      * @return Returns the index of the found element, else {@code -1}.
      */
     public static <T> int findIndex(Collection<? extends T> collection, Predicate<T> predicate, int fromIndex) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection) || fromIndex > collection.size() - 1) {
-            return -1;
-        }
-        List<T> list = new ArrayList<>(collection);
-        int index = Math.max(fromIndex, 0);
-        for (int i = index; i < list.size(); i++) {
-            if (predicate.test(list.get(i))) {
-                return i;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection) || fromIndex > collection.size() - 1) {
+                return -1;
             }
+            return Positional.indexOf(collection, predicate, fromIndex);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.findIndex", collection);
         }
-        return -1;
     }
 
     /**
@@ -483,19 +801,16 @@ public static <T> int findIndex(Collection<? extends T> collection, Predicate<T>
      * @return Returns the index of the found element, else {@code -1}.
      */
     public static <T> int findLastIndex(Collection<? extends T> collection, Predicate<T> predicate, int fromIndex) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection) || fromIndex < 0) {
-            return -1;
-        }
-        List<T> list = new ArrayList<>(collection);
-        int length = list.size() - 1;
-        int index = Math.min(fromIndex, length);
-        for (int i = index; i >= 0; i--) {
-            if (predicate.test(list.get(i))) {
-                return i;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection) || fromIndex < 0) {
+                return -1;
             }
+            return Positional.lastIndexOf(collection, predicate, fromIndex);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.findLastIndex", collection);
         }
-        return -1;
     }
 
     /**
@@ -516,15 +831,20 @@ public static <T> int findLastIndex(Collection<? extends T> collection, Predicat
      */
     @SuppressWarnings("unchecked")
     public static <T> List<T> flatten(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return collection.stream()
+                .flatMap(element -> element instanceof Collection<?>
+                    ? ((Collection<?>) element).stream()
+                    : Stream.of(element))
+                .map(e -> (T) e)
+                .collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flatten", collection);
         }
-        return collection.stream()
-            .flatMap(element -> element instanceof Collection<?>
-                ? ((Collection<?>) element).stream()
-                : Stream.of(element))
-            .map(e -> (T) e)
-            .collect(Collectors.toList());
     }
 
     /**
@@ -544,15 +864,24 @@ public static <T> List<T> flatten(Collection<? extends T> collection) {
      * @param collection The collection to flatten.
      * @return Returns the new flattened collection.
      */
-    @SuppressWarnings("unchecked")
     public static <T> List<T> flattenDeep(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseFlattenDeep(collection);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flattenDeep", collection);
         }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> baseFlattenDeep(Collection<? extends T> collection) {
         return collection.stream()
             .filter(Objects::nonNull)
             .flatMap(element -> element instanceof Collection<?>
-                ? flattenDeep((Collection<? extends T>) element).stream()
+                ? baseFlattenDeep((Collection<? extends T>) element).stream()
                 : Stream.of(element))
             .collect(Collectors.toList());
     }
@@ -575,18 +904,27 @@ public static <T> List<T> flattenDeep(Collection<? extends T> collection) {
      * @param depth      The maximum recursion depth.
      * @return Returns the new flattened collection.
      */
-    @SuppressWarnings("unchecked")
     public static <T> List<T> flattenDepth(Collection<? extends T> collection, int depth) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseFlattenDepth(collection, depth);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flattenDepth", collection);
         }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> baseFlattenDepth(Collection<? extends T> collection, int depth) {
         if (depth <= 0) {
             return new ArrayList<>(collection);
         }
         return collection.stream()
             .filter(Objects::nonNull)
             .flatMap(element -> element instanceof Collection<?>
-                ? flattenDepth((Collection<? extends T>) element, depth - 1).stream()
+                ? baseFlattenDepth((Collection<? extends T>) element, depth - 1).stream()
                 : Stream.of(element))
             .collect(Collectors.toList());
     }
@@ -612,19 +950,24 @@ public static <T> List<T> flattenDepth(Collection<? extends T> collection, int d
      */
     @SuppressWarnings("unchecked")
     public static <T> Map<T, T> fromPairs(List<List<T>> pairs) {
-        if (isEmpty(pairs)) {
-            return Collections.emptyMap();
-        }
-        Map<T, T> result = new HashMap<>();
-        for (List<T> pair : pairs) {
-            if (pair == null) {
-                continue;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(pairs)) {
+                return Collections.emptyMap();
             }
-            if (pair.size() >= 2) {
-                result.put((T) pair.get(0).toString(), pair.get(1));
+            Map<T, T> result = new HashMap<>();
+            for (List<T> pair : pairs) {
+                if (pair == null) {
+                    continue;
+                }
+                if (pair.size() >= 2) {
+                    result.put((T) pair.get(0).toString(), pair.get(1));
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.fromPairs", pairs);
         }
-        return result;
     }
 
 
@@ -649,9 +992,14 @@ public static <T> Map<T, T> fromPairs(List<List<T>> pairs) {
      * @return Returns the first element of the collection.
      */
     public static <T> Optional<T> head(Collection<? extends T> collection) {
-        return !isEmpty(collection)
-            ? Optional.ofNullable(collection.iterator().next())
-            : Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            return !Validate.isEmpty(collection)
+                ? Optional.ofNullable(collection.iterator().next())
+                : Optional.empty();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.head", collection);
+        }
     }
 
     /**
@@ -672,13 +1020,15 @@ public static <T> Optional<T> head(Collection<? extends T> collection) {
      * @return Returns the index of the matched value, else {@code -1}.
      */
     public static <T> int indexOf(Collection<? extends T> collection, T value) {
-        if (isEmpty(collection)) {
-            return -1;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return -1;
+            }
+            return Positional.indexOf(collection, element -> Objects.equals(element, value), 0);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.indexOf", collection);
         }
-        return IntStream.range(0, collection.size())
-            .filter(i -> Objects.equals(new ArrayList<>(collection).get(i), value))
-            .findFirst()
-            .orElse(-1);
     }
 
     /**
@@ -700,14 +1050,15 @@ public static <T> int indexOf(Collection<? extends T> collection, T value) {
      * @return Returns the index of the matched value, else {@code -1}.
      */
     public static <T> int indexOf(Collection<? extends T> collection, T value, int fromIndex) {
-        if (isEmpty(collection) || fromIndex > collection.size() - 1) {
-            return -1;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || fromIndex > collection.size() - 1) {
+                return -1;
+            }
+            return Positional.indexOf(collection, element -> Objects.equals(element, value), fromIndex);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.indexOf", collection);
         }
-        int index = Math.max(fromIndex, 0);
-        return IntStream.range(index, collection.size())
-            .filter(i -> Objects.equals(new ArrayList<>(collection).get(i), value))
-            .findFirst()
-            .orElse(-1);
     }
 
     /**
@@ -727,11 +1078,16 @@ public static <T> int indexOf(Collection<? extends T> collection, T value, int f
      * @return Returns the slice of collection.
      */
     public static <T> List<T> initial(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            return list.subList(0, list.size() - 1);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.initial", collection);
         }
-        List<T> list = new ArrayList<>(collection);
-        return list.subList(0, list.size() - 1);
     }
 
     /**
@@ -758,14 +1114,54 @@ public static <T> List<T> initial(Collection<? extends T> collection) {
      */
     @SafeVarargs
     public static <T> List<T> intersection(Collection<? extends T> collection, Collection<? extends T>... values) {
-        if (isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
+                return Collections.emptyList();
+            }
+            return baseIntersectionAll(collection, values, null);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersection", collection);
         }
-        Set<T> resultSet = new LinkedHashSet<>(collection);
-        for (Collection<? extends T> value : values) {
-            resultSet.retainAll(baseIntersection(collection, value));
+    }
+
+    /**
+     * Creates a collection of the distinct values of collection that are in a target too large to hash, in their
+     * original order. The Bloom filter built over the target rejects most absent values at the cost of a few bit
+     * tests; only the values it may hold are checked with the exact lookup.
+     *
+     * <pre>{@code
+     *      BloomFilter<String> known = BloomFilter.readFrom(Paths.get("known-emails.bloom"));
+     *      List<String> returning = CollectionUtils.intersectionFiltered(signups, known, accountStore::exists);
+     *      // => the signups that accountStore already knows
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to inspect.
+     * @param target     The filter holding every value of the target.
+     * @param contains   The exact membership test of the target, called only when the filter may hold a value.
+     * @return Returns the new collection of intersecting values.
+     */
+    public static <T> List<T> intersectionFiltered(Collection<? extends T> collection, BloomFilter<? super T> target,
+                                                   Predicate<? super T> contains) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(target);
+            Objects.requireNonNull(contains);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            Set<T> seen = new HashSet<>();
+            List<T> result = new ArrayList<>();
+            for (T element : collection) {
+                if (seen.add(element) && target.mightContain(element) && contains.test(element)) {
+                    result.add(element);
+                }
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersectionFiltered", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
     /**
@@ -795,17 +1191,16 @@ public static <T> List<T> intersection(Collection<? extends T> collection, Colle
     @SafeVarargs
     public static <T> List<T> intersectionBy(Collection<? extends T> collection, Predicate<T> predicate,
                                              Collection<? extends T>... values) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
-            return Collections.emptyList();
-        }
-        List<T> source = baseList(collection, predicate);
-        Set<T> resultSet = new LinkedHashSet<>(source);
-        for (Collection<? extends T> value : values) {
-            List<T> target = baseList(value, predicate);
-            resultSet.retainAll(baseIntersection(source, target));
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
+                return Collections.emptyList();
+            }
+            return baseIntersectionAll(collection, values, predicate);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersectionBy", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
 
@@ -834,15 +1229,87 @@ public static <T> List<T> intersectionBy(Collection<? extends T> collection, Pre
     @SafeVarargs
     public static <T> List<T> intersectionWith(Collection<? extends T> collection, BiPredicate<T, T> comparator,
                                                Collection<? extends T>... values) {
-        Objects.requireNonNull(comparator);
-        if (isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
+                return Collections.emptyList();
+            }
+            Set<T> resultSet = new LinkedHashSet<>(collection);
+            for (Collection<? extends T> valueList : values) {
+                resultSet.retainAll(new HashSet<>(baseIntersection(collection, valueList, comparator)));
+            }
+            return new ArrayList<>(resultSet);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersectionWith", collection);
+        }
+    }
+
+    /**
+     * This method is like intersectionWith except that values are compared with an equivalence, which lets the
+     * collections be hashed: O(n + m) instead of a comparison per pair. Null elements are dropped and the result
+     * keeps the first of the elements of collection equivalent to each other.
+     *
+     * <pre>{@code
+     *      List<String> collection1 = Arrays.asList("Apple", "Banana", "Cherry");
+     *      List<String> collection2 = Arrays.asList("banana", "CHERRY", "date");
+     *      CollectionUtils.intersectionWith(collection1, Equivalence.caseInsensitive(), collection2);
+     *      // => [Banana, Cherry]
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the collections.
+     * @param collection  The collection to inspect.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @param values      The values to inspect.
+     * @return Returns the new collection of intersecting values.
+     */
+    @SafeVarargs
+    public static <T> List<T> intersectionWith(Collection<? extends T> collection, Equivalence<? super T> equivalence,
+                                               Collection<? extends T>... values) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(equivalence);
+            if (Validate.isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
+                return Collections.emptyList();
+            }
+            return baseIntersectionAll(collection, values, element -> true, equivalence::wrap);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersectionWith", collection);
         }
-        Set<T> resultSet = new LinkedHashSet<>(collection);
-        for (Collection<? extends T> valueList : values) {
-            resultSet.retainAll(baseIntersection(collection, valueList, comparator));
+    }
+
+    /**
+     * This method is like intersectionWith except that values are compared with a comparator, equal when it returns
+     * {@code 0}. The candidates are kept in tree maps, so the cost is O((n + m) log n) comparisons instead of one per
+     * pair. Null elements are dropped and the result keeps the first of the elements of collection equal to each
+     * other, in their original order.
+     *
+     * <pre>{@code
+     *      Comparator<Event> sameDay = Comparator.comparing(Event::getName).thenComparing(Event::getDate);
+     *      CollectionUtils.intersectionWithComparator(monday, sameDay, tuesday, wednesday);
+     *      // => the events of monday also found in tuesday and wednesday
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param collection The collection to inspect.
+     * @param comparator The ordering deciding which values are equal.
+     * @param values     The values to inspect.
+     * @return Returns the new collection of intersecting values.
+     */
+    @SafeVarargs
+    public static <T> List<T> intersectionWithComparator(Collection<? extends T> collection,
+                                                         Comparator<? super T> comparator,
+                                                         Collection<? extends T>... values) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection) || !isValidRestList(values) || hasNullOrEmptyList(values)) {
+                return Collections.emptyList();
+            }
+            return baseIntersectionOrdered(collection, values, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.intersectionWithComparator", collection);
         }
-        return new ArrayList<>(resultSet);
     }
 
     /**
@@ -871,14 +1338,19 @@ public static <T> List<T> intersectionWith(Collection<? extends T> collection, B
      * @return Returns the joined string.
      */
     public static <T> String join(Collection<? extends T> collection, String separator) {
-        if (isEmpty(collection)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return "";
+            }
+            String actualSeparator = (separator == null || separator.isEmpty()) ? "," : separator;
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .collect(Collectors.joining(actualSeparator));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.join", collection);
         }
-        String actualSeparator = (separator == null || separator.isEmpty()) ? "," : separator;
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .map(String::valueOf)
-            .collect(Collectors.joining(actualSeparator));
     }
 
     /**
@@ -899,12 +1371,17 @@ public static <T> String join(Collection<? extends T> collection, String separat
      */
     @SuppressWarnings("unchecked")
     public static <T> Optional<T> last(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            return (Optional<T>) collection.stream()
+                .skip(collection.size() - 1)
+                .findFirst();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.last", collection);
         }
-        return (Optional<T>) collection.stream()
-            .skip(collection.size() - 1)
-            .findFirst();
     }
 
     /**
@@ -925,18 +1402,15 @@ public static <T> Optional<T> last(Collection<? extends T> collection) {
      * @return Returns the index of the matched value, else {@code -1}.
      */
     public static <T> int lastIndexOf(Collection<? extends T> collection, T value) {
-        if (isEmpty(collection)) {
-            return -1;
-        }
-        int lastIndex = -1;
-        int index = 0;
-        for (T element : collection) {
-            if (Objects.equals(element, value)) {
-                lastIndex = index;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return -1;
             }
-            index++;
+            return Positional.lastIndexOf(collection, element -> Objects.equals(element, value), collection.size() - 1);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.lastIndexOf", collection);
         }
-        return lastIndex;
     }
 
     /**
@@ -958,19 +1432,17 @@ public static <T> int lastIndexOf(Collection<? extends T> collection, T value) {
      * @return Returns the index of the matched value, else {@code -1}.
      */
     public static <T> int lastIndexOf(Collection<? extends T> collection, T value, int fromIndex) {
-        if (isEmpty(collection)) {
-            return -1;
-        }
-        int length = collection.size();
-        int index = fromIndex < 0 ? Math.max(length + fromIndex, 0) : Math.min(fromIndex, length - 1);
-        int i = 0;
-        for (T element : collection) {
-            if (i == index && Objects.equals(element, value)) {
-                return i;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return -1;
             }
-            i++;
+            int length = collection.size();
+            int index = fromIndex < 0 ? Math.max(length + fromIndex, 0) : fromIndex;
+            return Positional.lastIndexOf(collection, element -> Objects.equals(element, value), index);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.lastIndexOf", collection);
         }
-        return -1;
     }
 
     /**
@@ -995,15 +1467,20 @@ public static <T> int lastIndexOf(Collection<? extends T> collection, T value, i
      * @return Returns the nth element of collection.
      */
     public static <T> Optional<T> nth(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection)) {
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            int size = collection.size();
+            int index = n < 0 ? size + n : n;
+            if (index >= 0 && index < size) {
+                return Optional.ofNullable(Positional.get(collection, index));
+            }
             return Optional.empty();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.nth", collection);
         }
-        int size = collection.size();
-        int index = n < 0 ? size + n : n;
-        if (index >= 0 && index < size) {
-            return Optional.ofNullable(((List<? extends T>) collection).get(index));  // Cast for List-based access
-        }
-        return Optional.empty();
     }
 
     /**
@@ -1022,12 +1499,18 @@ public static <T> Optional<T> nth(Collection<? extends T> collection, int n) {
      */
     @SafeVarargs
     public static <T> Collection<? extends T> pull(Collection<? extends T> collection, T... values) {
-        if (isEmpty(collection) || !isValidArray(values)) {
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            if (Validate.isEmpty(collection) || !isValidArray(values)) {
+                return collection;
+            }
+            Set<T> valuesSet = new HashSet<>(Arrays.asList(values));
+            collection.removeIf(valuesSet::contains);
             return collection;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pull", inputSize);
         }
-        Set<T> valuesSet = new HashSet<>(Arrays.asList(values));
-        collection.removeIf(valuesSet::contains);
-        return collection;
     }
 
     /**
@@ -1046,12 +1529,18 @@ public static <T> Collection<? extends T> pull(Collection<? extends T> collectio
      */
     public static <T> Collection<? extends T> pullAll(Collection<? extends T> collection,
                                                       Collection<? extends T> values) {
-        if (isEmpty(collection) || !isValidArray(values)) {
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            if (Validate.isEmpty(collection) || !isValidArray(values)) {
+                return collection;
+            }
+            Set<T> valuesSet = new HashSet<>(values);
+            collection.removeIf(valuesSet::contains);
             return collection;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pullAll", inputSize);
         }
-        Set<T> valuesSet = new HashSet<>(values);
-        collection.removeIf(valuesSet::contains);
-        return collection;
     }
 
     /**
@@ -1072,23 +1561,29 @@ public static <T> Collection<? extends T> pullAll(Collection<? extends T> collec
     @SuppressWarnings("unchecked")
     public static <T> Collection<? extends T> pullAllBy(Collection<? extends T> collection,
                                                         Collection<? extends T> values, Function<T, Object> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection) || isEmpty(values)) {
-            return collection;
-        }
-        Set<Object> transformedValuesSet = new HashSet<>();
-        for (T value : values) {
-            transformedValuesSet.add(iteratee.apply(value));
-        }
-        Iterator<T> iterator = (Iterator<T>) collection.iterator();
-        while (iterator.hasNext()) {
-            T element = iterator.next();
-            Object transformedElement = iteratee.apply(element);
-            if (transformedValuesSet.contains(transformedElement)) {
-                iterator.remove();
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection) || Validate.isEmpty(values)) {
+                return collection;
+            }
+            Set<Object> transformedValuesSet = new HashSet<>();
+            for (T value : values) {
+                transformedValuesSet.add(iteratee.apply(value));
             }
+            Iterator<T> iterator = (Iterator<T>) collection.iterator();
+            while (iterator.hasNext()) {
+                T element = iterator.next();
+                Object transformedElement = iteratee.apply(element);
+                if (transformedValuesSet.contains(transformedElement)) {
+                    iterator.remove();
+                }
+            }
+            return collection;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pullAllBy", inputSize);
         }
-        return collection;
     }
 
     /**
@@ -1109,49 +1604,98 @@ public static <T> Collection<? extends T> pullAllBy(Collection<? extends T> coll
     public static <T> Collection<? extends T> pullAllWith(Collection<? extends T> collection,
                                                           Collection<? extends T> values,
                                                           BiPredicate<T, T> comparator) {
-        Objects.requireNonNull(comparator);
-        if (isEmpty(collection) || isEmpty(values)) {
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection) || Validate.isEmpty(values)) {
+                return collection;
+            }
+            Set<T> valuesSet = new HashSet<>(values);
+            ComplexityGuard.check("pullAllWith", collection.size(), valuesSet.size());
+            collection.removeIf(element -> valuesSet.stream().anyMatch(value -> comparator.test(element, value)));
             return collection;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pullAllWith", inputSize);
         }
-        Set<T> valuesSet = new HashSet<>(values);
-        collection.removeIf(element -> valuesSet.stream().anyMatch(value -> comparator.test(element, value)));
-        return collection;
     }
 
     /**
-     * Removes and returns the elements from the collection at the specified indexes.
+     * This method is like pullAllWith except that values are compared with an equivalence, so values is hashed once
+     * and every element costs one lookup.
      *
      * <pre>{@code
-     *      List<String> result = CollectionUtils.pullAt(null, Arrays.asList(1, 3));
-     *      // => result = []
-     *
-     *      List<String> result = CollectionUtils.pullAt(Arrays.asList(1, 3), null);
-     *      // => result = []
-     *
-     *      List<String> collection = Arrays.asList("apple", "banana", "cherry", "date");
-     *      List<String> result = CollectionUtils.pullAt(collection, Arrays.asList(1, 3));
-     *      // => result = ["banana", "date"]
+     *      List<String> collection = new ArrayList<>(Arrays.asList("apple", "banana", "cherry"));
+     *      CollectionUtils.pullAllWith(collection, Arrays.asList("BANANA", "Cherry"), Equivalence.caseInsensitive());
+     *      // => collection = ["apple"]
      * }</pre>
      *
-     * @param <T>        The type of elements in the collection.
+     * @param <T>         The type of elements in the collection.
+     * @param collection  The collection to modify.
+     * @param values      The values to remove.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @return Returns collection.
+     */
+    public static <T> Collection<? extends T> pullAllWith(Collection<? extends T> collection,
+                                                          Collection<? extends T> values,
+                                                          Equivalence<? super T> equivalence) {
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            Objects.requireNonNull(equivalence);
+            if (Validate.isEmpty(collection) || Validate.isEmpty(values)) {
+                return collection;
+            }
+            Set<Object> valuesSet = new HashSet<>();
+            for (T value : values) {
+                valuesSet.add(equivalence.wrap(value));
+            }
+            collection.removeIf(element -> valuesSet.contains(equivalence.wrap(element)));
+            return collection;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pullAllWith", inputSize);
+        }
+    }
+
+    /**
+     * Removes and returns the elements from the collection at the specified indexes.
+     *
+     * <pre>{@code
+     *      List<String> result = CollectionUtils.pullAt(null, Arrays.asList(1, 3));
+     *      // => result = []
+     *
+     *      List<String> result = CollectionUtils.pullAt(Arrays.asList(1, 3), null);
+     *      // => result = []
+     *
+     *      List<String> collection = Arrays.asList("apple", "banana", "cherry", "date");
+     *      List<String> result = CollectionUtils.pullAt(collection, Arrays.asList(1, 3));
+     *      // => result = ["banana", "date"]
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
      * @param collection The collection to modify.
      * @param indexes    The indexes of the elements to remove.
      * @return Returns the new collection of removed elements.
      */
     public static <T> List<T> pullAt(Collection<? extends T> collection, List<Integer> indexes) {
-        if (isEmpty(collection) || isEmpty(indexes)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        Set<Integer> indexSet = new HashSet<>(indexes);
-        List<T> removedElements = new ArrayList<>();
-        for (int i = list.size() - 1; i >= 0; i--) {
-            if (indexSet.contains(i)) {
-                removedElements.add(list.remove(i));
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || Validate.isEmpty(indexes)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            Set<Integer> indexSet = new HashSet<>(indexes);
+            List<T> removedElements = new ArrayList<>();
+            for (int i = list.size() - 1; i >= 0; i--) {
+                if (indexSet.contains(i)) {
+                    removedElements.add(list.remove(i));
+                }
             }
+            Collections.reverse(removedElements);
+            return removedElements;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.pullAt", collection);
         }
-        Collections.reverse(removedElements);
-        return removedElements;
     }
 
     /**
@@ -1175,20 +1719,26 @@ public static <T> List<T> pullAt(Collection<? extends T> collection, List<Intege
      */
     @SuppressWarnings("unchecked")
     public static <T> List<T> remove(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> result = new ArrayList<>();
-        Iterator<T> iterator = (Iterator<T>) collection.iterator();
-        while (iterator.hasNext()) {
-            T value = iterator.next();
-            if (predicate.test(value)) {
-                result.add(value);
-                iterator.remove();
+        long startNanos = Metrics.start();
+        long inputSize = Metrics.inputSize(collection);
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> result = new ArrayList<>();
+            Iterator<T> iterator = (Iterator<T>) collection.iterator();
+            while (iterator.hasNext()) {
+                T value = iterator.next();
+                if (predicate.test(value)) {
+                    result.add(value);
+                    iterator.remove();
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.remove", inputSize);
         }
-        return result;
     }
 
     /**
@@ -1208,12 +1758,17 @@ public static <T> List<T> remove(Collection<? extends T> collection, Predicate<T
      * @return Returns collection.
      */
     public static <T> List<T> reverse(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            Collections.reverse(list);
+            return list;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reverse", collection);
         }
-        List<T> list = new ArrayList<>(collection);
-        Collections.reverse(list);
-        return list;
     }
 
     /**
@@ -1234,18 +1789,24 @@ public static <T> List<T> reverse(Collection<? extends T> collection) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> slice(Collection<? extends T> collection, int start) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        int size = collection.size();
-        int startN = Math.min(Math.max(start, 0), size);
-        List<T> result = new ArrayList<>();
-        Iterator<? extends T> iterator =
-            collection instanceof List ? ((List<? extends T>) collection).listIterator(startN) : collection.iterator();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            int size = collection.size();
+            int startN = Math.min(Math.max(start, 0), size);
+            List<T> result = new ArrayList<>();
+            Iterator<? extends T> iterator = collection instanceof List
+                ? ((List<? extends T>) collection).listIterator(startN)
+                : collection.iterator();
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.slice", collection);
         }
-        return result;
     }
 
     /**
@@ -1267,21 +1828,27 @@ public static <T> List<T> slice(Collection<? extends T> collection, int start) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> slice(Collection<? extends T> collection, int start, int end) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        int size = collection.size();
-        int startN = Math.max(start, 0);
-        int endN = Math.min(end, size);
-        List<T> result = new ArrayList<>();
-        Iterator<? extends T> iterator =
-            collection instanceof List ? ((List<? extends T>) collection).listIterator(startN) : collection.iterator();
-        int index = 0;
-        while (iterator.hasNext() && index < endN - startN) {
-            result.add(iterator.next());
-            index++;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            int size = collection.size();
+            int startN = Math.max(start, 0);
+            int endN = Math.min(end, size);
+            List<T> result = new ArrayList<>();
+            Iterator<? extends T> iterator = collection instanceof List
+                ? ((List<? extends T>) collection).listIterator(startN)
+                : collection.iterator();
+            int index = 0;
+            while (iterator.hasNext() && index < endN - startN) {
+                result.add(iterator.next());
+                index++;
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.slice", collection);
         }
-        return result;
     }
 
     /**
@@ -1301,10 +1868,15 @@ public static <T> List<T> slice(Collection<? extends T> collection, int start, i
      * @return Returns the slice of collection.
      */
     public static <T> List<T> tail(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseSlice(collection, 1, collection.size());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.tail", collection);
         }
-        return baseSlice(collection, 1, collection.size());
     }
 
     /**
@@ -1325,10 +1897,15 @@ public static <T> List<T> tail(Collection<? extends T> collection) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> take(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection) || n < 0) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || n < 0) {
+                return Collections.emptyList();
+            }
+            return baseSlice(collection, 0, n);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.take", collection);
         }
-        return baseSlice(collection, 0, n);
     }
 
     /**
@@ -1349,11 +1926,16 @@ public static <T> List<T> take(Collection<? extends T> collection, int n) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> takeRight(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection) || n < 0) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection) || n < 0) {
+                return Collections.emptyList();
+            }
+            int start = Math.max(0, collection.size() - n);
+            return baseSlice(collection, start, collection.size());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.takeRight", collection);
         }
-        int start = Math.max(0, collection.size() - n);
-        return baseSlice(collection, start, collection.size());
     }
 
     /**
@@ -1374,11 +1956,16 @@ public static <T> List<T> takeRight(Collection<? extends T> collection, int n) {
      * @return Returns the slice of collection.
      */
     public static <T> List<T> takeRightWhile(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseWhile(collection, predicate, true);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.takeRightWhile", collection);
         }
-        return baseWhile(collection, predicate, true);
     }
 
     /**
@@ -1399,11 +1986,16 @@ public static <T> List<T> takeRightWhile(Collection<? extends T> collection, Pre
      * @return Returns the slice of collection.
      */
     public static <T> List<T> takeWhile(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseWhile(collection, predicate, false);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.takeWhile", collection);
         }
-        return baseWhile(collection, predicate, false);
     }
 
     /**
@@ -1428,16 +2020,21 @@ public static <T> List<T> takeWhile(Collection<? extends T> collection, Predicat
      */
     @SafeVarargs
     public static <T> List<T> union(Collection<? extends T>... collections) {
-        if (!isValidRestList(collections)) {
-            return Collections.emptyList();
-        }
-        Set<T> resultSet = new LinkedHashSet<>();
-        for (Collection<? extends T> collection : collections) {
-            if (collection != null) {
-                resultSet.addAll(collection);
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
+            }
+            Set<T> resultSet = new LinkedHashSet<>();
+            for (Collection<? extends T> collection : collections) {
+                if (collection != null) {
+                    resultSet.addAll(collection);
+                }
             }
+            return new ArrayList<>(resultSet);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.union", collections);
         }
-        return new ArrayList<>(resultSet);
     }
 
     /**
@@ -1464,12 +2061,17 @@ public static <T> List<T> union(Collection<? extends T>... collections) {
      */
     @SafeVarargs
     public static <T> List<T> unionBy(Function<T, ?> iteratee, Collection<? extends T>... collections) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidRestList(collections)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
+            }
+            List<T> flattenedList = baseFlatten(collections);
+            return baseUniq(flattenedList, iteratee);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.unionBy", collections);
         }
-        List<T> flattenedList = baseFlatten(collections);
-        return baseUniq(flattenedList, iteratee);
     }
 
     /**
@@ -1496,12 +2098,47 @@ public static <T> List<T> unionBy(Function<T, ?> iteratee, Collection<? extends
      */
     @SafeVarargs
     public static <T> List<T> unionWith(BiPredicate<T, T> comparator, Collection<? extends T>... collections) {
-        Objects.requireNonNull(comparator);
-        if (!isValidRestList(collections)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
+            }
+            List<T> flattenedList = baseFlatten(collections);
+            return baseUniq(flattenedList, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.unionWith", collections);
+        }
+    }
+
+    /**
+     * This method is like unionWith except that values are compared with an equivalence, so each element costs one
+     * hash lookup instead of a comparison with every value kept so far.
+     *
+     * <pre>{@code
+     *      List<String> collection1 = Arrays.asList("Apple", "Pear");
+     *      List<String> collection2 = Arrays.asList("apple", "Plum");
+     *      List<String> result = CollectionUtils.unionWith(Equivalence.caseInsensitive(), collection1, collection2);
+     *      // => result = [Apple, Pear, Plum]
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the collections.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @param collections The collections to inspect.
+     * @return Returns the new collection of combined values.
+     */
+    @SafeVarargs
+    public static <T> List<T> unionWith(Equivalence<? super T> equivalence, Collection<? extends T>... collections) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(equivalence);
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
+            }
+            return baseUniq(baseFlatten(collections), equivalence::wrap);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.unionWith", collections);
         }
-        List<T> flattenedList = baseFlatten(collections);
-        return baseUniq(flattenedList, comparator);
     }
 
     /**
@@ -1521,17 +2158,41 @@ public static <T> List<T> unionWith(BiPredicate<T, T> comparator, Collection<? e
      * @return Returns the new duplicate free collection.
      */
     public static <T> List<T> uniq(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        Set<T> seen = new HashSet<>();
-        List<T> result = new ArrayList<>();
-        for (T value : collection) {
-            if (seen.add(value)) {
-                result.add(value);
+        return uniq((Iterable<? extends T>) collection);
+    }
+
+    /**
+     * Like {@link #uniq(Collection)}, but consumes any iterable in a single pass, keeping only the distinct elements.
+     * Iterators and streams are accepted as {@code () -> iterator} and {@code stream::iterator}.
+     *
+     * <pre>{@code
+     *      Stream<Integer> stream = Stream.of(1, 2, 2, 3, 3, 3);
+     *      List<Integer> result = CollectionUtils.uniq(stream::iterator);
+     *      // => result = [1, 2, 3]
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to inspect, iterated once.
+     * @return Returns the new duplicate free collection.
+     */
+    public static <T> List<T> uniq(Iterable<? extends T> iterable) {
+        long startNanos = Metrics.start();
+        try {
+            // also the shortcut for the empty collections passed through uniq(Collection)
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyList();
+            }
+            Set<T> seen = new HashSet<>();
+            List<T> result = new ArrayList<>();
+            for (T value : iterable) {
+                if (seen.add(value)) {
+                    result.add(value);
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.uniq", iterable);
         }
-        return result;
     }
 
     /**
@@ -1556,11 +2217,34 @@ public static <T> List<T> uniq(Collection<? extends T> collection) {
      * @return Returns the new duplicate free collection.
      */
     public static <T> List<T> uniqBy(Collection<? extends T> collection, Function<T, ?> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        return uniqBy((Iterable<? extends T>) collection, iteratee);
+    }
+
+    /**
+     * Like {@link #uniqBy(Collection, Function)}, but consumes any iterable in a single pass.
+     *
+     * <pre>{@code
+     *      Stream<String> lines = Files.lines(path);
+     *      List<String> result = CollectionUtils.uniqBy(lines::iterator, line -> line.split(",")[0]);
+     *      // => the first line of each key
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to inspect, iterated once.
+     * @param iteratee The iteratee invoked per element.
+     * @return Returns the new duplicate free collection.
+     */
+    public static <T> List<T> uniqBy(Iterable<? extends T> iterable, Function<T, ?> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyList();
+            }
+            return baseUniq(iterable, iteratee);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.uniqBy", iterable);
         }
-        return baseUniq(collection, iteratee);
     }
 
     /**
@@ -1581,11 +2265,74 @@ public static <T> List<T> uniqBy(Collection<? extends T> collection, Function<T,
      * @return Returns the new duplicate free collection.
      */
     public static <T> List<T> uniqWith(Collection<? extends T> collection, BiPredicate<T, T> comparator) {
-        Objects.requireNonNull(comparator);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseUniq(collection, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.uniqWith", collection);
+        }
+    }
+
+    /**
+     * This method is like uniqWith except that values are compared with an equivalence, so each element costs one
+     * hash lookup instead of a comparison with every value kept so far.
+     *
+     * <pre>{@code
+     *      List<String> collection = Arrays.asList("Apple", "apple", "Pear", "APPLE");
+     *      List<String> result = CollectionUtils.uniqWith(collection, Equivalence.caseInsensitive());
+     *      // => result = [Apple, Pear]
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the collection.
+     * @param collection  The collection to inspect.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @return Returns the new duplicate free collection.
+     */
+    public static <T> List<T> uniqWith(Collection<? extends T> collection, Equivalence<? super T> equivalence) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(equivalence);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseUniq(collection, equivalence::wrap);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.uniqWith", collection);
+        }
+    }
+
+    /**
+     * This method is like uniqWith except that values are compared with a comparator, equal when it returns
+     * {@code 0}. The values seen are kept in a tree set, so the cost is O(n log n) comparisons instead of one per pair,
+     * and the result keeps the first of the elements equal to each other, in their original order. The comparator is
+     * given {@code null} elements as they are; wrap it in {@link Comparator#nullsFirst} if the collection holds any.
+     *
+     * <pre>{@code
+     *      List<String> collection = Arrays.asList("Apple", "apple", "Pear", "APPLE");
+     *      List<String> result = CollectionUtils.uniqWithComparator(collection, String.CASE_INSENSITIVE_ORDER);
+     *      // => result = [Apple, Pear]
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to inspect.
+     * @param comparator The ordering deciding which values are equal.
+     * @return Returns the new duplicate free collection.
+     */
+    public static <T> List<T> uniqWithComparator(Collection<? extends T> collection, Comparator<? super T> comparator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return baseUniqOrdered(collection, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.uniqWithComparator", collection);
         }
-        return baseUniq(collection, comparator);
     }
 
     /**
@@ -1609,24 +2356,25 @@ public static <T> List<T> uniqWith(Collection<? extends T> collection, BiPredica
      * @return Returns the new array of regrouped elements.
      */
     public static <T> List<List<T>> unzip(Collection<? extends Collection<? extends T>> grouped) {
-        if (isEmpty(grouped)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(grouped)) {
+                return Collections.emptyList();
+            }
+            return baseUnzip(grouped);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.unzip", grouped);
         }
+    }
+
+    private static <T> List<List<T>> baseUnzip(Collection<? extends Collection<? extends T>> grouped) {
         int maxLength = 0;
         for (Collection<? extends T> group : grouped) {
             if (group != null) {
                 maxLength = Math.max(group.size(), maxLength);
             }
         }
-        List<List<T>> result = new ArrayList<>(maxLength);
-        for (int i = 0; i < maxLength; i++) {
-            List<T> regrouped = new ArrayList<>(grouped.size());
-            for (Collection<? extends T> group : grouped) {
-                regrouped.add(group != null && i < group.size() ? (T) group.toArray()[i] : null);
-            }
-            result.add(regrouped);
-        }
-        return result;
+        return Positional.transpose(grouped, maxLength);
     }
 
     /**
@@ -1652,19 +2400,24 @@ public static <T> List<List<T>> unzip(Collection<? extends Collection<? extends
      */
     public static <T> List<T> unzipWith(Collection<? extends Collection<? extends T>> grouped,
                                         Function<List<T>, T> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(grouped)) {
-            return Collections.emptyList();
-        }
-        List<List<T>> unzipped = unzip(grouped);
-        List<T> result = new ArrayList<>();
-        for (List<T> group : unzipped) {
-            result.add(iteratee.apply(group.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()))
-            );
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(grouped)) {
+                return Collections.emptyList();
+            }
+            List<List<T>> unzipped = baseUnzip(grouped);
+            List<T> result = new ArrayList<>();
+            for (List<T> group : unzipped) {
+                result.add(iteratee.apply(group.stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()))
+                );
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.unzipWith", grouped);
         }
-        return result;
     }
 
     /**
@@ -1686,24 +2439,30 @@ public static <T> List<T> unzipWith(Collection<? extends Collection<? extends T>
      */
     @SafeVarargs
     public static <T> List<T> without(Collection<? extends T> collection, T... values) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        if (!isValidArray(values)) {
-            return new ArrayList<>(collection);
-        }
-        Set<T> valuesSet = new HashSet<>(Arrays.asList(values));
-        List<T> result = new ArrayList<>();
-        for (T element : collection) {
-            if (!valuesSet.contains(element)) {
-                result.add(element);
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            if (!isValidArray(values)) {
+                return new ArrayList<>(collection);
+            }
+            Set<T> valuesSet = new HashSet<>(Arrays.asList(values));
+            List<T> result = new ArrayList<>();
+            for (T element : collection) {
+                if (!valuesSet.contains(element)) {
+                    result.add(element);
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.without", collection);
         }
-        return result;
     }
 
     /**
-     * Creates a collection of unique values that is the symmetric difference of the given collections.
+     * Creates a collection of unique values that is the symmetric difference of the given collections: the values held
+     * by exactly one of them, in the order they are first seen. The collections are read once each.
      *
      * <pre>{@code
      *      List<Integer> result = CollectionUtils.xor(null);
@@ -1721,16 +2480,15 @@ public static <T> List<T> without(Collection<? extends T> collection, T... value
      */
     @SafeVarargs
     public static <T> List<T> xor(Collection<? extends T>... collections) {
-        if (!isValidArray(collections)) {
-            return Collections.emptyList();
-        }
-        List<Collection<? extends T>> collectionList = new ArrayList<>();
-        for (Collection<? extends T> array : collections) {
-            if (array != null) {
-                collectionList.add(array);
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidArray(collections)) {
+                return Collections.emptyList();
             }
+            return baseXor(Arrays.asList(collections));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xor", collections);
         }
-        return baseXor(collectionList);
     }
 
     /**
@@ -1754,17 +2512,72 @@ public static <T> List<T> xor(Collection<? extends T>... collections) {
      */
     @SafeVarargs
     public static <T> List<T> xorBy(Function<T, ?> iteratee, Collection<? extends T>... collections) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidArray(collections)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidArray(collections)) {
+                return Collections.emptyList();
+            }
+            return baseXorBy(Arrays.asList(collections), iteratee);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xorBy", collections);
+        }
+    }
+
+    /**
+     * This method is like xor except that it accepts an iterable of iterables, such as a lazily produced sequence of
+     * sets, and reads each of them once.
+     *
+     * <pre>{@code
+     *      List<Set<String>> flagsByTenant = Arrays.asList(
+     *          new LinkedHashSet<>(Arrays.asList("beta", "dark-mode")),
+     *          new LinkedHashSet<>(Arrays.asList("beta", "export")));
+     *      List<String> result = CollectionUtils.xorAll(flagsByTenant);
+     *      // => result = [dark-mode, export]
+     * }</pre>
+     *
+     * @param <T>       The type of elements in the iterables.
+     * @param iterables The iterables to inspect, {@code null} entries are skipped.
+     * @return Returns the new collection of filtered values.
+     */
+    public static <T> List<T> xorAll(Iterable<? extends Iterable<? extends T>> iterables) {
+        long startNanos = Metrics.start();
+        try {
+            if (iterables == null) {
+                return Collections.emptyList();
+            }
+            return baseXor(iterables);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xorAll", iterables);
         }
-        List<Collection<? extends T>> collectionList = new ArrayList<>();
-        for (Collection<? extends T> collection : collections) {
-            if (collection != null) {
-                collectionList.add(collection);
+    }
+
+    /**
+     * This method is like xorBy except that it accepts an iterable of iterables and reads each of them once.
+     *
+     * <pre>{@code
+     *      List<List<Double>> lists = Arrays.asList(Arrays.asList(2.1, 1.2), Arrays.asList(2.3, 3.4));
+     *      List<Double> result = CollectionUtils.xorAllBy(lists, Math::floor);
+     *      // => result = [1.2, 3.4]
+     * }</pre>
+     *
+     * @param <T>       The type of elements in the iterables.
+     * @param iterables The iterables to inspect, {@code null} entries are skipped.
+     * @param iteratee  The iteratee invoked once per element.
+     * @return Returns the new collection of filtered values.
+     */
+    public static <T> List<T> xorAllBy(Iterable<? extends Iterable<? extends T>> iterables,
+                                       Function<? super T, ?> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterables == null) {
+                return Collections.emptyList();
             }
+            return baseXorBy(iterables, iteratee);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xorAllBy", iterables);
         }
-        return baseXorBy(collectionList, iteratee);
     }
 
     /**
@@ -1787,17 +2600,52 @@ public static <T> List<T> xorBy(Function<T, ?> iteratee, Collection<? extends T>
      */
     @SafeVarargs
     public static <T> List<T> xorWith(BiPredicate<T, T> comparator, Collection<? extends T>... collections) {
-        Objects.requireNonNull(comparator);
-        if (!isValidRestList(collections)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
+            }
+            List<Collection<? extends T>> collectionList = new ArrayList<>();
+            for (Collection<? extends T> collection : collections) {
+                if (collection != null) {
+                    collectionList.add(collection);
+                }
+            }
+            return baseXorWith(collectionList, comparator);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xorWith", collections);
         }
-        List<Collection<? extends T>> collectionList = new ArrayList<>();
-        for (Collection<? extends T> collection : collections) {
-            if (collection != null) {
-                collectionList.add(collection);
+    }
+
+    /**
+     * This method is like xorWith except that values are compared with an equivalence, so the collections are read in
+     * a single hashed pass instead of comparing every element with every other collection.
+     *
+     * <pre>{@code
+     *      List<String> collection1 = Arrays.asList("Apple", "Pear");
+     *      List<String> collection2 = Arrays.asList("apple", "Plum");
+     *      List<String> result = CollectionUtils.xorWith(Equivalence.caseInsensitive(), collection1, collection2);
+     *      // => result = [Pear, Plum]
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the collections.
+     * @param equivalence The equivalence deciding which values are the same.
+     * @param collections The collections to inspect.
+     * @return Returns the new collection of filtered values.
+     */
+    @SafeVarargs
+    public static <T> List<T> xorWith(Equivalence<? super T> equivalence, Collection<? extends T>... collections) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(equivalence);
+            if (!isValidRestList(collections)) {
+                return Collections.emptyList();
             }
+            return baseXorBy(Arrays.asList(collections), equivalence::wrap);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.xorWith", collections);
         }
-        return baseXorWith(collectionList, comparator);
     }
 
     /**
@@ -1819,30 +2667,22 @@ public static <T> List<T> xorWith(BiPredicate<T, T> comparator, Collection<? ext
      * @param collections The collections to process.
      * @return Returns the new collection of grouped elements.
      */
-    @SuppressWarnings("unchecked")
     @SafeVarargs
     public static <T> List<List<T>> zip(Collection<? extends T>... collections) {
-        if (!isValidRestZip(collections)) {
-            return Collections.emptyList();
-        }
-        int maxSize = Arrays.stream(collections)
-            .filter(Objects::nonNull)
-            .mapToInt(Collection::size)
-            .max()
-            .orElse(0);
-        List<List<T>> result = new ArrayList<>();
-        for (int i = 0; i < maxSize; i++) {
-            List<T> group = new ArrayList<>();
-            for (Collection<? extends T> collection : collections) {
-                if (collection != null && i < collection.size()) {
-                    group.add(((List<T>) collection).get(i));
-                } else {
-                    group.add(null);
-                }
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidRestZip(collections)) {
+                return Collections.emptyList();
             }
-            result.add(group);
+            int maxSize = Arrays.stream(collections)
+                .filter(Objects::nonNull)
+                .mapToInt(Collection::size)
+                .max()
+                .orElse(0);
+            return Positional.transpose(Arrays.asList(collections), maxSize);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.zip", collections);
         }
-        return result;
     }
 
     /**
@@ -1866,28 +2706,28 @@ public static <T> List<List<T>> zip(Collection<? extends T>... collections) {
      * @param collections The collections to process.
      * @return Returns the new collection of grouped elements.
      */
-    @SuppressWarnings("unchecked")
     @SafeVarargs
     public static <T, R> List<R> zipWith(Function<List<T>, R> iteratee, Collection<? extends T>... collections) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidRestZip(collections)) {
-            return Collections.emptyList();
-        }
-        int minSize = Arrays.stream(collections)
-            .filter(Objects::nonNull)
-            .mapToInt(Collection::size)
-            .min()
-            .orElse(0);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidRestZip(collections)) {
+                return Collections.emptyList();
+            }
+            int minSize = Arrays.stream(collections)
+                .filter(Objects::nonNull)
+                .mapToInt(Collection::size)
+                .min()
+                .orElse(0);
 
-        List<R> result = new ArrayList<>();
-        for (int i = 0; i < minSize; i++) {
-            List<T> group = new ArrayList<>();
-            for (Collection<? extends T> collection : collections) {
-                group.add(((List<T>) collection).get(i));
+            List<R> result = new ArrayList<>(minSize);
+            for (List<T> group : Positional.<T>transpose(Arrays.asList(collections), minSize)) {
+                result.add(iteratee.apply(group));
             }
-            result.add(iteratee.apply(group));
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.zipWith", collections);
         }
-        return result;
     }
 
     /**
@@ -1914,20 +2754,25 @@ public static <T, R> List<R> zipWith(Function<List<T>, R> iteratee, Collection<?
      * @return Returns the new map.
      */
     public static <K, V> Map<K, V> zipObject(Collection<? extends K> props, Collection<? extends V> values) {
-        if (isEmpty(props) || values == null) {
-            return Collections.emptyMap();
-        }
-        Map<K, V> result = new HashMap<>();
-        int length = props.size();
-        int valsLength = values.size();
-        Iterator<? extends K> propIterator = props.iterator();
-        Iterator<? extends V> valueIterator = values.iterator();
-        for (int i = 0; i < length; i++) {
-            K key = propIterator.next();
-            V value = i < valsLength ? valueIterator.next() : null;
-            result.put(key, value);
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(props) || values == null) {
+                return Collections.emptyMap();
+            }
+            Map<K, V> result = new HashMap<>();
+            int length = props.size();
+            int valsLength = values.size();
+            Iterator<? extends K> propIterator = props.iterator();
+            Iterator<? extends V> valueIterator = values.iterator();
+            for (int i = 0; i < length; i++) {
+                K key = propIterator.next();
+                V value = i < valsLength ? valueIterator.next() : null;
+                result.put(key, value);
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.zipObject", props);
         }
-        return result;
     }
 
     /**
@@ -1952,14 +2797,41 @@ public static <K, V> Map<K, V> zipObject(Collection<? extends K> props, Collecti
      */
     public static <T, K> Map<K, Long> countBy(Collection<? extends T> collection,
                                               Function<? super T, ? extends K> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyMap();
+        return countBy((Iterable<? extends T>) collection, iteratee);
+    }
+
+    /**
+     * Like {@link #countBy(Collection, Function)}, but consumes any iterable in a single pass, so only the counts are
+     * retained.
+     *
+     * <pre>{@code
+     *      try (Stream<String> lines = Files.lines(path)) {
+     *          Map<String, Long> result = CollectionUtils.countBy(lines::iterator, line -> line.split(",")[0]);
+     *          // => the number of lines per key, without loading the file
+     *      }
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param <K>      The type of keys in the map.
+     * @param iterable The elements to count, iterated once.
+     * @param iteratee The function to map each element to a key.
+     * @return Returns the new map.
+     */
+    public static <T, K> Map<K, Long> countBy(Iterable<? extends T> iterable,
+                                              Function<? super T, ? extends K> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyMap();
+            }
+            return baseStream(iterable)
+                .collect(Collectors.groupingBy(
+                    iteratee, Collectors.counting()
+                ));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.countBy", iterable);
         }
-        return collection.stream()
-            .collect(Collectors.groupingBy(
-                iteratee, Collectors.counting()
-            ));
     }
 
     /**
@@ -1980,16 +2852,21 @@ public static <T, K> Map<K, Long> countBy(Collection<? extends T> collection,
      * @return Returns {@code true} if all elements pass the predicate check, else {@code false}.
      */
     public static <T> boolean every(Collection<? extends T> collection, Predicate<? super T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return false;
-        }
-        for (T element : collection) {
-            if (!predicate.test(element)) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
                 return false;
             }
+            for (T element : collection) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.every", collection);
         }
-        return true;
     }
 
     /**
@@ -2011,16 +2888,21 @@ public static <T> boolean every(Collection<? extends T> collection, Predicate<?
      * @return {@code true} if every entry in the map satisfies the biPredicate, {@code false} otherwise.
      */
     public static <K, V> boolean every(Map<K, V> map, BiPredicate<K, V> biPredicate) {
-        Objects.requireNonNull(biPredicate);
-        if (isEmpty(map)) {
-            return false;
-        }
-        for (Map.Entry<K, V> entry : map.entrySet()) {
-            if (!biPredicate.test(entry.getKey(), entry.getValue())) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(biPredicate);
+            if (Validate.isEmpty(map)) {
                 return false;
             }
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                if (!biPredicate.test(entry.getKey(), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.every", map);
         }
-        return true;
     }
 
     /**
@@ -2041,14 +2923,19 @@ public static <K, V> boolean every(Map<K, V> map, BiPredicate<K, V> biPredicate)
      * @return Returns the new filtered array.
      */
     public static <T> List<T> filter(Collection<? extends T> collection, Predicate<? super T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .filter(predicate)
+                .collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.filter", collection);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .filter(predicate)
-            .collect(Collectors.toList());
     }
 
     /**
@@ -2070,14 +2957,19 @@ public static <T> List<T> filter(Collection<? extends T> collection, Predicate<?
      * @return A new map containing only the entries that satisfy the predicate.
      */
     public static <K, V> Map<K, V> filter(Map<K, V> map, BiPredicate<K, V> biPredicate) {
-        Objects.requireNonNull(biPredicate);
-        if (isEmpty(map)) {
-            return Collections.emptyMap();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(biPredicate);
+            if (Validate.isEmpty(map)) {
+                return Collections.emptyMap();
+            }
+            return map.entrySet().stream()
+                .filter(entry -> entry.getKey() != null && entry.getValue() != null &&
+                    biPredicate.test(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.filter", map);
         }
-        return map.entrySet().stream()
-            .filter(entry -> entry.getKey() != null && entry.getValue() != null &&
-                biPredicate.test(entry.getKey(), entry.getValue()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
     /**
@@ -2098,16 +2990,21 @@ public static <K, V> Map<K, V> filter(Map<K, V> map, BiPredicate<K, V> biPredica
      * @return Returns the matched element, else {@code Optional.empty()}.
      */
     public static <T> Optional<T> find(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Optional.empty();
-        }
-        for (T element : collection) {
-            if (element != null && predicate.test(element)) {
-                return Optional.of(element);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            for (T element : collection) {
+                if (element != null && predicate.test(element)) {
+                    return Optional.of(element);
+                }
             }
+            return Optional.empty();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.find", collection);
         }
-        return Optional.empty();
     }
 
     /**
@@ -2128,18 +3025,23 @@ public static <T> Optional<T> find(Collection<? extends T> collection, Predicate
      * @return Returns the matched element, else {@code Optional.empty()}.
      */
     public static <T> Optional<T> findLast(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            List<? extends T> list = new ArrayList<>(collection);
+            for (int i = list.size() - 1; i >= 0; i--) {
+                T element = list.get(i);
+                if (element != null && predicate.test(element)) {
+                    return Optional.of(element);
+                }
+            }
             return Optional.empty();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.findLast", collection);
         }
-        List<? extends T> list = new ArrayList<>(collection);
-        for (int i = list.size() - 1; i >= 0; i--) {
-            T element = list.get(i);
-            if (element != null && predicate.test(element)) {
-                return Optional.of(element);
-            }
-        }
-        return Optional.empty();
     }
 
     /**
@@ -2167,18 +3069,23 @@ public static <T> Optional<T> findLast(Collection<? extends T> collection, Predi
      */
     public static <T, R> List<R> flatMap(Collection<? extends T> collection,
                                          Function<? super T, ? extends Collection<? extends R>> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<R> result = new ArrayList<>();
-        for (T element : collection) {
-            Collection<? extends R> mapped = iteratee.apply(element);
-            if (mapped != null) {
-                result.addAll(mapped);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<R> result = new ArrayList<>();
+            for (T element : collection) {
+                Collection<? extends R> mapped = iteratee.apply(element);
+                if (mapped != null) {
+                    result.addAll(mapped);
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flatMap", collection);
         }
-        return result;
     }
 
     /**
@@ -2203,18 +3110,23 @@ public static <T, R> List<R> flatMap(Collection<? extends T> collection,
      */
     public static <T, R> List<R> flatMapDeep(Collection<? extends T> collection,
                                              Function<? super T, ? extends Collection<? extends R>> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<R> result = new ArrayList<>();
-        for (T element : collection) {
-            Collection<? extends R> mapped = iteratee.apply(element);
-            if (mapped != null) {
-                result.addAll(flattenDeep(mapped));
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
             }
+            List<R> result = new ArrayList<>();
+            for (T element : collection) {
+                Collection<? extends R> mapped = iteratee.apply(element);
+                if (mapped != null) {
+                    result.addAll(baseFlattenDeep(mapped));
+                }
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flatMapDeep", collection);
         }
-        return result;
     }
 
     /**
@@ -2243,19 +3155,24 @@ public static <T, R> List<R> flatMapDeep(Collection<? extends T> collection,
     public static <T, R> List<R> flatMapDepth(Collection<? extends T> collection,
                                               Function<? super T, ? extends Collection<? extends R>> iteratee,
                                               int depth) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        int minDepth = Math.max(1, depth);
-        List<R> result = new ArrayList<>();
-        for (T element : collection) {
-            Collection<? extends R> mapped = iteratee.apply(element);
-            if (mapped != null) {
-                result.addAll(flattenDepth(mapped, minDepth));
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            int minDepth = Math.max(1, depth);
+            List<R> result = new ArrayList<>();
+            for (T element : collection) {
+                Collection<? extends R> mapped = iteratee.apply(element);
+                if (mapped != null) {
+                    result.addAll(baseFlattenDepth(mapped, minDepth));
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.flatMapDepth", collection);
         }
-        return result;
     }
 
     /**
@@ -2275,14 +3192,19 @@ public static <T, R> List<R> flatMapDepth(Collection<? extends T> collection,
      * @param iteratee   The action to be performed on each element of the collection.
      */
     public static <T> void forEach(Collection<? extends T> collection, Consumer<? super T> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return;
-        }
-        for (T element : collection) {
-            if (element != null) {
-                iteratee.accept(element);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return;
             }
+            for (T element : collection) {
+                if (element != null) {
+                    iteratee.accept(element);
+                }
+            }
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.forEach", collection);
         }
     }
 
@@ -2303,14 +3225,19 @@ public static <T> void forEach(Collection<? extends T> collection, Consumer<? su
      * @param iteratee The action to be performed on each entry of the map.
      */
     public static <K, V> void forEach(Map<? extends K, ? extends V> map, BiConsumer<? super K, ? super V> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(map)) {
-            return;
-        }
-        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
-            if (entry.getKey() != null && entry.getValue() != null) {
-                iteratee.accept(entry.getKey(), entry.getValue());
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(map)) {
+                return;
+            }
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    iteratee.accept(entry.getKey(), entry.getValue());
+                }
             }
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.forEach", map);
         }
     }
 
@@ -2331,18 +3258,23 @@ public static <K, V> void forEach(Map<? extends K, ? extends V> map, BiConsumer<
      * @param iteratee   The action to be performed on each element of the collection.
      */
     public static <T> void forEachRight(Collection<? extends T> collection, Consumer<? super T> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return;
-        }
-        @SuppressWarnings("unchecked")
-        List<T> list = (List<T>) collection;
-        ListIterator<T> iterator = list.listIterator(list.size());
-        while (iterator.hasPrevious()) {
-            T element = iterator.previous();
-            if (element != null) {
-                iteratee.accept(element);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            List<T> list = (List<T>) collection;
+            ListIterator<T> iterator = list.listIterator(list.size());
+            while (iterator.hasPrevious()) {
+                T element = iterator.previous();
+                if (element != null) {
+                    iteratee.accept(element);
+                }
             }
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.forEachRight", collection);
         }
     }
 
@@ -2365,16 +3297,21 @@ public static <T> void forEachRight(Collection<? extends T> collection, Consumer
      */
     public static <K, V> void forEachRight(Map<? extends K, ? extends V> map,
                                            BiConsumer<? super K, ? super V> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(map)) {
-            return;
-        }
-        List<Map.Entry<? extends K, ? extends V>> entries = new ArrayList<>(map.entrySet());
-        Collections.reverse(entries);
-        for (Map.Entry<? extends K, ? extends V> entry : entries) {
-            if (entry.getKey() != null && entry.getValue() != null) {
-                iteratee.accept(entry.getKey(), entry.getValue());
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(map)) {
+                return;
+            }
+            List<Map.Entry<? extends K, ? extends V>> entries = new ArrayList<>(map.entrySet());
+            Collections.reverse(entries);
+            for (Map.Entry<? extends K, ? extends V> entry : entries) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    iteratee.accept(entry.getKey(), entry.getValue());
+                }
             }
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.forEachRight", map);
         }
     }
 
@@ -2399,13 +3336,40 @@ public static <K, V> void forEachRight(Map<? extends K, ? extends V> map,
      */
     public static <T, K> Map<K, List<T>> groupBy(Collection<? extends T> collection,
                                                  Function<? super T, ? extends K> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyMap();
+        return groupBy((Iterable<? extends T>) collection, iteratee);
+    }
+
+    /**
+     * Like {@link #groupBy(Collection, Function)}, but consumes any iterable in a single pass.
+     *
+     * <pre>{@code
+     *      Stream<String> words = Stream.of("apple", "banana", "apricot", "blueberry");
+     *      Map<Character, List<String>> grouped = CollectionUtils.groupBy(words::iterator, word -> word.charAt(0));
+     *      // Returns: {a=[apple, apricot], b=[banana, blueberry]}
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param <K>      The type of the key generated by the iteratee function.
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The iteratee to transform keys.
+     * @return A map where keys are generated by the iteratee and values are lists of elements corresponding to each
+     *         key.
+     */
+    public static <T, K> Map<K, List<T>> groupBy(Iterable<? extends T> iterable,
+                                                 Function<? super T, ? extends K> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyMap();
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.groupBy", iterable);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .collect(Collectors.groupingBy(iteratee));
     }
 
     /**
@@ -2426,15 +3390,20 @@ public static <T, K> Map<K, List<T>> groupBy(Collection<? extends T> collection,
      * @return Returns {@code true} if value is found, else {@code false}.
      */
     public static <T> boolean includes(Collection<? extends T> collection, T value) {
-        if (isEmpty(collection)) {
-            return false;
-        }
-        for (T element : collection) {
-            if (Objects.equals(element, value)) {
-                return true;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return false;
             }
+            for (T element : collection) {
+                if (Objects.equals(element, value)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.includes", collection);
         }
-        return false;
     }
 
     /**
@@ -2458,18 +3427,42 @@ public static <T> boolean includes(Collection<? extends T> collection, T value)
      * @return A new map.
      */
     public static <T, R> Map<R, T> keyBy(Collection<? extends T> collection, Function<T, R> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyMap();
-        }
-        Map<R, T> result = new LinkedHashMap<>();
-        for (T value : collection) {
-            if (value != null) {
-                R key = iteratee.apply(value);
-                result.put(key, value);
+        return keyBy((Iterable<? extends T>) collection, iteratee);
+    }
+
+    /**
+     * Like {@link #keyBy(Collection, Function)}, but consumes any iterable in a single pass.
+     *
+     * <pre>{@code
+     *      Iterator<String> words = Arrays.asList("apple", "banana", "apricot").iterator();
+     *      Map<Integer, String> result = CollectionUtils.keyBy(() -> words, String::length);
+     *      // Returns: {5=apple, 6=banana, 7=apricot}
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param <R>      The type of the generated key.
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The iteratee to transform keys.
+     * @return A new map.
+     */
+    public static <T, R> Map<R, T> keyBy(Iterable<? extends T> iterable, Function<T, R> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyMap();
             }
+            Map<R, T> result = new LinkedHashMap<>();
+            for (T value : iterable) {
+                if (value != null) {
+                    R key = iteratee.apply(value);
+                    result.put(key, value);
+                }
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.keyBy", iterable);
         }
-        return result;
     }
 
     /**
@@ -2491,15 +3484,20 @@ public static <T, R> Map<R, T> keyBy(Collection<? extends T> collection, Functio
      * @return Returns the new mapped collection.
      */
     public static <T, R> List<R> map(Collection<? extends T> collection, Function<T, R> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .map(iteratee)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.map", collection);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .map(iteratee)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
     }
 
     /**
@@ -2520,12 +3518,406 @@ public static <T, R> List<R> map(Collection<? extends T> collection, Function<T,
      * @return Returns the new sorted collection.
      */
     public static <T> List<T> orderBy(Collection<? extends T> collection, Comparator<? super T> comparator) {
-        Objects.requireNonNull(comparator);
-        if (isEmpty(collection)) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            return list.stream().sorted(comparator).collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderBy", collection);
+        }
+    }
+
+    /**
+     * Sorts the collection by several keys, each extracted once per element rather than once per comparison. The
+     * keys are read into columns, an {@code int[]} of element indices is merge sorted against them and the elements
+     * are read back in order; collections of {@link ParallelCollectionUtils#DEFAULT_THRESHOLD} elements or more are
+     * sorted in parallel on the common pool. The sort is stable and {@code null} elements are placed last; see
+     * {@link SortKey} for directions and {@code null} keys.
+     *
+     * <pre>{@code
+     *      List<Row> report = CollectionUtils.orderBy(rows,
+     *          SortKey.asc(Row::getCountry),
+     *          SortKey.descDouble(Row::getRevenue),
+     *          SortKey.asc(Row::getCustomer).nullsFirst());
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param key        The most significant key.
+     * @param moreKeys   The keys that break ties of the previous ones, in order.
+     * @return Returns the new sorted list.
+     */
+    @SafeVarargs
+    public static <T> List<T> orderBy(Collection<? extends T> collection, SortKey<? super T> key,
+                                      SortKey<? super T>... moreKeys) {
+        long startNanos = Metrics.start();
+        try {
+            List<SortKey<? super T>> keys = new ArrayList<>(moreKeys.length + 1);
+            keys.add(Objects.requireNonNull(key));
+            for (SortKey<? super T> moreKey : moreKeys) {
+                keys.add(Objects.requireNonNull(moreKey));
+            }
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return SortKey.sort(collection, keys, ParallelCollectionUtils.DEFAULT_THRESHOLD);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderBy", collection);
+        }
+    }
+
+    /**
+     * Sorts the collection by several comparable keys, as Lodash's {@code _.orderBy(collection, iteratees, orders)}:
+     * orders holds {@code "asc"} or {@code "desc"} for each iteratee, and iteratees without one sort ascending. See
+     * {@link #orderBy(Collection, SortKey, SortKey[])}.
+     *
+     * <pre>{@code
+     *      List<User> result = CollectionUtils.orderBy(users,
+     *          Arrays.asList(User::getName, User::getAge), Arrays.asList("asc", "desc"));
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratees  The functions extracting the comparable keys, most significant first.
+     * @param orders     The direction of each key, {@code "asc"} or {@code "desc"}, ignoring case.
+     * @return Returns the new sorted list.
+     * @throws IllegalArgumentException if an order is neither {@code "asc"} nor {@code "desc"}.
+     */
+    public static <T> List<T> orderBy(Collection<? extends T> collection,
+                                      List<? extends Function<? super T, ? extends Comparable<?>>> iteratees,
+                                      List<String> orders) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratees);
+            List<SortKey<T>> keys = new ArrayList<>(iteratees.size());
+            for (int i = 0; i < iteratees.size(); i++) {
+                String order = orders == null || i >= orders.size() ? "asc" : orders.get(i);
+                @SuppressWarnings("unchecked")
+                Function<? super T, Comparable<Object>> iteratee =
+                    (Function<? super T, Comparable<Object>>) Objects.requireNonNull(iteratees.get(i));
+                if ("asc".equalsIgnoreCase(order)) {
+                    keys.add(SortKey.asc(iteratee));
+                } else if ("desc".equalsIgnoreCase(order)) {
+                    keys.add(SortKey.desc(iteratee));
+                } else {
+                    throw new IllegalArgumentException("Unknown order: " + order);
+                }
+            }
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return SortKey.sort(collection, keys, ParallelCollectionUtils.DEFAULT_THRESHOLD);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderBy", collection);
+        }
+    }
+
+    /**
+     * Sorts the collection by an {@code int} key with a stable radix sort instead of comparisons: the keys are
+     * extracted once into an array and element indices are sorted by them one byte per pass, in O(n) time. Passes
+     * over bytes that all keys share are skipped, so small or clustered keys sort in fewer than four passes.
+     * {@code null} elements are placed last; for descending order sort by {@code ~key}, which does not overflow.
+     *
+     * <pre>{@code
+     *      List<Person> byAge = CollectionUtils.orderByInt(people, Person::getAge);
+     *      List<Person> oldestFirst = CollectionUtils.orderByInt(people, person -> ~person.getAge());
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of a non-null element.
+     * @return Returns the new sorted list, equal keys in encounter order.
+     */
+    public static <T> List<T> orderByInt(Collection<? extends T> collection, ToIntFunction<? super T> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> values = withoutNulls(collection);
+            int[] keys = new int[values.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = iteratee.applyAsInt(values.get(i));
+            }
+            return reorder(values, IndexSort.radixSort(keys), collection.size());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderByInt", collection);
+        }
+    }
+
+    /**
+     * Sorts the collection by a {@code long} key with a stable radix sort; see
+     * {@link #orderByInt(Collection, ToIntFunction)}. Epoch timestamps of a few days apart share their high bytes and
+     * sort in about five passes rather than eight.
+     *
+     * <pre>{@code
+     *      List<Event> chronological = CollectionUtils.orderByLong(events, Event::getTimestamp);
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of a non-null element.
+     * @return Returns the new sorted list, equal keys in encounter order.
+     */
+    public static <T> List<T> orderByLong(Collection<? extends T> collection, ToLongFunction<? super T> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> values = withoutNulls(collection);
+            long[] keys = new long[values.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = iteratee.applyAsLong(values.get(i));
+            }
+            return reorder(values, IndexSort.radixSort(keys), collection.size());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderByLong", collection);
+        }
+    }
+
+    /**
+     * Sorts the collection by a string key in the order of {@link String#compareTo} with a stable radix sort that
+     * reads the keys most significant byte first, two bytes per char, and only as far as needed to tell them apart.
+     * Short ASCII keys such as codes and identifiers sort without a single string comparison. {@code null} keys and
+     * then {@code null} elements are placed last.
+     *
+     * <pre>{@code
+     *      List<Order> bySku = CollectionUtils.orderByString(orders, Order::getSku);
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of a non-null element.
+     * @return Returns the new sorted list, equal keys in encounter order.
+     */
+    public static <T> List<T> orderByString(Collection<? extends T> collection,
+                                            Function<? super T, String> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> values = withoutNulls(collection);
+            String[] keys = new String[values.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = iteratee.apply(values.get(i));
+            }
+            return reorder(values, IndexSort.radixSort(keys), collection.size());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.orderByString", collection);
+        }
+    }
+
+    private static <T> List<T> withoutNulls(Collection<? extends T> collection) {
+        List<T> values = new ArrayList<>(collection.size());
+        for (T value : collection) {
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads values back in the order of a sorted permutation and pads with the {@code null} elements left out.
+     */
+    private static <T> List<T> reorder(List<T> values, int[] order, int size) {
+        List<T> result = new ArrayList<>(size);
+        for (int index : order) {
+            result.add(values.get(index));
+        }
+        while (result.size() < size) {
+            result.add(null);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the k greatest elements of iterable by comparator, greatest first, without sorting the whole input. A
+     * heap of at most k elements is kept while iterable is read once, so this runs in O(n log k) time and O(k)
+     * memory, against O(n log n) and O(n) for {@link #orderBy} and {@link #take}. Equal elements keep their
+     * encounter order, so the result is the same as a stable descending sort followed by taking k.
+     *
+     * <pre>{@code
+     *      List<Integer> numbers = Arrays.asList(5, 2, 8, 3, 9, 1);
+     *      List<Integer> result = CollectionUtils.topBy(numbers, 3, Integer::compareTo);
+     *      // Returns: [9, 8, 5]
+     *
+     *      List<Order> largest = CollectionUtils.topBy(repository.streamAll()::iterator, 100,
+     *          Comparator.comparing(Order::getTotal));
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the iterable.
+     * @param iterable   The elements to rank, iterated once; {@code null} elements are skipped.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, empty when iterable is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> topBy(Iterable<? extends T> iterable, int k, Comparator<? super T> comparator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            return top(iterable, BoundedHeap.ordered(k, comparator.reversed()));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.topBy", iterable);
+        }
+    }
+
+    /**
+     * Like {@link #topBy(Iterable, int, Comparator)}, for a stream. A parallel stream builds one heap per split and
+     * merges them, keeping the encounter order of equal elements. The stream is consumed but not closed.
+     *
+     * @param <T>        The type of elements in the stream.
+     * @param stream     The elements to rank; {@code null} elements are skipped.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, empty when stream is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> topBy(Stream<? extends T> stream, int k, Comparator<? super T> comparator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            return top(stream, () -> BoundedHeap.ordered(k, comparator.reversed()));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.topBy", null);
+        }
+    }
+
+    /**
+     * Returns the k smallest elements of iterable by comparator, smallest first; the counterpart of
+     * {@link #topBy(Iterable, int, Comparator)}, with the same result as
+     * {@code take(orderBy(iterable, comparator), k)}.
+     *
+     * <pre>{@code
+     *      List<Integer> numbers = Arrays.asList(5, 2, 8, 3, 9, 1);
+     *      List<Integer> result = CollectionUtils.bottomBy(numbers, 3, Integer::compareTo);
+     *      // Returns: [1, 2, 3]
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the iterable.
+     * @param iterable   The elements to rank, iterated once; {@code null} elements are skipped.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, empty when iterable is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> bottomBy(Iterable<? extends T> iterable, int k, Comparator<? super T> comparator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            return top(iterable, BoundedHeap.ordered(k, comparator));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.bottomBy", iterable);
+        }
+    }
+
+    /**
+     * Like {@link #bottomBy(Iterable, int, Comparator)}, for a stream; see {@link #topBy(Stream, int, Comparator)}.
+     *
+     * @param <T>        The type of elements in the stream.
+     * @param stream     The elements to rank; {@code null} elements are skipped.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, empty when stream is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> bottomBy(Stream<? extends T> stream, int k, Comparator<? super T> comparator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(comparator);
+            return top(stream, () -> BoundedHeap.ordered(k, comparator));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.bottomBy", null);
+        }
+    }
+
+    /**
+     * Returns the k elements of iterable with the greatest keys, greatest first. Each key is computed once per
+     * element and kept unboxed next to it, so ranking costs no further calls to iteratee; keys compare as
+     * {@link Double#compare} does, which ranks {@code NaN} above every other key.
+     *
+     * <pre>{@code
+     *      List<Product> bestRated = CollectionUtils.topByKey(products, 10, Product::getRating);
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to rank, iterated once; {@code null} elements are skipped.
+     * @param k        The number of elements to return.
+     * @param iteratee The function computing the key of an element.
+     * @return Returns the new list of at most k elements, empty when iterable is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> topByKey(Iterable<? extends T> iterable, int k, ToDoubleFunction<? super T> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            return top(iterable, BoundedHeap.byKey(k, iteratee, true));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.topByKey", iterable);
+        }
+    }
+
+    /**
+     * Like {@link #topByKey(Iterable, int, ToDoubleFunction)}, for a stream; see
+     * {@link #topBy(Stream, int, Comparator)}.
+     *
+     * @param <T>      The type of elements in the stream.
+     * @param stream   The elements to rank; {@code null} elements are skipped.
+     * @param k        The number of elements to return.
+     * @param iteratee The function computing the key of an element.
+     * @return Returns the new list of at most k elements, empty when stream is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> topByKey(Stream<? extends T> stream, int k, ToDoubleFunction<? super T> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            return top(stream, () -> BoundedHeap.byKey(k, iteratee, true));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.topByKey", null);
+        }
+    }
+
+    /**
+     * Returns the k elements of iterable with the smallest keys, smallest first; the counterpart of
+     * {@link #topByKey(Iterable, int, ToDoubleFunction)}.
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The elements to rank, iterated once; {@code null} elements are skipped.
+     * @param k        The number of elements to return.
+     * @param iteratee The function computing the key of an element.
+     * @return Returns the new list of at most k elements, empty when iterable is {@code null} or k is less than 1.
+     */
+    public static <T> List<T> bottomByKey(Iterable<? extends T> iterable, int k,
+                                          ToDoubleFunction<? super T> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            return top(iterable, BoundedHeap.byKey(k, iteratee, false));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.bottomByKey", iterable);
+        }
+    }
+
+    private static <T> List<T> top(Iterable<? extends T> iterable, BoundedHeap<T> heap) {
+        if (iterable == null) {
+            return Collections.emptyList();
+        }
+        for (T value : iterable) {
+            heap.offer(value);
+        }
+        return heap.toList();
+    }
+
+    private static <T> List<T> top(Stream<? extends T> stream, Supplier<BoundedHeap<T>> heap) {
+        if (stream == null) {
             return Collections.emptyList();
         }
-        List<T> list = new ArrayList<>(collection);
-        return list.stream().sorted(comparator).collect(Collectors.toList());
+        return stream.collect(Collector.of(heap, BoundedHeap::offer, BoundedHeap::offerAll, BoundedHeap::toList));
     }
 
     /**
@@ -2547,26 +3939,49 @@ public static <T> List<T> orderBy(Collection<? extends T> collection, Comparator
      * @return Returns the collection of grouped elements.
      */
     public static <T> List<List<T>> partition(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> trueGroup = new ArrayList<>();
-        List<T> falseGroup = new ArrayList<>();
-        for (T item : collection) {
-            if (item == null) {
-                continue;
+        return partition((Iterable<? extends T>) collection, predicate);
+    }
+
+    /**
+     * Like {@link #partition(Collection, Predicate)}, but consumes any iterable in a single pass.
+     *
+     * <pre>{@code
+     *      Stream<Integer> numbers = Stream.of(1, 2, 3, 4, 5);
+     *      List<List<Integer>> result = CollectionUtils.partition(numbers::iterator, n -> n % 2 == 0);
+     *      // Returns: [[2, 4], [1, 3, 5]]
+     * }</pre>
+     *
+     * @param <T>       The type of elements in the iterable.
+     * @param iterable  The elements to partition, iterated once.
+     * @param predicate The condition used to partition the elements.
+     * @return Returns the collection of grouped elements.
+     */
+    public static <T> List<List<T>> partition(Iterable<? extends T> iterable, Predicate<T> predicate) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(iterable)) {
+                return Collections.emptyList();
             }
-            if (predicate.test(item)) {
-                trueGroup.add(item);
-            } else {
-                falseGroup.add(item);
+            List<T> trueGroup = new ArrayList<>();
+            List<T> falseGroup = new ArrayList<>();
+            for (T item : iterable) {
+                if (item == null) {
+                    continue;
+                }
+                if (predicate.test(item)) {
+                    trueGroup.add(item);
+                } else {
+                    falseGroup.add(item);
+                }
             }
+            List<List<T>> result = new ArrayList<>();
+            result.add(trueGroup);
+            result.add(falseGroup);
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.partition", iterable);
         }
-        List<List<T>> result = new ArrayList<>();
-        result.add(trueGroup);
-        result.add(falseGroup);
-        return result;
     }
 
     /**
@@ -2589,17 +4004,7 @@ public static <T> List<List<T>> partition(Collection<? extends T> collection, Pr
      * @return Returns the accumulated value.
      */
     public static <T> T reduce(Collection<? extends T> collection, T identity, BinaryOperator<T> accumulator) {
-        Objects.requireNonNull(accumulator);
-        if (isEmpty(collection)) {
-            return identity;
-        }
-        T result = identity;
-        for (T item : collection) {
-            if (item != null) {
-                result = accumulator.apply(result, item);
-            }
-        }
-        return result;
+        return reduce((Iterable<? extends T>) collection, identity, accumulator);
     }
 
     /**
@@ -2620,19 +4025,80 @@ public static <T> T reduce(Collection<? extends T> collection, T identity, Binar
      * @return Returns an Optional of the accumulated value.
      */
     public static <T> Optional<T> reduce(Collection<? extends T> collection, BinaryOperator<T> accumulator) {
-        Objects.requireNonNull(accumulator);
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        return reduce((Iterable<? extends T>) collection, accumulator);
+    }
+
+    /**
+     * Like {@link #reduce(Collection, Object, BinaryOperator)}, but consumes any iterable in a single pass, retaining
+     * only the accumulated value.
+     *
+     * <pre>{@code
+     *      Stream<Integer> numbers = Stream.of(1, 2, 3, 4, 5);
+     *      int result = CollectionUtils.reduce(numbers::iterator, 0, Integer::sum);
+     *      // Returns: 15
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the iterable.
+     * @param iterable    The elements to iterate over, iterated once.
+     * @param identity    The initial value to start the reduction.
+     * @param accumulator The function invoked per iteration.
+     * @return Returns the accumulated value.
+     */
+    public static <T> T reduce(Iterable<? extends T> iterable, T identity, BinaryOperator<T> accumulator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(accumulator);
+            if (Validate.isEmpty(iterable)) {
+                return identity;
+            }
+            T result = identity;
+            for (T item : iterable) {
+                if (item != null) {
+                    result = accumulator.apply(result, item);
+                }
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reduce", iterable);
         }
-        Iterator<? extends T> iterator = collection.iterator();
-        T result = iterator.next();
-        while (iterator.hasNext()) {
-            T next = iterator.next();
-            if (next != null) {
-                result = accumulator.apply(result, next);
+    }
+
+    /**
+     * Like {@link #reduce(Collection, BinaryOperator)}, but consumes any iterable in a single pass.
+     *
+     * <pre>{@code
+     *      Stream<Integer> numbers = Stream.of(1, 2, 3, 4, 5);
+     *      Optional<Integer> result = CollectionUtils.reduce(numbers::iterator, Integer::sum);
+     *      // => Optional[15]
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the iterable.
+     * @param iterable    The elements to iterate over, iterated once.
+     * @param accumulator The function invoked per iteration.
+     * @return Returns an Optional of the accumulated value.
+     */
+    public static <T> Optional<T> reduce(Iterable<? extends T> iterable, BinaryOperator<T> accumulator) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(accumulator);
+            if (Validate.isEmpty(iterable)) {
+                return Optional.empty();
             }
+            Iterator<? extends T> iterator = iterable.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            T result = iterator.next();
+            while (iterator.hasNext()) {
+                T next = iterator.next();
+                if (next != null) {
+                    result = accumulator.apply(result, next);
+                }
+            }
+            return Optional.ofNullable(result);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reduce", iterable);
         }
-        return Optional.ofNullable(result);
     }
 
     /**
@@ -2655,21 +4121,26 @@ public static <T> Optional<T> reduce(Collection<? extends T> collection, BinaryO
      * @return Returns the accumulated value.
      */
     public static <T> T reduceRight(Collection<? extends T> collection, T identity, BinaryOperator<T> accumulator) {
-        Objects.requireNonNull(accumulator);
-        if (isEmpty(collection)) {
-            return identity;
-        }
-        @SuppressWarnings("unchecked")
-        List<T> list = (List<T>) collection;
-        ListIterator<T> iterator = list.listIterator(list.size());
-        T result = identity;
-        while (iterator.hasPrevious()) {
-            T element = iterator.previous();
-            if (element != null) {
-                result = accumulator.apply(result, element);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(accumulator);
+            if (Validate.isEmpty(collection)) {
+                return identity;
+            }
+            @SuppressWarnings("unchecked")
+            List<T> list = (List<T>) collection;
+            ListIterator<T> iterator = list.listIterator(list.size());
+            T result = identity;
+            while (iterator.hasPrevious()) {
+                T element = iterator.previous();
+                if (element != null) {
+                    result = accumulator.apply(result, element);
+                }
             }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reduceRight", collection);
         }
-        return result;
     }
 
     /**
@@ -2693,21 +4164,26 @@ public static <T> T reduceRight(Collection<? extends T> collection, T identity,
      * @return Returns an Optional of the accumulated value.
      */
     public static <T> Optional<T> reduceRight(Collection<? extends T> collection, BinaryOperator<T> accumulator) {
-        Objects.requireNonNull(accumulator);
-        if (isEmpty(collection)) {
-            return Optional.empty();
-        }
-        @SuppressWarnings("unchecked")
-        List<T> list = (List<T>) collection;
-        ListIterator<T> iterator = list.listIterator(list.size());
-        T result = iterator.previous();
-        while (iterator.hasPrevious()) {
-            T element = iterator.previous();
-            if (element != null) {
-                result = accumulator.apply(result, element);
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(accumulator);
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
             }
+            @SuppressWarnings("unchecked")
+            List<T> list = (List<T>) collection;
+            ListIterator<T> iterator = list.listIterator(list.size());
+            T result = iterator.previous();
+            while (iterator.hasPrevious()) {
+                T element = iterator.previous();
+                if (element != null) {
+                    result = accumulator.apply(result, element);
+                }
+            }
+            return Optional.ofNullable(result);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reduceRight", collection);
         }
-        return Optional.ofNullable(result);
     }
 
     /**
@@ -2728,14 +4204,19 @@ public static <T> Optional<T> reduceRight(Collection<? extends T> collection, Bi
      * @return Returns the new filtered collection.
      */
     public static <T> List<T> reject(Collection<? extends T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .filter(predicate.negate())
+                .collect(Collectors.toList());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.reject", collection);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .filter(predicate.negate())
-            .collect(Collectors.toList());
     }
 
     /**
@@ -2755,13 +4236,18 @@ public static <T> List<T> reject(Collection<? extends T> collection, Predicate<T
      * @return Returns an Optional of the random element.
      */
     public static <T> Optional<T> sample(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            List<? extends T> list = new ArrayList<>(collection);
+            Random random = new Random();
+            int randomIndex = random.nextInt(list.size());
+            return Optional.ofNullable(list.get(randomIndex));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.sample", collection);
         }
-        List<? extends T> list = new ArrayList<>(collection);
-        Random random = new Random();
-        int randomIndex = random.nextInt(list.size());
-        return Optional.ofNullable(list.get(randomIndex));
     }
 
     /**
@@ -2786,14 +4272,19 @@ public static <T> Optional<T> sample(Collection<? extends T> collection) {
      */
 
     public static <T> List<T> sampleSize(Collection<? extends T> collection, int n) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            int size = collection.size();
+            n = Math.min(Math.max(1, n), size);
+            List<T> list = new ArrayList<>(collection);
+            Collections.shuffle(list, new Random());
+            return list.subList(0, n);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.sampleSize", collection);
         }
-        int size = collection.size();
-        n = Math.min(Math.max(1, n), size);
-        List<T> list = new ArrayList<>(collection);
-        Collections.shuffle(list, new Random());
-        return list.subList(0, n);
     }
 
     /**
@@ -2813,16 +4304,21 @@ public static <T> List<T> sampleSize(Collection<? extends T> collection, int n)
      * @return Returns the new shuffled collection.
      */
     public static <T> List<T> shuffle(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Collections.emptyList();
-        }
-        List<T> list = new ArrayList<>(collection);
-        Random random = new Random();
-        for (int i = list.size() - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            Collections.swap(list, i, j);
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Collections.emptyList();
+            }
+            List<T> list = new ArrayList<>(collection);
+            Random random = new Random();
+            for (int i = list.size() - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Collections.swap(list, i, j);
+            }
+            return list;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.shuffle", collection);
         }
-        return list;
     }
 
     /**
@@ -2843,19 +4339,24 @@ public static <T> List<T> shuffle(Collection<? extends T> collection) {
      * @return Returns the collection size.
      */
     public static int size(Object collection) {
-        if (collection == null) {
+        long startNanos = Metrics.start();
+        try {
+            if (collection == null) {
+                return 0;
+            }
+            if (collection instanceof Collection) {
+                return ((Collection<?>) collection).size();
+            }
+            if (collection instanceof Map) {
+                return ((Map<?, ?>) collection).size();
+            }
+            if (collection instanceof String) {
+                return ((String) collection).length();
+            }
             return 0;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.size", collection);
         }
-        if (collection instanceof Collection) {
-            return ((Collection<?>) collection).size();
-        }
-        if (collection instanceof Map) {
-            return ((Map<?, ?>) collection).size();
-        }
-        if (collection instanceof String) {
-            return ((String) collection).length();
-        }
-        return 0;
     }
 
     /**
@@ -2877,16 +4378,21 @@ public static int size(Object collection) {
      * @return Returns true if any element passes the predicate check, else false.
      */
     public static <T> boolean some(Collection<T> collection, Predicate<T> predicate) {
-        Objects.requireNonNull(predicate);
-        if (isEmpty(collection)) {
-            return false;
-        }
-        for (T element : collection) {
-            if (element != null && predicate.test(element)) {
-                return true;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(predicate);
+            if (Validate.isEmpty(collection)) {
+                return false;
+            }
+            for (T element : collection) {
+                if (element != null && predicate.test(element)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.some", collection);
         }
-        return false;
     }
 
     /**
@@ -2912,12 +4418,17 @@ public static <T> boolean some(Collection<T> collection, Predicate<T> predicate)
      */
     @SuppressWarnings("unchecked")
     public static <T extends Number & Comparable<? super T>> Optional<T> min(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            return (Optional<T>) collection.stream()
+                .filter(Objects::nonNull)
+                .min(Comparable::compareTo);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.min", collection);
         }
-        return (Optional<T>) collection.stream()
-            .filter(Objects::nonNull)
-            .min(Comparable::compareTo);
     }
 
     /**
@@ -2950,13 +4461,50 @@ public static <T extends Number & Comparable<? super T>> Optional<T> min(Collect
      */
     public static <T, U extends Comparable<? super U>> Optional<T> minBy(Collection<T> collection,
                                                                          Function<T, U> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .min(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.minBy", collection);
+        }
+    }
+
+    /**
+     * Like {@link #minBy(Collection, Function)}, but consumes any iterable in a single pass, retaining only the
+     * current minimum.
+     *
+     * <pre>{@code
+     *      Stream<Person> people = repository.streamAll();
+     *      Optional<Person> youngestPerson = CollectionUtils.minBy(people::iterator, Person::getAge);
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param <U>      The type of the criterion used for comparison.
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The function invoked per element.
+     * @return An Optional containing the minimum value, or empty if the iterable is null or empty.
+     */
+    public static <T, U extends Comparable<? super U>> Optional<T> minBy(Iterable<? extends T> iterable,
+                                                                         Function<T, U> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return Optional.empty();
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream
+                .filter(Objects::nonNull)
+                .min(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.minBy", iterable);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .min(Comparator.comparing(iteratee));
     }
 
     /**
@@ -2986,12 +4534,17 @@ public static <T, U extends Comparable<? super U>> Optional<T> minBy(Collection<
      */
     @SuppressWarnings("unchecked")
     public static <T extends Comparable<? super T>> Optional<T> max(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            return (Optional<T>) collection.stream()
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.max", collection);
         }
-        return (Optional<T>) collection.stream()
-            .filter(Objects::nonNull)
-            .max(Comparator.naturalOrder());
     }
 
     /**
@@ -3024,13 +4577,50 @@ public static <T extends Comparable<? super T>> Optional<T> max(Collection<? ext
     @SuppressWarnings("unchecked")
     public static <T, U extends Comparable<? super U>> Optional<T> maxBy(Collection<? extends T> collection,
                                                                          Function<T, U> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return Optional.empty();
+            }
+            return (Optional<T>) collection.stream()
+                .filter(Objects::nonNull)
+                .max(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.maxBy", collection);
+        }
+    }
+
+    /**
+     * Like {@link #maxBy(Collection, Function)}, but consumes any iterable in a single pass, retaining only the
+     * current maximum.
+     *
+     * <pre>{@code
+     *      Stream<Person> people = repository.streamAll();
+     *      Optional<Person> oldestPerson = CollectionUtils.maxBy(people::iterator, Person::getAge);
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param <U>      The type of the criterion used for comparison.
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The iteratee invoked per element.
+     * @return An Optional containing the maximum value, or empty if the iterable is null or empty.
+     */
+    public static <T, U extends Comparable<? super U>> Optional<T> maxBy(Iterable<? extends T> iterable,
+                                                                         Function<T, U> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return Optional.empty();
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream
+                .filter(Objects::nonNull)
+                .max(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.maxBy", iterable);
         }
-        return (Optional<T>) collection.stream()
-            .filter(Objects::nonNull)
-            .max(Comparator.comparing(iteratee));
     }
 
     /**
@@ -3058,13 +4648,18 @@ public static <T, U extends Comparable<? super U>> Optional<T> maxBy(Collection<
      * @return an {@link OptionalDouble} containing the mean of the collection, or {@link OptionalDouble#empty()} if the collection is {@code null}, empty, or contains only {@code null} elements
      */
     public static OptionalDouble mean(Collection<? extends Number> collection) {
-        if (isEmpty(collection)) {
-            return OptionalDouble.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return OptionalDouble.empty();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .mapToDouble(Number::doubleValue)
+                .average();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.mean", collection);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .mapToDouble(Number::doubleValue)
-            .average();
     }
 
     /**
@@ -3093,13 +4688,66 @@ public static OptionalDouble mean(Collection<? extends Number> collection) {
      * @return an {@link OptionalDouble} containing the mean of the collection, or {@link OptionalDouble#empty()} if the collection is {@code null}, empty, or contains only {@code null} elements
      */
     public static OptionalDouble meanBy(Collection<? extends Number> collection, Function<Number, Double> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return OptionalDouble.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return OptionalDouble.empty();
+            }
+            return collection.stream()
+                .filter(Objects::nonNull)
+                .mapToDouble(iteratee::apply)
+                .average();
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.meanBy", collection);
+        }
+    }
+
+    /**
+     * Gets the zero-copy variants of {@code drop}, {@code dropRight}, {@code take}, {@code takeRight}, {@code slice},
+     * {@code initial}, {@code tail}, {@code reverse} and {@code concat}, which return read-only O(1) views instead of
+     * new lists.
+     *
+     * <pre>{@code
+     *      List<Integer> collection = Arrays.asList(1, 2, 3, 4, 5);
+     *      CollectionUtils.views().slice(collection, 1, 3);
+     *      // => [2, 3], backed by collection
+     * }</pre>
+     *
+     * @return Returns the {@link Views}.
+     */
+    public static Views views() {
+        long startNanos = Metrics.start();
+        try {
+            return Views.INSTANCE;
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.views", null);
+        }
+    }
+
+    /**
+     * Creates a lazy {@link Chain} over iterable. Stages run in a single pass when a terminal operation is called,
+     * without building a list per stage, and {@code take}, {@code find} and {@code some} stop reading early.
+     *
+     * <pre>{@code
+     *      CollectionUtils.chain(null).value();
+     *      // => []
+     *
+     *      List<Integer> collection = Arrays.asList(1, 2, 3, 4, 5, 6);
+     *      CollectionUtils.chain(collection).filter(n -> n % 2 == 0).map(n -> n * 10).take(2).value();
+     *      // => [20, 40]
+     * }</pre>
+     *
+     * @param <T>      The type of elements in the iterable.
+     * @param iterable The iterable to wrap, may be {@code null}.
+     * @return Returns the new chain.
+     */
+    public static <T> Chain<T> chain(Iterable<? extends T> iterable) {
+        long startNanos = Metrics.start();
+        try {
+            return Chain.of(iterable);
+        } finally {
+            Metrics.stop(startNanos, "CollectionUtils.chain", iterable);
         }
-        return collection.stream()
-            .filter(Objects::nonNull)
-            .mapToDouble(iteratee::apply)
-            .average();
     }
 }
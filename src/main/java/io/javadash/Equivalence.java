@@ -0,0 +1,251 @@
+package io.javadash;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decides whether two values are equivalent and gives a hash consistent with that decision, so the {@code *With}
+ * methods of {@link CollectionUtils} can put values in hash tables instead of comparing every pair: with an
+ * equivalence {@code uniqWith}, {@code unionWith}, {@code differenceWith}, {@code intersectionWith}, {@code xorWith}
+ * and {@code pullAllWith} run in O(n + m) rather than O(n * m).
+ *
+ * <p>An equivalence must be reflexive, symmetric and transitive, and equivalent values must have the same hash. A
+ * tolerance such as "within 0.01" is not transitive; round the values to buckets with {@link #onResultOf} instead.
+ * Neither method is called with {@code null}: {@code null} is equivalent only to {@code null}.
+ *
+ * <pre>{@code
+ *      CollectionUtils.uniqWith(Arrays.asList("Apple", "apple", "Pear"), Equivalence.caseInsensitive());
+ *      // => [Apple, Pear]
+ *
+ *      CollectionUtils.uniqWith(Arrays.asList(1.001, 1.004, 2.5), Equivalence.onResultOf(d -> Math.round(d * 100)));
+ *      // => [1.001, 2.5]
+ * }</pre>
+ *
+ * @param <T> The type of the values compared.
+ */
+public abstract class Equivalence<T> {
+
+    protected Equivalence() {
+    }
+
+    /**
+     * Returns whether the two values are equivalent.
+     *
+     * @param a The first value, never {@code null}.
+     * @param b The second value, never {@code null}.
+     * @return Returns {@code true} if the values are equivalent.
+     */
+    public abstract boolean equivalent(T a, T b);
+
+    /**
+     * Returns a hash of the value, equal for all values equivalent to it.
+     *
+     * @param value The value to hash, never {@code null}.
+     * @return Returns the hash.
+     */
+    public abstract int hash(T value);
+
+    /**
+     * Wraps the value in an object whose {@code equals} and {@code hashCode} follow this equivalence, so it can be
+     * used as a key in any hash-based collection.
+     *
+     * @param <S>   The type of the value.
+     * @param value The value to wrap, may be {@code null}.
+     * @return Returns the wrapper.
+     */
+    public final <S extends T> Wrapper<S> wrap(S value) {
+        return new Wrapper<>(this, value);
+    }
+
+    /**
+     * The equivalence of {@link Object#equals} and {@link Object#hashCode}.
+     *
+     * @param <T> The type of the values compared.
+     * @return Returns the equivalence.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> equals() {
+        return (Equivalence<T>) Equals.INSTANCE;
+    }
+
+    /**
+     * The equivalence of reference identity, hashing with {@link System#identityHashCode}.
+     *
+     * @param <T> The type of the values compared.
+     * @return Returns the equivalence.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> identity() {
+        return (Equivalence<T>) Identity.INSTANCE;
+    }
+
+    /**
+     * Strings equal when case is ignored, as {@link String#equalsIgnoreCase}.
+     *
+     * @return Returns the equivalence.
+     */
+    public static Equivalence<String> caseInsensitive() {
+        return CaseInsensitive.INSTANCE;
+    }
+
+    /**
+     * Values whose keys are equal, hashing the key. The key function runs once per value and wrap, so it should be
+     * cheap.
+     *
+     * <pre>{@code
+     *      Equivalence<User> sameEmail = Equivalence.onResultOf(user -> user.getEmail().toLowerCase());
+     * }</pre>
+     *
+     * @param <T> The type of the values compared.
+     * @param key The function computing the key of a non-null value.
+     * @return Returns the equivalence.
+     */
+    public static <T> Equivalence<T> onResultOf(Function<? super T, ?> key) {
+        Objects.requireNonNull(key);
+        return of((a, b) -> Objects.equals(key.apply(a), key.apply(b)), value -> Objects.hashCode(key.apply(value)));
+    }
+
+    /**
+     * An equivalence made of a predicate and a hash function, which must agree as described on {@link Equivalence}.
+     *
+     * @param <T>        The type of the values compared.
+     * @param equivalent The predicate deciding whether two non-null values are equivalent.
+     * @param hash       The hash of a non-null value.
+     * @return Returns the equivalence.
+     */
+    public static <T> Equivalence<T> of(BiPredicate<? super T, ? super T> equivalent, ToIntFunction<? super T> hash) {
+        Objects.requireNonNull(equivalent);
+        Objects.requireNonNull(hash);
+        return new Equivalence<T>() {
+            @Override
+            public boolean equivalent(T a, T b) {
+                return equivalent.test(a, b);
+            }
+
+            @Override
+            public int hash(T value) {
+                return hash.applyAsInt(value);
+            }
+        };
+    }
+
+    /**
+     * A value whose {@code equals} and {@code hashCode} follow an equivalence. Wrappers are equal only when made by
+     * equal equivalences.
+     *
+     * @param <T> The type of the wrapped value.
+     */
+    public static final class Wrapper<T> {
+        private final Equivalence<? super T> equivalence;
+        private final T value;
+
+        private Wrapper(Equivalence<? super T> equivalence, T value) {
+            this.equivalence = equivalence;
+            this.value = value;
+        }
+
+        /**
+         * Returns the wrapped value.
+         *
+         * @return Returns the value, may be {@code null}.
+         */
+        public T get() {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Wrapper)) {
+                return false;
+            }
+            Wrapper<?> that = (Wrapper<?>) other;
+            if (!equivalence.equals(that.equivalence)) {
+                return false;
+            }
+            if (value == null || that.value == null) {
+                return value == that.value;
+            }
+            return ((Equivalence<Object>) equivalence).equivalent(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value == null ? 0 : equivalence.hash(value);
+        }
+
+        @Override
+        public String toString() {
+            return equivalence + ".wrap(" + value + ")";
+        }
+    }
+
+    private static final class Equals extends Equivalence<Object> {
+        static final Equals INSTANCE = new Equals();
+
+        @Override
+        public boolean equivalent(Object a, Object b) {
+            return a.equals(b);
+        }
+
+        @Override
+        public int hash(Object value) {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Equivalence.equals()";
+        }
+    }
+
+    private static final class Identity extends Equivalence<Object> {
+        static final Identity INSTANCE = new Identity();
+
+        @Override
+        public boolean equivalent(Object a, Object b) {
+            return a == b;
+        }
+
+        @Override
+        public int hash(Object value) {
+            return System.identityHashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Equivalence.identity()";
+        }
+    }
+
+    private static final class CaseInsensitive extends Equivalence<String> {
+        static final CaseInsensitive INSTANCE = new CaseInsensitive();
+
+        @Override
+        public boolean equivalent(String a, String b) {
+            return a.equalsIgnoreCase(b);
+        }
+
+        /**
+         * Hashes the characters folded the way {@link String#equalsIgnoreCase} compares them: upper case, then lower.
+         */
+        @Override
+        public int hash(String value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+            }
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "Equivalence.caseInsensitive()";
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package io.javadash;
 
+import static io.javadash.core.BaseLibrary.baseStream;
 import static io.javadash.core.BaseLibrary.createMathOperation;
 import static io.javadash.core.Validate.isValidArray;
 import static io.javadash.core.Validate.isValidNumber;
 
 import io.javadash.core.Validate;
+import io.javadash.metrics.Metrics;
+import io.javadash.primitive.DoubleColumn;
+import io.javadash.primitive.LongColumn;
+import io.javadash.primitive.MappedDoubleFile;
+import io.javadash.primitive.MappedLongFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.LongSummaryStatistics;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -32,7 +44,12 @@ public class NumberUtils {
      * {@code false} otherwise
      */
     public static boolean isEmpty(final Object number) {
-        return Validate.isEmpty(number);
+        long startNanos = Metrics.start();
+        try {
+            return Validate.isEmpty(number);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.isEmpty", number);
+        }
     }
 
     /**
@@ -55,7 +72,12 @@ public static boolean isEmpty(final Object number) {
      * @return The result of the addition.
      */
     public static int add(Integer a, Integer b) {
-        return createMathOperation(Integer::sum, 0).apply(a, b);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation(Integer::sum, 0).apply(a, b);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.add", null);
+        }
     }
 
     /**
@@ -78,7 +100,12 @@ public static int add(Integer a, Integer b) {
      * @return The result of the addition.
      */
     public static float add(Float a, Float b) {
-        return createMathOperation(Float::sum, 0F).apply(a, b);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation(Float::sum, 0F).apply(a, b);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.add", null);
+        }
     }
 
     /**
@@ -101,7 +128,12 @@ public static float add(Float a, Float b) {
      * @return The result of the addition.
      */
     public static double add(Double a, Double b) {
-        return createMathOperation(Double::sum, 0.0).apply(a, b);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation(Double::sum, 0.0).apply(a, b);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.add", null);
+        }
     }
 
     /**
@@ -124,7 +156,12 @@ public static double add(Double a, Double b) {
      * @return The result of the addition.
      */
     public static long add(Long a, Long b) {
-        return createMathOperation(Long::sum, 0L).apply(a, b);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation(Long::sum, 0L).apply(a, b);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.add", null);
+        }
     }
 
     /**
@@ -152,7 +189,12 @@ public static long add(Long a, Long b) {
      * @return The result of the division.
      */
     public static int divide(Integer dividend, Integer divisor) {
-        return createMathOperation((a, b) -> b == 0 ? 0 : a / b, 0).apply(dividend, divisor);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> b == 0 ? 0 : a / b, 0).apply(dividend, divisor);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.divide", null);
+        }
     }
 
     /**
@@ -180,7 +222,12 @@ public static int divide(Integer dividend, Integer divisor) {
      * @return The result of the division.
      */
     public static float divide(Float dividend, Float divisor) {
-        return createMathOperation((a, b) -> b == 0 ? 0F : a / b, 0F).apply(dividend, divisor);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> b == 0 ? 0F : a / b, 0F).apply(dividend, divisor);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.divide", null);
+        }
     }
 
     /**
@@ -208,7 +255,12 @@ public static float divide(Float dividend, Float divisor) {
      * @return The result of the division.
      */
     public static double divide(Double dividend, Double divisor) {
-        return createMathOperation((a, b) -> b == 0 ? 0.0 : a / b, 0.0).apply(dividend, divisor);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> b == 0 ? 0.0 : a / b, 0.0).apply(dividend, divisor);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.divide", null);
+        }
     }
 
     /**
@@ -236,7 +288,12 @@ public static double divide(Double dividend, Double divisor) {
      * @return The result of the division.
      */
     public static long divide(Long dividend, Long divisor) {
-        return createMathOperation((a, b) -> b == 0 ? 0L : a / b, 0L).apply(dividend, divisor);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> b == 0 ? 0L : a / b, 0L).apply(dividend, divisor);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.divide", null);
+        }
     }
 
     /**
@@ -260,10 +317,15 @@ public static long divide(Long dividend, Long divisor) {
      */
     @SafeVarargs
     public static <T extends Comparable<? super T>> Optional<T> max(T... values) {
-        if (!isValidArray(values)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidArray(values)) {
+                return Optional.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).max(Comparator.naturalOrder());
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.max", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).max(Comparator.naturalOrder());
     }
 
     /**
@@ -288,11 +350,16 @@ public static <T extends Comparable<? super T>> Optional<T> max(T... values) {
     @SafeVarargs
     public static <T, U extends Comparable<? super U>> Optional<T> maxBy(final Function<T, U> iteratee,
                                                                          final T... values) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidArray(values)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidArray(values)) {
+                return Optional.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).max(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.maxBy", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).max(Comparator.comparing(iteratee));
     }
 
     /**
@@ -319,10 +386,15 @@ public static <T, U extends Comparable<? super U>> Optional<T> maxBy(final Funct
      */
     @SafeVarargs
     public static <T extends Comparable<T>> Optional<T> min(T... values) {
-        if (!isValidArray(values)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidArray(values)) {
+                return Optional.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).min(Comparator.naturalOrder());
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.min", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).min(Comparator.naturalOrder());
     }
 
     /**
@@ -350,11 +422,16 @@ public static <T extends Comparable<T>> Optional<T> min(T... values) {
     @SafeVarargs
     public static <T, U extends Comparable<? super U>> Optional<T> minBy(final Function<T, U> iteratee,
                                                                          final T... values) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidArray(values)) {
-            return Optional.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidArray(values)) {
+                return Optional.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).min(Comparator.comparing(iteratee));
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.minBy", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).min(Comparator.comparing(iteratee));
     }
 
     /**
@@ -381,10 +458,15 @@ public static <T, U extends Comparable<? super U>> Optional<T> minBy(final Funct
      */
     @SafeVarargs
     public static <T extends Number> OptionalDouble mean(T... values) {
-        if (!isValidArray(values)) {
-            return OptionalDouble.empty();
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidArray(values)) {
+                return OptionalDouble.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).mapToDouble(Number::doubleValue).average();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.mean", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).mapToDouble(Number::doubleValue).average();
     }
 
     /**
@@ -412,12 +494,17 @@ public static <T extends Number> OptionalDouble mean(T... values) {
      */
     @SafeVarargs
     public static <T, U extends Number> OptionalDouble meanBy(final Function<T, U> iteratee, final T... values) {
-        Objects.requireNonNull(iteratee);
-        if (!isValidArray(values)) {
-            return OptionalDouble.empty();
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (!isValidArray(values)) {
+                return OptionalDouble.empty();
+            }
+            return Stream.of(values).filter(Objects::nonNull).mapToDouble(value -> iteratee.apply(value).doubleValue())
+                .average();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.meanBy", values);
         }
-        return Stream.of(values).filter(Objects::nonNull).mapToDouble(value -> iteratee.apply(value).doubleValue())
-            .average();
     }
 
     /**
@@ -440,7 +527,12 @@ public static <T, U extends Number> OptionalDouble meanBy(final Function<T, U> i
      * @return The product of the two numbers.
      */
     public static int multiply(Integer multiplier, Integer multiplicand) {
-        return createMathOperation((a, b) -> a * b, 1).apply(multiplier, multiplicand);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a * b, 1).apply(multiplier, multiplicand);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.multiply", null);
+        }
     }
 
     /**
@@ -463,7 +555,12 @@ public static int multiply(Integer multiplier, Integer multiplicand) {
      * @return The product of the two numbers.
      */
     public static float multiply(Float multiplier, Float multiplicand) {
-        return createMathOperation((a, b) -> a * b, 1F).apply(multiplier, multiplicand);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a * b, 1F).apply(multiplier, multiplicand);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.multiply", null);
+        }
     }
 
     /**
@@ -486,7 +583,12 @@ public static float multiply(Float multiplier, Float multiplicand) {
      * @return The product of the two numbers.
      */
     public static double multiply(Double multiplier, Double multiplicand) {
-        return createMathOperation((a, b) -> a * b, 1.0).apply(multiplier, multiplicand);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a * b, 1.0).apply(multiplier, multiplicand);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.multiply", null);
+        }
     }
 
     /**
@@ -509,7 +611,12 @@ public static double multiply(Double multiplier, Double multiplicand) {
      * @return The product of the two numbers.
      */
     public static long multiply(Long multiplier, Long multiplicand) {
-        return createMathOperation((a, b) -> a * b, 1L).apply(multiplier, multiplicand);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a * b, 1L).apply(multiplier, multiplicand);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.multiply", null);
+        }
     }
 
     /**
@@ -533,15 +640,20 @@ public static long multiply(Long multiplier, Long multiplicand) {
      * @return The rounded number.
      */
     public static double round(Double number, int precision) {
-        if (!isValidNumber(number)) {
-            return 0L;
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidNumber(number)) {
+                return 0L;
+            }
+            if (precision == 0) {
+                return Math.round(number);
+            }
+            BigDecimal bd = BigDecimal.valueOf(number);
+            bd = bd.setScale(precision, RoundingMode.HALF_UP);
+            return bd.doubleValue();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.round", null);
         }
-        if (precision == 0) {
-            return Math.round(number);
-        }
-        BigDecimal bd = BigDecimal.valueOf(number);
-        bd = bd.setScale(precision, RoundingMode.HALF_UP);
-        return bd.doubleValue();
     }
 
     /**
@@ -565,15 +677,20 @@ public static double round(Double number, int precision) {
      * @return The rounded number as a float.
      */
     public static float round(Float number, int precision) {
-        if (!isValidNumber(number)) {
-            return 0F;
-        }
-        if (precision == 0) {
-            return Math.round(number);
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidNumber(number)) {
+                return 0F;
+            }
+            if (precision == 0) {
+                return Math.round(number);
+            }
+            BigDecimal bd = BigDecimal.valueOf(number);
+            bd = bd.setScale(precision, RoundingMode.HALF_UP);
+            return bd.floatValue();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.round", null);
         }
-        BigDecimal bd = BigDecimal.valueOf(number);
-        bd = bd.setScale(precision, RoundingMode.HALF_UP);
-        return bd.floatValue();
     }
 
     /**
@@ -595,9 +712,6 @@ public static float round(Float number, int precision) {
      * @return The rounded number.
      */
     public static double round(Double number) {
-        if (!isValidNumber(number)) {
-            return 0L;
-        }
         return round(number, 0);
     }
 
@@ -620,9 +734,6 @@ public static double round(Double number) {
      * @return The rounded number.
      */
     public static float round(Float number) {
-        if (!isValidNumber(number)) {
-            return 0F;
-        }
         return round(number, 0);
     }
 
@@ -646,7 +757,12 @@ public static float round(Float number) {
      * @return The result of the subtraction.
      */
     public static int subtract(Integer minuend, Integer subtrahend) {
-        return createMathOperation((a, b) -> a - b, 0).apply(minuend, subtrahend);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a - b, 0).apply(minuend, subtrahend);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.subtract", null);
+        }
     }
 
     /**
@@ -669,7 +785,12 @@ public static int subtract(Integer minuend, Integer subtrahend) {
      * @return The result of the subtraction.
      */
     public static float subtract(Float minuend, Float subtrahend) {
-        return createMathOperation((a, b) -> a - b, 0F).apply(minuend, subtrahend);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a - b, 0F).apply(minuend, subtrahend);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.subtract", null);
+        }
     }
 
     /**
@@ -692,7 +813,12 @@ public static float subtract(Float minuend, Float subtrahend) {
      * @return The result of the subtraction.
      */
     public static double subtract(Double minuend, Double subtrahend) {
-        return createMathOperation((a, b) -> a - b, 0.0).apply(minuend, subtrahend);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a - b, 0.0).apply(minuend, subtrahend);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.subtract", null);
+        }
     }
 
     /**
@@ -715,7 +841,12 @@ public static double subtract(Double minuend, Double subtrahend) {
      * @return The result of the subtraction.
      */
     public static long subtract(Long minuend, Long subtrahend) {
-        return createMathOperation((a, b) -> a - b, 0L).apply(minuend, subtrahend);
+        long startNanos = Metrics.start();
+        try {
+            return createMathOperation((a, b) -> a - b, 0L).apply(minuend, subtrahend);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.subtract", null);
+        }
     }
 
     /**
@@ -737,10 +868,15 @@ public static long subtract(Long minuend, Long subtrahend) {
      * @return The sum of the values, or 0 if the collection is null or empty.
      */
     public static <T extends Integer> int sumInt(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return 0;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return 0;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumInt", collection);
         }
-        return collection.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).sum();
     }
 
     /**
@@ -762,10 +898,15 @@ public static <T extends Integer> int sumInt(Collection<? extends T> collection)
      * @return The sum of the values, or 0 if the collection is null or empty.
      */
     public static <T extends Long> long sumLong(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return 0L;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return 0L;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumLong", collection);
         }
-        return collection.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sum();
     }
 
     /**
@@ -787,11 +928,16 @@ public static <T extends Long> long sumLong(Collection<? extends T> collection)
      * @return The sum of the values, or 0 if the collection is null or empty.
      */
     public static <T extends Float> float sumFloat(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return 0F;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return 0F;
+            }
+            return (float) collection.stream().filter(Objects::nonNull).mapToDouble(Float::doubleValue)
+                .reduce(0.0, Double::sum);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumFloat", collection);
         }
-        return (float) collection.stream().filter(Objects::nonNull).mapToDouble(Float::doubleValue)
-            .reduce(0.0, Double::sum);
     }
 
     /**
@@ -813,10 +959,15 @@ public static <T extends Float> float sumFloat(Collection<? extends T> collectio
      * @return The sum of the values, or 0 if the collection is null or empty.
      */
     public static <T extends Double> double sumDouble(Collection<? extends T> collection) {
-        if (isEmpty(collection)) {
-            return 0.0;
+        long startNanos = Metrics.start();
+        try {
+            if (Validate.isEmpty(collection)) {
+                return 0.0;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumDouble", collection);
         }
-        return collection.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
     }
 
     /**
@@ -840,11 +991,48 @@ public static <T extends Double> double sumDouble(Collection<? extends T> collec
      */
     public static <T extends Integer> int sumByInt(Collection<? extends T> collection,
                                                    Function<? super T, Integer> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return 0;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return 0;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToInt(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByInt", collection);
+        }
+    }
+
+    /**
+     * Like {@link #sumByInt(Collection, Function)}, but consumes any iterable in a single pass, such as a stream
+     * of records read lazily, retaining only the running sum.
+     *
+     * <pre>{@code
+     *
+     *      try (Stream<Order> orders = repository.streamAll()) {
+     *          int total = NumberUtils.sumByInt(orders::iterator, Order::getIntAmount);
+     *      }
+     *      // Output: Sum of the amounts, without collecting the orders
+     *
+     * }</pre>
+     *
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The function to extract the integer value from each element.
+     * @return The sum of the values, or 0 if the iterable is null or empty.
+     */
+    public static <T extends Integer> int sumByInt(Iterable<? extends T> iterable,
+                                                   Function<? super T, Integer> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return 0;
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream.filter(Objects::nonNull).mapToInt(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByInt", iterable);
         }
-        return collection.stream().filter(Objects::nonNull).mapToInt(iteratee::apply).sum();
     }
 
     /**
@@ -868,11 +1056,48 @@ public static <T extends Integer> int sumByInt(Collection<? extends T> collectio
      */
     public static <T extends Long> long sumByLong(Collection<? extends T> collection,
                                                   Function<? super T, Long> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return 0L;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return 0L;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToLong(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByLong", collection);
+        }
+    }
+
+    /**
+     * Like {@link #sumByLong(Collection, Function)}, but consumes any iterable in a single pass, such as a stream
+     * of records read lazily, retaining only the running sum.
+     *
+     * <pre>{@code
+     *
+     *      try (Stream<Order> orders = repository.streamAll()) {
+     *          long total = NumberUtils.sumByLong(orders::iterator, Order::getLongAmount);
+     *      }
+     *      // Output: Sum of the amounts, without collecting the orders
+     *
+     * }</pre>
+     *
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The function to extract the long value from each element.
+     * @return The sum of the values, or 0 if the iterable is null or empty.
+     */
+    public static <T extends Long> long sumByLong(Iterable<? extends T> iterable,
+                                                  Function<? super T, Long> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return 0L;
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream.filter(Objects::nonNull).mapToLong(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByLong", iterable);
         }
-        return collection.stream().filter(Objects::nonNull).mapToLong(iteratee::apply).sum();
     }
 
     /**
@@ -896,12 +1121,50 @@ public static <T extends Long> long sumByLong(Collection<? extends T> collection
      */
     public static <T extends Float> float sumByFloat(Collection<? extends T> collection,
                                                      Function<? super T, Float> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return 0F;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return 0F;
+            }
+            return (float) collection.stream().filter(Objects::nonNull)
+                .mapToDouble(t -> iteratee.apply(t).doubleValue()).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByFloat", collection);
+        }
+    }
+
+    /**
+     * Like {@link #sumByFloat(Collection, Function)}, but consumes any iterable in a single pass, such as a stream
+     * of records read lazily, retaining only the running sum.
+     *
+     * <pre>{@code
+     *
+     *      try (Stream<Order> orders = repository.streamAll()) {
+     *          float total = NumberUtils.sumByFloat(orders::iterator, Order::getFloatAmount);
+     *      }
+     *      // Output: Sum of the amounts, without collecting the orders
+     *
+     * }</pre>
+     *
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The function to extract the float value from each element.
+     * @return The sum of the values, or 0 if the iterable is null or empty.
+     */
+    public static <T extends Float> float sumByFloat(Iterable<? extends T> iterable,
+                                                     Function<? super T, Float> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return 0F;
+            }
+            Stream<T> stream = baseStream(iterable);
+            return (float) stream.filter(Objects::nonNull)
+                .mapToDouble(t -> iteratee.apply(t).doubleValue()).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByFloat", iterable);
         }
-        return (float) collection.stream().filter(Objects::nonNull).mapToDouble(t -> iteratee.apply(t).doubleValue())
-            .sum();
     }
 
     /**
@@ -925,11 +1188,402 @@ public static <T extends Float> float sumByFloat(Collection<? extends T> collect
      */
     public static <T extends Double> double sumByDouble(Collection<? extends T> collection,
                                                         Function<? super T, Double> iteratee) {
-        Objects.requireNonNull(iteratee);
-        if (isEmpty(collection)) {
-            return 0.0;
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (Validate.isEmpty(collection)) {
+                return 0.0;
+            }
+            return collection.stream().filter(Objects::nonNull).mapToDouble(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByDouble", collection);
+        }
+    }
+
+    /**
+     * Like {@link #sumByDouble(Collection, Function)}, but consumes any iterable in a single pass, such as a stream
+     * of records read lazily, retaining only the running sum.
+     *
+     * <pre>{@code
+     *
+     *      try (Stream<Order> orders = repository.streamAll()) {
+     *          double total = NumberUtils.sumByDouble(orders::iterator, Order::getDoubleAmount);
+     *      }
+     *      // Output: Sum of the amounts, without collecting the orders
+     *
+     * }</pre>
+     *
+     * @param iterable The elements to iterate over, iterated once.
+     * @param iteratee The function to extract the double value from each element.
+     * @return The sum of the values, or 0 if the iterable is null or empty.
+     */
+    public static <T extends Double> double sumByDouble(Iterable<? extends T> iterable,
+                                                        Function<? super T, Double> iteratee) {
+        long startNanos = Metrics.start();
+        try {
+            Objects.requireNonNull(iteratee);
+            if (iterable == null) {
+                return 0.0;
+            }
+            Stream<T> stream = baseStream(iterable);
+            return stream.filter(Objects::nonNull).mapToDouble(iteratee::apply).sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumByDouble", iterable);
+        }
+    }
+
+    /**
+     * Computes the sum of the values in an off-heap column, with the compensated summation of {@code sumDouble}.
+     *
+     * <pre>{@code
+     *
+     *      try (DoubleColumn column = DoubleColumn.of(1.5, 3.5)) {
+     *          System.out.println(NumberUtils.sumOf(column));
+     *      }
+     *      // Output: 5.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return The sum of the values, or 0 if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static double sumOf(DoubleColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return 0.0;
+            }
+            return column.sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumOf", column);
+        }
+    }
+
+    /**
+     * Computes the sum of the values in an off-heap column; like {@code sumLong}, the total wraps around on overflow.
+     *
+     * <pre>{@code
+     *
+     *      try (LongColumn column = LongColumn.of(4L, 6L)) {
+     *          System.out.println(NumberUtils.sumOf(column));
+     *      }
+     *      // Output: 10
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return The sum of the values, or 0 if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static long sumOf(LongColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return 0L;
+            }
+            return column.sum();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.sumOf", column);
+        }
+    }
+
+    /**
+     * Calculates the mean (average) of the values in an off-heap column.
+     *
+     * <pre>{@code
+     *
+     *      try (DoubleColumn column = DoubleColumn.of(1.0, 5.0, 3.0)) {
+     *          System.out.println(NumberUtils.meanOf(column).getAsDouble());
+     *      }
+     *      // Output: 3.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the mean, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble meanOf(DoubleColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.mean();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.meanOf", column);
+        }
+    }
+
+    /**
+     * Calculates the mean (average) of the values in an off-heap column.
+     *
+     * <pre>{@code
+     *
+     *      try (LongColumn column = LongColumn.of(1L, 5L, 3L)) {
+     *          System.out.println(NumberUtils.meanOf(column).getAsDouble());
+     *      }
+     *      // Output: 3.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the mean, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble meanOf(LongColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.mean();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.meanOf", column);
+        }
+    }
+
+    /**
+     * Finds the smallest value of an off-heap column, or {@code NaN} if any value is {@code NaN}.
+     *
+     * <pre>{@code
+     *
+     *      try (DoubleColumn column = DoubleColumn.of(1.0, 5.0, 3.0)) {
+     *          System.out.println(NumberUtils.minOf(column).getAsDouble());
+     *      }
+     *      // Output: 1.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the smallest value, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble minOf(DoubleColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.min();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.minOf", column);
+        }
+    }
+
+    /**
+     * Finds the smallest value of an off-heap column.
+     *
+     * <pre>{@code
+     *
+     *      try (LongColumn column = LongColumn.of(1L, 5L, 3L)) {
+     *          System.out.println(NumberUtils.minOf(column).getAsLong());
+     *      }
+     *      // Output: 1
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalLong containing the smallest value, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalLong minOf(LongColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalLong.empty();
+            }
+            return column.min();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.minOf", column);
+        }
+    }
+
+    /**
+     * Finds the largest value of an off-heap column, or {@code NaN} if any value is {@code NaN}.
+     *
+     * <pre>{@code
+     *
+     *      try (DoubleColumn column = DoubleColumn.of(1.0, 5.0, 3.0)) {
+     *          System.out.println(NumberUtils.maxOf(column).getAsDouble());
+     *      }
+     *      // Output: 5.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the largest value, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble maxOf(DoubleColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.max();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.maxOf", column);
+        }
+    }
+
+    /**
+     * Finds the largest value of an off-heap column.
+     *
+     * <pre>{@code
+     *
+     *      try (LongColumn column = LongColumn.of(1L, 5L, 3L)) {
+     *          System.out.println(NumberUtils.maxOf(column).getAsLong());
+     *      }
+     *      // Output: 5
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalLong containing the largest value, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalLong maxOf(LongColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalLong.empty();
+            }
+            return column.max();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.maxOf", column);
+        }
+    }
+
+    /**
+     * Calculates the population variance of the values in an off-heap column, in a single pass.
+     *
+     * <pre>{@code
+     *
+     *      try (DoubleColumn column = DoubleColumn.of(2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0)) {
+     *          System.out.println(NumberUtils.varianceOf(column).getAsDouble());
+     *      }
+     *      // Output: 4.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the variance, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble varianceOf(DoubleColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.variance();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.varianceOf", column);
+        }
+    }
+
+    /**
+     * Calculates the population variance of the values in an off-heap column, in a single pass.
+     *
+     * <pre>{@code
+     *
+     *      try (LongColumn column = LongColumn.of(2L, 4L, 4L, 4L, 5L, 5L, 7L, 9L)) {
+     *          System.out.println(NumberUtils.varianceOf(column).getAsDouble());
+     *      }
+     *      // Output: 4.0
+     *
+     * }</pre>
+     *
+     * @param column The off-heap column to aggregate.
+     * @return An OptionalDouble containing the variance, or empty if the column is empty.
+     * @throws IllegalStateException If column is closed.
+     */
+    public static OptionalDouble varianceOf(LongColumn column) {
+        long startNanos = Metrics.start();
+        try {
+            if (column == null) {
+                return OptionalDouble.empty();
+            }
+            return column.variance();
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.varianceOf", column);
+        }
+    }
+
+    /**
+     * Computes the count, sum, min, average and max of a binary file of little-endian {@code double} values. The file
+     * is memory-mapped and scanned in parallel chunks instead of being loaded on the heap; see
+     * {@link MappedDoubleFile} for strided and per-segment statistics.
+     *
+     * <pre>{@code
+     *
+     *      DoubleSummaryStatistics stats = NumberUtils.summarizeDoubles(Paths.get("latencies.bin"));
+     *      System.out.println(stats);
+     *      // Output: DoubleSummaryStatistics{count=..., sum=..., min=..., average=..., max=...}
+     *
+     * }</pre>
+     *
+     * @param path The file to aggregate.
+     * @return The statistics of the values, empty if the path is null.
+     * @throws UncheckedIOException     If the file cannot be read.
+     * @throws IllegalArgumentException If the file size is not a multiple of 8 bytes.
+     */
+    public static DoubleSummaryStatistics summarizeDoubles(Path path) {
+        long startNanos = Metrics.start();
+        MappedDoubleFile file = null;
+        try {
+            if (path == null) {
+                return new DoubleSummaryStatistics();
+            }
+            file = MappedDoubleFile.open(path);
+            return file.summaryStatistics();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.summarizeDoubles", file);
+            if (file != null) {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * Computes the count, sum, min, average and max of a binary file of little-endian {@code long} values. The file is
+     * memory-mapped and scanned in parallel chunks instead of being loaded on the heap; see {@link MappedLongFile} for
+     * strided and per-segment statistics.
+     *
+     * <pre>{@code
+     *
+     *      LongSummaryStatistics stats = NumberUtils.summarizeLongs(Paths.get("counters.bin"));
+     *      System.out.println(stats);
+     *      // Output: LongSummaryStatistics{count=..., sum=..., min=..., average=..., max=...}
+     *
+     * }</pre>
+     *
+     * @param path The file to aggregate.
+     * @return The statistics of the values, empty if the path is null.
+     * @throws UncheckedIOException     If the file cannot be read.
+     * @throws IllegalArgumentException If the file size is not a multiple of 8 bytes.
+     */
+    public static LongSummaryStatistics summarizeLongs(Path path) {
+        long startNanos = Metrics.start();
+        MappedLongFile file = null;
+        try {
+            if (path == null) {
+                return new LongSummaryStatistics();
+            }
+            file = MappedLongFile.open(path);
+            return file.summaryStatistics();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.summarizeLongs", file);
+            if (file != null) {
+                file.close();
+            }
         }
-        return collection.stream().filter(Objects::nonNull).mapToDouble(iteratee::apply).sum();
     }
 
     /**
@@ -954,12 +1608,17 @@ public static <T extends Double> double sumByDouble(Collection<? extends T> coll
      * @return Returns the random integer.
      */
     public static int random(int lower, int upper) {
-        if (lower > upper) {
-            int temp = lower;
-            lower = upper;
-            upper = temp;
+        long startNanos = Metrics.start();
+        try {
+            if (lower > upper) {
+                int temp = lower;
+                lower = upper;
+                upper = temp;
+            }
+            return RANDOM.nextInt((upper - lower) + 1) + lower;
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.random", null);
         }
-        return RANDOM.nextInt((upper - lower) + 1) + lower;
     }
 
     /**
@@ -979,12 +1638,17 @@ public static int random(int lower, int upper) {
      * @return Returns the random long.
      */
     public static long random(long lower, long upper) {
-        if (lower > upper) {
-            long temp = lower;
-            lower = upper;
-            upper = temp;
+        long startNanos = Metrics.start();
+        try {
+            if (lower > upper) {
+                long temp = lower;
+                lower = upper;
+                upper = temp;
+            }
+            return lower + (long) (RANDOM.nextDouble() * (upper - lower + 1));
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.random", null);
         }
-        return lower + (long) (RANDOM.nextDouble() * (upper - lower + 1));
     }
 
     /**
@@ -1004,12 +1668,17 @@ public static long random(long lower, long upper) {
      * @return Returns the random float.
      */
     public static float random(float lower, float upper) {
-        if (lower > upper) {
-            float temp = lower;
-            lower = upper;
-            upper = temp;
+        long startNanos = Metrics.start();
+        try {
+            if (lower > upper) {
+                float temp = lower;
+                lower = upper;
+                upper = temp;
+            }
+            return lower + RANDOM.nextFloat() * (upper - lower);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.random", null);
         }
-        return lower + RANDOM.nextFloat() * (upper - lower);
     }
 
     /**
@@ -1034,12 +1703,17 @@ public static float random(float lower, float upper) {
      * @return Returns the random double.
      */
     public static double random(double lower, double upper) {
-        if (lower > upper) {
-            double temp = lower;
-            lower = upper;
-            upper = temp;
+        long startNanos = Metrics.start();
+        try {
+            if (lower > upper) {
+                double temp = lower;
+                lower = upper;
+                upper = temp;
+            }
+            return lower + RANDOM.nextDouble() * (upper - lower);
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.random", null);
         }
-        return lower + RANDOM.nextDouble() * (upper - lower);
     }
 
     /**
@@ -1158,12 +1832,17 @@ public static double random(double upper) {
      * @return Returns {@code true} if {@code number} is in the range, else {@code false}.
      */
     public static boolean inRange(double number, double start, double end) {
-        if (start > end) {
-            double temp = start;
-            start = end;
-            end = temp;
+        long startNanos = Metrics.start();
+        try {
+            if (start > end) {
+                double temp = start;
+                start = end;
+                end = temp;
+            }
+            return number >= start && number < end;
+        } finally {
+            Metrics.stop(startNanos, "NumberUtils.inRange", null);
         }
-        return number >= start && number < end;
     }
 
     /**
@@ -1,6 +1,7 @@
 package io.javadash;
 
 import io.javadash.core.Validate;
+import io.javadash.metrics.Metrics;
 import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Map;
@@ -37,7 +38,12 @@ public class ObjectUtils {
      * {@code false} otherwise
      */
     public static boolean isEmpty(final Object object) {
-        return Validate.isEmpty(object);
+        long startNanos = Metrics.start();
+        try {
+            return Validate.isEmpty(object);
+        } finally {
+            Metrics.stop(startNanos, "ObjectUtils.isEmpty", object);
+        }
     }
 
     /**
@@ -73,10 +79,15 @@ public static boolean isEmpty(final Object object) {
      */
     @SuppressWarnings("unchecked")
     public static <T, V> V getOrDefault(T object, Function<? super T, ? super V> getter) {
-        if (object == null) {
-            return null;
+        long startNanos = Metrics.start();
+        try {
+            if (object == null) {
+                return null;
+            }
+            return (V) getter.apply(object);
+        } finally {
+            Metrics.stop(startNanos, "ObjectUtils.getOrDefault", null);
         }
-        return (V) getter.apply(object);
     }
 
     /**
@@ -113,14 +124,19 @@ public static <T, V> V getOrDefault(T object, Function<? super T, ? super V> get
      */
     @SuppressWarnings("unchecked")
     public static <T, V> V getOrDefault(T object, V defaultValue, Function<? super T, ? super V> getter) {
-        if (object == null) {
-            return defaultValue;
-        }
-        V intermediate = (V) getter.apply(object);
-        if (intermediate == null) {
-            return defaultValue;
+        long startNanos = Metrics.start();
+        try {
+            if (object == null) {
+                return defaultValue;
+            }
+            V intermediate = (V) getter.apply(object);
+            if (intermediate == null) {
+                return defaultValue;
+            }
+            return intermediate;
+        } finally {
+            Metrics.stop(startNanos, "ObjectUtils.getOrDefault", null);
         }
-        return intermediate;
     }
 
 
@@ -160,14 +176,19 @@ public static <T, V> V getOrDefault(T object, V defaultValue, Function<? super T
     @SuppressWarnings("unchecked")
     public static <T, U, V> V getOrDefault(T object, Function<? super T, ? super U> getter1,
                                         Function<? super U, ? super V> getter2) {
-        if (object == null) {
-            return null;
-        }
-        U intermediate = (U) getter1.apply(object);
-        if (intermediate == null) {
-            return null;
+        long startNanos = Metrics.start();
+        try {
+            if (object == null) {
+                return null;
+            }
+            U intermediate = (U) getter1.apply(object);
+            if (intermediate == null) {
+                return null;
+            }
+            return (V) getter2.apply(intermediate);
+        } finally {
+            Metrics.stop(startNanos, "ObjectUtils.getOrDefault", null);
         }
-        return (V) getter2.apply(intermediate);
     }
 
     /**
@@ -207,18 +228,23 @@ public static <T, U, V> V getOrDefault(T object, Function<? super T, ? super U>
     @SuppressWarnings("unchecked")
     public static <T, U, V> V getOrDefault(T object, V defaultValue, Function<? super T, ? super U> getter1,
                                         Function<? super U, ? super V> getter2) {
-        if (object == null) {
-            return defaultValue;
-        }
-        U intermediate = (U) getter1.apply(object);
-        if (intermediate == null) {
-            return defaultValue;
-        }
-        V result = (V) getter2.apply(intermediate);
-        if (result == null) {
-            return defaultValue;
+        long startNanos = Metrics.start();
+        try {
+            if (object == null) {
+                return defaultValue;
+            }
+            U intermediate = (U) getter1.apply(object);
+            if (intermediate == null) {
+                return defaultValue;
+            }
+            V result = (V) getter2.apply(intermediate);
+            if (result == null) {
+                return defaultValue;
+            }
+            return result;
+        } finally {
+            Metrics.stop(startNanos, "ObjectUtils.getOrDefault", null);
         }
-        return result;
     }
 
 }
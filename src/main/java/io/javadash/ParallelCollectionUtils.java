@@ -0,0 +1,664 @@
+package io.javadash;
+
+import static io.javadash.core.Validate.isEmpty;
+
+import io.javadash.core.BoundedHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fork-join variants of the {@link CollectionUtils} and {@link NumberUtils} methods that process each element
+ * independently: {@code map}, {@code filter}, {@code reject}, {@code groupBy}, {@code countBy}, {@code keyBy},
+ * {@code partition}, {@code reduce}, {@code topBy}, {@code bottomBy}, {@code topByKey}, {@code sumBy*},
+ * {@code every} and {@code some}.
+ *
+ * <p>Each method returns the same result as its sequential counterpart: elements are skipped (or not) on
+ * {@code null} the same way, lists keep encounter order and maps hold the same entries. The input is split into
+ * chunks processed on a {@link ForkJoinPool}, whose partial results are merged in order. Inputs smaller than the
+ * threshold ({@value #DEFAULT_THRESHOLD} elements by default) run sequentially, since splitting them costs more than
+ * it saves. {@code every} and {@code some} stop every chunk as soon as the result is known.
+ *
+ * <p>Iteratees and predicates run concurrently and must be thread-safe. Floating point sums add the chunks in a
+ * different order than a sequential loop, so they may differ in the last bits.
+ *
+ * <pre>{@code
+ *      ForkJoinPool pool = new ForkJoinPool(16);
+ *      Map<String, List<Order>> byCountry = ParallelCollectionUtils.withPool(pool)
+ *          .groupBy(orders, Order::getCountry);
+ * }</pre>
+ */
+public final class ParallelCollectionUtils {
+    /**
+     * The default size below which methods run sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelCollectionUtils(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Runs on {@link ForkJoinPool#commonPool()}.
+     *
+     * @return Returns the parallel variants bound to the common pool.
+     */
+    public static ParallelCollectionUtils withCommonPool() {
+        return new ParallelCollectionUtils(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Runs on a caller-supplied pool, keeping this work off the common pool.
+     *
+     * @param pool The pool to run on.
+     * @return Returns the parallel variants bound to the pool.
+     */
+    public static ParallelCollectionUtils withPool(ForkJoinPool pool) {
+        return new ParallelCollectionUtils(Objects.requireNonNull(pool), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Changes the size below which methods run sequentially.
+     *
+     * @param sequentialThreshold The minimum number of elements worth splitting.
+     * @return Returns a copy using the new threshold.
+     */
+    public ParallelCollectionUtils withThreshold(int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + sequentialThreshold);
+        }
+        return new ParallelCollectionUtils(pool, sequentialThreshold);
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#map}: maps the non-null elements and drops {@code null} results.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param <R>        The type of the mapped elements.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function invoked per element.
+     * @return Returns the new mapped list, in encounter order.
+     */
+    public <T, R> List<R> map(Collection<? extends T> collection, Function<T, R> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return CollectionUtils.map(collection, iteratee);
+        }
+        return concat(chunks(collection, (array, from, to) -> {
+            List<R> result = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    R mapped = iteratee.apply(value);
+                    if (mapped != null) {
+                        result.add(mapped);
+                    }
+                }
+            }
+            return result;
+        }));
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#filter}: keeps the non-null elements predicate returns {@code true} for.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param predicate  The function invoked per element.
+     * @return Returns the new filtered list, in encounter order.
+     */
+    public <T> List<T> filter(Collection<? extends T> collection, Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (isSequential(collection)) {
+            return CollectionUtils.filter(collection, predicate);
+        }
+        return concat(chunks(collection, (array, from, to) -> {
+            List<T> result = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null && predicate.test(value)) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }));
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#reject}: keeps the non-null elements predicate returns {@code false} for.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param predicate  The function invoked per element.
+     * @return Returns the new filtered list, in encounter order.
+     */
+    public <T> List<T> reject(Collection<? extends T> collection, Predicate<T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (isSequential(collection)) {
+            return CollectionUtils.reject(collection, predicate);
+        }
+        return filter(collection, predicate.negate());
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#groupBy}: groups the non-null elements by key.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param <K>        The type of the keys.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of each element, which must not return {@code null}.
+     * @return Returns the map of keys to their elements, each list in encounter order.
+     */
+    public <T, K> Map<K, List<T>> groupBy(Collection<? extends T> collection,
+                                          Function<? super T, ? extends K> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return CollectionUtils.groupBy(collection, iteratee);
+        }
+        List<Map<K, List<T>>> partials = chunks(collection, (array, from, to) -> {
+            Map<K, List<T>> groups = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    K key = Objects.requireNonNull(iteratee.apply(value), "element cannot be mapped to a null key");
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+                }
+            }
+            return groups;
+        });
+        Map<K, List<T>> result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            partials.get(i).forEach((key, values) -> result.computeIfAbsent(key, k -> new ArrayList<>())
+                .addAll(values));
+        }
+        return result;
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#countBy}: counts the elements, {@code null} ones included, by key.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param <K>        The type of the keys.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of each element, which must not return {@code null}.
+     * @return Returns the map of keys to their number of elements.
+     */
+    public <T, K> Map<K, Long> countBy(Collection<? extends T> collection,
+                                       Function<? super T, ? extends K> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return CollectionUtils.countBy(collection, iteratee);
+        }
+        List<Map<K, Long>> partials = chunks(collection, (array, from, to) -> {
+            Map<K, Long> counts = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                K key = Objects.requireNonNull(iteratee.apply(element(array, i)),
+                    "element cannot be mapped to a null key");
+                counts.merge(key, 1L, Long::sum);
+            }
+            return counts;
+        });
+        Map<K, Long> result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            partials.get(i).forEach((key, count) -> result.merge(key, count, Long::sum));
+        }
+        return result;
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#keyBy}: maps each key to the last non-null element having it.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param <R>        The type of the keys.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function computing the key of each element.
+     * @return Returns the map of keys to elements, in first-seen key order.
+     */
+    public <T, R> Map<R, T> keyBy(Collection<? extends T> collection, Function<T, R> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return CollectionUtils.keyBy(collection, iteratee);
+        }
+        List<Map<R, T>> partials = chunks(collection, (array, from, to) -> {
+            Map<R, T> keyed = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    keyed.put(iteratee.apply(value), value);
+                }
+            }
+            return keyed;
+        });
+        Map<R, T> result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            result.putAll(partials.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#partition}: splits the non-null elements into those predicate returns
+     * {@code true} for and the others.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param predicate  The function invoked per element.
+     * @return Returns the two groups, each in encounter order.
+     */
+    public <T> List<List<T>> partition(Collection<? extends T> collection, Predicate<T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (isSequential(collection)) {
+            return CollectionUtils.partition(collection, predicate);
+        }
+        List<List<List<T>>> partials = chunks(collection, (array, from, to) -> {
+            List<T> trueGroup = new ArrayList<>();
+            List<T> falseGroup = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    (predicate.test(value) ? trueGroup : falseGroup).add(value);
+                }
+            }
+            List<List<T>> groups = new ArrayList<>(2);
+            groups.add(trueGroup);
+            groups.add(falseGroup);
+            return groups;
+        });
+        List<List<T>> trueGroups = new ArrayList<>(partials.size());
+        List<List<T>> falseGroups = new ArrayList<>(partials.size());
+        for (List<List<T>> groups : partials) {
+            trueGroups.add(groups.get(0));
+            falseGroups.add(groups.get(1));
+        }
+        List<List<T>> result = new ArrayList<>(2);
+        result.add(concat(trueGroups));
+        result.add(concat(falseGroups));
+        return result;
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#reduce(Collection, Object, BinaryOperator)} over the non-null elements. Each
+     * chunk is folded from {@code identity} and the partial results are folded with accumulator, so accumulator must
+     * be associative and {@code identity} neutral for it, as for {@link java.util.stream.Stream#reduce}.
+     *
+     * @param <T>         The type of elements in the collection.
+     * @param collection  The collection to iterate over.
+     * @param identity    The neutral value of accumulator.
+     * @param accumulator The associative function combining two values.
+     * @return Returns the accumulated value.
+     */
+    public <T> T reduce(Collection<? extends T> collection, T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        if (isSequential(collection)) {
+            return CollectionUtils.reduce(collection, identity, accumulator);
+        }
+        return reduce(collection, identity, accumulator::apply, accumulator);
+    }
+
+    /**
+     * Folds the non-null elements into a value of another type. Each chunk is folded from {@code identity} with
+     * accumulator and the partial results are merged in order with combiner, as for
+     * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}.
+     *
+     * <pre>{@code
+     *      int totalLength = ParallelCollectionUtils.withCommonPool()
+     *          .reduce(words, 0, (sum, word) -> sum + word.length(), Integer::sum);
+     * }</pre>
+     *
+     * @param <T>         The type of elements in the collection.
+     * @param <U>         The type of the result.
+     * @param collection  The collection to iterate over.
+     * @param identity    The neutral value of combiner.
+     * @param accumulator The function adding an element to a partial result.
+     * @param combiner    The associative function merging two partial results.
+     * @return Returns the accumulated value, {@code identity} for a {@code null} or empty collection.
+     */
+    public <T, U> U reduce(Collection<? extends T> collection, U identity,
+                           BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        if (isEmpty(collection)) {
+            return identity;
+        }
+        List<U> partials = chunks(collection, (array, from, to) -> {
+            U result = identity;
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    result = accumulator.apply(result, value);
+                }
+            }
+            return result;
+        });
+        U result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            result = combiner.apply(result, partials.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#topBy(Iterable, int, Comparator)}: each chunk keeps a heap of its k greatest
+     * elements and the heaps are merged in chunk order, so equal elements keep their encounter order.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, greatest first.
+     */
+    public <T> List<T> topBy(Collection<? extends T> collection, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (isSequential(collection)) {
+            return CollectionUtils.topBy(collection, k, comparator);
+        }
+        Comparator<? super T> reversed = comparator.reversed();
+        return top(collection, () -> BoundedHeap.ordered(k, reversed));
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#bottomBy(Iterable, int, Comparator)}; see {@link #topBy}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param k          The number of elements to return.
+     * @param comparator The comparator to rank by.
+     * @return Returns the new list of at most k elements, smallest first.
+     */
+    public <T> List<T> bottomBy(Collection<? extends T> collection, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (isSequential(collection)) {
+            return CollectionUtils.bottomBy(collection, k, comparator);
+        }
+        return top(collection, () -> BoundedHeap.ordered(k, comparator));
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#topByKey(Iterable, int, ToDoubleFunction)}; see {@link #topBy}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param k          The number of elements to return.
+     * @param iteratee   The function computing the key of an element.
+     * @return Returns the new list of at most k elements, greatest key first.
+     */
+    public <T> List<T> topByKey(Collection<? extends T> collection, int k, ToDoubleFunction<? super T> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return CollectionUtils.topByKey(collection, k, iteratee);
+        }
+        return top(collection, () -> BoundedHeap.byKey(k, iteratee, true));
+    }
+
+    /**
+     * Parallel {@link NumberUtils#sumByInt}: sums the values of the non-null elements.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function to extract the integer value from each element.
+     * @return The sum of the values, or 0 if the collection is null or empty.
+     */
+    public <T extends Integer> int sumByInt(Collection<? extends T> collection,
+                                            Function<? super T, Integer> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return NumberUtils.sumByInt(collection, iteratee);
+        }
+        return (int) sumLongs(collection, iteratee::apply);
+    }
+
+    /**
+     * Parallel {@link NumberUtils#sumByLong}: sums the values of the non-null elements.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function to extract the long value from each element.
+     * @return The sum of the values, or 0 if the collection is null or empty.
+     */
+    public <T extends Long> long sumByLong(Collection<? extends T> collection, Function<? super T, Long> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return NumberUtils.sumByLong(collection, iteratee);
+        }
+        return sumLongs(collection, iteratee::apply);
+    }
+
+    /**
+     * Parallel {@link NumberUtils#sumByFloat}: sums the values of the non-null elements in double precision.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function to extract the float value from each element.
+     * @return The sum of the values, or 0 if the collection is null or empty.
+     */
+    public <T extends Float> float sumByFloat(Collection<? extends T> collection,
+                                              Function<? super T, Float> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return NumberUtils.sumByFloat(collection, iteratee);
+        }
+        return (float) sumDoubles(collection, value -> iteratee.apply(value).doubleValue());
+    }
+
+    /**
+     * Parallel {@link NumberUtils#sumByDouble}: sums the values of the non-null elements.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param iteratee   The function to extract the double value from each element.
+     * @return The sum of the values, or 0 if the collection is null or empty.
+     */
+    public <T extends Double> double sumByDouble(Collection<? extends T> collection,
+                                                 Function<? super T, Double> iteratee) {
+        Objects.requireNonNull(iteratee);
+        if (isSequential(collection)) {
+            return NumberUtils.sumByDouble(collection, iteratee);
+        }
+        return sumDoubles(collection, iteratee::apply);
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#every}: checks predicate against every element, {@code null} ones included,
+     * and stops all chunks at the first failure.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param predicate  The function invoked per element.
+     * @return Returns {@code true} if the collection is not empty and all elements pass, else {@code false}.
+     */
+    public <T> boolean every(Collection<? extends T> collection, Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (isSequential(collection)) {
+            return CollectionUtils.every(collection, predicate);
+        }
+        return !anyMatch(collection, value -> !predicate.test(value));
+    }
+
+    /**
+     * Parallel {@link CollectionUtils#some}: checks predicate against the non-null elements and stops all chunks at
+     * the first match.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to iterate over.
+     * @param predicate  The function invoked per element.
+     * @return Returns {@code true} if any non-null element passes, else {@code false}.
+     */
+    public <T> boolean some(Collection<T> collection, Predicate<T> predicate) {
+        Objects.requireNonNull(predicate);
+        if (isSequential(collection)) {
+            return CollectionUtils.some(collection, predicate);
+        }
+        return anyMatch(collection, value -> value != null && predicate.test(value));
+    }
+
+    private boolean isSequential(Collection<?> collection) {
+        return isEmpty(collection) || collection.size() < threshold || pool.getParallelism() < 2;
+    }
+
+    private <T> boolean anyMatch(Collection<? extends T> collection, Predicate<? super T> predicate) {
+        AtomicBoolean found = new AtomicBoolean();
+        chunks(collection, (array, from, to) -> {
+            for (int i = from; i < to && !found.get(); i++) {
+                if (predicate.test(element(array, i))) {
+                    found.set(true);
+                }
+            }
+            return null;
+        });
+        return found.get();
+    }
+
+    private <T> List<T> top(Collection<? extends T> collection, Supplier<BoundedHeap<T>> heap) {
+        List<BoundedHeap<T>> heaps = chunks(collection, (array, from, to) -> {
+            BoundedHeap<T> chunkHeap = heap.get();
+            for (int i = from; i < to; i++) {
+                chunkHeap.offer(element(array, i));
+            }
+            return chunkHeap;
+        });
+        BoundedHeap<T> merged = heaps.get(0);
+        for (int i = 1; i < heaps.size(); i++) {
+            merged.offerAll(heaps.get(i));
+        }
+        return merged.toList();
+    }
+
+    /**
+     * Sums in long arithmetic; casting the result to int gives the same overflow behaviour as an int loop.
+     */
+    private <T> long sumLongs(Collection<? extends T> collection, ToLongFunction<? super T> iteratee) {
+        List<Long> partials = chunks(collection, (array, from, to) -> {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    sum += iteratee.applyAsLong(value);
+                }
+            }
+            return sum;
+        });
+        long sum = 0;
+        for (long partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    private <T> double sumDoubles(Collection<? extends T> collection, ToDoubleFunction<? super T> iteratee) {
+        List<Double> partials = chunks(collection, (array, from, to) -> {
+            double sum = 0;
+            for (int i = from; i < to; i++) {
+                T value = element(array, i);
+                if (value != null) {
+                    sum += iteratee.applyAsDouble(value);
+                }
+            }
+            return sum;
+        });
+        double sum = 0;
+        for (double partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    /**
+     * Splits the collection into contiguous chunks, processes them on the pool and returns their results in order.
+     */
+    private <R> List<R> chunks(Collection<?> collection, Chunk<R> chunk) {
+        Object[] array = collection.toArray();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, -Math.floorDiv(-array.length, pool.getParallelism() * 4));
+        int count = -Math.floorDiv(-array.length, chunkSize);
+        Object[] results = new Object[count];
+        pool.invoke(new ChunkTask<>(array, chunkSize, chunk, results, 0, count));
+        @SuppressWarnings("unchecked")
+        List<R> ordered = (List<R>) (List<?>) Arrays.asList(results);
+        return ordered;
+    }
+
+    private static <T> List<T> concat(List<List<T>> parts) {
+        int size = 0;
+        for (List<T> part : parts) {
+            size += part.size();
+        }
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<T> result = new ArrayList<>(size);
+        for (List<T> part : parts) {
+            result.addAll(part);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T element(Object[] array, int index) {
+        return (T) array[index];
+    }
+
+    /**
+     * Processes {@code array[from, to)} into a partial result.
+     */
+    @FunctionalInterface
+    private interface Chunk<R> {
+        R apply(Object[] array, int from, int to);
+    }
+
+    /**
+     * Runs chunks {@code [first, last)}, halving the range until a single chunk is left.
+     */
+    private static final class ChunkTask<R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object[] array;
+        private final int chunkSize;
+        private final transient Chunk<R> chunk;
+        private final transient Object[] results;
+        private final int first;
+        private final int last;
+
+        ChunkTask(Object[] array, int chunkSize, Chunk<R> chunk, Object[] results, int first, int last) {
+            this.array = array;
+            this.chunkSize = chunkSize;
+            this.chunk = chunk;
+            this.results = results;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first == 1) {
+                int from = first * chunkSize;
+                results[first] = chunk.apply(array, from, Math.min(from + chunkSize, array.length));
+                return;
+            }
+            int mid = (first + last) >>> 1;
+            invokeAll(new ChunkTask<>(array, chunkSize, chunk, results, first, mid),
+                new ChunkTask<>(array, chunkSize, chunk, results, mid, last));
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package io.javadash;
+
+import io.javadash.core.IndexSort;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * One key of a multi-key {@link CollectionUtils#orderBy(Collection, SortKey, SortKey[])}: how to extract it from
+ * an element, its direction and where {@code null} keys go.
+ *
+ * <p>Unlike a chain of {@link Comparator#comparing} calls, which runs every key extractor twice per comparison and
+ * so O(n log n) times, {@code orderBy} extracts each key once per element into a column, sorts element indices
+ * against the columns with {@link IndexSort} and reads the elements back in order. {@code long} and {@code double}
+ * keys are stored unboxed, and a single one is radix sorted without comparisons. {@code null} keys go last unless
+ * {@link #nullsFirst()} is asked for, in either direction.
+ *
+ * <pre>{@code
+ *      List<Row> report = CollectionUtils.orderBy(rows,
+ *          SortKey.asc(Row::getCountry),
+ *          SortKey.descDouble(Row::getRevenue),
+ *          SortKey.asc(Row::getCustomer, String.CASE_INSENSITIVE_ORDER).nullsFirst());
+ * }</pre>
+ *
+ * @param <T> The type of the elements sorted.
+ */
+public final class SortKey<T> {
+    private final Function<? super T, ?> key;
+    private final Comparator<Object> comparator;
+    private final ToLongFunction<? super T> longKey;
+    private final ToDoubleFunction<? super T> doubleKey;
+    private final boolean descending;
+    private final boolean nullsFirst;
+
+    private SortKey(Function<? super T, ?> key, Comparator<Object> comparator, ToLongFunction<? super T> longKey,
+                    ToDoubleFunction<? super T> doubleKey, boolean descending, boolean nullsFirst) {
+        this.key = key;
+        this.comparator = comparator;
+        this.longKey = longKey;
+        this.doubleKey = doubleKey;
+        this.descending = descending;
+        this.nullsFirst = nullsFirst;
+    }
+
+    /**
+     * Sorts by a comparable key, smallest first.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param <U> The type of the key.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T, U extends Comparable<? super U>> SortKey<T> asc(Function<? super T, ? extends U> key) {
+        return asc(key, Comparator.<U>naturalOrder());
+    }
+
+    /**
+     * Sorts by a comparable key, greatest first.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param <U> The type of the key.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T, U extends Comparable<? super U>> SortKey<T> desc(Function<? super T, ? extends U> key) {
+        return desc(key, Comparator.<U>naturalOrder());
+    }
+
+    /**
+     * Sorts by a key in the order of comparator, smallest first.
+     *
+     * @param <T>        The type of the elements sorted.
+     * @param <U>        The type of the key.
+     * @param key        The function extracting the key of an element.
+     * @param comparator The order of the non-null keys.
+     * @return Returns the sort key.
+     */
+    public static <T, U> SortKey<T> asc(Function<? super T, ? extends U> key, Comparator<? super U> comparator) {
+        return of(key, comparator, false);
+    }
+
+    /**
+     * Sorts by a key in the order of comparator, greatest first.
+     *
+     * @param <T>        The type of the elements sorted.
+     * @param <U>        The type of the key.
+     * @param key        The function extracting the key of an element.
+     * @param comparator The order of the non-null keys.
+     * @return Returns the sort key.
+     */
+    public static <T, U> SortKey<T> desc(Function<? super T, ? extends U> key, Comparator<? super U> comparator) {
+        return of(key, comparator, true);
+    }
+
+    /**
+     * Sorts by a {@code long} key, smallest first.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T> SortKey<T> ascLong(ToLongFunction<? super T> key) {
+        return new SortKey<>(null, null, Objects.requireNonNull(key), null, false, false);
+    }
+
+    /**
+     * Sorts by a {@code long} key, greatest first.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T> SortKey<T> descLong(ToLongFunction<? super T> key) {
+        return new SortKey<>(null, null, Objects.requireNonNull(key), null, true, false);
+    }
+
+    /**
+     * Sorts by a {@code double} key, smallest first, comparing as {@link Double#compare} does.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T> SortKey<T> ascDouble(ToDoubleFunction<? super T> key) {
+        return new SortKey<>(null, null, null, Objects.requireNonNull(key), false, false);
+    }
+
+    /**
+     * Sorts by a {@code double} key, greatest first, comparing as {@link Double#compare} does.
+     *
+     * @param <T> The type of the elements sorted.
+     * @param key The function extracting the key of an element.
+     * @return Returns the sort key.
+     */
+    public static <T> SortKey<T> descDouble(ToDoubleFunction<? super T> key) {
+        return new SortKey<>(null, null, null, Objects.requireNonNull(key), true, false);
+    }
+
+    /**
+     * Returns this key with {@code null} keys placed before all others; primitive keys are never {@code null}.
+     *
+     * @return Returns the sort key.
+     */
+    public SortKey<T> nullsFirst() {
+        return new SortKey<>(key, comparator, longKey, doubleKey, descending, true);
+    }
+
+    /**
+     * Returns this key with {@code null} keys placed after all others, the default.
+     *
+     * @return Returns the sort key.
+     */
+    public SortKey<T> nullsLast() {
+        return new SortKey<>(key, comparator, longKey, doubleKey, descending, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, U> SortKey<T> of(Function<? super T, ? extends U> key, Comparator<? super U> comparator,
+                                        boolean descending) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(comparator);
+        return new SortKey<>(key, (Comparator<Object>) comparator, null, null, descending, false);
+    }
+
+    /**
+     * Sorts the non-null elements of collection by keys, stably, and appends the {@code null} elements.
+     */
+    static <T> List<T> sort(Collection<? extends T> collection, List<? extends SortKey<? super T>> keys,
+                            int parallelThreshold) {
+        List<T> values = new ArrayList<>(collection.size());
+        int nulls = 0;
+        for (T value : collection) {
+            if (value == null) {
+                nulls++;
+            } else {
+                values.add(value);
+            }
+        }
+        int size = values.size();
+        Column columns = null;
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            columns = column(keys.get(i), values, columns);
+        }
+        if (columns == null) {
+            values.addAll(Collections.nCopies(nulls, null));
+            return values;
+        }
+        // a single primitive key needs no comparisons at all
+        int[] order = columns instanceof LongColumn && columns.next == null ? ((LongColumn) columns).radixSort()
+            : IndexSort.sort(size, columns, parallelThreshold);
+        List<T> result = new ArrayList<>(size + nulls);
+        for (int index : order) {
+            result.add(values.get(index));
+        }
+        result.addAll(Collections.nCopies(nulls, null));
+        return result;
+    }
+
+    private static <T> Column column(SortKey<T> sortKey, List<? extends T> values, Column next) {
+        int size = values.size();
+        if (sortKey.key == null) {
+            long[] column = new long[size];
+            for (int i = 0; i < size; i++) {
+                column[i] = sortKey.longKey != null ? sortKey.longKey.applyAsLong(values.get(i))
+                    : sortableBits(sortKey.doubleKey.applyAsDouble(values.get(i)));
+            }
+            return new LongColumn(column, sortKey.descending, next);
+        }
+        Object[] column = new Object[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = sortKey.key.apply(values.get(i));
+        }
+        return new ObjectColumn(column, sortKey.comparator, sortKey.descending, sortKey.nullsFirst, next);
+    }
+
+    /**
+     * Maps a double to a long with the same order as {@link Double#compare}: negative values have their magnitude
+     * bits flipped so they sort below the positives, and every {@code NaN} maps to the greatest value.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * The extracted keys of one sort key, compared by element index and chained to the keys that break its ties.
+     * Each column type compares in its own method, so every call site sees one type and stays monomorphic.
+     */
+    private abstract static class Column implements IndexSort.IndexComparator {
+        final boolean descending;
+        final Column next;
+
+        Column(boolean descending, Column next) {
+            this.descending = descending;
+            this.next = next;
+        }
+
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] keys;
+
+        LongColumn(long[] keys, boolean descending, Column next) {
+            super(descending, next);
+            this.keys = keys;
+        }
+
+        @Override
+        public int compare(int a, int b) {
+            int result = descending ? Long.compare(keys[b], keys[a]) : Long.compare(keys[a], keys[b]);
+            return result != 0 || next == null ? result : next.compare(a, b);
+        }
+
+        int[] radixSort() {
+            if (descending) {
+                long[] reversed = new long[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    reversed[i] = ~keys[i];
+                }
+                return IndexSort.radixSort(reversed);
+            }
+            return IndexSort.radixSort(keys);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private final Object[] keys;
+        private final Comparator<Object> comparator;
+        private final boolean nullsFirst;
+
+        ObjectColumn(Object[] keys, Comparator<Object> comparator, boolean descending, boolean nullsFirst,
+                     Column next) {
+            super(descending, next);
+            this.keys = keys;
+            this.comparator = comparator;
+            this.nullsFirst = nullsFirst;
+        }
+
+        @Override
+        public int compare(int a, int b) {
+            Object left = keys[a];
+            Object right = keys[b];
+            int result;
+            if (left == null || right == null) {
+                result = left == right ? 0 : (left == null) == nullsFirst ? -1 : 1;
+            } else {
+                result = descending ? comparator.compare(right, left) : comparator.compare(left, right);
+            }
+            return result != 0 || next == null ? result : next.compare(a, b);
+        }
+    }
+}
@@ -0,0 +1,890 @@
+package io.javadash;
+
+import static io.javadash.core.Validate.isEmpty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+
+/**
+ * Set operations and merging for inputs that are already sorted, such as IDs read from an index or timestamps.
+ *
+ * <p>Where {@link CollectionUtils#union}, {@link CollectionUtils#intersection}, {@link CollectionUtils#difference} and
+ * {@link CollectionUtils#xor} hash every element, these methods walk the inputs side by side in O(n + m) comparisons
+ * and allocate nothing but the result. {@code intersection} and {@code difference} gallop: they probe the other input
+ * at exponentially growing distances before a binary search, so a small input against a large one costs
+ * O(n log(m / n)) comparisons instead of O(n + m).
+ *
+ * <p>Inputs must be sorted in ascending order, by natural ordering or by the given comparator; this is not checked and
+ * the result is undefined otherwise. Like their {@code CollectionUtils} counterparts, the set operations return each
+ * value once, here in ascending order, and treat a {@code null} input as empty. Elements the comparator finds equal
+ * are duplicates, and natural ordering does not accept {@code null} elements. Every operation is available over
+ * {@link List}s, lazy {@link Iterator}s, {@code int[]} and {@code long[]}.
+ *
+ * <pre>{@code
+ *      int[] active = ...; // sorted IDs
+ *      int[] banned = ...; // sorted IDs
+ *      SortedCollectionUtils.difference(active, banned);
+ *      // => the active IDs that are not banned, in ascending order
+ * }</pre>
+ */
+public final class SortedCollectionUtils {
+    private static final int[] EMPTY_INTS = {};
+    private static final long[] EMPTY_LONGS = {};
+
+    private SortedCollectionUtils() {
+    }
+
+    /**
+     * Creates a list of the unique values of both sorted lists, in ascending order.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.union(Arrays.asList(1, 3, 3, 5), Arrays.asList(2, 3, 6));
+     *      // => [1, 2, 3, 5, 6]
+     * }</pre>
+     *
+     * @param <T>   The type of elements in the lists.
+     * @param list  The first sorted list.
+     * @param other The second sorted list.
+     * @return Returns the new sorted list of combined values.
+     */
+    public static <T extends Comparable<? super T>> List<T> union(List<? extends T> list, List<? extends T> other) {
+        return union(list, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates a list of the unique values of both lists sorted by comparator, in the same order.
+     *
+     * @param <T>        The type of elements in the lists.
+     * @param list       The first sorted list.
+     * @param other      The second sorted list.
+     * @param comparator The order both lists are sorted by.
+     * @return Returns the new sorted list of combined values.
+     */
+    public static <T> List<T> union(List<? extends T> list, List<? extends T> other,
+                                    Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        return toList(union(iterator(list), iterator(other), comparator));
+    }
+
+    /**
+     * Creates a list of the unique values found in both sorted lists, in ascending order. The shorter list is walked
+     * and the longer one galloped through.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.intersection(Arrays.asList(1, 3, 3, 5), Arrays.asList(2, 3, 5, 6));
+     *      // => [3, 5]
+     * }</pre>
+     *
+     * @param <T>   The type of elements in the lists.
+     * @param list  The first sorted list.
+     * @param other The second sorted list.
+     * @return Returns the new sorted list of common values.
+     */
+    public static <T extends Comparable<? super T>> List<T> intersection(List<? extends T> list,
+                                                                         List<? extends T> other) {
+        return intersection(list, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates a list of the unique values found in both lists sorted by comparator, taken from list.
+     *
+     * @param <T>        The type of elements in the lists.
+     * @param list       The first sorted list.
+     * @param other      The second sorted list.
+     * @param comparator The order both lists are sorted by.
+     * @return Returns the new sorted list of common values.
+     */
+    public static <T> List<T> intersection(List<? extends T> list, List<? extends T> other,
+                                           Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (isEmpty(list) || isEmpty(other)) {
+            return new ArrayList<>();
+        }
+        boolean listIsShorter = list.size() <= other.size();
+        List<? extends T> shorter = randomAccess(listIsShorter ? list : other);
+        List<? extends T> longer = randomAccess(listIsShorter ? other : list);
+        List<T> result = new ArrayList<>();
+        int position = 0;
+        for (int i = 0; i < shorter.size() && position < longer.size(); i++) {
+            T value = shorter.get(i);
+            if (i > 0 && comparator.compare(shorter.get(i - 1), value) == 0) {
+                continue;
+            }
+            position = gallop(longer, position, value, comparator);
+            if (position < longer.size() && comparator.compare(longer.get(position), value) == 0) {
+                result.add(listIsShorter ? value : longer.get(position));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a list of the unique values of list not found in other, both sorted, in ascending order. Other is
+     * galloped through, so excluding a few values from a long list, or many from a short one, stays cheap.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.difference(Arrays.asList(1, 2, 2, 3, 5), Arrays.asList(2, 4, 5));
+     *      // => [1, 3]
+     * }</pre>
+     *
+     * @param <T>   The type of elements in the lists.
+     * @param list  The sorted list to inspect.
+     * @param other The sorted list of values to exclude.
+     * @return Returns the new sorted list of filtered values.
+     */
+    public static <T extends Comparable<? super T>> List<T> difference(List<? extends T> list,
+                                                                       List<? extends T> other) {
+        return difference(list, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates a list of the unique values of list not found in other, both sorted by comparator.
+     *
+     * @param <T>        The type of elements in the lists.
+     * @param list       The sorted list to inspect.
+     * @param other      The sorted list of values to exclude.
+     * @param comparator The order both lists are sorted by.
+     * @return Returns the new sorted list of filtered values.
+     */
+    public static <T> List<T> difference(List<? extends T> list, List<? extends T> other,
+                                         Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (isEmpty(list)) {
+            return new ArrayList<>();
+        }
+        List<? extends T> source = randomAccess(list);
+        List<? extends T> excluded = other == null ? Collections.emptyList() : randomAccess(other);
+        List<T> result = new ArrayList<>();
+        int position = 0;
+        for (int i = 0; i < source.size(); i++) {
+            T value = source.get(i);
+            if (i > 0 && comparator.compare(source.get(i - 1), value) == 0) {
+                continue;
+            }
+            position = gallop(excluded, position, value, comparator);
+            if (position == excluded.size() || comparator.compare(excluded.get(position), value) != 0) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a list of the unique values found in exactly one of the sorted lists, in ascending order.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.xor(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4));
+     *      // => [1, 4]
+     * }</pre>
+     *
+     * @param <T>   The type of elements in the lists.
+     * @param list  The first sorted list.
+     * @param other The second sorted list.
+     * @return Returns the new sorted list of filtered values.
+     */
+    public static <T extends Comparable<? super T>> List<T> xor(List<? extends T> list, List<? extends T> other) {
+        return xor(list, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates a list of the unique values found in exactly one of the lists sorted by comparator.
+     *
+     * @param <T>        The type of elements in the lists.
+     * @param list       The first sorted list.
+     * @param other      The second sorted list.
+     * @param comparator The order both lists are sorted by.
+     * @return Returns the new sorted list of filtered values.
+     */
+    public static <T> List<T> xor(List<? extends T> list, List<? extends T> other, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        return toList(xor(iterator(list), iterator(other), comparator));
+    }
+
+    /**
+     * Lazily yields the unique values of both sorted iterators, in ascending order. Each call to {@code next()}
+     * reads only as far as needed, so unbounded sources can be combined.
+     *
+     * @param <T>      The type of elements in the iterators.
+     * @param iterator The first sorted iterator.
+     * @param other    The second sorted iterator.
+     * @return Returns the iterator of combined values.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> union(Iterator<? extends T> iterator,
+                                                                      Iterator<? extends T> other) {
+        return union(iterator, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily yields the unique values of both iterators sorted by comparator, in the same order.
+     *
+     * @param <T>        The type of elements in the iterators.
+     * @param iterator   The first sorted iterator.
+     * @param other      The second sorted iterator.
+     * @param comparator The order both iterators are sorted by.
+     * @return Returns the iterator of combined values.
+     */
+    public static <T> Iterator<T> union(Iterator<? extends T> iterator, Iterator<? extends T> other,
+                                        Comparator<? super T> comparator) {
+        return new SetOperationIterator<>(iterator, other, comparator, Operation.UNION);
+    }
+
+    /**
+     * Lazily yields the unique values found in both sorted iterators, in ascending order, and stops reading as soon
+     * as either iterator is exhausted.
+     *
+     * @param <T>      The type of elements in the iterators.
+     * @param iterator The first sorted iterator.
+     * @param other    The second sorted iterator.
+     * @return Returns the iterator of common values.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> intersection(Iterator<? extends T> iterator,
+                                                                             Iterator<? extends T> other) {
+        return intersection(iterator, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily yields the unique values found in both iterators sorted by comparator, taken from iterator.
+     *
+     * @param <T>        The type of elements in the iterators.
+     * @param iterator   The first sorted iterator.
+     * @param other      The second sorted iterator.
+     * @param comparator The order both iterators are sorted by.
+     * @return Returns the iterator of common values.
+     */
+    public static <T> Iterator<T> intersection(Iterator<? extends T> iterator, Iterator<? extends T> other,
+                                               Comparator<? super T> comparator) {
+        return new SetOperationIterator<>(iterator, other, comparator, Operation.INTERSECTION);
+    }
+
+    /**
+     * Lazily yields the unique values of iterator not found in other, both sorted, in ascending order.
+     *
+     * @param <T>      The type of elements in the iterators.
+     * @param iterator The sorted iterator to inspect.
+     * @param other    The sorted iterator of values to exclude.
+     * @return Returns the iterator of filtered values.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> difference(Iterator<? extends T> iterator,
+                                                                           Iterator<? extends T> other) {
+        return difference(iterator, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily yields the unique values of iterator not found in other, both sorted by comparator.
+     *
+     * @param <T>        The type of elements in the iterators.
+     * @param iterator   The sorted iterator to inspect.
+     * @param other      The sorted iterator of values to exclude.
+     * @param comparator The order both iterators are sorted by.
+     * @return Returns the iterator of filtered values.
+     */
+    public static <T> Iterator<T> difference(Iterator<? extends T> iterator, Iterator<? extends T> other,
+                                             Comparator<? super T> comparator) {
+        return new SetOperationIterator<>(iterator, other, comparator, Operation.DIFFERENCE);
+    }
+
+    /**
+     * Lazily yields the unique values found in exactly one of the sorted iterators, in ascending order.
+     *
+     * @param <T>      The type of elements in the iterators.
+     * @param iterator The first sorted iterator.
+     * @param other    The second sorted iterator.
+     * @return Returns the iterator of filtered values.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> xor(Iterator<? extends T> iterator,
+                                                                    Iterator<? extends T> other) {
+        return xor(iterator, other, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily yields the unique values found in exactly one of the iterators sorted by comparator.
+     *
+     * @param <T>        The type of elements in the iterators.
+     * @param iterator   The first sorted iterator.
+     * @param other      The second sorted iterator.
+     * @param comparator The order both iterators are sorted by.
+     * @return Returns the iterator of filtered values.
+     */
+    public static <T> Iterator<T> xor(Iterator<? extends T> iterator, Iterator<? extends T> other,
+                                      Comparator<? super T> comparator) {
+        return new SetOperationIterator<>(iterator, other, comparator, Operation.XOR);
+    }
+
+    /**
+     * Creates an array of the unique values of both sorted arrays, in ascending order.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.union(new int[]{1, 3, 3, 5}, new int[]{2, 3, 6});
+     *      // => [1, 2, 3, 5, 6]
+     * }</pre>
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of combined values.
+     */
+    public static int[] union(int[] array, int[] other) {
+        int[] left = array == null ? EMPTY_INTS : array;
+        int[] right = other == null ? EMPTY_INTS : other;
+        int[] result = new int[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            int value;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                value = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                value = right[j++];
+            } else {
+                value = left[i++];
+                j++;
+            }
+            if (size == 0 || result[size - 1] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values found in both sorted arrays, in ascending order, galloping through the
+     * longer array.
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of common values.
+     */
+    public static int[] intersection(int[] array, int[] other) {
+        if (array == null || other == null || array.length == 0 || other.length == 0) {
+            return EMPTY_INTS;
+        }
+        int[] shorter = array.length <= other.length ? array : other;
+        int[] longer = shorter == array ? other : array;
+        int[] result = new int[shorter.length];
+        int size = 0;
+        int position = 0;
+        for (int i = 0; i < shorter.length && position < longer.length; i++) {
+            int value = shorter[i];
+            if (i > 0 && shorter[i - 1] == value) {
+                continue;
+            }
+            position = gallop(longer, position, value);
+            if (position < longer.length && longer[position] == value) {
+                result[size++] = value;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values of array not found in other, both sorted, in ascending order, galloping
+     * through other.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.difference(new int[]{1, 2, 2, 3, 5}, new int[]{2, 4, 5});
+     *      // => [1, 3]
+     * }</pre>
+     *
+     * @param array The sorted array to inspect.
+     * @param other The sorted array of values to exclude.
+     * @return Returns the new sorted array of filtered values.
+     */
+    public static int[] difference(int[] array, int[] other) {
+        if (array == null || array.length == 0) {
+            return EMPTY_INTS;
+        }
+        int[] excluded = other == null ? EMPTY_INTS : other;
+        int[] result = new int[array.length];
+        int size = 0;
+        int position = 0;
+        for (int i = 0; i < array.length; i++) {
+            int value = array[i];
+            if (i > 0 && array[i - 1] == value) {
+                continue;
+            }
+            position = gallop(excluded, position, value);
+            if (position == excluded.length || excluded[position] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values found in exactly one of the sorted arrays, in ascending order.
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of filtered values.
+     */
+    public static int[] xor(int[] array, int[] other) {
+        int[] left = array == null ? EMPTY_INTS : array;
+        int[] right = other == null ? EMPTY_INTS : other;
+        int[] result = new int[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            int value;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                value = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                value = right[j++];
+            } else {
+                value = left[i];
+                while (i < left.length && left[i] == value) {
+                    i++;
+                }
+                while (j < right.length && right[j] == value) {
+                    j++;
+                }
+                continue;
+            }
+            if (size == 0 || result[size - 1] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values of both sorted arrays, in ascending order.
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of combined values.
+     */
+    public static long[] union(long[] array, long[] other) {
+        long[] left = array == null ? EMPTY_LONGS : array;
+        long[] right = other == null ? EMPTY_LONGS : other;
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            long value;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                value = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                value = right[j++];
+            } else {
+                value = left[i++];
+                j++;
+            }
+            if (size == 0 || result[size - 1] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values found in both sorted arrays, in ascending order, galloping through the
+     * longer array.
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of common values.
+     */
+    public static long[] intersection(long[] array, long[] other) {
+        if (array == null || other == null || array.length == 0 || other.length == 0) {
+            return EMPTY_LONGS;
+        }
+        long[] shorter = array.length <= other.length ? array : other;
+        long[] longer = shorter == array ? other : array;
+        long[] result = new long[shorter.length];
+        int size = 0;
+        int position = 0;
+        for (int i = 0; i < shorter.length && position < longer.length; i++) {
+            long value = shorter[i];
+            if (i > 0 && shorter[i - 1] == value) {
+                continue;
+            }
+            position = gallop(longer, position, value);
+            if (position < longer.length && longer[position] == value) {
+                result[size++] = value;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values of array not found in other, both sorted, in ascending order, galloping
+     * through other.
+     *
+     * @param array The sorted array to inspect.
+     * @param other The sorted array of values to exclude.
+     * @return Returns the new sorted array of filtered values.
+     */
+    public static long[] difference(long[] array, long[] other) {
+        if (array == null || array.length == 0) {
+            return EMPTY_LONGS;
+        }
+        long[] excluded = other == null ? EMPTY_LONGS : other;
+        long[] result = new long[array.length];
+        int size = 0;
+        int position = 0;
+        for (int i = 0; i < array.length; i++) {
+            long value = array[i];
+            if (i > 0 && array[i - 1] == value) {
+                continue;
+            }
+            position = gallop(excluded, position, value);
+            if (position == excluded.length || excluded[position] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the unique values found in exactly one of the sorted arrays, in ascending order.
+     *
+     * @param array The first sorted array.
+     * @param other The second sorted array.
+     * @return Returns the new sorted array of filtered values.
+     */
+    public static long[] xor(long[] array, long[] other) {
+        long[] left = array == null ? EMPTY_LONGS : array;
+        long[] right = other == null ? EMPTY_LONGS : other;
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length || j < right.length) {
+            long value;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                value = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                value = right[j++];
+            } else {
+                value = left[i];
+                while (i < left.length && left[i] == value) {
+                    i++;
+                }
+                while (j < right.length && right[j] == value) {
+                    j++;
+                }
+                continue;
+            }
+            if (size == 0 || result[size - 1] != value) {
+                result[size++] = value;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Lazily merges sorted iterators into one sorted sequence, keeping duplicates. A binary heap holds the next
+     * element of each iterator, so each element costs O(log k) comparisons for k iterators; elements that compare
+     * equal come out in the order of the iterators that hold them.
+     *
+     * <pre>{@code
+     *      SortedCollectionUtils.merge(Arrays.asList(
+     *          Arrays.asList(1, 4, 7).iterator(),
+     *          Arrays.asList(2, 5).iterator(),
+     *          Arrays.asList(3, 4).iterator()));
+     *      // => 1, 2, 3, 4, 4, 5, 7
+     * }</pre>
+     *
+     * @param <T>       The type of elements in the iterators.
+     * @param iterators The sorted iterators to merge, {@code null} entries are skipped.
+     * @return Returns the iterator of merged values, empty when iterators is {@code null}.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> merge(List<? extends Iterator<? extends T>> iterators) {
+        return merge(iterators, Comparator.naturalOrder());
+    }
+
+    /**
+     * Lazily merges iterators sorted by comparator into one sequence sorted the same way, keeping duplicates. The
+     * first element of each iterator is read when the merge is created.
+     *
+     * @param <T>        The type of elements in the iterators.
+     * @param iterators  The sorted iterators to merge, {@code null} entries are skipped.
+     * @param comparator The order every iterator is sorted by.
+     * @return Returns the iterator of merged values, empty when iterators is {@code null}.
+     */
+    public static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> iterators,
+                                        Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (iterators == null) {
+            return Collections.emptyIterator();
+        }
+        return new MergeIterator<>(iterators, comparator);
+    }
+
+    /**
+     * The first index at or after from whose element is not less than key, or {@code list.size()}. Probes
+     * {@code from}, {@code from + 1}, {@code from + 3}, {@code from + 7}, ... then binary searches the last gap.
+     */
+    static <T> int gallop(List<? extends T> list, int from, T key, Comparator<? super T> comparator) {
+        int length = list.size();
+        if (from >= length || comparator.compare(list.get(from), key) >= 0) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        int high = from + 1;
+        while (high < length && comparator.compare(list.get(high), key) < 0) {
+            low = high;
+            step <<= 1;
+            high = length - low > step ? low + step : length;
+        }
+        low++;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static int gallop(int[] array, int from, int key) {
+        int length = array.length;
+        if (from >= length || array[from] >= key) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        int high = from + 1;
+        while (high < length && array[high] < key) {
+            low = high;
+            step <<= 1;
+            high = length - low > step ? low + step : length;
+        }
+        low++;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (array[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static int gallop(long[] array, int from, long key) {
+        int length = array.length;
+        if (from >= length || array[from] >= key) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        int high = from + 1;
+        while (high < length && array[high] < key) {
+            low = high;
+            step <<= 1;
+            high = length - low > step ? low + step : length;
+        }
+        low++;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (array[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <T> Iterator<? extends T> iterator(List<? extends T> list) {
+        return list == null ? Collections.emptyIterator() : list.iterator();
+    }
+
+    private static <T> List<? extends T> randomAccess(List<? extends T> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private enum Operation {
+        UNION, INTERSECTION, DIFFERENCE, XOR
+    }
+
+    /**
+     * Reads a sorted iterator one distinct value at a time, skipping the values equal to the current head.
+     */
+    private static final class Cursor<T> {
+        private final Iterator<? extends T> iterator;
+        private final Comparator<? super T> comparator;
+        private T head;
+        private boolean hasHead;
+
+        Cursor(Iterator<? extends T> iterator, Comparator<? super T> comparator) {
+            this.iterator = iterator == null ? Collections.emptyIterator() : iterator;
+            this.comparator = comparator;
+        }
+
+        void advance() {
+            while (iterator.hasNext()) {
+                T next = iterator.next();
+                if (!hasHead || comparator.compare(head, next) != 0) {
+                    head = next;
+                    hasHead = true;
+                    return;
+                }
+            }
+            head = null;
+            hasHead = false;
+        }
+    }
+
+    /**
+     * Walks two sorted iterators side by side and yields the values the operation keeps.
+     */
+    private static final class SetOperationIterator<T> implements Iterator<T> {
+        private final Cursor<T> left;
+        private final Cursor<T> right;
+        private final Comparator<? super T> comparator;
+        private final Operation operation;
+        private boolean started;
+        private boolean ready;
+        private T next;
+
+        SetOperationIterator(Iterator<? extends T> left, Iterator<? extends T> right, Comparator<? super T> comparator,
+                             Operation operation) {
+            this.comparator = Objects.requireNonNull(comparator);
+            this.left = new Cursor<>(left, comparator);
+            this.right = new Cursor<>(right, comparator);
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                ready = computeNext();
+            }
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next;
+            next = null;
+            ready = false;
+            return value;
+        }
+
+        private boolean computeNext() {
+            if (!started) {
+                started = true;
+                left.advance();
+                right.advance();
+            }
+            while (left.hasHead || right.hasHead) {
+                int order;
+                if (!right.hasHead) {
+                    order = -1;
+                } else if (!left.hasHead) {
+                    order = 1;
+                } else {
+                    order = comparator.compare(left.head, right.head);
+                }
+                if (order < 0) {
+                    if (operation == Operation.INTERSECTION && !right.hasHead) {
+                        return false;
+                    }
+                    T value = left.head;
+                    left.advance();
+                    if (operation != Operation.INTERSECTION) {
+                        next = value;
+                        return true;
+                    }
+                } else if (order > 0) {
+                    if (operation == Operation.INTERSECTION || operation == Operation.DIFFERENCE) {
+                        if (!left.hasHead) {
+                            return false;
+                        }
+                        right.advance();
+                        continue;
+                    }
+                    next = right.head;
+                    right.advance();
+                    return true;
+                } else {
+                    T value = left.head;
+                    left.advance();
+                    right.advance();
+                    if (operation == Operation.UNION || operation == Operation.INTERSECTION) {
+                        next = value;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Yields the smallest head of k sorted iterators, ties going to the iterator listed first.
+     */
+    private static final class MergeIterator<T> implements Iterator<T> {
+        private final PriorityQueue<Source<T>> heap;
+
+        MergeIterator(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> comparator) {
+            heap = new PriorityQueue<>(Math.max(1, iterators.size()), (a, b) -> {
+                int order = comparator.compare(a.head, b.head);
+                return order != 0 ? order : Integer.compare(a.index, b.index);
+            });
+            for (int i = 0; i < iterators.size(); i++) {
+                Iterator<? extends T> iterator = iterators.get(i);
+                if (iterator != null && iterator.hasNext()) {
+                    heap.add(new Source<>(iterator, iterator.next(), i));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Source<T> source = heap.poll();
+            if (source == null) {
+                throw new NoSuchElementException();
+            }
+            T value = source.head;
+            if (source.iterator.hasNext()) {
+                source.head = source.iterator.next();
+                heap.add(source);
+            }
+            return value;
+        }
+    }
+
+    private static final class Source<T> {
+        final Iterator<? extends T> iterator;
+        final int index;
+        T head;
+
+        Source(Iterator<? extends T> iterator, T head, int index) {
+            this.iterator = iterator;
+            this.head = head;
+            this.index = index;
+        }
+    }
+}
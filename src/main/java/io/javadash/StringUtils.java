@@ -14,6 +14,7 @@
 import static io.javadash.core.Constant.RE_TRIM_START;
 
 import io.javadash.core.Validate;
+import io.javadash.metrics.Metrics;
 import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,7 +41,12 @@ public class StringUtils {
      * {@code false} otherwise
      */
     public static boolean isEmpty(final Object str) {
-        return Validate.isEmpty(str);
+        long startNanos = Metrics.start();
+        try {
+            return Validate.isEmpty(str);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.isEmpty", str);
+        }
     }
 
     /**
@@ -57,10 +63,15 @@ public static boolean isEmpty(final Object str) {
      * @return Return {@code true} if the string contains the specified value; otherwise, {@code false}.
      */
     public static boolean includes(String str, String value) {
-        if (!isValidString(str)) {
-            return false;
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return false;
+            }
+            return str.contains(value);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.includes", str);
         }
-        return str.contains(value);
     }
 
     /**
@@ -76,15 +87,22 @@ public static boolean includes(String str, String value) {
      * @return Returns the camel cased string.
      */
     public static String camelCase(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        String[] words = str.split("[^a-zA-Z0-9]+");
-        StringBuilder result = new StringBuilder(words[0].toLowerCase());
-        for (int i = 1; i < words.length; i++) {
-            result.append(capitalize(words[i]));
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            String[] words = str.split("[^a-zA-Z0-9]+");
+            StringBuilder result = new StringBuilder(words[0].toLowerCase());
+            for (int i = 1; i < words.length; i++) {
+                if (isValidString(words[i])) {
+                    result.append(baseCapitalize(words[i]));
+                }
+            }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.camelCase", str);
         }
-        return result.toString();
     }
 
     /**
@@ -100,9 +118,18 @@ public static String camelCase(String str) {
      * @return The capitalized word, or an empty string if the input is invalid.
      */
     public static String capitalize(String str) {
-        if (!isValidString(str)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            return baseCapitalize(str);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.capitalize", str);
         }
+    }
+
+    private static String baseCapitalize(String str) {
         return str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
     }
 
@@ -120,18 +147,23 @@ public static String capitalize(String str) {
      * @return Returns the deburred string.
      */
     public static String deburr(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
-        normalized = reComboMark.matcher(normalized).replaceAll("");
-        Matcher matcher = reLatin.matcher(normalized);
-        StringBuffer result = new StringBuffer();
-        while (matcher.find()) {
-            matcher.appendReplacement(result, deburrLetter(matcher.group()));
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            String normalized = Normalizer.normalize(str, Normalizer.Form.NFD);
+            normalized = reComboMark.matcher(normalized).replaceAll("");
+            Matcher matcher = reLatin.matcher(normalized);
+            StringBuffer result = new StringBuffer();
+            while (matcher.find()) {
+                matcher.appendReplacement(result, deburrLetter(matcher.group()));
+            }
+            matcher.appendTail(result);
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.deburr", str);
         }
-        matcher.appendTail(result);
-        return result.toString();
     }
 
 
@@ -149,12 +181,17 @@ public static String deburr(String str) {
      * @return Returns {@code true} if string ends with target, else {@code false}.
      */
     public static boolean endsWith(String str, String target) {
-        if (!isValidString(str) || !isValidString(target)) {
-            return false;
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str) || !isValidString(target)) {
+                return false;
+            }
+            int end = str.length();
+            int position = str.length() - target.length();
+            return position >= 0 && str.substring(position, end).equals(target);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.endsWith", str);
         }
-        int end = str.length();
-        int position = str.length() - target.length();
-        return position >= 0 && str.substring(position, end).equals(target);
     }
 
     /**
@@ -171,20 +208,25 @@ public static boolean endsWith(String str, String target) {
      * @return Returns the escaped string.
      */
     public static String escape(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        StringBuilder escapedString = new StringBuilder(str.length());
-        for (int i = 0; i < str.length(); i++) {
-            char c = str.charAt(i);
-            String replacement = getEscapeReplacement(c);
-            if (replacement != null) {
-                escapedString.append(replacement);
-            } else {
-                escapedString.append(c);
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
             }
+            StringBuilder escapedString = new StringBuilder(str.length());
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                String replacement = getEscapeReplacement(c);
+                if (replacement != null) {
+                    escapedString.append(replacement);
+                } else {
+                    escapedString.append(c);
+                }
+            }
+            return escapedString.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.escape", str);
         }
-        return escapedString.toString();
     }
 
     /**
@@ -201,19 +243,24 @@ public static String escape(String str) {
      * @return Returns the escaped string.
      */
     public static String escapeRegExp(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        StringBuilder escapedString = new StringBuilder(str.length());
-        for (int i = 0; i < str.length(); i++) {
-            char c = str.charAt(i);
-            if (REGEXP_CHARS.indexOf(c) >= 0) {
-                escapedString.append("\\").append(c);
-            } else {
-                escapedString.append(c);
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            StringBuilder escapedString = new StringBuilder(str.length());
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                if (REGEXP_CHARS.indexOf(c) >= 0) {
+                    escapedString.append("\\").append(c);
+                } else {
+                    escapedString.append(c);
+                }
             }
+            return escapedString.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.escapeRegExp", str);
         }
-        return escapedString.toString();
     }
 
     /**
@@ -229,22 +276,27 @@ public static String escapeRegExp(String str) {
      * @return Returns the kebab cased string.
      */
     public static String kebabCase(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        StringBuilder result = new StringBuilder();
-        boolean isFirstWord = true;
-        String[] words = str.split("(?=[A-Z])|[^a-zA-Z0-9]+");
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                if (!isFirstWord) {
-                    result.append("-");
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            StringBuilder result = new StringBuilder();
+            boolean isFirstWord = true;
+            String[] words = str.split("(?=[A-Z])|[^a-zA-Z0-9]+");
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    if (!isFirstWord) {
+                        result.append("-");
+                    }
+                    result.append(word.toLowerCase());
+                    isFirstWord = false;
                 }
-                result.append(word.toLowerCase());
-                isFirstWord = false;
             }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.kebabCase", str);
         }
-        return result.toString();
     }
 
     /**
@@ -260,22 +312,27 @@ public static String kebabCase(String str) {
      * @return Returns the lower cased string.
      */
     public static String lowerCase(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        StringBuilder result = new StringBuilder();
-        boolean isFirstWord = true;
-        String[] words = str.split("(?=[A-Z])|[^a-zA-Z0-9]+");
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                if (!isFirstWord) {
-                    result.append(" ");
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            StringBuilder result = new StringBuilder();
+            boolean isFirstWord = true;
+            String[] words = str.split("(?=[A-Z])|[^a-zA-Z0-9]+");
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    if (!isFirstWord) {
+                        result.append(" ");
+                    }
+                    result.append(word.toLowerCase());
+                    isFirstWord = false;
                 }
-                result.append(word.toLowerCase());
-                isFirstWord = false;
             }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.lowerCase", str);
         }
-        return result.toString();
     }
 
     /**
@@ -291,11 +348,16 @@ public static String lowerCase(String str) {
      * @return Returns the converted string.
      */
     public static String lowerFirst(String str) {
-        if (!isValidString(str)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            char firstChar = Character.toLowerCase(str.charAt(0));
+            return firstChar + str.substring(1);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.lowerFirst", str);
         }
-        char firstChar = Character.toLowerCase(str.charAt(0));
-        return firstChar + str.substring(1);
     }
 
     /**
@@ -313,22 +375,27 @@ public static String lowerFirst(String str) {
      * @return Returns the padded string.
      */
     public static String pad(String str, int length, String chars) {
-        if (str == null) {
-            str = "";
-        }
-        if (!isValidString(chars)) {
-            chars = " ";
-        }
-        int strLength = str.length();
-        if (length <= 0 || strLength >= length) {
-            return str;
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                str = "";
+            }
+            if (!isValidString(chars)) {
+                chars = " ";
+            }
+            int strLength = str.length();
+            if (length <= 0 || strLength >= length) {
+                return str;
+            }
+            int paddingLength = length - strLength;
+            int leftPadding = paddingLength / 2;
+            int rightPadding = (paddingLength % 2 == 0) ? leftPadding : leftPadding + 1;
+            String leftPad = createPadding(leftPadding, chars);
+            String rightPad = createPadding(rightPadding, chars);
+            return leftPad + str + rightPad;
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.pad", str);
         }
-        int paddingLength = length - strLength;
-        int leftPadding = paddingLength / 2;
-        int rightPadding = (paddingLength % 2 == 0) ? leftPadding : leftPadding + 1;
-        String leftPad = createPadding(leftPadding, chars);
-        String rightPad = createPadding(rightPadding, chars);
-        return leftPad + str + rightPad;
     }
 
     /**
@@ -346,19 +413,24 @@ public static String pad(String str, int length, String chars) {
      * @return Returns the padded string.
      */
     public static String padStart(String str, int length, String chars) {
-        if (str == null) {
-            str = "";
-        }
-        if (!isValidString(chars)) {
-            chars = " ";
-        }
-        int strLength = str.length();
-        if (length <= 0 || strLength >= length) {
-            return str;
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                str = "";
+            }
+            if (!isValidString(chars)) {
+                chars = " ";
+            }
+            int strLength = str.length();
+            if (length <= 0 || strLength >= length) {
+                return str;
+            }
+            int paddingLength = length - strLength;
+            String leftPad = createPadding(paddingLength, chars);
+            return leftPad + str;
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.padStart", str);
         }
-        int paddingLength = length - strLength;
-        String leftPad = createPadding(paddingLength, chars);
-        return leftPad + str;
     }
 
     /**
@@ -376,19 +448,24 @@ public static String padStart(String str, int length, String chars) {
      * @return Returns the padded string.
      */
     public static String padEnd(String str, int length, String chars) {
-        if (str == null) {
-            str = "";
-        }
-        if (!isValidString(chars)) {
-            chars = " ";
-        }
-        int strLength = str.length();
-        if (length <= 0 || strLength >= length) {
-            return str;
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                str = "";
+            }
+            if (!isValidString(chars)) {
+                chars = " ";
+            }
+            int strLength = str.length();
+            if (length <= 0 || strLength >= length) {
+                return str;
+            }
+            int paddingLength = length - strLength;
+            String rightPad = createPadding(paddingLength, chars);
+            return str + rightPad;
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.padEnd", str);
         }
-        int paddingLength = length - strLength;
-        String rightPad = createPadding(paddingLength, chars);
-        return str + rightPad;
     }
 
     /**
@@ -405,16 +482,21 @@ public static String padEnd(String str, int length, String chars) {
      * @return Returns the repeated string.
      */
     public static String repeat(String str, int n) {
-        if (str == null) {
-            return "";
-        }
-        int nStep = Math.max(0, n);
-        if (nStep == 0) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                return "";
+            }
+            int nStep = Math.max(0, n);
+            if (nStep == 0) {
+                return "";
+            }
+            return IntStream.range(0, nStep)
+                .mapToObj(i -> str)
+                .collect(Collectors.joining());
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.repeat", str);
         }
-        return IntStream.range(0, nStep)
-            .mapToObj(i -> str)
-            .collect(Collectors.joining());
     }
 
     /**
@@ -432,13 +514,18 @@ public static String repeat(String str, int n) {
      * @return Returns the modified string.
      */
     public static String replace(String str, String pattern, String replacement) {
-        if (str == null) {
-            return "";
-        }
-        if (pattern == null || replacement == null) {
-            return str;
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                return "";
+            }
+            if (pattern == null || replacement == null) {
+                return str;
+            }
+            return str.replaceFirst(pattern, replacement);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.replace", str);
         }
-        return str.replaceFirst(pattern, replacement);
     }
 
     /**
@@ -454,26 +541,31 @@ public static String replace(String str, String pattern, String replacement) {
      * @return Returns the snake cased string.
      */
     public static String snakeCase(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        StringBuilder result = new StringBuilder();
-        char[] characters = str.toCharArray();
-        for (int i = 0; i < characters.length; i++) {
-            char c = characters[i];
-            if (Character.isSpaceChar(c)) {
-                continue;
-            }
-            if (Character.isUpperCase(c)) {
-                if (i > 0) {
-                    result.append('_');
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            StringBuilder result = new StringBuilder();
+            char[] characters = str.toCharArray();
+            for (int i = 0; i < characters.length; i++) {
+                char c = characters[i];
+                if (Character.isSpaceChar(c)) {
+                    continue;
+                }
+                if (Character.isUpperCase(c)) {
+                    if (i > 0) {
+                        result.append('_');
+                    }
+                    result.append(Character.toLowerCase(c));
+                } else {
+                    result.append(c);
                 }
-                result.append(Character.toLowerCase(c));
-            } else {
-                result.append(c);
             }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.snakeCase", str);
         }
-        return result.toString();
     }
 
     /**
@@ -490,17 +582,22 @@ public static String snakeCase(String str) {
      * @return Returns the string segments.
      */
     public static List<String> split(String str, String separator) {
-        List<String> result = new ArrayList<>();
-        if (!isValidString(str)) {
+        long startNanos = Metrics.start();
+        try {
+            List<String> result = new ArrayList<>();
+            if (!isValidString(str)) {
+                return result;
+            }
+            if (separator == null) {
+                result.add(str);
+            } else {
+                String[] segments = str.split(Pattern.quote(separator));
+                Collections.addAll(result, segments);
+            }
             return result;
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.split", str);
         }
-        if (separator == null) {
-            result.add(str);
-        } else {
-            String[] segments = str.split(Pattern.quote(separator));
-            Collections.addAll(result, segments);
-        }
-        return result;
     }
 
     /**
@@ -517,19 +614,26 @@ public static List<String> split(String str, String separator) {
      */
 
     public static String startCase(String string) {
-        if (!isValidString(string)) {
-            return "";
-        }
-        List<String> words = splitByNonAlphabets(string);
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < words.size(); i++) {
-            String word = words.get(i);
-            if (i > 0) {
-                result.append(" ");
-            }
-            result.append(upperFirst(word));
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(string)) {
+                return "";
+            }
+            List<String> words = splitByNonAlphabets(string);
+            StringBuilder result = new StringBuilder();
+            for (int i = 0; i < words.size(); i++) {
+                String word = words.get(i);
+                if (i > 0) {
+                    result.append(" ");
+                }
+                if (isValidString(word)) {
+                    result.append(baseUpperFirst(word));
+                }
+            }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.startCase", string);
         }
-        return result.toString();
     }
 
     /**
@@ -547,10 +651,15 @@ public static String startCase(String string) {
      */
 
     public static boolean startsWith(String str, String target) {
-        if (str == null || target == null) {
-            return false;
+        long startNanos = Metrics.start();
+        try {
+            if (str == null || target == null) {
+                return false;
+            }
+            return str.startsWith(target);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.startsWith", str);
         }
-        return str.startsWith(target);
     }
 
     /**
@@ -567,10 +676,15 @@ public static boolean startsWith(String str, String target) {
      */
 
     public static String toLower(String str) {
-        if (!isValidString(str)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            return str.toLowerCase();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.toLower", str);
         }
-        return str.toLowerCase();
     }
 
     /**
@@ -587,10 +701,15 @@ public static String toLower(String str) {
      */
 
     public static String toUpper(String str) {
-        if (!isValidString(str)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            return str.toUpperCase();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.toUpper", str);
         }
-        return str.toUpperCase();
     }
 
     /**
@@ -608,20 +727,25 @@ public static String toUpper(String str) {
      */
 
     public static String trim(String str, String chars) {
-        if (str == null) {
-            return "";
-        }
-        if (!isValidString(chars)) {
-            return str.trim();
-        }
-        char[] strSymbols = str.toCharArray();
-        char[] chrSymbols = chars.toCharArray();
-        int start = charsStartIndex(strSymbols, chrSymbols);
-        int end = charsEndIndex(strSymbols, chrSymbols);
-        if (start >= end) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                return "";
+            }
+            if (!isValidString(chars)) {
+                return str.trim();
+            }
+            char[] strSymbols = str.toCharArray();
+            char[] chrSymbols = chars.toCharArray();
+            int start = charsStartIndex(strSymbols, chrSymbols);
+            int end = charsEndIndex(strSymbols, chrSymbols);
+            if (start >= end) {
+                return "";
+            }
+            return new String(Arrays.copyOfRange(strSymbols, start, end));
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.trim", str);
         }
-        return new String(Arrays.copyOfRange(strSymbols, start, end));
     }
 
     /**
@@ -639,19 +763,24 @@ public static String trim(String str, String chars) {
      */
 
     public static String trimStart(String str, String chars) {
-        if (str == null) {
-            return "";
-        }
-        if (!isValidString(chars)) {
-            return str.replaceFirst(RE_TRIM_START, "");
-        }
-        char[] strSymbols = str.toCharArray();
-        char[] chrSymbols = chars.toCharArray();
-        int start = charsStartIndex(strSymbols, chrSymbols);
-        if (start == strSymbols.length) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                return "";
+            }
+            if (!isValidString(chars)) {
+                return str.replaceFirst(RE_TRIM_START, "");
+            }
+            char[] strSymbols = str.toCharArray();
+            char[] chrSymbols = chars.toCharArray();
+            int start = charsStartIndex(strSymbols, chrSymbols);
+            if (start == strSymbols.length) {
+                return "";
+            }
+            return new String(Arrays.copyOfRange(strSymbols, start, strSymbols.length));
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.trimStart", str);
         }
-        return new String(Arrays.copyOfRange(strSymbols, start, strSymbols.length));
     }
 
     /**
@@ -669,16 +798,21 @@ public static String trimStart(String str, String chars) {
      */
 
     public static String trimEnd(String str, String chars) {
-        if (str == null) {
-            return "";
-        }
-        if (!isValidString(chars)) {
-            return str.replaceAll(RE_TRIM_END, "");
+        long startNanos = Metrics.start();
+        try {
+            if (str == null) {
+                return "";
+            }
+            if (!isValidString(chars)) {
+                return str.replaceAll(RE_TRIM_END, "");
+            }
+            char[] strSymbols = str.toCharArray();
+            char[] chrSymbols = chars.toCharArray();
+            int end = charsEndIndex(strSymbols, chrSymbols);
+            return new String(Arrays.copyOfRange(strSymbols, 0, end));
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.trimEnd", str);
         }
-        char[] strSymbols = str.toCharArray();
-        char[] chrSymbols = chars.toCharArray();
-        int end = charsEndIndex(strSymbols, chrSymbols);
-        return new String(Arrays.copyOfRange(strSymbols, 0, end));
     }
 
     /**
@@ -695,20 +829,25 @@ public static String trimEnd(String str, String chars) {
      */
 
     public static String upperCase(String str) {
-        if (!isValidString(str)) {
-            return "";
-        }
-        Pattern pattern = Pattern.compile("[a-zA-Z0-9]+");
-        Matcher matcher = pattern.matcher(str);
-        StringBuilder result = new StringBuilder();
-        while (matcher.find()) {
-            String word = matcher.group();
-            if (result.length() > 0) {
-                result.append(" ");
-            }
-            result.append(word.toUpperCase());
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            Pattern pattern = Pattern.compile("[a-zA-Z0-9]+");
+            Matcher matcher = pattern.matcher(str);
+            StringBuilder result = new StringBuilder();
+            while (matcher.find()) {
+                String word = matcher.group();
+                if (result.length() > 0) {
+                    result.append(" ");
+                }
+                result.append(word.toUpperCase());
+            }
+            return result.toString();
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.upperCase", str);
         }
-        return result.toString();
     }
 
     /**
@@ -725,9 +864,18 @@ public static String upperCase(String str) {
      */
 
     public static String upperFirst(String str) {
-        if (!isValidString(str)) {
-            return "";
+        long startNanos = Metrics.start();
+        try {
+            if (!isValidString(str)) {
+                return "";
+            }
+            return baseUpperFirst(str);
+        } finally {
+            Metrics.stop(startNanos, "StringUtils.upperFirst", str);
         }
+    }
+
+    private static String baseUpperFirst(String str) {
         char firstChar = Character.toUpperCase(str.charAt(0));
         return firstChar + str.substring(1);
     }
@@ -0,0 +1,376 @@
+package io.javadash;
+
+import static io.javadash.core.Validate.isEmpty;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Zero-copy variants of the {@code CollectionUtils} slicing methods, obtained from {@link CollectionUtils#views()}.
+ *
+ * <p>Each method returns a read-only {@link RandomAccess} view in O(1): an offset/length window, a reversed index
+ * mapping or a concatenation of several lists. Nothing is copied, so a view reflects later changes to its source and
+ * every mutator throws {@link UnsupportedOperationException}. Views split exactly for parallel streams: their
+ * spliterators are {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+ *
+ * <p>Inputs that are not {@link RandomAccess} lists (a {@code LinkedList}, a {@code Set}, ...) are copied once, since
+ * indexing them is not O(1). Copy the view with {@code new ArrayList<>(view)} when it must outlive changes to its
+ * source.
+ *
+ * <pre>{@code
+ *      List<Row> rows = ...; // 500k rows
+ *      List<Row> page = CollectionUtils.views().slice(rows, 1000, 1050);
+ *      // => the 50 rows of the page, without copying rows
+ * }</pre>
+ */
+public final class Views {
+    static final Views INSTANCE = new Views();
+
+    private Views() {
+    }
+
+    /**
+     * A view of collection without its first {@code n} elements, like {@link CollectionUtils#drop}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param n          The number of elements to drop, none when negative.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> drop(Collection<? extends T> collection, int n) {
+        List<? extends T> list = randomAccess(collection);
+        return window(list, Math.max(n, 0), list.size());
+    }
+
+    /**
+     * A view of collection without its last {@code n} elements, like {@link CollectionUtils#dropRight}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param n          The number of elements to drop, none when negative.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> dropRight(Collection<? extends T> collection, int n) {
+        List<? extends T> list = randomAccess(collection);
+        return window(list, 0, list.size() - Math.max(n, 0));
+    }
+
+    /**
+     * A view of the first {@code n} elements of collection, like {@link CollectionUtils#take}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param n          The number of elements to take, none when negative.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> take(Collection<? extends T> collection, int n) {
+        return window(randomAccess(collection), 0, n);
+    }
+
+    /**
+     * A view of the last {@code n} elements of collection, like {@link CollectionUtils#takeRight}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param n          The number of elements to take, none when negative.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> takeRight(Collection<? extends T> collection, int n) {
+        List<? extends T> list = randomAccess(collection);
+        return n < 0 ? Collections.emptyList() : window(list, list.size() - n, list.size());
+    }
+
+    /**
+     * A view of collection from {@code start} to its end, like {@link CollectionUtils#slice(Collection, int)}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param start      The start index, inclusive.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> slice(Collection<? extends T> collection, int start) {
+        List<? extends T> list = randomAccess(collection);
+        return window(list, start, list.size());
+    }
+
+    /**
+     * A view of collection from {@code start} up to, but not including, {@code end}, like
+     * {@link CollectionUtils#slice(Collection, int, int)}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @param start      The start index, inclusive.
+     * @param end        The end index, exclusive.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> slice(Collection<? extends T> collection, int start, int end) {
+        return window(randomAccess(collection), start, end);
+    }
+
+    /**
+     * A view of all but the last element of collection, like {@link CollectionUtils#initial}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> initial(Collection<? extends T> collection) {
+        return dropRight(collection, 1);
+    }
+
+    /**
+     * A view of all but the first element of collection, like {@link CollectionUtils#tail}.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> tail(Collection<? extends T> collection) {
+        return drop(collection, 1);
+    }
+
+    /**
+     * A view of collection in reverse order, like {@link CollectionUtils#reverse}.
+     *
+     * <pre>{@code
+     *      CollectionUtils.views().reverse(Arrays.asList(1, 2, 3));
+     *      // => [3, 2, 1]
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to view.
+     * @return Returns the read-only view.
+     */
+    public <T> List<T> reverse(Collection<? extends T> collection) {
+        List<? extends T> list = randomAccess(collection);
+        return list.isEmpty() ? Collections.emptyList() : new ReversedView<>(list);
+    }
+
+    /**
+     * A view of collection followed by each of values, like {@link CollectionUtils#concat}. {@code null} collections
+     * are skipped; unlike {@code CollectionUtils.concat}, {@code null} elements are kept, since filtering them would
+     * need a copy. The number of elements of each part is fixed when the view is created.
+     *
+     * <pre>{@code
+     *      CollectionUtils.views().concat(Arrays.asList(1), Arrays.asList(2, 3), null, Arrays.asList(4));
+     *      // => [1, 2, 3, 4]
+     * }</pre>
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param collection The first collection.
+     * @param values     The collections to append.
+     * @return Returns the read-only view.
+     */
+    @SafeVarargs
+    public final <T> List<T> concat(Collection<? extends T> collection, Collection<? extends T>... values) {
+        List<List<? extends T>> parts = new ArrayList<>();
+        if (!isEmpty(collection)) {
+            parts.add(randomAccess(collection));
+        }
+        if (values != null) {
+            for (Collection<? extends T> value : values) {
+                if (!isEmpty(value)) {
+                    parts.add(randomAccess(value));
+                }
+            }
+        }
+        if (parts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return parts.size() == 1 ? unmodifiable(parts.get(0)) : new ConcatView<>(parts);
+    }
+
+    private static <T> List<? extends T> randomAccess(Collection<? extends T> collection) {
+        if (isEmpty(collection)) {
+            return Collections.emptyList();
+        }
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            return (List<? extends T>) collection;
+        }
+        return new ArrayList<>(collection);
+    }
+
+    private static <T> List<T> unmodifiable(List<? extends T> list) {
+        return new SliceView<>(list, 0, list.size());
+    }
+
+    /**
+     * A window over {@code [start, end)} clamped to the bounds of list.
+     */
+    private static <T> List<T> window(List<? extends T> list, int start, int end) {
+        int from = Math.min(Math.max(start, 0), list.size());
+        int to = Math.min(end, list.size());
+        if (to <= from) {
+            return Collections.emptyList();
+        }
+        if (list instanceof SliceView) {
+            SliceView<? extends T> slice = (SliceView<? extends T>) list;
+            return new SliceView<>(slice.list, slice.offset + from, to - from);
+        }
+        return new SliceView<>(list, from, to - from);
+    }
+
+    /**
+     * Base of every view: read-only, random access, with an index-based spliterator.
+     */
+    private abstract static class View<T> extends AbstractList<T> implements RandomAccess {
+        @Override
+        public Spliterator<T> spliterator() {
+            return new IndexSpliterator<>(this, 0, size());
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+            }
+            return new SliceView<>(this, fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    private static final class SliceView<T> extends View<T> {
+        private final List<? extends T> list;
+        private final int offset;
+        private final int length;
+
+        SliceView(List<? extends T> list, int offset, int length) {
+            this.list = list;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+            return list.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+            }
+            return new SliceView<>(list, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    private static final class ReversedView<T> extends View<T> {
+        private final List<? extends T> list;
+
+        ReversedView(List<? extends T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            int size = list.size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return list.get(size - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    private static final class ConcatView<T> extends View<T> {
+        private final List<? extends T>[] parts;
+        private final int[] ends;
+
+        @SuppressWarnings("unchecked")
+        ConcatView(List<List<? extends T>> parts) {
+            this.parts = parts.toArray(new List[0]);
+            this.ends = new int[this.parts.length];
+            int end = 0;
+            for (int i = 0; i < this.parts.length; i++) {
+                end += this.parts[i].size();
+                ends[i] = end;
+            }
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            int part = Arrays.binarySearch(ends, index);
+            part = part < 0 ? -part - 1 : part + 1;
+            return parts[part].get(part == 0 ? index : index - ends[part - 1]);
+        }
+
+        @Override
+        public int size() {
+            return ends[ends.length - 1];
+        }
+    }
+
+    /**
+     * Splits a view by index ranges, so each half knows its exact size.
+     */
+    private static final class IndexSpliterator<T> implements Spliterator<T> {
+        private final List<T> list;
+        private int index;
+        private final int fence;
+
+        IndexSpliterator(List<T> list, int origin, int fence) {
+            this.list = list;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(list.get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = index; i < fence; i++) {
+                action.accept(list.get(i));
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new IndexSpliterator<>(list, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
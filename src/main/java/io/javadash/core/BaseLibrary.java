@@ -25,22 +25,31 @@
 import static io.javadash.core.Constant.LATIN_EXT_A_C;
 import static io.javadash.core.Constant.LATIN_EXT_A_C_LOW;
 
+import io.javadash.metrics.ComplexityGuard;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BaseLibrary {
     public static final Pattern reLatin =
@@ -67,6 +76,7 @@ public static <T> List<T> baseDifference(Collection<? extends T> source, Collect
         Objects.requireNonNull(source);
         Objects.requireNonNull(target);
         Objects.requireNonNull(comparator);
+        ComplexityGuard.check("baseDifference", source.size(), target.size());
         return source.stream().filter(Objects::nonNull).filter(srcElement -> target.stream().filter(Objects::nonNull)
             .noneMatch(targetElement -> comparator.test(srcElement, targetElement))).collect(Collectors.toList());
     }
@@ -94,6 +104,232 @@ private static <T> List<T> baseDifference(List<T> list1, List<T> list2, Function
         return result;
     }
 
+    /**
+     * Removes from source every element found in any of exclusions, keeping the first occurrence of each remaining
+     * element in source order. The exclusions are hashed once into a single set that also records the elements already
+     * kept, so source is streamed once with one lookup per element, whatever the number of exclusions.
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param source     The collection to inspect.
+     * @param exclusions The collections to exclude, {@code null} entries are skipped.
+     * @param filter     When not {@code null}, only the non-null elements it accepts are read from every collection,
+     *                   as {@link #baseList}.
+     * @return A new list of the distinct elements of source found in no exclusion.
+     */
+    public static <T> List<T> baseDifferenceAll(Collection<? extends T> source, Collection<? extends T>[] exclusions,
+                                                Predicate<T> filter) {
+        return baseDifferenceAll(source, exclusions, filter, Function.identity());
+    }
+
+    /**
+     * Like {@link #baseDifferenceAll(Collection, Collection[], Predicate)}, comparing the keys computed once per
+     * element instead of the elements themselves.
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param source     The collection to inspect.
+     * @param exclusions The collections to exclude, {@code null} entries are skipped.
+     * @param filter     When not {@code null}, only the non-null elements it accepts are read from every collection.
+     * @param key        The function computing the hashed key of each element.
+     * @return A new list of the elements of source with distinct keys found in no exclusion.
+     */
+    public static <T> List<T> baseDifferenceAll(Collection<? extends T> source, Collection<? extends T>[] exclusions,
+                                                Predicate<T> filter, Function<? super T, ?> key) {
+        int expected = source.size();
+        for (Collection<? extends T> exclusion : exclusions) {
+            if (exclusion != null) {
+                expected += exclusion.size();
+            }
+        }
+        Set<Object> excluded = new HashSet<>(Math.max((int) (expected / .75f) + 1, 16));
+        for (Collection<? extends T> exclusion : exclusions) {
+            if (exclusion != null) {
+                for (T element : exclusion) {
+                    if (accepts(filter, element)) {
+                        excluded.add(key.apply(element));
+                    }
+                }
+            }
+        }
+        List<T> result = new ArrayList<>();
+        for (T element : source) {
+            if (accepts(filter, element) && excluded.add(key.apply(element))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the distinct elements of source found in every one of others, in source order. The smallest of others is
+     * hashed first and bounds the candidates; each larger collection is then streamed once, marking the candidates it
+     * contains, and the work stops as soon as no candidate is left.
+     *
+     * @param <T>    The type of elements in the collections.
+     * @param source The collection to inspect.
+     * @param others The collections to intersect with, none {@code null}.
+     * @param filter When not {@code null}, only the non-null elements it accepts are read from every collection, as
+     *               {@link #baseList}.
+     * @return A new list of the distinct elements of source found in all of others.
+     */
+    public static <T> List<T> baseIntersectionAll(Collection<? extends T> source, Collection<? extends T>[] others,
+                                                  Predicate<T> filter) {
+        return baseIntersectionAll(source, others, filter, Function.identity());
+    }
+
+    /**
+     * Like {@link #baseIntersectionAll(Collection, Collection[], Predicate)}, comparing the keys computed once per
+     * element instead of the elements themselves.
+     *
+     * @param <T>    The type of elements in the collections.
+     * @param source The collection to inspect.
+     * @param others The collections to intersect with, none {@code null}.
+     * @param filter When not {@code null}, only the non-null elements it accepts are read from every collection.
+     * @param key    The function computing the hashed key of each element.
+     * @return A new list of the elements of source with distinct keys found in all of others.
+     */
+    public static <T> List<T> baseIntersectionAll(Collection<? extends T> source, Collection<? extends T>[] others,
+                                                  Predicate<T> filter, Function<? super T, ?> key) {
+        List<Collection<? extends T>> bySize = new ArrayList<>(Arrays.asList(others));
+        bySize.sort(Comparator.comparingInt(Collection::size));
+        Set<Object> allowed = new HashSet<>();
+        for (T element : bySize.get(0)) {
+            if (accepts(filter, element)) {
+                allowed.add(key.apply(element));
+            }
+        }
+        Map<Object, KeyedEntry<T>> candidates = new LinkedHashMap<>();
+        for (T element : source) {
+            if (accepts(filter, element)) {
+                Object computed = key.apply(element);
+                if (allowed.contains(computed)) {
+                    candidates.putIfAbsent(computed, new KeyedEntry<>(element, 0));
+                }
+            }
+        }
+        for (int round = 1; round < bySize.size() && !candidates.isEmpty(); round++) {
+            int found = 0;
+            for (T element : bySize.get(round)) {
+                KeyedEntry<T> candidate = accepts(filter, element) ? candidates.get(key.apply(element)) : null;
+                if (candidate != null && candidate.mark < round) {
+                    candidate.mark = round;
+                    if (++found == candidates.size()) {
+                        break;
+                    }
+                }
+            }
+            int last = round;
+            candidates.values().removeIf(candidate -> candidate.mark < last);
+        }
+        List<T> result = new ArrayList<>(candidates.size());
+        for (KeyedEntry<T> candidate : candidates.values()) {
+            result.add(candidate.element);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the non-null elements of source that compare equal to none of exclusions, the first of each group of
+     * equal ones, in source order. The exclusions go into one tree set that also records the elements already kept,
+     * so the cost is O((n + m) log(n + m)) comparisons.
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param source     The collection to inspect.
+     * @param exclusions The collections to exclude, {@code null} entries are skipped.
+     * @param comparator The ordering whose {@code 0} means equal.
+     * @return A new list of the elements of source found in no exclusion.
+     */
+    public static <T> List<T> baseDifferenceOrdered(Collection<? extends T> source,
+                                                    Collection<? extends T>[] exclusions,
+                                                    Comparator<? super T> comparator) {
+        Set<T> excluded = new TreeSet<>(comparator);
+        for (Collection<? extends T> exclusion : exclusions) {
+            if (exclusion != null) {
+                for (T element : exclusion) {
+                    if (element != null) {
+                        excluded.add(element);
+                    }
+                }
+            }
+        }
+        List<T> result = new ArrayList<>();
+        for (T element : source) {
+            if (element != null && excluded.add(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the non-null elements of source that compare equal to an element of every one of others, the first of each
+     * group of equal ones, in source order. Works like {@link #baseIntersectionAll} with tree maps in place of hash
+     * tables, for O((n + m) log n) comparisons.
+     *
+     * @param <T>        The type of elements in the collections.
+     * @param source     The collection to inspect.
+     * @param others     The collections to intersect with, none {@code null}.
+     * @param comparator The ordering whose {@code 0} means equal.
+     * @return A new list of the elements of source found in all of others.
+     */
+    public static <T> List<T> baseIntersectionOrdered(Collection<? extends T> source, Collection<? extends T>[] others,
+                                                      Comparator<? super T> comparator) {
+        List<Collection<? extends T>> bySize = new ArrayList<>(Arrays.asList(others));
+        bySize.sort(Comparator.comparingInt(Collection::size));
+        Set<T> allowed = new TreeSet<>(comparator);
+        for (T element : bySize.get(0)) {
+            if (element != null) {
+                allowed.add(element);
+            }
+        }
+        Map<T, KeyedEntry<T>> candidates = new TreeMap<>(comparator);
+        List<KeyedEntry<T>> inSourceOrder = new ArrayList<>();
+        for (T element : source) {
+            if (element != null && allowed.contains(element) && !candidates.containsKey(element)) {
+                KeyedEntry<T> candidate = new KeyedEntry<>(element, 0);
+                candidates.put(element, candidate);
+                inSourceOrder.add(candidate);
+            }
+        }
+        int rounds = bySize.size();
+        for (int round = 1; round < rounds && !candidates.isEmpty(); round++) {
+            for (T element : bySize.get(round)) {
+                KeyedEntry<T> candidate = element != null ? candidates.get(element) : null;
+                if (candidate != null) {
+                    candidate.mark = round;
+                }
+            }
+            int last = round;
+            candidates.values().removeIf(candidate -> candidate.mark < last);
+        }
+        List<T> result = new ArrayList<>(candidates.size());
+        for (KeyedEntry<T> candidate : inSourceOrder) {
+            if (candidate.mark == rounds - 1) {
+                result.add(candidate.element);
+            }
+        }
+        return result;
+    }
+
+    private static <T> boolean accepts(Predicate<T> filter, T element) {
+        return filter == null || (element != null && filter.test(element));
+    }
+
+    /**
+     * The first element seen for a key, with a mark: the last intersection round that found it, or the list the xor
+     * saw it in ({@link #SHARED} once a second list holds it).
+     */
+    private static final class KeyedEntry<T> {
+        static final int SHARED = -1;
+
+        final T element;
+        int mark;
+
+        KeyedEntry(T element, int mark) {
+            this.element = element;
+            this.mark = mark;
+        }
+    }
+
     public static <T> List<T> baseIntersection(Collection<? extends T> source, Collection<? extends T> target) {
         Objects.requireNonNull(source);
         Objects.requireNonNull(target);
@@ -107,6 +343,7 @@ public static <T> List<T> baseIntersection(Collection<? extends T> source, Colle
         Objects.requireNonNull(source);
         Objects.requireNonNull(target);
         Objects.requireNonNull(comparator);
+        ComplexityGuard.check("baseIntersection", source.size(), target.size());
         return source.stream().filter(Objects::nonNull).filter(srcElement -> target.stream().filter(Objects::nonNull)
             .anyMatch(targetElement -> comparator.test(srcElement, targetElement))).collect(Collectors.toList());
     }
@@ -176,11 +413,11 @@ public static <T> List<T> baseFlatten(Collection<? extends T>... arrays) {
      * The base implementation of uniqBy which uses the iteratee function to determine uniqueness.
      *
      * @param <T>      The type of elements in the list.
-     * @param list     The list to inspect.
+     * @param list     The elements to inspect, iterated once.
      * @param iteratee The iteratee function that generates the criterion for uniqueness.
      * @return A list with unique values based on the iteratee's result.
      */
-    public static <T> List<T> baseUniq(Collection<? extends T> list, Function<T, ?> iteratee) {
+    public static <T> List<T> baseUniq(Iterable<? extends T> list, Function<T, ?> iteratee) {
         Set<Object> seen = new HashSet<>();  // Set to track already seen criterion
         List<T> result = new ArrayList<>();
         for (T value : list) {
@@ -201,6 +438,7 @@ public static <T> List<T> baseUniq(Collection<? extends T> list, Function<T, ?>
      * @return A list with unique values based on the comparator.
      */
     public static <T> List<T> baseUniq(Collection<? extends T> list, BiPredicate<T, T> comparator) {
+        ComplexityGuard.check("baseUniq", list.size(), list.size());
         List<T> result = new ArrayList<>();
         for (T value : list) {
             boolean isUnique = true;
@@ -217,6 +455,26 @@ public static <T> List<T> baseUniq(Collection<? extends T> list, BiPredicate<T,
         return result;
     }
 
+    /**
+     * Helper method to create a list with the first of each group of elements the comparator finds equal, in their
+     * original order, using a tree set: O(n log n) comparisons.
+     *
+     * @param <T>        The type of elements in the list.
+     * @param list       The list to check.
+     * @param comparator The ordering whose {@code 0} means equal, given {@code null} elements as they are.
+     * @return A list with unique values based on the comparator.
+     */
+    public static <T> List<T> baseUniqOrdered(Collection<? extends T> list, Comparator<? super T> comparator) {
+        Set<T> seen = new TreeSet<>(comparator);
+        List<T> result = new ArrayList<>();
+        for (T value : list) {
+            if (seen.add(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
     /**
      * Helper method that calculates the symmetric difference of an array of lists.
      *
@@ -224,60 +482,43 @@ public static <T> List<T> baseUniq(Collection<? extends T> list, BiPredicate<T,
      * @param arrays The lists to inspect.
      * @return A list containing the symmetric difference.
      */
-    @SuppressWarnings("unchecked")
-    public static <T> List<T> baseXor(List<Collection<? extends T>> arrays) {
-        int length = arrays.size();
-        if (length < 2) {
-            return length > 0 ? new ArrayList<>(new HashSet<>(arrays.get(0))) : new ArrayList<>();
-        }
-        Set<T> resultSet = new HashSet<>();
-        for (int i = 0; i < length; i++) {
-            List<T> array = (List<T>) arrays.get(i);
-            Set<T> arraySet = new HashSet<>(array);
-            for (int j = 0; j < length; j++) {
-                if (i != j) {
-                    List<T> otherArray = (List<T>) arrays.get(j);
-                    Set<T> otherSet = new HashSet<>(otherArray);
-                    arraySet.removeAll(otherSet); // Remove elements in 'otherSet' from 'arraySet'
-                }
-            }
-            resultSet.addAll(arraySet); // Add the remaining unique elements to the result set
-        }
-        return new ArrayList<>(resultSet); // Return the result as a List
+    public static <T> List<T> baseXor(Iterable<? extends Iterable<? extends T>> arrays) {
+        return baseXorBy(arrays, Function.identity());
     }
 
     /**
-     * Helper method that calculates the symmetric difference of an array of lists with an iteratee.
+     * Helper method that calculates the symmetric difference of an array of lists with an iteratee, in a single pass.
+     * Each key is counted once per list that holds it, however often it repeats there, and the iteratee is called once
+     * per element. The first element seen for every key held by exactly one list is returned, in first-seen order.
      *
      * @param <T>      The type of elements in the list.
-     * @param arrays   The lists to inspect.
+     * @param arrays   The lists to inspect, {@code null} lists are skipped.
      * @param iteratee The function to transform each element before comparison.
      * @return A list containing the symmetric difference.
      */
-    @SuppressWarnings("unchecked")
-    public static <T> List<T> baseXorBy(List<Collection<? extends T>> arrays, Function<T, ?> iteratee) {
-        int length = arrays.size();
-        if (length < 2) {
-            return length > 0 ? baseUniq(arrays.get(0), iteratee) : new ArrayList<>();
-        }
-        Map<Object, Integer> frequencyMap = new HashMap<>();
-        Set<Object> seenKeys = new HashSet<>();
-        for (int i = 0; i < length; i++) {
-            List<T> array = (List<T>) arrays.get(i);
+    public static <T> List<T> baseXorBy(Iterable<? extends Iterable<? extends T>> arrays,
+                                        Function<? super T, ?> iteratee) {
+        Map<Object, KeyedEntry<T>> entries = new LinkedHashMap<>();
+        int index = 0;
+        for (Iterable<? extends T> array : arrays) {
+            if (array == null) {
+                continue;
+            }
             for (T element : array) {
                 Object key = iteratee.apply(element);
-                frequencyMap.put(key, frequencyMap.getOrDefault(key, 0) + 1);
-                seenKeys.add(key);
+                KeyedEntry<T> entry = entries.get(key);
+                if (entry == null) {
+                    entries.put(key, new KeyedEntry<>(element, index));
+                } else if (entry.mark != index) {
+                    entry.mark = KeyedEntry.SHARED;
+                }
             }
+            index++;
         }
         List<T> result = new ArrayList<>();
-        for (int i = 0; i < length; i++) {
-            List<T> array = (List<T>) arrays.get(i);
-            for (T element : array) {
-                Object key = iteratee.apply(element);
-                if (frequencyMap.get(key) == 1) {
-                    result.add(element);
-                }
+        for (KeyedEntry<T> entry : entries.values()) {
+            if (entry.mark != KeyedEntry.SHARED) {
+                result.add(entry.element);
             }
         }
         return result;
@@ -292,6 +533,13 @@ public static <T> List<T> baseXorBy(List<Collection<? extends T>> arrays, Functi
      * @return A list containing the symmetric difference.
      */
     public static <T> List<T> baseXorWith(List<Collection<? extends T>> arrays, BiPredicate<T, T> comparator) {
+        if (ComplexityGuard.getMode() != ComplexityGuard.Mode.OFF) {
+            long total = 0;
+            for (Collection<? extends T> array : arrays) {
+                total += array.size();
+            }
+            ComplexityGuard.check("baseXorWith", total, total);
+        }
         List<T> result = new ArrayList<>();
         for (Collection<? extends T> array : arrays) {
             for (T element : array) {
@@ -480,6 +728,19 @@ public static int charsEndIndex(char[] strSymbols, char[] chrSymbols) {
         return end;
     }
 
+    /**
+     * Creates a sequential stream that pulls the elements of iterable one at a time, so an iterable that can only be
+     * iterated once is consumed in a single pass.
+     *
+     * @param <T>      The type of elements.
+     * @param iterable The elements to stream.
+     * @return A sequential stream over iterable.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> baseStream(Iterable<? extends T> iterable) {
+        return StreamSupport.stream((Spliterator<T>) iterable.spliterator(), false);
+    }
+
     /**
      * Creates a math operation that handles null values by returning a default value.
      *
@@ -0,0 +1,217 @@
+package io.javadash.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Keeps the first {@code k} of the values offered to it in a given order, shared by the {@code topBy} and
+ * {@code bottomBy} methods of {@code CollectionUtils} and {@code ParallelCollectionUtils}.
+ *
+ * <p>The values are held in a binary heap whose root is the worst value kept, so each offer is O(log k) and a value
+ * that does not beat the root costs one comparison. Ties are broken by arrival: of two equal values the one offered
+ * first ranks first, which makes the result the same as a stable sort followed by taking {@code k}. {@code null}
+ * values are ignored. The heap grows with the values kept, so a large {@code k} over a short input stays small.
+ *
+ * @param <T> The type of the values.
+ */
+public final class BoundedHeap<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int limit;
+    private final Comparator<? super T> order;
+    private final ToDoubleFunction<? super T> key;
+    private final boolean descending;
+    private Object[] values;
+    private double[] keys;
+    private long[] arrivals;
+    private int size;
+    private long offered;
+
+    private BoundedHeap(int limit, Comparator<? super T> order, ToDoubleFunction<? super T> key,
+                        boolean descending) {
+        this.limit = Math.max(limit, 0);
+        this.order = order;
+        this.key = key;
+        this.descending = descending;
+        int capacity = Math.min(this.limit, INITIAL_CAPACITY);
+        this.values = new Object[capacity];
+        this.keys = key == null ? null : new double[capacity];
+        this.arrivals = new long[capacity];
+    }
+
+    /**
+     * Creates a heap keeping the first {@code limit} values in order.
+     *
+     * @param <T>   The type of the values.
+     * @param limit The number of values to keep, none when less than 1.
+     * @param order The order to rank the values by.
+     * @return Returns the empty heap.
+     */
+    public static <T> BoundedHeap<T> ordered(int limit, Comparator<? super T> order) {
+        return new BoundedHeap<>(limit, order, null, false);
+    }
+
+    /**
+     * Creates a heap keeping the {@code limit} values with the smallest keys, or the largest when descending. Each
+     * key is computed once, when its value is offered, and compared as {@link Double#compare} does.
+     *
+     * @param <T>        The type of the values.
+     * @param limit      The number of values to keep, none when less than 1.
+     * @param key        The function computing the key of a value.
+     * @param descending Whether larger keys rank first.
+     * @return Returns the empty heap.
+     */
+    public static <T> BoundedHeap<T> byKey(int limit, ToDoubleFunction<? super T> key, boolean descending) {
+        return new BoundedHeap<>(limit, null, key, descending);
+    }
+
+    /**
+     * Offers a value, keeping it if it ranks among the first {@code limit} offered so far.
+     *
+     * @param value The value to offer, ignored when {@code null}.
+     */
+    public void offer(T value) {
+        if (value == null || limit == 0) {
+            return;
+        }
+        offer(value, key == null ? 0 : key.applyAsDouble(value), offered++);
+    }
+
+    /**
+     * Offers every value kept by a heap of the same order whose values were all offered after the values of this
+     * one, as when the heaps of consecutive chunks of an input are merged left to right.
+     *
+     * @param later The heap to merge into this one, left unchanged.
+     * @return Returns this heap.
+     */
+    public BoundedHeap<T> offerAll(BoundedHeap<T> later) {
+        if (limit == 0) {
+            return this;
+        }
+        Integer[] byArrival = new Integer[later.size];
+        for (int i = 0; i < byArrival.length; i++) {
+            byArrival[i] = i;
+        }
+        Arrays.sort(byArrival, Comparator.comparingLong(i -> later.arrivals[i]));
+        for (int i : byArrival) {
+            offer(later.value(i), later.keys == null ? 0 : later.keys[i], offered++);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the values kept, first ranked first.
+     *
+     * @return Returns the new sorted list of at most {@code limit} values.
+     */
+    public List<T> toList() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        Integer[] ranked = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ranked[i] = i;
+        }
+        Arrays.sort(ranked, this::compare);
+        List<T> result = new ArrayList<>(size);
+        for (int i : ranked) {
+            result.add(value(i));
+        }
+        return result;
+    }
+
+    private void offer(T value, double valueKey, long arrival) {
+        if (size < limit) {
+            if (size == values.length) {
+                int capacity = (int) Math.min((long) limit, Math.max(INITIAL_CAPACITY, 2L * size));
+                values = Arrays.copyOf(values, capacity);
+                arrivals = Arrays.copyOf(arrivals, capacity);
+                if (keys != null) {
+                    keys = Arrays.copyOf(keys, capacity);
+                }
+            }
+            set(size, value, valueKey, arrival);
+            siftUp(size++);
+        } else if (rank(value, valueKey, 0) < 0) {
+            // a later arrival never beats an equal root, so only strictly better values get in
+            set(0, value, valueKey, arrival);
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(index, parent) <= 0) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && compare(child + 1, child) > 0) {
+                child++;
+            }
+            if (compare(child, index) <= 0) {
+                return;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    /**
+     * Compares two kept values by rank, ties by arrival: the root of the heap is the greatest.
+     */
+    private int compare(int a, int b) {
+        int result = rank(value(a), keys == null ? 0 : keys[a], b);
+        return result != 0 ? result : Long.compare(arrivals[a], arrivals[b]);
+    }
+
+    /**
+     * Compares a value with the kept value at index by rank alone.
+     */
+    private int rank(T value, double valueKey, int index) {
+        if (keys == null) {
+            return order.compare(value, value(index));
+        }
+        int result = Double.compare(valueKey, keys[index]);
+        return descending ? -result : result;
+    }
+
+    private void set(int index, T value, double valueKey, long arrival) {
+        values[index] = value;
+        arrivals[index] = arrival;
+        if (keys != null) {
+            keys[index] = valueKey;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        long arrival = arrivals[a];
+        arrivals[a] = arrivals[b];
+        arrivals[b] = arrival;
+        if (keys != null) {
+            double valueKey = keys[a];
+            keys[a] = keys[b];
+            keys[b] = valueKey;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int index) {
+        return (T) values[index];
+    }
+}
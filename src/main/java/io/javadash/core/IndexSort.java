@@ -0,0 +1,296 @@
+package io.javadash.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable sorts of element indices, for sorts that compare keys extracted into columns instead of the elements
+ * themselves, as the multi-key {@code CollectionUtils.orderBy} and {@code orderByInt}, {@code orderByLong} and
+ * {@code orderByString} do.
+ *
+ * <p>The indices are an {@code int[]} permutation, so no index is boxed and ties keep ascending index order.
+ * {@link #sort} is a top-down merge sort with insertion sort for short runs; ranges of at least the parallel
+ * threshold are split on the common {@link ForkJoinPool}, like {@link java.util.Arrays#parallelSort}, whose object
+ * variant would need the indices boxed. The {@code radixSort} methods never compare keys: {@code int} and
+ * {@code long} keys are sorted least significant byte first, skipping the bytes all keys share, and strings most
+ * significant byte first, in the order of {@link String#compareTo}.
+ */
+public final class IndexSort {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int RADIX = 256;
+
+    private IndexSort() {
+    }
+
+    /**
+     * Compares two elements given by index.
+     */
+    @FunctionalInterface
+    public interface IndexComparator {
+        /**
+         * Compares the elements at two indices.
+         *
+         * @param a The index of the first element.
+         * @param b The index of the second element.
+         * @return Returns a negative number, zero or a positive number as the first element sorts before, with or
+         *     after the second.
+         */
+        int compare(int a, int b);
+    }
+
+    /**
+     * Returns the indices {@code 0} to {@code size - 1} in the order of comparator, equal elements in index order.
+     *
+     * @param size              The number of elements.
+     * @param comparator        The order of the elements, called concurrently above the threshold.
+     * @param parallelThreshold The length from which a range is sorted in parallel.
+     * @return Returns the new sorted permutation.
+     */
+    public static int[] sort(int size, IndexComparator comparator, int parallelThreshold) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        if (size >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new SortTask(order, buffer, 0, size, comparator,
+                Math.max(parallelThreshold, INSERTION_SORT_THRESHOLD)));
+        } else {
+            mergeSort(order, buffer, 0, size, comparator);
+        }
+        return order;
+    }
+
+    /**
+     * Returns the indices of keys in ascending key order, equal keys in index order.
+     *
+     * @param keys The keys to sort, left unchanged.
+     * @return Returns the new sorted permutation.
+     */
+    public static int[] radixSort(int[] keys) {
+        long[] unsigned = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            unsigned[i] = (keys[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+        return lsdRadixSort(unsigned);
+    }
+
+    /**
+     * Returns the indices of keys in ascending key order, equal keys in index order.
+     *
+     * @param keys The keys to sort, left unchanged.
+     * @return Returns the new sorted permutation.
+     */
+    public static int[] radixSort(long[] keys) {
+        long[] unsigned = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            unsigned[i] = keys[i] ^ Long.MIN_VALUE;
+        }
+        return lsdRadixSort(unsigned);
+    }
+
+    /**
+     * Returns the indices of keys in the order of {@link String#compareTo}, {@code null} keys last and equal keys in
+     * index order.
+     *
+     * @param keys The keys to sort, left unchanged.
+     * @return Returns the new sorted permutation.
+     */
+    public static int[] radixSort(String[] keys) {
+        int size = keys.length;
+        int[] order = new int[size];
+        int nonNull = 0;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != null) {
+                order[nonNull++] = i;
+            }
+        }
+        for (int i = 0, nulls = nonNull; i < size; i++) {
+            if (keys[i] == null) {
+                order[nulls++] = i;
+            }
+        }
+        msdRadixSort(keys, order, new int[nonNull], 0, nonNull, 0);
+        return order;
+    }
+
+    /**
+     * Sorts by keys already mapped so that their unsigned order is the wanted order, one byte per pass. The counts of
+     * every byte are taken in a single read, and a pass whose byte is the same for all keys is skipped, so keys that
+     * share their high bytes, such as timestamps of one day, take only the passes their low bytes need.
+     */
+    private static int[] lsdRadixSort(long[] keys) {
+        int size = keys.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (size < 2) {
+            return order;
+        }
+        int[][] counts = new int[Long.BYTES][RADIX + 1];
+        for (long key : keys) {
+            for (int pass = 0; pass < Long.BYTES; pass++) {
+                counts[pass][(int) (key >>> (pass * Byte.SIZE)) & 0xFF]++;
+            }
+        }
+        long[] keyBuffer = new long[size];
+        int[] orderBuffer = new int[size];
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * Byte.SIZE;
+            if (count[(int) (keys[0] >>> shift) & 0xFF] == size) {
+                continue;
+            }
+            for (int digit = 0, start = 0; digit < RADIX; digit++) {
+                int next = start + count[digit];
+                count[digit] = start;
+                start = next;
+            }
+            for (int i = 0; i < size; i++) {
+                int target = count[(int) (keys[i] >>> shift) & 0xFF]++;
+                keyBuffer[target] = keys[i];
+                orderBuffer[target] = order[i];
+            }
+            long[] sortedKeys = keyBuffer;
+            keyBuffer = keys;
+            keys = sortedKeys;
+            int[] sortedOrder = orderBuffer;
+            orderBuffer = order;
+            order = sortedOrder;
+        }
+        return order;
+    }
+
+    /**
+     * Sorts {@code order[from, to)} by the bytes of the keys from {@code digit} on, each char read as its high byte
+     * then its low byte. Keys that end sort before all others. Only the buckets other than the largest are sorted
+     * recursively, each holding at most half of the range, and the largest continues in the loop, so the stack stays
+     * O(log n) deep however long the prefixes the keys share.
+     */
+    private static void msdRadixSort(String[] keys, int[] order, int[] buffer, int from, int to, int digit) {
+        int[] count = new int[RADIX + 2];
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            Arrays.fill(count, 0);
+            for (int i = from; i < to; i++) {
+                count[byteAt(keys[order[i]], digit) + 2]++;
+            }
+            int same = byteAt(keys[order[from]], digit);
+            if (count[same + 2] == to - from) {
+                if (same < 0) {
+                    return;
+                }
+                digit++;
+                continue;
+            }
+            for (int bucket = 1; bucket < count.length; bucket++) {
+                count[bucket] += count[bucket - 1];
+            }
+            for (int i = from; i < to; i++) {
+                buffer[from + count[byteAt(keys[order[i]], digit) + 1]++] = order[i];
+            }
+            System.arraycopy(buffer, from, order, from, to - from);
+            // count[b + 1] is now the end of bucket b, and the keys that ended at this digit are done
+            int largest = 0;
+            for (int bucket = 1; bucket < RADIX; bucket++) {
+                if (count[bucket + 1] - count[bucket] > count[largest + 1] - count[largest]) {
+                    largest = bucket;
+                }
+            }
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int start = from + count[bucket];
+                int end = from + count[bucket + 1];
+                if (bucket != largest && end - start > 1) {
+                    msdRadixSort(keys, order, buffer, start, end, digit + 1);
+                }
+            }
+            int start = from + count[largest];
+            to = from + count[largest + 1];
+            from = start;
+            digit++;
+        }
+        insertionSort(order, from, to, (a, b) -> keys[a].compareTo(keys[b]));
+    }
+
+    private static int byteAt(String key, int digit) {
+        int index = digit >>> 1;
+        if (index >= key.length()) {
+            return -1;
+        }
+        char c = key.charAt(index);
+        return (digit & 1) == 0 ? c >>> Byte.SIZE : c & 0xFF;
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(order, from, to, comparator);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, from, middle, comparator);
+        mergeSort(order, buffer, middle, to, comparator);
+        merge(order, buffer, from, middle, to, comparator);
+    }
+
+    private static void insertionSort(int[] order, int from, int to, IndexComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int index = order[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(order[j], index) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code [from, middle)} and {@code [middle, to)}, taking from the left run on ties.
+     */
+    private static void merge(int[] order, int[] buffer, int from, int middle, int to, IndexComparator comparator) {
+        if (comparator.compare(order[middle - 1], order[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, middle - from);
+        int left = from;
+        int right = middle;
+        int out = from;
+        while (left < middle && right < to) {
+            order[out++] = comparator.compare(order[right], buffer[left]) < 0 ? order[right++] : buffer[left++];
+        }
+        System.arraycopy(buffer, left, order, out, middle - left);
+    }
+
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] order;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final transient IndexComparator comparator;
+        private final int threshold;
+
+        SortTask(int[] order, int[] buffer, int from, int to, IndexComparator comparator, int threshold) {
+            this.order = order;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < threshold) {
+                mergeSort(order, buffer, from, to, comparator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(order, buffer, from, middle, comparator, threshold),
+                new SortTask(order, buffer, middle, to, comparator, threshold));
+            merge(order, buffer, from, middle, to, comparator);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.javadash.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Index-based access shared by the positional {@code CollectionUtils} methods ({@code indexOf}, {@code lastIndexOf},
+ * {@code nth}, {@code findIndex}, {@code findLastIndex}, {@code zip}, {@code unzip}, ...).
+ *
+ * <p>Every method is linear and never copies its input: {@link RandomAccess} lists are read with {@code get(i)},
+ * other lists with a {@link ListIterator}, and any other collection with a single forward iteration.
+ */
+public class Positional {
+
+    /**
+     * Finds the first index at or after {@code fromIndex} whose element matches.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to scan.
+     * @param predicate  The function invoked per element, including {@code null} ones.
+     * @param fromIndex  The index to start at, clamped to {@code 0}.
+     * @return Returns the index of the first match, else {@code -1}.
+     */
+    public static <T> int indexOf(Collection<? extends T> collection, Predicate<? super T> predicate, int fromIndex) {
+        int start = Math.max(fromIndex, 0);
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<? extends T> list = (List<? extends T>) collection;
+            for (int i = start, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int index = 0;
+        for (T element : collection) {
+            if (index >= start && predicate.test(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last index at or before {@code fromIndex} whose element matches, scanning right to left.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to scan.
+     * @param predicate  The function invoked per element, including {@code null} ones.
+     * @param fromIndex  The index to start at, clamped to the last index.
+     * @return Returns the index of the last match, else {@code -1}.
+     */
+    public static <T> int lastIndexOf(Collection<? extends T> collection, Predicate<? super T> predicate,
+                                      int fromIndex) {
+        int start = Math.min(fromIndex, collection.size() - 1);
+        if (start < 0) {
+            return -1;
+        }
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<? extends T> list = (List<? extends T>) collection;
+            for (int i = start; i >= 0; i--) {
+                if (predicate.test(list.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (collection instanceof List) {
+            ListIterator<? extends T> iterator = ((List<? extends T>) collection).listIterator(start + 1);
+            while (iterator.hasPrevious()) {
+                int index = iterator.previousIndex();
+                if (predicate.test(iterator.previous())) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+        int lastIndex = -1;
+        int index = 0;
+        for (T element : collection) {
+            if (index > start) {
+                break;
+            }
+            if (predicate.test(element)) {
+                lastIndex = index;
+            }
+            index++;
+        }
+        return lastIndex;
+    }
+
+    /**
+     * Gets the element at {@code index} of any collection, in iteration order.
+     *
+     * @param <T>        The type of elements in the collection.
+     * @param collection The collection to read.
+     * @param index      The index, which must be within bounds.
+     * @return Returns the element at the index.
+     */
+    public static <T> T get(Collection<? extends T> collection, int index) {
+        if (collection instanceof List) {
+            return ((List<? extends T>) collection).get(index);
+        }
+        Iterator<? extends T> iterator = collection.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Regroups collections by position: row {@code i} holds the {@code i}-th element of each collection, or
+     * {@code null} where a collection is {@code null} or shorter than {@code i + 1}. Each collection is iterated once.
+     *
+     * @param <T>         The type of elements in the collections.
+     * @param collections The collections to regroup.
+     * @param length      The number of rows to build.
+     * @return Returns the list of {@code length} rows.
+     */
+    public static <T> List<List<T>> transpose(Collection<? extends Collection<? extends T>> collections, int length) {
+        List<Iterator<? extends T>> iterators = new ArrayList<>(collections.size());
+        for (Collection<? extends T> collection : collections) {
+            iterators.add(collection != null ? collection.iterator() : null);
+        }
+        List<List<T>> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            List<T> row = new ArrayList<>(iterators.size());
+            for (Iterator<? extends T> iterator : iterators) {
+                row.add(iterator != null && iterator.hasNext() ? iterator.next() : null);
+            }
+            result.add(row);
+        }
+        return result;
+    }
+}
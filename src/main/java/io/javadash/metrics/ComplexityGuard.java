@@ -0,0 +1,165 @@
+package io.javadash.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Debug mode that reports calls into the O(n·m) code paths ({@code baseUniq}, {@code baseXorWith},
+ * {@code baseDifference} and {@code baseIntersection} with a {@code BiPredicate}, {@code pullAllWith}) whose
+ * estimated work exceeds a threshold. The {@code *With} overloads that take an {@link io.javadash.Equivalence} hash
+ * instead and are never reported.
+ *
+ * <p>Off by default. Turn it on in staging with system properties, or programmatically:
+ * <ul>
+ * <li>{@code javadash.complexityGuard.mode}: {@code off}, {@code log} (a warning on the
+ * {@code io.javadash.complexity} logger) or {@code throw} (a {@link ComplexityGuardException}).</li>
+ * <li>{@code javadash.complexityGuard.maxWork}: the default threshold, in element comparisons.</li>
+ * <li>{@code javadash.complexityGuard.maxWork.<operation>}: a threshold for one operation, e.g.
+ * {@code javadash.complexityGuard.maxWork.pullAllWith}.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ *      ComplexityGuard.setMode(ComplexityGuard.Mode.THROW);
+ *      CollectionUtils.uniqWith(fiftyThousandRows, Row::sameKey);
+ *      // => ComplexityGuardException: baseUniq on 50000 x 50000 elements (~2500000000 comparisons, limit
+ *      //    10000000) called from com.acme.Import.run(Import.java:42)
+ * }</pre>
+ */
+public final class ComplexityGuard {
+    /**
+     * The default threshold: ten million comparisons, roughly 3,000 x 3,000 elements.
+     */
+    public static final long DEFAULT_MAX_WORK = 10_000_000L;
+
+    private static final Logger LOGGER = Logger.getLogger("io.javadash.complexity");
+    private static final String PROPERTY = "javadash.complexityGuard";
+    private static final Map<String, Long> MAX_WORK_BY_OPERATION = new ConcurrentHashMap<>();
+
+    private static volatile Mode mode = Mode.parse(System.getProperty(PROPERTY + ".mode"));
+    private static volatile long maxWork = Long.getLong(PROPERTY + ".maxWork", DEFAULT_MAX_WORK);
+
+    private ComplexityGuard() {
+    }
+
+    /**
+     * What the guard does when a threshold is exceeded.
+     */
+    public enum Mode {
+        OFF, LOG, THROW;
+
+        /**
+         * Parses the value of the {@code javadash.complexityGuard.mode} property, ignoring case. An unknown value
+         * turns the guard off with a warning rather than failing the initialization of the guard.
+         *
+         * @param value The mode name, may be {@code null}.
+         * @return Returns the mode, {@link #OFF} when value is {@code null}, empty or unknown.
+         */
+        public static Mode parse(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return OFF;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warning(() -> "Unknown " + PROPERTY + ".mode '" + value + "', the complexity guard is off");
+                return OFF;
+            }
+        }
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    public static void setMode(Mode guardMode) {
+        mode = guardMode == null ? Mode.OFF : guardMode;
+    }
+
+    /**
+     * Sets the threshold used by operations without their own.
+     *
+     * @param work The maximum estimated work, in element comparisons.
+     */
+    public static void setMaxWork(long work) {
+        maxWork = work;
+    }
+
+    /**
+     * Sets the threshold of a single operation, overriding the default one.
+     *
+     * @param operation The operation, e.g. {@code "pullAllWith"}.
+     * @param work      The maximum estimated work, in element comparisons.
+     */
+    public static void setMaxWork(String operation, long work) {
+        MAX_WORK_BY_OPERATION.put(operation, work);
+    }
+
+    /**
+     * Removes every per-operation threshold set through {@link #setMaxWork(String, long)}.
+     */
+    public static void clearOperationLimits() {
+        MAX_WORK_BY_OPERATION.clear();
+    }
+
+    /**
+     * Reports a call into a quadratic code path that compares each of {@code n} elements against up to {@code m}
+     * others. Does nothing while the guard is {@link Mode#OFF}.
+     *
+     * @param operation The operation, used in the report and to look up its threshold.
+     * @param n         The size of the scanned input.
+     * @param m         The size of the input scanned per element of the first one.
+     * @throws ComplexityGuardException in {@link Mode#THROW} mode when the estimated work exceeds the threshold.
+     */
+    public static void check(String operation, long n, long m) {
+        Mode current = mode;
+        if (current == Mode.OFF) {
+            return;
+        }
+        long work = n > 0 && m > Long.MAX_VALUE / n ? Long.MAX_VALUE : n * m;
+        long limit = limitOf(operation);
+        if (work <= limit) {
+            return;
+        }
+        String message = operation + " on " + n + " x " + m + " elements (~" + work + " comparisons, limit " + limit
+            + ") called from " + callSite();
+        ComplexityGuardException exception = new ComplexityGuardException(message, operation, work);
+        if (current == Mode.THROW) {
+            throw exception;
+        }
+        LOGGER.log(Level.WARNING, message, exception);
+    }
+
+    private static long limitOf(String operation) {
+        Long limit = MAX_WORK_BY_OPERATION.get(operation);
+        if (limit == null) {
+            limit = Long.getLong(PROPERTY + ".maxWork." + operation);
+        }
+        return limit != null ? limit : maxWork;
+    }
+
+    /**
+     * Finds the first stack frame outside javadash and the JDK, i.e. the caller's code.
+     */
+    private static String callSite() {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            if (!isLibraryFrame(frame.getClassName())) {
+                return frame.toString();
+            }
+        }
+        return "unknown";
+    }
+
+    private static boolean isLibraryFrame(String className) {
+        if (className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")) {
+            return true;
+        }
+        if (!className.startsWith("io.javadash.")) {
+            return false;
+        }
+        String rest = className.substring("io.javadash.".length());
+        return rest.indexOf('.') < 0 || rest.startsWith("core.") || rest.startsWith("metrics.");
+    }
+}
@@ -0,0 +1,26 @@
+package io.javadash.metrics;
+
+/**
+ * Thrown by {@link ComplexityGuard} in {@link ComplexityGuard.Mode#THROW} mode when a quadratic code path receives
+ * inputs above its threshold.
+ */
+public class ComplexityGuardException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final String operation;
+    private final long estimatedWork;
+
+    public ComplexityGuardException(String message, String operation, long estimatedWork) {
+        super(message);
+        this.operation = operation;
+        this.estimatedWork = estimatedWork;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getEstimatedWork() {
+        return estimatedWork;
+    }
+}
@@ -0,0 +1,29 @@
+package io.javadash.metrics;
+
+/**
+ * Emits Java Flight Recorder events for slow or large calls. JFR's event API only exists from JDK 11, so this Java 8
+ * version does nothing; the multi-release jar ships the real one under {@code META-INF/versions/11}.
+ */
+final class FlightRecorderEvents {
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Whether this runtime can emit events.
+     *
+     * @return Returns {@code false} before JDK 11.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Emits an event for a call if it exceeds the configured duration or input size.
+     *
+     * @param method       The called method, e.g. {@code "CollectionUtils.groupBy"}.
+     * @param inputSize    The size of the primary input of the call.
+     * @param elapsedNanos The duration of the call.
+     */
+    static void commit(String method, long inputSize, long elapsedNanos) {
+    }
+}
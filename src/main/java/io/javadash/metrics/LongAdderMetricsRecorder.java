@@ -0,0 +1,48 @@
+package io.javadash.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The default {@link MetricsRecorder}: keeps a {@link MethodMetrics} per method in memory.
+ *
+ * <pre>{@code
+ *      // run with -Djavadash.metrics.enabled=true
+ *      CollectionUtils.groupBy(orders, Order::getCustomer);
+ *      LongAdderMetricsRecorder recorder = (LongAdderMetricsRecorder) Metrics.getRecorder();
+ *      recorder.snapshot().get("CollectionUtils.groupBy").getCalls();
+ *      // => 1
+ * }</pre>
+ */
+public class LongAdderMetricsRecorder implements MetricsRecorder {
+    private final ConcurrentMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String method, long inputSize, long elapsedNanos) {
+        MethodMetrics metrics = methods.get(method);
+        if (metrics == null) {
+            metrics = methods.computeIfAbsent(method, MethodMetrics::new);
+        }
+        metrics.record(inputSize, elapsedNanos);
+    }
+
+    /**
+     * Returns the metrics of every method called so far. The {@link MethodMetrics} are live, so keep the map to
+     * watch them change.
+     *
+     * @return Returns an unmodifiable map from method name to its metrics, sorted by name.
+     */
+    public Map<String, MethodMetrics> snapshot() {
+        return Collections.unmodifiableMap(new TreeMap<>(methods));
+    }
+
+    /**
+     * Resets the counters of every method to zero.
+     */
+    public void reset() {
+        methods.values().forEach(MethodMetrics::reset);
+    }
+}
@@ -0,0 +1,102 @@
+package io.javadash.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for a single method: call count, total and maximum latency, and a power-of-two histogram of input sizes.
+ *
+ * <p>All counters are striped ({@link LongAdder}, {@link LongAccumulator}), so concurrent callers do not contend on a
+ * single cache line. Reads are not atomic across counters, which is fine for monitoring.
+ */
+public final class MethodMetrics {
+    /**
+     * Number of histogram buckets. Bucket {@code 0} counts empty inputs and bucket {@code i} counts sizes in
+     * {@code [2^(i-1), 2^i)}.
+     */
+    public static final int BUCKETS = 64;
+
+    private final String method;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] sizeHistogram = new LongAdder[BUCKETS];
+
+    MethodMetrics(String method) {
+        this.method = method;
+        for (int i = 0; i < BUCKETS; i++) {
+            sizeHistogram[i] = new LongAdder();
+        }
+    }
+
+    void record(long inputSize, long elapsedNanos) {
+        calls.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        sizeHistogram[bucketOf(inputSize)].increment();
+    }
+
+    /**
+     * Finds the histogram bucket of an input size.
+     *
+     * @param inputSize The input size.
+     * @return Returns the bucket index, {@code 0} for empty (or negative) sizes.
+     */
+    public static int bucketOf(long inputSize) {
+        return inputSize <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(inputSize));
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Computes the mean latency.
+     *
+     * @return Returns the mean latency in nanoseconds, or {@code 0} if the method was never called.
+     */
+    public double getMeanNanos() {
+        long count = calls.sum();
+        return count == 0 ? 0.0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Copies the input-size histogram, see {@link #bucketOf(long)} for the bucket layout.
+     *
+     * @return Returns the number of calls per bucket.
+     */
+    public long[] getSizeHistogram() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = sizeHistogram[i].sum();
+        }
+        return result;
+    }
+
+    void reset() {
+        calls.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : sizeHistogram) {
+            bucket.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return method + "{calls=" + getCalls() + ", meanNanos=" + Math.round(getMeanNanos()) + ", maxNanos="
+            + getMaxNanos() + "}";
+    }
+}
@@ -0,0 +1,167 @@
+package io.javadash.metrics;
+
+import io.javadash.primitive.Column;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point of the opt-in metrics SPI. Every public static method of {@code CollectionUtils}, {@code StringUtils},
+ * {@code NumberUtils} and {@code ObjectUtils} reports its call count, input size and latency here.
+ *
+ * <p>Metrics are off unless the JVM starts with {@code -Djavadash.metrics.enabled=true}. The flag is read once into a
+ * {@code static final} field, so when it is off the JIT folds {@link #start()} and {@link #stop} away and the
+ * instrumented methods cost the same as uninstrumented ones.
+ *
+ * <p>Calls are sent to the {@link MetricsRecorder} registered through {@link ServiceLoader} (looked up only when
+ * metrics are enabled), or to a {@link LongAdderMetricsRecorder} if none is registered.
+ * {@link #setRecorder(MetricsRecorder)} replaces it.
+ *
+ * <p>Independently, {@code -Djavadash.jfr.enabled=true} emits a Java Flight Recorder event
+ * ({@code io.javadash.Operation}) for every call above {@code javadash.jfr.thresholdMillis} (10 ms) or
+ * {@code javadash.jfr.minInputSize} (1,000,000 elements). The event is committed when the call returns, so the duration
+ * of the call is its {@code elapsed} field, not its JFR duration. Events need JDK 11 or later; on Java 8 the flag has
+ * no effect.
+ */
+public final class Metrics {
+    /**
+     * Whether instrumentation is active, from the {@code javadash.metrics.enabled} system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("javadash.metrics.enabled");
+
+    /**
+     * Whether JFR events are emitted, from the {@code javadash.jfr.enabled} system property.
+     */
+    public static final boolean FLIGHT_RECORDER_ENABLED =
+        Boolean.getBoolean("javadash.jfr.enabled") && FlightRecorderEvents.isSupported();
+
+    private static final boolean ACTIVE = ENABLED || FLIGHT_RECORDER_ENABLED;
+
+    private static volatile MetricsRecorder recorder = ENABLED ? loadRecorder() : new LongAdderMetricsRecorder();
+
+    private Metrics() {
+    }
+
+    /**
+     * Marks the start of an instrumented call.
+     *
+     * @return Returns the current {@link System#nanoTime()}, or {@code 0} when metrics and JFR events are disabled.
+     */
+    public static long start() {
+        return ACTIVE ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Marks the end of an instrumented call and reports it to the recorder and to JFR.
+     *
+     * @param startNanos The value returned by {@link #start()}.
+     * @param method     The called method, e.g. {@code "CollectionUtils.groupBy"}.
+     * @param input      The primary input of the call, measured with {@link #sizeOf(Object)}.
+     */
+    public static void stop(long startNanos, String method, Object input) {
+        if (ACTIVE) {
+            stop(startNanos, method, sizeOf(input));
+        }
+    }
+
+    /**
+     * Marks the end of an instrumented call whose input size was taken with {@link #inputSize(Object)} before the
+     * call changed it, e.g. {@code CollectionUtils.pull}.
+     *
+     * @param startNanos The value returned by {@link #start()}.
+     * @param method     The called method, e.g. {@code "CollectionUtils.pull"}.
+     * @param inputSize  The size of the input before the call.
+     */
+    public static void stop(long startNanos, String method, long inputSize) {
+        if (ACTIVE) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (ENABLED) {
+                recorder.record(method, inputSize, elapsedNanos);
+            }
+            if (FLIGHT_RECORDER_ENABLED) {
+                FlightRecorderEvents.commit(method, inputSize, elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * Measures the input of an instrumented call that changes it, before the call runs, for
+     * {@link #stop(long, String, long)}.
+     *
+     * @param input The primary input of the call, measured with {@link #sizeOf(Object)}.
+     * @return Returns the size of the input, or {@code 0} when metrics and JFR events are disabled.
+     */
+    public static long inputSize(Object input) {
+        return ACTIVE ? sizeOf(input) : 0L;
+    }
+
+    public static MetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Replaces the recorder that receives every instrumented call.
+     *
+     * @param metricsRecorder The new recorder.
+     */
+    public static void setRecorder(MetricsRecorder metricsRecorder) {
+        recorder = Objects.requireNonNull(metricsRecorder);
+    }
+
+    /**
+     * Measures an input: elements of a {@link Collection}, {@link Map} or {@link Column}, chars of a
+     * {@link CharSequence}, and for an array the total size of its non-null elements when they are all collections
+     * (varargs of collections), else its length.
+     *
+     * <pre>{@code
+     *      Metrics.sizeOf(Arrays.asList(1, 2, 3));                              // => 3
+     *      Metrics.sizeOf("abc");                                               // => 3
+     *      Metrics.sizeOf(new List[]{Arrays.asList(1, 2), Arrays.asList(3)});   // => 3
+     *      Metrics.sizeOf(42);                                                  // => 0
+     * }</pre>
+     *
+     * @param input The input to measure, may be {@code null}.
+     * @return Returns the size of the input, {@code 0} for {@code null} or unsized values.
+     */
+    public static long sizeOf(Object input) {
+        if (input instanceof Collection) {
+            return ((Collection<?>) input).size();
+        }
+        if (input instanceof Map) {
+            return ((Map<?, ?>) input).size();
+        }
+        if (input instanceof Column) {
+            Column column = (Column) input;
+            return column.isClosed() ? 0 : column.size();
+        }
+        if (input instanceof CharSequence) {
+            return ((CharSequence) input).length();
+        }
+        if (input instanceof Object[]) {
+            Object[] array = (Object[]) input;
+            long total = 0;
+            for (Object element : array) {
+                if (element == null) {
+                    continue;
+                }
+                if (!(element instanceof Collection)) {
+                    return array.length;
+                }
+                total += ((Collection<?>) element).size();
+            }
+            return total;
+        }
+        if (input != null && input.getClass().isArray()) {
+            return Array.getLength(input);
+        }
+        return 0;
+    }
+
+    private static MetricsRecorder loadRecorder() {
+        Iterator<MetricsRecorder> loaded = ServiceLoader.load(MetricsRecorder.class).iterator();
+        return loaded.hasNext() ? loaded.next() : new LongAdderMetricsRecorder();
+    }
+}
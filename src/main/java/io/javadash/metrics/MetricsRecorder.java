@@ -0,0 +1,20 @@
+package io.javadash.metrics;
+
+/**
+ * Receives one callback per instrumented javadash call while metrics are enabled.
+ *
+ * <p>Implementations are called on the caller's thread, from every thread that uses javadash, so they must be
+ * thread-safe and cheap. Register one with {@link Metrics#setRecorder(MetricsRecorder)} or through
+ * {@link java.util.ServiceLoader} by listing it in {@code META-INF/services/io.javadash.metrics.MetricsRecorder}.
+ */
+public interface MetricsRecorder {
+    /**
+     * Records a completed call.
+     *
+     * @param method       The called method, e.g. {@code "CollectionUtils.groupBy"}.
+     * @param inputSize    The size of the primary input: elements of a collection or map, chars of a string,
+     *                     elements of an array; {@code 0} when the method has no sized input.
+     * @param elapsedNanos The wall-clock duration of the call in nanoseconds.
+     */
+    void record(String method, long inputSize, long elapsedNanos);
+}
@@ -0,0 +1,442 @@
+package io.javadash.primitive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Bloom filter: a compact bit set that answers "definitely absent" or "maybe present" for values added with
+ * {@link #put}, so a membership test against a set too large for a {@code HashSet} only needs an exact lookup for the
+ * values that may be in it.
+ *
+ * <p>The filter is sized from the expected number of values and the wanted false-positive rate: about 9.6 bits per
+ * value for 1%, 14.4 for 0.1%, against 30 to 50 bytes per boxed value in a {@code HashSet}. It never reports a value
+ * that was added as absent. Each value is hashed once to 64 bits and the bit positions are derived from that hash
+ * (double hashing), so {@link #hash} decides the quality of the filter: numbers and character sequences get a full
+ * 64-bit hash; other objects only have the 32 bits of their {@code hashCode}, which adds about
+ * {@code size / 2^32} to the false-positive rate. Pass a hasher for such values.
+ *
+ * <p>The bits are kept on the heap or, with the off-heap option, in direct buffers released by {@link #close()} as
+ * for a {@link Column}. Filters are reused across calls and saved with {@link #writeTo(Path)}. Instances are not
+ * thread-safe, but once built a filter can be queried by several threads.
+ *
+ * <pre>{@code
+ *      try (BloomFilter<Long> seen = BloomFilter.create(200_000_000L, 0.01, BloomFilter::hash, true)) {
+ *          historicalIds.forEach(seen::put);
+ *          seen.writeTo(Paths.get("historical.bloom"));
+ *          CollectionUtils.differenceFiltered(todayIds, seen, historicalStore::contains);
+ *          // => the IDs of today not in the store, looked up only when the filter may hold them
+ *      }
+ * }</pre>
+ *
+ * @param <T> The type of the values added.
+ */
+public final class BloomFilter<T> implements AutoCloseable {
+    private static final int MAGIC = 0x4A44_4246;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+    private static final int MAX_HASH_FUNCTIONS = 30;
+    private static final int SEGMENT_SHIFT = LongColumn.SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    private static final int COPY_WORDS = 8192;
+    private static final double LN2 = Math.log(2);
+
+    private final ToLongFunction<? super T> hasher;
+    private final int hashFunctions;
+    private final long bitSize;
+    private final boolean offHeap;
+    private ByteBuffer[] buffers;
+    private LongBuffer[] segments;
+    private boolean closed;
+
+    private BloomFilter(long bitSize, int hashFunctions, ToLongFunction<? super T> hasher, boolean offHeap) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.hasher = hasher;
+        this.offHeap = offHeap;
+        long words = bitSize >>> 6;
+        int count = (int) ((words + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        buffers = new ByteBuffer[offHeap ? count : 0];
+        segments = new LongBuffer[count];
+        for (int s = 0; s < count; s++) {
+            int length = (int) Math.min(words - ((long) s << SEGMENT_SHIFT), 1 << SEGMENT_SHIFT);
+            if (offHeap) {
+                buffers[s] = DirectMemory.allocate(length * Long.BYTES);
+                segments[s] = buffers[s].asLongBuffer();
+            } else {
+                segments[s] = LongBuffer.wrap(new long[length]);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty filter on the heap, hashing values with {@link #hash}.
+     *
+     * @param <T>                The type of the values added.
+     * @param expectedInsertions The number of values expected to be added.
+     * @param falsePositiveRate  The wanted rate of absent values reported as present, within {@code (0, 1)}.
+     * @return Returns the new filter.
+     * @throws IllegalArgumentException If an argument is out of range.
+     */
+    public static <T> BloomFilter<T> create(long expectedInsertions, double falsePositiveRate) {
+        return create(expectedInsertions, falsePositiveRate, BloomFilter::hash, false);
+    }
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param <T>                The type of the values added.
+     * @param expectedInsertions The number of values expected to be added.
+     * @param falsePositiveRate  The wanted rate of absent values reported as present, within {@code (0, 1)}.
+     * @param hasher             The 64-bit hash of a value, which must spread its bits well.
+     * @param offHeap            Whether the bits live in direct memory, released by {@link #close()}.
+     * @return Returns the new filter.
+     * @throws IllegalArgumentException If an argument is out of range.
+     */
+    public static <T> BloomFilter<T> create(long expectedInsertions, double falsePositiveRate,
+                                            ToLongFunction<? super T> hasher, boolean offHeap) {
+        Objects.requireNonNull(hasher);
+        if (expectedInsertions < 0) {
+            throw new IllegalArgumentException("expectedInsertions must not be negative: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be within (0, 1): " + falsePositiveRate);
+        }
+        long insertions = Math.max(expectedInsertions, 1);
+        double bits = Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        if (bits > (double) (Integer.MAX_VALUE - 1L) * Long.SIZE) {
+            throw new IllegalArgumentException("A filter for " + expectedInsertions + " values at "
+                + falsePositiveRate + " is too large");
+        }
+        long bitSize = Math.max(((long) bits + 63) & ~63L, Long.SIZE);
+        long optimal = Math.round((double) bitSize / insertions * LN2);
+        int hashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, optimal));
+        return new BloomFilter<>(bitSize, hashFunctions, hasher, offHeap);
+    }
+
+    /**
+     * The default hasher: a 64-bit hash of integral numbers by value (so {@code 5}, {@code 5L} and {@code (short) 5}
+     * agree), of character sequences by content, and of other objects from their {@code hashCode}, all finished with
+     * the SplitMix64 mixer.
+     *
+     * @param value The value to hash, may be {@code null}.
+     * @return Returns the hash.
+     */
+    public static long hash(Object value) {
+        if (value == null) {
+            return mix(0x9E3779B97F4A7C15L);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        }
+        if (value instanceof CharSequence) {
+            CharSequence chars = (CharSequence) value;
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0, length = chars.length(); i < length; i++) {
+                hash = (hash ^ chars.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(hash ^ chars.length());
+        }
+        return mix(value.hashCode());
+    }
+
+    /**
+     * Adds value to the filter.
+     *
+     * @param value The value to add, may be {@code null}.
+     * @return Returns {@code true} if a bit changed, so the value was certainly not added before.
+     */
+    public boolean put(T value) {
+        ensureOpen();
+        long hash1 = hasher.applyAsLong(value);
+        long hash2 = mix(hash1) | 1;
+        boolean changed = false;
+        long combined = hash1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            LongBuffer segment = segments[(int) (bit >>> (6 + SEGMENT_SHIFT))];
+            int word = (int) (bit >>> 6) & SEGMENT_MASK;
+            long current = segment.get(word);
+            long updated = current | (1L << bit);
+            if (updated != current) {
+                segment.put(word, updated);
+                changed = true;
+            }
+            combined += hash2;
+        }
+        return changed;
+    }
+
+    /**
+     * Adds every value to the filter.
+     *
+     * @param values The values to add, nothing when {@code null}.
+     * @return Returns this filter.
+     */
+    public BloomFilter<T> putAll(Iterable<? extends T> values) {
+        ensureOpen();
+        if (values != null) {
+            for (T value : values) {
+                put(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Checks whether value may have been added. {@code false} is certain; {@code true} is wrong for about
+     * {@link #expectedFalsePositiveRate()} of the values never added.
+     *
+     * @param value The value to check, may be {@code null}.
+     * @return Returns {@code false} if value was certainly never added, else {@code true}.
+     */
+    public boolean mightContain(T value) {
+        ensureOpen();
+        long hash1 = hasher.applyAsLong(value);
+        long hash2 = mix(hash1) | 1;
+        long combined = hash1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            if ((segments[(int) (bit >>> (6 + SEGMENT_SHIFT))].get((int) (bit >>> 6) & SEGMENT_MASK)
+                & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of bits of the filter, a multiple of 64.
+     *
+     * @return Returns the bit size.
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Gets the number of bits set and tested per value.
+     *
+     * @return Returns the number of hash functions.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Gets the false-positive rate for the values added so far, from the share of bits set. It exceeds the rate the
+     * filter was created for once more values than expected were added.
+     *
+     * @return Returns the expected false-positive rate.
+     */
+    public double expectedFalsePositiveRate() {
+        ensureOpen();
+        long set = 0;
+        for (LongBuffer segment : segments) {
+            for (int i = 0, length = segment.capacity(); i < length; i++) {
+                set += Long.bitCount(segment.get(i));
+            }
+        }
+        return Math.pow((double) set / bitSize, hashFunctions);
+    }
+
+    /**
+     * Checks if the bits live in direct memory.
+     *
+     * @return Returns {@code true} if the filter is off-heap, else {@code false}.
+     */
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Checks if {@link #close()} was called.
+     *
+     * @return Returns {@code true} if the filter is closed, else {@code false}.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Writes the filter to out, which is left open: a header with the number of hash functions and the bit size,
+     * then the bits as little-endian {@code long} words. The hasher is not written.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ensureOpen();
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer chunk = ByteBuffer.allocate(COPY_WORDS * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.putInt(MAGIC).putInt(VERSION).putInt(hashFunctions).putLong(bitSize);
+        ((Buffer) chunk).flip();
+        writeFully(channel, chunk);
+        for (LongBuffer segment : segments) {
+            LongBuffer source = segment.duplicate();
+            ((Buffer) source).clear();
+            while (source.hasRemaining()) {
+                int count = Math.min(source.remaining(), COPY_WORDS);
+                ((Buffer) chunk).clear();
+                LongBuffer words = chunk.asLongBuffer();
+                LongBuffer slice = source.slice();
+                ((Buffer) slice).limit(count);
+                words.put(slice);
+                ((Buffer) source).position(source.position() + count);
+                ((Buffer) chunk).limit(count * Long.BYTES);
+                writeFully(channel, chunk);
+            }
+        }
+    }
+
+    /**
+     * Writes the filter to a file, replacing it; see {@link #writeTo(OutputStream)}.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeTo(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(Path)} onto the heap, hashing values with {@link #hash}.
+     *
+     * @param <T>  The type of the values added.
+     * @param path The file to read.
+     * @return Returns the filter.
+     * @throws IOException If the file cannot be read or does not hold a filter.
+     */
+    public static <T> BloomFilter<T> readFrom(Path path) throws IOException {
+        return readFrom(path, BloomFilter::hash, false);
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(Path)}.
+     *
+     * @param <T>     The type of the values added.
+     * @param path    The file to read.
+     * @param hasher  The hasher the filter was built with.
+     * @param offHeap Whether the bits live in direct memory, released by {@link #close()}.
+     * @return Returns the filter.
+     * @throws IOException If the file cannot be read or does not hold a filter.
+     */
+    public static <T> BloomFilter<T> readFrom(Path path, ToLongFunction<? super T> hasher, boolean offHeap)
+        throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return readFrom(in, hasher, offHeap);
+        }
+    }
+
+    /**
+     * Reads a filter written by {@link #writeTo(OutputStream)} from in, which is left open.
+     *
+     * @param <T>     The type of the values added.
+     * @param in      The stream to read.
+     * @param hasher  The hasher the filter was built with.
+     * @param offHeap Whether the bits live in direct memory, released by {@link #close()}.
+     * @return Returns the filter.
+     * @throws IOException If the stream cannot be read or does not hold a filter.
+     */
+    public static <T> BloomFilter<T> readFrom(InputStream in, ToLongFunction<? super T> hasher, boolean offHeap)
+        throws IOException {
+        Objects.requireNonNull(hasher);
+        ReadableByteChannel channel = Channels.newChannel(in);
+        ByteBuffer chunk = ByteBuffer.allocate(COPY_WORDS * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ((Buffer) chunk).limit(HEADER_BYTES);
+        readFully(channel, chunk);
+        ((Buffer) chunk).flip();
+        int magic = chunk.getInt();
+        int version = chunk.getInt();
+        int hashFunctions = chunk.getInt();
+        long bitSize = chunk.getLong();
+        if (magic != MAGIC || version != VERSION || hashFunctions < 1 || hashFunctions > MAX_HASH_FUNCTIONS
+            || bitSize < Long.SIZE || (bitSize & 63) != 0 || bitSize >>> 6 > Integer.MAX_VALUE - 1L) {
+            throw new IOException("Not a Bloom filter written by BloomFilter.writeTo");
+        }
+        BloomFilter<T> filter = new BloomFilter<>(bitSize, hashFunctions, hasher, offHeap);
+        try {
+            for (LongBuffer segment : filter.segments) {
+                int position = 0;
+                while (position < segment.capacity()) {
+                    int count = Math.min(segment.capacity() - position, COPY_WORDS);
+                    ((Buffer) chunk).clear().limit(count * Long.BYTES);
+                    readFully(channel, chunk);
+                    ((Buffer) chunk).flip();
+                    LongBuffer words = chunk.asLongBuffer();
+                    for (int i = 0; i < count; i++) {
+                        segment.put(position + i, words.get(i));
+                    }
+                    position += count;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            filter.close();
+            throw e;
+        }
+        return filter;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer buffer : buffers) {
+            DirectMemory.free(buffer);
+        }
+        buffers = new ByteBuffer[0];
+        segments = new LongBuffer[0];
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter[bits=" + bitSize + ", hashFunctions=" + hashFunctions + (offHeap ? ", offHeap" : "")
+            + (closed ? ", closed]" : "]");
+    }
+
+    /**
+     * The SplitMix64 finalizer, which spreads every input bit over the whole result.
+     */
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Truncated Bloom filter");
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Bloom filter is closed");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.javadash.primitive;
+
+/**
+ * A sequence of primitive values stored outside the Java heap, with an explicit lifecycle.
+ *
+ * <p>A column owns direct memory from creation until {@link #close()}, which releases it at once instead of waiting for
+ * the garbage collector. Any access after {@code close} throws {@link IllegalStateException}. Use columns in a
+ * try-with-resources block:
+ *
+ * <pre>{@code
+ *      try (DoubleColumn prices = new DoubleColumn(100_000_000L)) {
+ *          ... // append values
+ *          NumberUtils.meanOf(prices);
+ *      }
+ * }</pre>
+ */
+public interface Column extends AutoCloseable {
+
+    /**
+     * Gets the number of values in the column, which may exceed {@link Integer#MAX_VALUE}.
+     *
+     * @return Returns the size.
+     */
+    long size();
+
+    /**
+     * Checks if {@link #close()} was called.
+     *
+     * @return Returns {@code true} if the column is closed, else {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Releases the memory of the column. Calling it again has no effect.
+     */
+    @Override
+    void close();
+}
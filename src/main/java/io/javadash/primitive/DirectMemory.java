@@ -0,0 +1,65 @@
+package io.javadash.primitive;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocates and frees the direct buffers behind the columns of this package.
+ *
+ * <p>There is no public API to free a direct buffer before Java 21, so {@link #free} goes through
+ * {@code sun.misc.Unsafe.invokeCleaner} on Java 9+ and the buffer's {@code cleaner()} on Java 8, both looked up once
+ * by reflection. When neither is reachable the memory is left to the garbage collector, as for any direct buffer.
+ */
+final class DirectMemory {
+    private static final Deallocator DEALLOCATOR = loadDeallocator();
+
+    private DirectMemory() {
+    }
+
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    static void free(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect()) {
+            try {
+                DEALLOCATOR.free(buffer);
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // left to the garbage collector
+            }
+        }
+    }
+
+    private interface Deallocator {
+        void free(ByteBuffer buffer) throws ReflectiveOperationException;
+    }
+
+    private static Deallocator loadDeallocator() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException notJava9) {
+            // fall through to the Java 8 cleaner
+        }
+        try {
+            Method cleanerMethod = allocate(1).getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    clean.invoke(cleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException unsupported) {
+            return buffer -> {
+            };
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package io.javadash.primitive;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A growable list of {@code double} values backed by a {@code double[]}, the primitive counterpart of a
+ * {@code List<Double>}.
+ *
+ * <p>Elements are stored unboxed, at 8 bytes each instead of a reference to a 24-byte {@code Double}, and every
+ * aggregation ({@link #sum()}, {@link #min()}, {@link #max()}, {@link #mean()}, {@link #uniq()}, {@link #sort()},
+ * {@link #indexOf(double)}, {@link #slice(int, int)}) runs over the array without boxing. An existing array can be
+ * adopted without copying with {@link #wrap(double[])}.
+ *
+ * <pre>{@code
+ *      double[] latencies = ...;
+ *      DoubleList list = DoubleList.wrap(latencies);
+ *      list.sum();
+ *      // => the total, without allocating
+ * }</pre>
+ *
+ * <p>Values are compared like {@link Double#equals}: {@code NaN} matches itself and {@code 0.0} does not match
+ * {@code -0.0}. {@link #sort()} uses the same total order as {@link Arrays#sort(double[])}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class DoubleList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY = {};
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public DoubleList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty list that can hold {@code initialCapacity} values before growing.
+     *
+     * @param initialCapacity The initial capacity.
+     * @throws IllegalArgumentException If initialCapacity is negative.
+     */
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    private DoubleList(double[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a list holding a copy of values.
+     *
+     * <pre>{@code
+     *      DoubleList.of(3, 1, 2);
+     *      // => [3.0, 1.0, 2.0]
+     * }</pre>
+     *
+     * @param values The values to copy.
+     * @return Returns the new list, empty when values is {@code null}.
+     */
+    public static DoubleList of(double... values) {
+        if (values == null || values.length == 0) {
+            return new DoubleList();
+        }
+        return new DoubleList(values.clone(), values.length);
+    }
+
+    /**
+     * Adopts array as the backing storage of a new list, without copying it. Writes through {@link #set} are visible
+     * in array, and the other way round, until the list outgrows array and moves to a larger one.
+     *
+     * @param array The array to wrap.
+     * @return Returns the list viewing the whole array.
+     * @throws NullPointerException If array is {@code null}.
+     */
+    public static DoubleList wrap(double[] array) {
+        Objects.requireNonNull(array, "array");
+        return new DoubleList(array, array.length);
+    }
+
+    /**
+     * Unboxes collection into a new list, skipping {@code null} elements like {@code NumberUtils.sumDouble}.
+     *
+     * @param collection The values to unbox.
+     * @return Returns the new list, empty when collection is {@code null}.
+     */
+    public static DoubleList from(Collection<? extends Double> collection) {
+        if (collection == null) {
+            return new DoubleList();
+        }
+        DoubleList list = new DoubleList(collection.size());
+        for (Double value : collection) {
+            if (value != null) {
+                list.add(value);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Gets the number of values in the list.
+     *
+     * @return Returns the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list holds no values.
+     *
+     * @return Returns {@code true} if the list is empty, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value at index.
+     *
+     * @param index The index of the value.
+     * @return Returns the value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at index.
+     *
+     * @param index The index of the value.
+     * @param value The new value.
+     * @return Returns the previous value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public double set(int index, double value) {
+        checkIndex(index);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Appends value to the end of the list, growing the backing array by half when it is full.
+     *
+     * @param value The value to append.
+     * @return Returns this list.
+     */
+    public DoubleList add(double value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        return this;
+    }
+
+    /**
+     * Appends values to the end of the list.
+     *
+     * @param values The values to append.
+     * @return Returns this list.
+     */
+    public DoubleList addAll(double... values) {
+        if (values != null) {
+            append(values, values.length);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the values of other to the end of the list.
+     *
+     * @param other The list to append.
+     * @return Returns this list.
+     */
+    public DoubleList addAll(DoubleList other) {
+        if (other != null) {
+            append(other.elements, other.size);
+        }
+        return this;
+    }
+
+    /**
+     * Removes every value, keeping the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sums the values with the compensated summation of {@link DoubleStream#sum()}, like
+     * {@code NumberUtils.sumDouble}.
+     *
+     * @return Returns the sum, {@code 0.0} when the list is empty.
+     */
+    public double sum() {
+        return stream().sum();
+    }
+
+    /**
+     * Finds the smallest value, or {@code NaN} if any value is {@code NaN}, like {@link DoubleStream#min()}.
+     *
+     * @return Returns the minimum, empty when the list is empty.
+     */
+    public OptionalDouble min() {
+        if (size == 0) {
+            return OptionalDouble.empty();
+        }
+        double min = elements[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return OptionalDouble.of(min);
+    }
+
+    /**
+     * Finds the largest value, or {@code NaN} if any value is {@code NaN}, like {@link DoubleStream#max()}.
+     *
+     * @return Returns the maximum, empty when the list is empty.
+     */
+    public OptionalDouble max() {
+        if (size == 0) {
+            return OptionalDouble.empty();
+        }
+        double max = elements[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return OptionalDouble.of(max);
+    }
+
+    /**
+     * Computes the arithmetic mean of the values.
+     *
+     * @return Returns the mean, empty when the list is empty.
+     */
+    public OptionalDouble mean() {
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum() / size);
+    }
+
+    /**
+     * Creates a duplicate-free copy of the list, in which only the first occurrence of each value is kept.
+     *
+     * <pre>{@code
+     *      DoubleList.of(2, 1, 2, 3, 1).uniq();
+     *      // => [2.0, 1.0, 3.0]
+     * }</pre>
+     *
+     * @return Returns the new duplicate-free list.
+     */
+    public DoubleList uniq() {
+        LongHashSet seen = new LongHashSet(size);
+        DoubleList result = new DoubleList(size);
+        for (int i = 0; i < size; i++) {
+            if (seen.add(Double.doubleToLongBits(elements[i]))) {
+                result.elements[result.size++] = elements[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the values in ascending order, in place.
+     *
+     * @return Returns this list.
+     */
+    public DoubleList sort() {
+        Arrays.sort(elements, 0, size);
+        return this;
+    }
+
+    /**
+     * Finds the index of the first occurrence of value.
+     *
+     * @param value The value to search for.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int indexOf(double value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Finds the index of the first occurrence of value at or after fromIndex.
+     *
+     * @param value     The value to search for.
+     * @param fromIndex The index to search from, clamped to {@code 0}.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int indexOf(double value, int fromIndex) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = Math.max(fromIndex, 0); i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last occurrence of value.
+     *
+     * @param value The value to search for.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int lastIndexOf(double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(elements[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if value is in the list.
+     *
+     * @param value The value to search for.
+     * @return Returns {@code true} if value is found, else {@code false}.
+     */
+    public boolean contains(double value) {
+        return indexOf(value, 0) >= 0;
+    }
+
+    /**
+     * Copies the values from start to the end of the list, like {@code CollectionUtils.slice}.
+     *
+     * @param start The start index, inclusive.
+     * @return Returns the new list.
+     */
+    public DoubleList slice(int start) {
+        return slice(start, size);
+    }
+
+    /**
+     * Copies the values from start up to, but not including, end, like {@code CollectionUtils.slice}. Both indexes
+     * are clamped to the bounds of the list.
+     *
+     * <pre>{@code
+     *      DoubleList.of(1, 2, 3, 4).slice(1, 3);
+     *      // => [2.0, 3.0]
+     * }</pre>
+     *
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return Returns the new list.
+     */
+    public DoubleList slice(int start, int end) {
+        int from = Math.min(Math.max(start, 0), size);
+        int to = Math.min(end, size);
+        if (to <= from) {
+            return new DoubleList();
+        }
+        return new DoubleList(Arrays.copyOfRange(elements, from, to), to - from);
+    }
+
+    /**
+     * Invokes action for each value, in order.
+     *
+     * @param action The function invoked per value.
+     */
+    public void forEach(DoubleConsumer action) {
+        Objects.requireNonNull(action, "action");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Creates a sequential stream over the values, without copying them.
+     *
+     * @return Returns the stream.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Copies the values into a new array of exactly {@link #size()} elements.
+     *
+     * @return Returns the new array.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DoubleList)) {
+            return false;
+        }
+        DoubleList other = (DoubleList) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(other.elements[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void append(double[] values, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (size + count > elements.length) {
+            grow(size + count);
+        }
+        System.arraycopy(values, 0, elements, size, count);
+        size += count;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int capacity = Math.max(elements.length + (elements.length >> 1), DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity));
+    }
+}
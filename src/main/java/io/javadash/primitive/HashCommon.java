@@ -0,0 +1,59 @@
+package io.javadash.primitive;
+
+/**
+ * Sizing and hashing shared by the open-addressing tables of this package.
+ */
+final class HashCommon {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private HashCommon() {
+    }
+
+    /**
+     * Spreads the bits of key so sequential values do not cluster under linear probing.
+     */
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Spreads the bits of key so sequential values do not cluster under linear probing.
+     */
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * The smallest power-of-two table that holds expectedSize keys without rehashing.
+     */
+    static int tableSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(Integer.highestOneBit((int) needed - 1) << 1, 4);
+    }
+
+    /**
+     * The number of keys a table of capacity holds before it must grow.
+     */
+    static int maxFill(int capacity) {
+        return Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    /**
+     * The next table size after capacity.
+     */
+    static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Table cannot hold more than " + maxFill(MAX_CAPACITY) + " keys");
+        }
+        return capacity * 2;
+    }
+}
@@ -0,0 +1,215 @@
+package io.javadash.primitive;
+
+import java.util.Arrays;
+
+/**
+ * {@code int[]} variants of the {@code CollectionUtils} set operations ({@code uniq}, {@code difference},
+ * {@code intersection}, {@code union}, {@code xor}), built on {@link IntHashSet} and {@link LongIntMap} so that no
+ * value is boxed.
+ *
+ * <p>Results keep the first occurrence of each value, in the order of the input arrays, like the
+ * {@code LinkedHashSet}-based {@code CollectionUtils} methods. {@code null} arrays are treated like their
+ * {@code CollectionUtils} counterparts treat {@code null} collections. A non-empty result is always a new array, never
+ * one of the inputs; empty results are one shared zero-length array, which cannot be modified.
+ *
+ * <pre>{@code
+ *      int[] ids = ...;      // 10M ids
+ *      int[] blocked = ...;
+ *      IntArrays.difference(ids, blocked);
+ *      // => the distinct ids that are not blocked, in order
+ * }</pre>
+ */
+public final class IntArrays {
+    private static final int[] EMPTY = {};
+    private static final int SHARED = -1;
+
+    private IntArrays() {
+    }
+
+    /**
+     * Creates a duplicate-free copy of array, like {@code CollectionUtils.uniq}.
+     *
+     * <pre>{@code
+     *      IntArrays.uniq(new int[] {2, 1, 2});
+     *      // => [2, 1]
+     * }</pre>
+     *
+     * @param array The array to inspect.
+     * @return Returns the new duplicate-free array.
+     */
+    public static int[] uniq(int[] array) {
+        if (array == null || array.length == 0) {
+            return EMPTY;
+        }
+        IntHashSet seen = new IntHashSet(array.length);
+        int[] result = new int[array.length];
+        int size = 0;
+        for (int value : array) {
+            if (seen.add(value)) {
+                result[size++] = value;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the distinct values of array not included in any of values, like
+     * {@code CollectionUtils.difference}. Without values, array is copied as is.
+     *
+     * <pre>{@code
+     *      IntArrays.difference(new int[] {2, 1, 2}, new int[] {2, 3});
+     *      // => [1]
+     * }</pre>
+     *
+     * @param array  The array to inspect.
+     * @param values The values to exclude.
+     * @return Returns the new array of filtered values.
+     */
+    public static int[] difference(int[] array, int[]... values) {
+        if (array == null || array.length == 0) {
+            return EMPTY;
+        }
+        if (values == null || values.length == 0) {
+            return array.clone();
+        }
+        int total = 0;
+        for (int[] value : values) {
+            total += value != null ? value.length : 0;
+        }
+        IntHashSet excluded = new IntHashSet(total);
+        for (int[] value : values) {
+            if (value != null) {
+                for (int element : value) {
+                    excluded.add(element);
+                }
+            }
+        }
+        IntHashSet seen = new IntHashSet(array.length);
+        int[] result = new int[array.length];
+        int size = 0;
+        for (int value : array) {
+            if (!excluded.contains(value) && seen.add(value)) {
+                result[size++] = value;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the distinct values of array included in every one of values, like
+     * {@code CollectionUtils.intersection}. The result is empty when values is empty or holds a {@code null} or
+     * empty array.
+     *
+     * <pre>{@code
+     *      IntArrays.intersection(new int[] {2, 1, 2}, new int[] {2, 3});
+     *      // => [2]
+     * }</pre>
+     *
+     * @param array  The array to inspect.
+     * @param values The arrays every result value must be in.
+     * @return Returns the new array of shared values.
+     */
+    public static int[] intersection(int[] array, int[]... values) {
+        if (array == null || array.length == 0 || values == null || values.length == 0) {
+            return EMPTY;
+        }
+        for (int[] value : values) {
+            if (value == null || value.length == 0) {
+                return EMPTY;
+            }
+        }
+        int[] result = uniq(array);
+        int size = result.length;
+        for (int[] value : values) {
+            IntHashSet included = IntHashSet.of(value);
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (included.contains(result[i])) {
+                    result[kept++] = result[i];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the distinct values of all arrays, in order, like {@code CollectionUtils.union}.
+     * {@code null} arrays are skipped.
+     *
+     * <pre>{@code
+     *      IntArrays.union(new int[] {2}, new int[] {1, 2});
+     *      // => [2, 1]
+     * }</pre>
+     *
+     * @param arrays The arrays to inspect.
+     * @return Returns the new array of combined values.
+     */
+    public static int[] union(int[]... arrays) {
+        if (arrays == null || arrays.length == 0) {
+            return EMPTY;
+        }
+        int total = 0;
+        for (int[] array : arrays) {
+            total += array != null ? array.length : 0;
+        }
+        IntHashSet seen = new IntHashSet(total);
+        int[] result = new int[total];
+        int size = 0;
+        for (int[] array : arrays) {
+            if (array != null) {
+                for (int value : array) {
+                    if (seen.add(value)) {
+                        result[size++] = value;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Creates an array of the distinct values found in exactly one of arrays, like {@code CollectionUtils.xor}, in
+     * the order they first occur. {@code null} arrays are skipped, and a single array is deduplicated.
+     *
+     * <pre>{@code
+     *      IntArrays.xor(new int[] {2, 1, 1}, new int[] {2, 3});
+     *      // => [1, 3]
+     * }</pre>
+     *
+     * @param arrays The arrays to inspect.
+     * @return Returns the new array of values.
+     */
+    public static int[] xor(int[]... arrays) {
+        if (arrays == null || arrays.length == 0) {
+            return EMPTY;
+        }
+        int total = 0;
+        for (int[] array : arrays) {
+            total += array != null ? array.length : 0;
+        }
+        // maps each value to the index of the only array holding it, or to SHARED
+        LongIntMap owners = new LongIntMap(total);
+        for (int i = 0; i < arrays.length; i++) {
+            if (arrays[i] != null) {
+                for (int value : arrays[i]) {
+                    int owner = owners.getOrDefault(value, i);
+                    owners.put(value, owner == i ? i : SHARED);
+                }
+            }
+        }
+        int[] result = new int[total];
+        int size = 0;
+        for (int[] array : arrays) {
+            if (array != null) {
+                for (int value : array) {
+                    if (owners.getOrDefault(value, SHARED) != SHARED) {
+                        result[size++] = value;
+                        owners.put(value, SHARED);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
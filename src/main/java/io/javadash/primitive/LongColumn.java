@@ -0,0 +1,320 @@
+package io.javadash.primitive;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * An append-only column of {@code long} values stored off-heap, for series too large to keep as a
+ * {@code List<Long>} or a {@code long[]}.
+ *
+ * <p>Values live in direct buffers of up to 16M values (128 MB) each, so a column holds more than
+ * {@link Integer#MAX_VALUE} values and adds nothing for the garbage collector to scan. The memory is released by
+ * {@link #close()}; see {@link Column}. Aggregations follow {@link LongList}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class LongColumn implements Column {
+    static final int SEGMENT_SHIFT = 24;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int MIN_CAPACITY = 1024;
+
+    private ByteBuffer[] buffers = new ByteBuffer[0];
+    private LongBuffer[] segments = new LongBuffer[0];
+    private long capacity;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Creates an empty column.
+     */
+    public LongColumn() {
+    }
+
+    /**
+     * Creates an empty column with room for {@code expectedSize} values, so appending them allocates nothing.
+     *
+     * @param expectedSize The expected number of values.
+     * @throws IllegalArgumentException If expectedSize is negative.
+     */
+    public LongColumn(long expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        ensureCapacity(expectedSize);
+    }
+
+    /**
+     * Creates a column holding a copy of values.
+     *
+     * @param values The values to copy.
+     * @return Returns the new column, empty when values is {@code null}.
+     */
+    public static LongColumn of(long... values) {
+        if (values == null) {
+            return new LongColumn();
+        }
+        return new LongColumn(values.length).appendAll(values);
+    }
+
+    /**
+     * Appends value to the end of the column.
+     *
+     * @param value The value to append.
+     * @return Returns this column.
+     */
+    public LongColumn append(long value) {
+        ensureOpen();
+        if (size == capacity) {
+            ensureCapacity(size + 1);
+        }
+        segments[(int) (size >>> SEGMENT_SHIFT)].put((int) size & SEGMENT_MASK, value);
+        size++;
+        return this;
+    }
+
+    /**
+     * Appends values to the end of the column, copying them a segment at a time.
+     *
+     * @param values The values to append.
+     * @return Returns this column.
+     */
+    public LongColumn appendAll(long... values) {
+        ensureOpen();
+        if (values == null || values.length == 0) {
+            return this;
+        }
+        ensureCapacity(size + values.length);
+        int copied = 0;
+        while (copied < values.length) {
+            LongBuffer segment = segments[(int) (size >>> SEGMENT_SHIFT)].duplicate();
+            ((Buffer) segment).position((int) size & SEGMENT_MASK);
+            int count = Math.min(segment.remaining(), values.length - copied);
+            segment.put(values, copied, count);
+            copied += count;
+            size += count;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the value at index.
+     *
+     * @param index The index of the value.
+     * @return Returns the value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public long get(long index) {
+        checkIndex(index);
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+    }
+
+    /**
+     * Replaces the value at index.
+     *
+     * @param index The index of the value.
+     * @param value The new value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public void set(long index, long value) {
+        checkIndex(index);
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) index & SEGMENT_MASK, value);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Sums the values; like {@code NumberUtils.sumLong}, the total wraps around on overflow.
+     *
+     * @return Returns the sum, {@code 0} when the column is empty.
+     */
+    public long sum() {
+        ensureOpen();
+        long sum = 0L;
+        for (int s = 0; s < segments.length; s++) {
+            LongBuffer segment = segments[s];
+            for (int i = 0, length = segmentLength(s); i < length; i++) {
+                sum += segment.get(i);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the arithmetic mean of the values.
+     *
+     * @return Returns the mean, empty when the column is empty.
+     */
+    public OptionalDouble mean() {
+        ensureOpen();
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum() / size);
+    }
+
+    /**
+     * Finds the smallest value.
+     *
+     * @return Returns the minimum, empty when the column is empty.
+     */
+    public OptionalLong min() {
+        ensureOpen();
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        long min = Long.MAX_VALUE;
+        for (int s = 0; s < segments.length; s++) {
+            LongBuffer segment = segments[s];
+            for (int i = 0, length = segmentLength(s); i < length; i++) {
+                min = Math.min(min, segment.get(i));
+            }
+        }
+        return OptionalLong.of(min);
+    }
+
+    /**
+     * Finds the largest value.
+     *
+     * @return Returns the maximum, empty when the column is empty.
+     */
+    public OptionalLong max() {
+        ensureOpen();
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        long max = Long.MIN_VALUE;
+        for (int s = 0; s < segments.length; s++) {
+            LongBuffer segment = segments[s];
+            for (int i = 0, length = segmentLength(s); i < length; i++) {
+                max = Math.max(max, segment.get(i));
+            }
+        }
+        return OptionalLong.of(max);
+    }
+
+    /**
+     * Computes the population variance of the values in one pass, with Welford's algorithm.
+     *
+     * @return Returns the variance, empty when the column is empty.
+     */
+    public OptionalDouble variance() {
+        ensureOpen();
+        if (size == 0) {
+            return OptionalDouble.empty();
+        }
+        long count = 0;
+        double mean = 0.0;
+        double squares = 0.0;
+        for (int s = 0; s < segments.length; s++) {
+            LongBuffer segment = segments[s];
+            for (int i = 0, length = segmentLength(s); i < length; i++) {
+                long value = segment.get(i);
+                double delta = value - mean;
+                mean += delta / ++count;
+                squares += delta * (value - mean);
+            }
+        }
+        return OptionalDouble.of(squares / count);
+    }
+
+    /**
+     * Invokes action for each value, in order.
+     *
+     * @param action The function invoked per value.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "action");
+        ensureOpen();
+        for (int s = 0; s < segments.length; s++) {
+            LongBuffer segment = segments[s];
+            for (int i = 0, length = segmentLength(s); i < length; i++) {
+                action.accept(segment.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer buffer : buffers) {
+            DirectMemory.free(buffer);
+        }
+        buffers = new ByteBuffer[0];
+        segments = new LongBuffer[0];
+        capacity = 0;
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LongColumn[size=" + size + (closed ? ", closed]" : "]");
+    }
+
+    /**
+     * The number of values held by segment s, the last one being partly filled.
+     */
+    private int segmentLength(int s) {
+        return (int) Math.min(size - ((long) s << SEGMENT_SHIFT), SEGMENT_SIZE);
+    }
+
+    private void checkIndex(long index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Column is closed");
+        }
+    }
+
+    /**
+     * Grows the first segment by doubling up to {@link #SEGMENT_SIZE}, then adds full segments. Buffer positions are
+     * set through {@link Buffer}, whose methods are not covariant on Java 8.
+     */
+    private void ensureCapacity(long minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (segments.length <= 1 && capacity < SEGMENT_SIZE) {
+            long grown = Math.max(Math.max(capacity * 2, minCapacity), MIN_CAPACITY);
+            int first = (int) Math.min(grown, SEGMENT_SIZE);
+            ByteBuffer buffer = DirectMemory.allocate(first * Long.BYTES);
+            LongBuffer segment = buffer.asLongBuffer();
+            if (segments.length == 1) {
+                LongBuffer old = segments[0].duplicate();
+                ((Buffer) old).clear().limit((int) size);
+                segment.put(old);
+                DirectMemory.free(buffers[0]);
+            }
+            buffers = new ByteBuffer[] {buffer};
+            segments = new LongBuffer[] {segment};
+            capacity = first;
+        }
+        while (capacity < minCapacity) {
+            ByteBuffer buffer = DirectMemory.allocate(SEGMENT_SIZE * Long.BYTES);
+            buffers = Arrays.copyOf(buffers, buffers.length + 1);
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            buffers[buffers.length - 1] = buffer;
+            segments[segments.length - 1] = buffer.asLongBuffer();
+            capacity += SEGMENT_SIZE;
+        }
+    }
+}
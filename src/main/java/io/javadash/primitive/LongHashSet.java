@@ -0,0 +1,244 @@
+package io.javadash.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of {@code long} values with open addressing and linear probing, the primitive counterpart of a
+ * {@code HashSet<Long>}.
+ *
+ * <p>Keys are stored in a single {@code long[]} kept at most 75% full, so 10M values take 128 MB where a
+ * {@code HashSet} needs over 500 MB of {@code Long} objects and {@code HashMap.Node}s. Iteration order is the
+ * slot order, which is unspecified; use {@link LongArrays} when the first-occurrence order matters.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class LongHashSet {
+    private static final long EMPTY_KEY = 0L;
+
+    private long[] keys;
+    private boolean containsEmptyKey;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    /**
+     * Creates an empty set.
+     */
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} values before rehashing.
+     *
+     * @param expectedSize The expected number of values.
+     * @throws IllegalArgumentException If expectedSize is negative.
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(HashCommon.tableSize(expectedSize));
+    }
+
+    /**
+     * Creates a set holding the values of array.
+     *
+     * @param array The values to add.
+     * @return Returns the new set, empty when array is {@code null}.
+     */
+    public static LongHashSet of(long... array) {
+        if (array == null) {
+            return new LongHashSet();
+        }
+        LongHashSet set = new LongHashSet(array.length);
+        for (long value : array) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Adds value to the set.
+     *
+     * @param value The value to add.
+     * @return Returns {@code true} if value was not yet in the set, else {@code false}.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY_KEY) {
+            if (containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = true;
+            size++;
+            return true;
+        }
+        int slot = HashCommon.mix(value) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(keys.length));
+        }
+        return true;
+    }
+
+    /**
+     * Checks if value is in the set.
+     *
+     * @param value The value to search for.
+     * @return Returns {@code true} if value is found, else {@code false}.
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY_KEY) {
+            return containsEmptyKey;
+        }
+        int slot = HashCommon.mix(value) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes value from the set.
+     *
+     * @param value The value to remove.
+     * @return Returns {@code true} if value was in the set, else {@code false}.
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY_KEY) {
+            if (!containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = false;
+            size--;
+            return true;
+        }
+        int slot = HashCommon.mix(value) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == value) {
+                shiftKeys(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of values in the set.
+     *
+     * @return Returns the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the set holds no values.
+     *
+     * @return Returns {@code true} if the set is empty, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value, keeping the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        containsEmptyKey = false;
+        size = 0;
+    }
+
+    /**
+     * Invokes action for each value, in unspecified order.
+     *
+     * @param action The function invoked per value.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "action");
+        if (containsEmptyKey) {
+            action.accept(EMPTY_KEY);
+        }
+        for (long key : keys) {
+            if (key != EMPTY_KEY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Copies the values into a new array, in unspecified order.
+     *
+     * @return Returns the new array of {@link #size()} values.
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int index = 0;
+        if (containsEmptyKey) {
+            result[index++] = EMPTY_KEY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY_KEY) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        maxFill = HashCommon.maxFill(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        allocate(capacity);
+        for (long key : old) {
+            if (key != EMPTY_KEY) {
+                int slot = HashCommon.mix(key) & mask;
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion: moves later keys of the probe chain into the freed slot, so lookups never need
+     * tombstones.
+     */
+    private void shiftKeys(int slot) {
+        int last;
+        while (true) {
+            last = slot;
+            slot = (slot + 1) & mask;
+            long key;
+            while (true) {
+                key = keys[slot];
+                if (key == EMPTY_KEY) {
+                    keys[last] = EMPTY_KEY;
+                    return;
+                }
+                int home = HashCommon.mix(key) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[last] = key;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package io.javadash.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A map from {@code long} keys to {@code int} values with open addressing and linear probing, the primitive
+ * counterpart of a {@code HashMap<Long, Integer>} for counters and ID-to-index lookups.
+ *
+ * <p>Keys and values live in two parallel arrays kept at most 75% full; nothing is allocated per entry. {@code int}
+ * keys widen to {@code long} without loss. Iteration order is unspecified.
+ *
+ * <pre>{@code
+ *      LongIntMap counts = new LongIntMap();
+ *      for (long id : ids) {
+ *          counts.addTo(id, 1);
+ *      }
+ *      counts.getOrDefault(42L, 0);
+ *      // => the number of occurrences of 42
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class LongIntMap {
+    private static final long EMPTY_KEY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private boolean containsEmptyKey;
+    private int emptyKeyValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    /**
+     * Receives the entries of a {@link LongIntMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs this operation on one entry.
+         *
+         * @param key   The key of the entry.
+         * @param value The value of the entry.
+         */
+        void accept(long key, int value);
+    }
+
+    /**
+     * Creates an empty map.
+     */
+    public LongIntMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries before rehashing.
+     *
+     * @param expectedSize The expected number of entries.
+     * @throws IllegalArgumentException If expectedSize is negative.
+     */
+    public LongIntMap(int expectedSize) {
+        allocate(HashCommon.tableSize(expectedSize));
+    }
+
+    /**
+     * Gets the value mapped to key.
+     *
+     * @param key          The key to look up.
+     * @param defaultValue The value to return when key is absent.
+     * @return Returns the mapped value, else defaultValue.
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY_KEY) {
+            return containsEmptyKey ? emptyKeyValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks if key is mapped.
+     *
+     * @param key The key to look up.
+     * @return Returns {@code true} if key is mapped, else {@code false}.
+     */
+    public boolean containsKey(long key) {
+        return key == EMPTY_KEY ? containsEmptyKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps key to value, replacing any previous value.
+     *
+     * @param key   The key to map.
+     * @param value The value to store.
+     */
+    public void put(long key, int value) {
+        if (key == EMPTY_KEY) {
+            if (!containsEmptyKey) {
+                containsEmptyKey = true;
+                size++;
+            }
+            emptyKeyValue = value;
+            return;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(~slot, key, value);
+        }
+    }
+
+    /**
+     * Adds increment to the value mapped to key, an absent key counting as {@code 0}.
+     *
+     * @param key       The key to update.
+     * @param increment The amount to add.
+     * @return Returns the new value.
+     */
+    public int addTo(long key, int increment) {
+        if (key == EMPTY_KEY) {
+            if (!containsEmptyKey) {
+                containsEmptyKey = true;
+                emptyKeyValue = 0;
+                size++;
+            }
+            return emptyKeyValue += increment;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot] += increment;
+        }
+        insert(~slot, key, increment);
+        return increment;
+    }
+
+    /**
+     * Removes the mapping of key.
+     *
+     * @param key The key to remove.
+     * @return Returns {@code true} if key was mapped, else {@code false}.
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = false;
+            size--;
+            return true;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftKeys(slot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Gets the number of entries in the map.
+     *
+     * @return Returns the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map holds no entries.
+     *
+     * @return Returns {@code true} if the map is empty, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        containsEmptyKey = false;
+        size = 0;
+    }
+
+    /**
+     * Invokes action for each entry, in unspecified order.
+     *
+     * @param action The function invoked per entry.
+     */
+    public void forEach(EntryConsumer action) {
+        Objects.requireNonNull(action, "action");
+        if (containsEmptyKey) {
+            action.accept(EMPTY_KEY, emptyKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of a non-empty key.
+     *
+     * @return Returns the slot holding key, else the bitwise complement of the free slot where it belongs.
+     */
+    private int find(long key) {
+        int slot = HashCommon.mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private void insert(int slot, long key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(keys.length));
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = HashCommon.maxFill(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = HashCommon.mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Backward-shift deletion, see {@link IntHashSet}.
+     */
+    private void shiftKeys(int slot) {
+        int last;
+        while (true) {
+            last = slot;
+            slot = (slot + 1) & mask;
+            long key;
+            while (true) {
+                key = keys[slot];
+                if (key == EMPTY_KEY) {
+                    keys[last] = EMPTY_KEY;
+                    return;
+                }
+                int home = HashCommon.mix(key) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[last] = key;
+            values[last] = values[slot];
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package io.javadash.primitive;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A growable list of {@code long} values backed by a {@code long[]}, the primitive counterpart of a
+ * {@code List<Long>}.
+ *
+ * <p>Elements are stored unboxed, at 8 bytes each instead of a reference to a 24-byte {@code Long}, and every
+ * aggregation ({@link #sum()}, {@link #min()}, {@link #max()}, {@link #mean()}, {@link #uniq()}, {@link #sort()},
+ * {@link #indexOf(long)}, {@link #slice(int, int)}) runs over the array without boxing. An existing array can be
+ * adopted without copying with {@link #wrap(long[])}.
+ *
+ * <pre>{@code
+ *      long[] timestamps = ...;
+ *      LongList list = LongList.wrap(timestamps);
+ *      list.sum();
+ *      // => the total, without allocating
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class LongList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final long[] EMPTY = {};
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public LongList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty list that can hold {@code initialCapacity} values before growing.
+     *
+     * @param initialCapacity The initial capacity.
+     * @throws IllegalArgumentException If initialCapacity is negative.
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    private LongList(long[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a list holding a copy of values.
+     *
+     * <pre>{@code
+     *      LongList.of(3, 1, 2);
+     *      // => [3, 1, 2]
+     * }</pre>
+     *
+     * @param values The values to copy.
+     * @return Returns the new list, empty when values is {@code null}.
+     */
+    public static LongList of(long... values) {
+        if (values == null || values.length == 0) {
+            return new LongList();
+        }
+        return new LongList(values.clone(), values.length);
+    }
+
+    /**
+     * Adopts array as the backing storage of a new list, without copying it. Writes through {@link #set} are visible
+     * in array, and the other way round, until the list outgrows array and moves to a larger one.
+     *
+     * @param array The array to wrap.
+     * @return Returns the list viewing the whole array.
+     * @throws NullPointerException If array is {@code null}.
+     */
+    public static LongList wrap(long[] array) {
+        Objects.requireNonNull(array, "array");
+        return new LongList(array, array.length);
+    }
+
+    /**
+     * Unboxes collection into a new list, skipping {@code null} elements like {@code NumberUtils.sumLong}.
+     *
+     * @param collection The values to unbox.
+     * @return Returns the new list, empty when collection is {@code null}.
+     */
+    public static LongList from(Collection<? extends Long> collection) {
+        if (collection == null) {
+            return new LongList();
+        }
+        LongList list = new LongList(collection.size());
+        for (Long value : collection) {
+            if (value != null) {
+                list.add(value);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Gets the number of values in the list.
+     *
+     * @return Returns the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list holds no values.
+     *
+     * @return Returns {@code true} if the list is empty, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value at index.
+     *
+     * @param index The index of the value.
+     * @return Returns the value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at index.
+     *
+     * @param index The index of the value.
+     * @param value The new value.
+     * @return Returns the previous value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public long set(int index, long value) {
+        checkIndex(index);
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Appends value to the end of the list, growing the backing array by half when it is full.
+     *
+     * @param value The value to append.
+     * @return Returns this list.
+     */
+    public LongList add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        return this;
+    }
+
+    /**
+     * Appends values to the end of the list.
+     *
+     * @param values The values to append.
+     * @return Returns this list.
+     */
+    public LongList addAll(long... values) {
+        if (values != null) {
+            append(values, values.length);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the values of other to the end of the list.
+     *
+     * @param other The list to append.
+     * @return Returns this list.
+     */
+    public LongList addAll(LongList other) {
+        if (other != null) {
+            append(other.elements, other.size);
+        }
+        return this;
+    }
+
+    /**
+     * Removes every value, keeping the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sums the values; like {@code NumberUtils.sumLong}, the total wraps around on overflow.
+     *
+     * @return Returns the sum, {@code 0} when the list is empty.
+     */
+    public long sum() {
+        long sum = 0L;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the smallest value.
+     *
+     * @return Returns the minimum, empty when the list is empty.
+     */
+    public OptionalLong min() {
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        long min = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < min) {
+                min = elements[i];
+            }
+        }
+        return OptionalLong.of(min);
+    }
+
+    /**
+     * Finds the largest value.
+     *
+     * @return Returns the maximum, empty when the list is empty.
+     */
+    public OptionalLong max() {
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        long max = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] > max) {
+                max = elements[i];
+            }
+        }
+        return OptionalLong.of(max);
+    }
+
+    /**
+     * Computes the arithmetic mean of the values.
+     *
+     * @return Returns the mean, empty when the list is empty.
+     */
+    public OptionalDouble mean() {
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum() / size);
+    }
+
+    /**
+     * Creates a duplicate-free copy of the list, in which only the first occurrence of each value is kept.
+     *
+     * <pre>{@code
+     *      LongList.of(2, 1, 2, 3, 1).uniq();
+     *      // => [2, 1, 3]
+     * }</pre>
+     *
+     * @return Returns the new duplicate-free list.
+     */
+    public LongList uniq() {
+        LongHashSet seen = new LongHashSet(size);
+        LongList result = new LongList(size);
+        for (int i = 0; i < size; i++) {
+            if (seen.add(elements[i])) {
+                result.elements[result.size++] = elements[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the values in ascending order, in place.
+     *
+     * @return Returns this list.
+     */
+    public LongList sort() {
+        Arrays.sort(elements, 0, size);
+        return this;
+    }
+
+    /**
+     * Finds the index of the first occurrence of value.
+     *
+     * @param value The value to search for.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int indexOf(long value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Finds the index of the first occurrence of value at or after fromIndex.
+     *
+     * @param value     The value to search for.
+     * @param fromIndex The index to search from, clamped to {@code 0}.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int indexOf(long value, int fromIndex) {
+        for (int i = Math.max(fromIndex, 0); i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last occurrence of value.
+     *
+     * @param value The value to search for.
+     * @return Returns the index of the value, else {@code -1}.
+     */
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if value is in the list.
+     *
+     * @param value The value to search for.
+     * @return Returns {@code true} if value is found, else {@code false}.
+     */
+    public boolean contains(long value) {
+        return indexOf(value, 0) >= 0;
+    }
+
+    /**
+     * Copies the values from start to the end of the list, like {@code CollectionUtils.slice}.
+     *
+     * @param start The start index, inclusive.
+     * @return Returns the new list.
+     */
+    public LongList slice(int start) {
+        return slice(start, size);
+    }
+
+    /**
+     * Copies the values from start up to, but not including, end, like {@code CollectionUtils.slice}. Both indexes
+     * are clamped to the bounds of the list.
+     *
+     * <pre>{@code
+     *      LongList.of(1, 2, 3, 4).slice(1, 3);
+     *      // => [2, 3]
+     * }</pre>
+     *
+     * @param start The start index, inclusive.
+     * @param end   The end index, exclusive.
+     * @return Returns the new list.
+     */
+    public LongList slice(int start, int end) {
+        int from = Math.min(Math.max(start, 0), size);
+        int to = Math.min(end, size);
+        if (to <= from) {
+            return new LongList();
+        }
+        return new LongList(Arrays.copyOfRange(elements, from, to), to - from);
+    }
+
+    /**
+     * Invokes action for each value, in order.
+     *
+     * @param action The function invoked per value.
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "action");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Creates a sequential stream over the values, without copying them.
+     *
+     * @return Returns the stream.
+     */
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Copies the values into a new array of exactly {@link #size()} elements.
+     *
+     * @return Returns the new array.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongList)) {
+            return false;
+        }
+        LongList other = (LongList) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void append(long[] values, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (size + count > elements.length) {
+            grow(size + count);
+        }
+        System.arraycopy(values, 0, elements, size, count);
+        size += count;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int capacity = Math.max(elements.length + (elements.length >> 1), DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity));
+    }
+}
@@ -0,0 +1,237 @@
+package io.javadash.primitive;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.LongSummaryStatistics;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * A read-only view of a binary file of {@code long} values, memory-mapped with
+ * {@link java.nio.channels.FileChannel#map}, for aggregating dumps without loading them on the heap.
+ *
+ * <p>The file is mapped in windows of up to 128M values (1 GB), so files of any size can be read, and the values are
+ * scanned straight from the page cache. Aggregations over more than 1M values split the file into chunks that are
+ * summarized on the common {@code ForkJoinPool} and combined in file order. Sums wrap around on overflow, as in
+ * {@link LongSummaryStatistics}.
+ *
+ * <pre>{@code
+ *      try (MappedLongFile file = MappedLongFile.open(Paths.get("counters.bin"))) {
+ *          LongSummaryStatistics stats = file.summaryStatistics();
+ *          // => count, sum, min, average and max of every value
+ *      }
+ * }</pre>
+ *
+ * <p>{@link #close()} unmaps the file; see {@link Column}. It is safe to call from any thread: it waits for running
+ * reads and aggregations to finish, and any access after it throws {@link IllegalStateException}.
+ */
+public final class MappedLongFile implements Column {
+    private final MappedSegments mapping;
+    private final LongBuffer[] segments;
+
+    private MappedLongFile(MappedSegments mapping) {
+        this.mapping = mapping;
+        this.segments = new LongBuffer[mapping.buffers.length];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = mapping.buffers[i].asLongBuffer();
+        }
+    }
+
+    /**
+     * Maps a file of little-endian {@code long} values.
+     *
+     * @param path The file to map.
+     * @return Returns the mapped file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file size is not a multiple of 8 bytes.
+     */
+    public static MappedLongFile open(Path path) throws IOException {
+        return open(path, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Maps a file of {@code long} values written in the given byte order.
+     *
+     * @param path  The file to map.
+     * @param order The byte order of the values.
+     * @return Returns the mapped file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file size is not a multiple of 8 bytes.
+     */
+    public static MappedLongFile open(Path path, ByteOrder order) throws IOException {
+        return new MappedLongFile(MappedSegments.map(path, Long.BYTES, order));
+    }
+
+    /**
+     * Gets the value at index.
+     *
+     * @param index The index of the value.
+     * @return Returns the value.
+     * @throws IndexOutOfBoundsException If index is not within {@code [0, size())}.
+     */
+    public long get(long index) {
+        long stamp = mapping.acquire();
+        try {
+            if (index < 0 || index >= mapping.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mapping.size);
+            }
+            int segment = (int) (index >>> MappedSegments.SEGMENT_SHIFT);
+            return segments[segment].get((int) (index & MappedSegments.SEGMENT_MASK));
+        } finally {
+            mapping.release(stamp);
+        }
+    }
+
+    @Override
+    public long size() {
+        return mapping.isClosed() ? 0 : mapping.size;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mapping.isClosed();
+    }
+
+    /**
+     * Sums the values.
+     *
+     * @return Returns the sum, {@code 0} when the file is empty.
+     */
+    public long sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Computes the arithmetic mean of the values.
+     *
+     * @return Returns the mean, empty when the file is empty.
+     */
+    public OptionalDouble mean() {
+        LongSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(stats.getAverage());
+    }
+
+    /**
+     * Finds the smallest value.
+     *
+     * @return Returns the minimum, empty when the file is empty.
+     */
+    public OptionalLong min() {
+        LongSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalLong.empty() : OptionalLong.of(stats.getMin());
+    }
+
+    /**
+     * Finds the largest value.
+     *
+     * @return Returns the maximum, empty when the file is empty.
+     */
+    public OptionalLong max() {
+        LongSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalLong.empty() : OptionalLong.of(stats.getMax());
+    }
+
+    /**
+     * Summarizes every value of the file in one parallel pass.
+     *
+     * @return Returns the count, sum, min, average and max.
+     */
+    public LongSummaryStatistics summaryStatistics() {
+        return summaryStatistics(0, 1);
+    }
+
+    /**
+     * Summarizes the values at {@code offset}, {@code offset + stride}, {@code offset + 2 * stride}, ..., such as one
+     * field of a file of fixed-size records.
+     *
+     * <pre>{@code
+     *      // records of (timestamp, latency, bytes) written as 3 longs each
+     *      file.summaryStatistics(1, 3);
+     *      // => statistics of the latency field
+     * }</pre>
+     *
+     * @param offset The index of the first value, at least {@code 0}.
+     * @param stride The distance between two values, at least {@code 1}.
+     * @return Returns the count, sum, min, average and max of the selected values.
+     * @throws IllegalArgumentException If offset is negative or stride is not positive.
+     */
+    public LongSummaryStatistics summaryStatistics(long offset, long stride) {
+        MappedSegments.checkStride(offset, stride);
+        long stamp = mapping.acquire();
+        try {
+            long count = offset >= mapping.size ? 0 : (mapping.size - offset + stride - 1) / stride;
+            if (count < MappedSegments.PARALLEL_THRESHOLD) {
+                return summarize(offset, count, stride);
+            }
+            return LongStream.range(0, MappedSegments.chunkCount(count)).parallel()
+                .mapToObj(chunk -> {
+                    long first = chunk * MappedSegments.CHUNK_SIZE;
+                    long length = Math.min(MappedSegments.CHUNK_SIZE, count - first);
+                    return summarize(offset + first * stride, length, stride);
+                })
+                .collect(LongSummaryStatistics::new, LongSummaryStatistics::combine, LongSummaryStatistics::combine);
+        } finally {
+            mapping.release(stamp);
+        }
+    }
+
+    /**
+     * Summarizes consecutive runs of {@code segmentSize} values separately, such as one run per day of samples. The
+     * last run holds the remaining values. Runs are summarized in parallel.
+     *
+     * @param segmentSize The number of values per run, at least {@code 1}.
+     * @return Returns the statistics of each run, in file order.
+     * @throws IllegalArgumentException If segmentSize is not positive.
+     */
+    public List<LongSummaryStatistics> summaryStatisticsBySegment(long segmentSize) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("segmentSize must be positive: " + segmentSize);
+        }
+        long stamp = mapping.acquire();
+        try {
+            long runs = (mapping.size + segmentSize - 1) / segmentSize;
+            LongStream indexes = LongStream.range(0, runs);
+            if (mapping.size >= MappedSegments.PARALLEL_THRESHOLD) {
+                indexes = indexes.parallel();
+            }
+            return indexes.mapToObj(run -> summarize(run * segmentSize,
+                    Math.min(segmentSize, mapping.size - run * segmentSize), 1))
+                .collect(Collectors.toList());
+        } finally {
+            mapping.release(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        mapping.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedLongFile[size=" + size() + (isClosed() ? ", closed]" : "]");
+    }
+
+    private LongSummaryStatistics summarize(long from, long count, long stride) {
+        LongSummaryStatistics stats = new LongSummaryStatistics();
+        long index = from;
+        long remaining = count;
+        while (remaining > 0) {
+            LongBuffer segment = segments[(int) (index >>> MappedSegments.SEGMENT_SHIFT)];
+            int position = (int) (index & MappedSegments.SEGMENT_MASK);
+            long inSegment = Math.min(remaining, (MappedSegments.SEGMENT_SIZE - 1 - position) / stride + 1);
+            for (long i = 0; i < inSegment; i++) {
+                stats.accept(segment.get(position));
+                position += stride;
+            }
+            index += inSegment * stride;
+            remaining -= inSegment;
+        }
+        return stats;
+    }
+}
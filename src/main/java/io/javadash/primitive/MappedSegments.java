@@ -0,0 +1,110 @@
+package io.javadash.primitive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The read-only mappings behind {@link MappedDoubleFile} and {@link MappedLongFile}: one {@link ByteBuffer} per
+ * window of {@link #SEGMENT_SIZE} values, since a single mapping cannot exceed 2 GB.
+ *
+ * <p>Reading an unmapped buffer crashes the JVM instead of throwing, so every read holds a read stamp from
+ * {@link #acquire()} to {@link #release(long)}, across the parallel chunks it waits for, and {@link #close()} takes
+ * the write lock: it waits for running reads, and reads that start after it throw {@link IllegalStateException}.
+ */
+final class MappedSegments {
+    static final int SEGMENT_SHIFT = 27;
+    static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    /**
+     * Values per parallel task; smaller inputs are summarized on the calling thread.
+     */
+    static final long CHUNK_SIZE = 1 << 20;
+    static final long PARALLEL_THRESHOLD = CHUNK_SIZE;
+
+    final ByteBuffer[] buffers;
+    final long size;
+    private final StampedLock lock = new StampedLock();
+    private volatile boolean closed;
+
+    private MappedSegments(ByteBuffer[] buffers, long size) {
+        this.buffers = buffers;
+        this.size = size;
+    }
+
+    static MappedSegments map(Path path, int valueBytes, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % valueBytes != 0) {
+                throw new IllegalArgumentException("File size " + bytes + " of " + path + " is not a multiple of "
+                    + valueBytes + " bytes");
+            }
+            long size = bytes / valueBytes;
+            ByteBuffer[] buffers = new ByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < buffers.length; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                long length = Math.min(SEGMENT_SIZE, size - first) * valueBytes;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, first * valueBytes, length).order(order);
+            }
+            return new MappedSegments(buffers, size);
+        }
+    }
+
+    /**
+     * Starts a read of the buffers, which stay mapped until {@link #release(long)}.
+     *
+     * @return Returns the stamp to release.
+     * @throws IllegalStateException If the mapping is closed.
+     */
+    long acquire() {
+        long stamp = lock.readLock();
+        if (closed) {
+            lock.unlockRead(stamp);
+            throw new IllegalStateException("File is closed");
+        }
+        return stamp;
+    }
+
+    void release(long stamp) {
+        lock.unlockRead(stamp);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Unmaps the buffers once the running reads are released; later calls do nothing.
+     */
+    void close() {
+        long stamp = lock.writeLock();
+        try {
+            if (!closed) {
+                closed = true;
+                for (int i = 0; i < buffers.length; i++) {
+                    DirectMemory.free(buffers[i]);
+                    buffers[i] = null;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    static long chunkCount(long count) {
+        return (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    static void checkStride(long offset, long stride) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        }
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be positive: " + stride);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.javadash.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits a {@link OperationEvent} for every call that takes longer than {@code javadash.jfr.thresholdMillis}
+ * (10 ms by default) or whose input holds at least {@code javadash.jfr.minInputSize} elements (1,000,000 by default).
+ * The event is only built after the call, once it is known to qualify, so its {@code elapsed} field carries the
+ * duration and the JFR duration of the event stays zero.
+ */
+final class FlightRecorderEvents {
+    private static final long THRESHOLD_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("javadash.jfr.thresholdMillis", 10L));
+    private static final long MIN_INPUT_SIZE = Long.getLong("javadash.jfr.minInputSize", 1_000_000L);
+
+    private FlightRecorderEvents() {
+    }
+
+    static boolean isSupported() {
+        return true;
+    }
+
+    static void commit(String method, long inputSize, long elapsedNanos) {
+        if (elapsedNanos < THRESHOLD_NANOS && inputSize < MIN_INPUT_SIZE) {
+            return;
+        }
+        OperationEvent event = new OperationEvent();
+        if (event.isEnabled()) {
+            event.method = method;
+            event.inputSize = inputSize;
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.javadash.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A slow or large javadash call, as it appears in a JFR recording.
+ *
+ * <p>The event is created and committed once the call has returned, because whether it is recorded depends on the
+ * measured duration and a {@code begin()} on every call would cost an allocation even when nothing is recorded. Its
+ * JFR start time is therefore the end of the call and its JFR duration is about zero: {@link #elapsed} is the only
+ * timing of the call.
+ */
+@Name("io.javadash.Operation")
+@Label("javadash Operation")
+@Category("javadash")
+@Description("A javadash call above the configured duration or input size")
+@StackTrace(true)
+class OperationEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Input Size")
+    @Description("Elements of the primary input: collection or map entries, string chars, or array length")
+    long inputSize;
+
+    @Label("Elapsed")
+    @Description("Duration of the call; the event itself is committed when the call returns and has no duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
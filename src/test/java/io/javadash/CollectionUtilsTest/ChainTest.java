@@ -0,0 +1,143 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.chain;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.Chain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ChainTest {
+
+    @Test
+    void testChainWithNull() {
+        assertEquals(Collections.emptyList(), chain(null).value());
+        assertFalse(chain(null).head().isPresent());
+    }
+
+    @Test
+    void testChainFilterMapTake() {
+        List<Integer> list = Arrays.asList(1, 2, 3, 4, 5, 6);
+
+        List<Integer> result = chain(list).filter(n -> n % 2 == 0).map(n -> n * 10).take(2).value();
+
+        assertEquals(Arrays.asList(20, 40), result);
+    }
+
+    @Test
+    void testChainMatchesCollectionUtilsNullHandling() {
+        List<String> list = Arrays.asList("a", null, "", "b", "a");
+
+        assertEquals(Arrays.asList("a", "", "b", "a"), chain(list).filter(s -> true).value());
+        assertEquals(Arrays.asList("A", "", "B", "A"), chain(list).map(String::toUpperCase).value());
+        assertEquals(Arrays.asList("a", "b", "a"), chain(list).compact().value());
+        assertEquals(Arrays.asList("a", null, ""), chain(list).take(3).value());
+        assertEquals(Arrays.asList("a", null, "", "b"), chain(list).uniq().value());
+    }
+
+    @Test
+    void testChainTakeStopsReadingSource() {
+        AtomicInteger reads = new AtomicInteger();
+        List<Integer> list = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Iterable<Integer> counting = () -> {
+            Iterator<Integer> iterator = list.iterator();
+            return new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    reads.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        };
+
+        assertEquals(Arrays.asList(0, 2, 4), chain(counting).filter(n -> n % 2 == 0).take(3).value());
+        assertEquals(5, reads.get());
+
+        reads.set(0);
+        assertEquals(Optional.of(10), chain(counting).find(n -> n >= 10));
+        assertEquals(11, reads.get());
+
+        reads.set(0);
+        assertTrue(chain(counting).some(n -> n == 0));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testChainFlatMapAndChunk() {
+        List<List<Integer>> nested = Arrays.asList(Arrays.asList(1, 2), null, Arrays.asList(3, 4, 5));
+
+        List<List<Integer>> result = chain(nested).flatMap(l -> l).chunk(2).value();
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), result);
+        assertEquals(Collections.emptyList(), chain(nested).flatMap(l -> l).chunk(0).value());
+    }
+
+    @Test
+    void testChainChunkAfterTakeFlushesRemainder() {
+        List<Integer> list = Arrays.asList(1, 2, 3, 4, 5);
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)),
+            chain(list).take(3).chunk(2).value());
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), chain(list).chunk(2).take(1).value());
+    }
+
+    @Test
+    void testChainDropAndDropWhile() {
+        List<Integer> list = Arrays.asList(1, 2, 3, 1, 2);
+
+        assertEquals(Arrays.asList(3, 1, 2), chain(list).drop(2).value());
+        assertEquals(list, chain(list).drop(-1).value());
+        assertEquals(Arrays.asList(3, 1, 2), chain(list).dropWhile(n -> n < 3).value());
+    }
+
+    @Test
+    void testChainUniqByAndReject() {
+        List<String> list = Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry");
+
+        assertEquals(Arrays.asList("apple", "banana", "cherry"), chain(list).uniqBy(s -> s.charAt(0)).value());
+        assertEquals(Arrays.asList("banana", "blueberry"), chain(list).reject(s -> s.charAt(0) != 'b').value());
+    }
+
+    @Test
+    void testChainTerminals() {
+        List<Integer> list = Arrays.asList(1, 2, 3, 4);
+
+        assertEquals(Integer.valueOf(10), chain(list).reduce(0, Integer::sum));
+        assertEquals("1-2-3-4", chain(list).join("-"));
+        assertEquals(4, chain(list).size());
+        assertEquals(Optional.of(1), chain(list).head());
+        assertTrue(chain(list).every(n -> n > 0));
+        assertFalse(chain(list).every(n -> n > 1));
+        assertFalse(chain(Collections.<Integer>emptyList()).every(n -> n > 0));
+
+        Map<Boolean, List<Integer>> groups = chain(list).groupBy(n -> n % 2 == 0);
+        assertEquals(Arrays.asList(2, 4), groups.get(true));
+        assertEquals(Long.valueOf(2), chain(list).countBy(n -> n % 2 == 0).get(false));
+
+        List<Integer> seen = new ArrayList<>();
+        chain(list).forEach(seen::add);
+        assertEquals(list, seen);
+    }
+
+    @Test
+    void testChainIsReusable() {
+        Chain<Integer> evens = chain(Arrays.asList(1, 2, 3, 4)).filter(n -> n % 2 == 0).take(1);
+
+        assertEquals(Collections.singletonList(2), evens.value());
+        assertEquals(Collections.singletonList(2), evens.value());
+    }
+}
@@ -0,0 +1,125 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.chunked;
+import static io.javadash.CollectionUtils.forEachChunk;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class ChunkedTest {
+
+    @Test
+    void testChunkedIterator() {
+        Iterator<List<String>> chunks = chunked(Arrays.asList("a", "b", "c", "d", "e").iterator(), 2);
+
+        assertEquals(Arrays.asList("a", "b"), chunks.next());
+        assertEquals(Arrays.asList("c", "d"), chunks.next());
+        assertEquals(Collections.singletonList("e"), chunks.next());
+        assertFalse(chunks.hasNext());
+        assertThrows(NoSuchElementException.class, chunks::next);
+    }
+
+    @Test
+    void testChunkedIteratorIsLazy() {
+        Iterator<Integer> naturals = Stream.iterate(0, n -> n + 1).iterator();
+        Iterator<List<Integer>> chunks = chunked(naturals, 3);
+
+        assertEquals(Arrays.asList(0, 1, 2), chunks.next());
+        assertEquals(Arrays.asList(3, 4, 5), chunks.next());
+        assertEquals(Integer.valueOf(6), naturals.next());
+    }
+
+    @Test
+    void testChunkedReturnsFreshLists() {
+        Iterator<List<Integer>> chunks = chunked(Arrays.asList(1, 2, 3, 4).iterator(), 2);
+        List<Integer> first = chunks.next();
+        List<Integer> second = chunks.next();
+
+        assertNotSame(first, second);
+        assertEquals(Arrays.asList(1, 2), first);
+        assertEquals(Arrays.asList(3, 4), second);
+    }
+
+    @Test
+    void testChunkedIterable() {
+        List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5);
+        Iterable<List<Integer>> chunks = chunked(numbers, 2);
+
+        List<List<Integer>> result = new ArrayList<>();
+        chunks.forEach(result::add);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), result);
+
+        List<List<Integer>> again = new ArrayList<>();
+        chunks.forEach(again::add);
+        assertEquals(result, again);
+    }
+
+    @Test
+    void testChunkedStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = Stream.iterate(1, n -> n + 1).onClose(() -> closed.set(true));
+
+        List<List<Integer>> result;
+        try (Stream<List<Integer>> chunks = chunked(source, 2)) {
+            result = chunks.limit(2).collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)), result);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testChunkedWithNullOrInvalidSize() {
+        assertFalse(chunked((Iterator<String>) null, 2).hasNext());
+        assertFalse(chunked((Iterable<String>) null, 2).iterator().hasNext());
+        assertEquals(0, chunked((Stream<String>) null, 2).count());
+        assertFalse(chunked(Arrays.asList("a", "b").iterator(), 0).hasNext());
+        assertFalse(chunked(Arrays.asList("a", "b"), -1).iterator().hasNext());
+        assertEquals(0, chunked(Stream.of("a", "b"), 0).count());
+    }
+
+    @Test
+    void testForEachChunkReusesBuffer() {
+        List<List<Integer>> copies = new ArrayList<>();
+        List<List<Integer>> seen = new ArrayList<>();
+
+        long count = forEachChunk(Arrays.asList(1, 2, 3, 4, 5), 2, batch -> {
+            seen.add(batch);
+            copies.add(new ArrayList<>(batch));
+        });
+
+        assertEquals(3, count);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), copies);
+        assertTrue(seen.stream().allMatch(batch -> batch == seen.get(0)));
+        assertTrue(seen.get(0).isEmpty());
+    }
+
+    @Test
+    void testForEachChunkBatchIsReadOnly() {
+        assertThrows(UnsupportedOperationException.class,
+            () -> forEachChunk(Arrays.asList(1, 2), 2, batch -> batch.add(3)));
+    }
+
+    @Test
+    void testForEachChunkWithNullOrInvalidSize() {
+        List<List<String>> batches = new ArrayList<>();
+
+        assertEquals(0, forEachChunk((List<String>) null, 2, batches::add));
+        assertEquals(0, forEachChunk(Arrays.asList("a", "b"), 0, batches::add));
+        assertTrue(batches.isEmpty());
+        assertThrows(NullPointerException.class, () -> forEachChunk(Arrays.asList("a"), 1, null));
+    }
+}
@@ -1,11 +1,16 @@
 package io.javadash.CollectionUtilsTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.javadash.CollectionUtils;
+import io.javadash.primitive.BloomFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class DifferenceTest {
@@ -93,4 +98,46 @@ public void testDifference_withNullValues() {
         assertEquals(Collections.singletonList(1), result,
             "The result should return empty list");
     }
+
+    @Test
+    public void testDifference_withManyExclusionLists() {
+        List<Integer> array = Arrays.asList(5, 1, 2, 1, 3, 4, 5, 6, 7);
+        List<Integer> exclude1 = Arrays.asList(2);
+        List<Integer> exclude2 = Arrays.asList(4, 4);
+        List<Integer> exclude3 = Collections.emptyList();
+        List<Integer> exclude4 = Arrays.asList(7, 8, 9);
+        List<Integer> result = CollectionUtils.difference(array, exclude1, exclude2, exclude3, null, exclude4);
+
+        assertEquals(Arrays.asList(5, 1, 3, 6), result,
+            "The result should keep the first occurrence of each remaining value, in source order.");
+    }
+
+    @Test
+    void testDifference_withBloomFilter() {
+        Set<Long> historical = new HashSet<>();
+        BloomFilter<Long> filter = BloomFilter.create(10_000, 0.01);
+        for (long id = 0; id < 10_000; id++) {
+            historical.add(id * 2);
+            filter.put(id * 2);
+        }
+        List<Long> today = Arrays.asList(1L, 2L, 3L, 3L, 19_998L, 20_001L);
+        List<Long> lookups = new ArrayList<>();
+
+        List<Long> result = CollectionUtils.differenceFiltered(today, filter, id -> {
+            lookups.add(id);
+            return historical.contains(id);
+        });
+
+        assertEquals(Arrays.asList(1L, 3L, 20_001L), result);
+        assertTrue(lookups.containsAll(Arrays.asList(2L, 19_998L)));
+        assertTrue(lookups.size() < today.size());
+        assertEquals(Collections.emptyList(), CollectionUtils.differenceFiltered(null, filter, historical::contains));
+    }
+
+    @Test
+    void testDifference_withNullValuesIsNotFiltered() {
+        List<Integer> collection = Arrays.asList(1, 2, 2, 3);
+
+        assertEquals(Arrays.asList(1, 2, 3), CollectionUtils.difference(collection, null, null));
+    }
 }
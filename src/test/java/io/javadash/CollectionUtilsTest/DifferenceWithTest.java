@@ -4,6 +4,8 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.javadash.CollectionUtils;
+import io.javadash.Equivalence;
+import java.util.Comparator;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -96,4 +98,47 @@ void testDifferenceWith_customComparator() {
 
         assertEquals(Collections.singletonList(1.2), result, "Expected [1.2] after filtering based on Math.floor");
     }
+
+    @Test
+    void testDifferenceWithEquivalence() {
+        List<String> input = Arrays.asList("Apple", null, "Banana", "apple", "Cherry");
+        List<String> exclude = Arrays.asList("banana", null);
+
+        List<String> result = CollectionUtils.differenceWith(input, Equivalence.caseInsensitive(), exclude,
+            Collections.singletonList("CHERRY"));
+
+        assertEquals(Collections.singletonList("Apple"), result);
+    }
+
+    @Test
+    void testDifferenceWithEquivalenceMatchesPredicate() {
+        List<Double> input = Arrays.asList(1.2, 2.3, 3.4, 4.5);
+        List<Double> exclude = Arrays.asList(2.9, 4.1);
+
+        assertEquals(CollectionUtils.differenceWith(input, (a, b) -> Math.floor(a) == Math.floor(b), exclude),
+            CollectionUtils.differenceWith(input, Equivalence.onResultOf(Math::floor), exclude));
+    }
+
+    @Test
+    void testDifferenceWithComparator() {
+        List<String> input = Arrays.asList("Apple", null, "Banana", "apple", "Cherry", "Date");
+        List<String> exclude = Arrays.asList("banana", null, "DATE");
+
+        List<String> result = CollectionUtils.differenceWithComparator(input, String.CASE_INSENSITIVE_ORDER, exclude,
+            Collections.singletonList("cherry"));
+
+        assertEquals(Collections.singletonList("Apple"), result);
+        assertEquals(input, CollectionUtils.differenceWithComparator(input, String.CASE_INSENSITIVE_ORDER,
+            (Collection<String>[]) null));
+    }
+
+    @Test
+    void testDifferenceWithComparatorMatchesPredicate() {
+        List<Double> input = Arrays.asList(4.5, 1.2, 2.3, 3.4);
+        List<Double> exclude = Arrays.asList(2.9, 4.1);
+        Comparator<Double> byFloor = Comparator.comparingDouble(Math::floor);
+
+        assertEquals(CollectionUtils.differenceWith(input, (a, b) -> Math.floor(a) == Math.floor(b), exclude),
+            CollectionUtils.differenceWithComparator(input, byFloor, exclude));
+    }
 }
@@ -0,0 +1,85 @@
+package io.javadash.CollectionUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.javadash.CollectionUtils;
+import io.javadash.Equivalence;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class EquivalenceTest {
+
+    @Test
+    void testCaseInsensitiveHashAgreesWithEquivalent() {
+        Equivalence<String> equivalence = Equivalence.caseInsensitive();
+        String[][] pairs = {{"Apple", "aPPLE"}, {"straße", "STRAßE"}, {"İ", "i̇"}, {"Σ", "ς"}};
+
+        for (String[] pair : pairs) {
+            if (equivalence.equivalent(pair[0], pair[1])) {
+                assertEquals(equivalence.hash(pair[0]), equivalence.hash(pair[1]), pair[0]);
+            }
+        }
+        assertTrue(equivalence.equivalent("Apple", "aPPLE"));
+        assertFalse(equivalence.equivalent("Apple", "Apples"));
+    }
+
+    @Test
+    void testWrap() {
+        Equivalence<String> equivalence = Equivalence.caseInsensitive();
+
+        assertEquals(equivalence.wrap("Apple"), equivalence.wrap("APPLE"));
+        assertEquals(equivalence.wrap("Apple").hashCode(), equivalence.wrap("APPLE").hashCode());
+        assertNotEquals(equivalence.wrap("Apple"), equivalence.wrap("Pear"));
+        assertNotEquals(equivalence.wrap("Apple"), Equivalence.<String>equals().wrap("Apple"));
+        assertEquals(equivalence.wrap(null), equivalence.wrap(null));
+        assertNotEquals(equivalence.wrap(null), equivalence.wrap("null"));
+        assertNull(equivalence.wrap(null).get());
+        assertEquals("Apple", equivalence.wrap("Apple").get());
+    }
+
+    @Test
+    void testEqualsAndIdentity() {
+        String a = new String("value");
+        String b = new String("value");
+
+        assertTrue(Equivalence.<String>equals().equivalent(a, b));
+        assertFalse(Equivalence.<String>identity().equivalent(a, b));
+        assertEquals(Collections.singletonList(a), CollectionUtils.uniqWith(Arrays.asList(a, b), Equivalence.equals()));
+        List<String> distinct = CollectionUtils.uniqWith(Arrays.asList(a, b, a), Equivalence.identity());
+        assertSame(a, distinct.get(0));
+        assertSame(b, distinct.get(1));
+        assertEquals(2, distinct.size());
+    }
+
+    @Test
+    void testOf() {
+        Equivalence<Integer> sameParity = Equivalence.of((a, b) -> a % 2 == b % 2, value -> value % 2);
+
+        assertEquals(Arrays.asList(1, 2), CollectionUtils.uniqWith(Arrays.asList(1, 2, 3, 4), sameParity));
+        assertThrows(NullPointerException.class, () -> Equivalence.of(null, Object::hashCode));
+        assertThrows(NullPointerException.class, () -> Equivalence.onResultOf(null));
+    }
+
+    @Test
+    void testPullAllWith() {
+        List<String> collection = new ArrayList<>(Arrays.asList("apple", "Banana", null, "cherry", "BANANA"));
+
+        Collection<? extends String> result =
+            CollectionUtils.pullAllWith(collection, Arrays.asList("banana", "CHERRY"), Equivalence.caseInsensitive());
+
+        assertSame(collection, result);
+        assertEquals(Arrays.asList("apple", null), collection);
+        assertThrows(NullPointerException.class,
+            () -> CollectionUtils.pullAllWith(collection, collection, (Equivalence<String>) null));
+    }
+}
@@ -5,6 +5,8 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -51,5 +53,13 @@ public void testFindLastIndex_withFromIndexOutOfBounds() {
         int result2 = findLastIndex(users, user -> "barney".equals(user), -10);
         assertEquals(-1, result2);
     }
-}
 
+    @Test
+    public void testFindLastIndex_nonRandomAccessCollections() {
+        List<String> users = new LinkedList<>(Arrays.asList("barney", "fred", "barney", "pebbles"));
+
+        assertEquals(2, findLastIndex(users, "barney"::equals, 3));
+        assertEquals(0, findLastIndex(users, "barney"::equals, 1));
+        assertEquals(1, findLastIndex(new LinkedHashSet<>(users), "fred"::equals, 5));
+    }
+}
@@ -5,6 +5,8 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -77,4 +79,12 @@ public void testIndexOf_largeNegativeFromIndex() {
         int result = indexOf(array, 1, -10);
         assertEquals(0, result, "Expected to find 1 at index 0 when starting index is much lower than array size.");
     }
+
+    @Test
+    public void testIndexOf_nonRandomAccessCollections() {
+        assertEquals(2, indexOf(new LinkedList<>(Arrays.asList(1, 2, 3, 2)), 3));
+        assertEquals(3, indexOf(new LinkedList<>(Arrays.asList(1, 2, 3, 2)), 2, 2));
+        assertEquals(1, indexOf(new LinkedHashSet<>(Arrays.asList(5, 6, 7)), 6, 0));
+        assertEquals(-1, indexOf(new LinkedHashSet<>(Arrays.asList(5, 6, 7)), 5, 1));
+    }
 }
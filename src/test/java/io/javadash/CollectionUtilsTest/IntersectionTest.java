@@ -1,11 +1,16 @@
 package io.javadash.CollectionUtilsTest;
 
 import static io.javadash.CollectionUtils.intersection;
+import static io.javadash.CollectionUtils.intersectionFiltered;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.javadash.primitive.BloomFilter;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class IntersectionTest {
@@ -88,5 +93,54 @@ public void testIntersection_NullArray2() {
 
         assertEquals(expected, result);
     }
-}
 
+    @Test
+    public void testIntersection_ManyArraysKeepSourceOrder() {
+        List<Integer> array1 = Arrays.asList(4, 3, 2, 1, 3, 4);
+        List<Integer> array2 = Arrays.asList(1, 2, 3, 4, 5);
+        List<Integer> array3 = Arrays.asList(3, 4);
+        List<Integer> array4 = Arrays.asList(9, 4, 8, 3, 4);
+
+        List<Integer> result = intersection(array1, array2, array3, array4);
+
+        assertEquals(Arrays.asList(4, 3), result);
+    }
+
+    @Test
+    public void testIntersection_StopsOnceEmpty() {
+        List<Integer> array1 = Arrays.asList(1, 2, 3);
+        List<Integer> disjoint = Arrays.asList(7, 8);
+        List<Integer> unread = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                throw new AssertionError("the largest array should not be read");
+            }
+
+            @Override
+            public int size() {
+                return 1_000;
+            }
+        };
+
+        List<Integer> result = intersection(array1, unread, disjoint);
+
+        assertEquals(Collections.emptyList(), result);
+    }
+
+    @Test
+    void testIntersection_withBloomFilter() {
+        Set<String> accounts = new HashSet<>(Arrays.asList("ann@example.com", "bob@example.com"));
+        BloomFilter<String> filter = BloomFilter.<String>create(accounts.size(), 0.01).putAll(accounts);
+        List<String> signups = Arrays.asList("cid@example.com", "bob@example.com", "ann@example.com",
+            "bob@example.com");
+
+        assertEquals(Arrays.asList("bob@example.com", "ann@example.com"),
+            intersectionFiltered(signups, filter, accounts::contains));
+        assertEquals(Collections.emptyList(), intersectionFiltered(signups, filter, email -> false));
+    }
+
+    @Test
+    void testIntersection_withNullValuesIsNotFiltered() {
+        assertEquals(Collections.emptyList(), intersection(Arrays.asList(1, 2, 3), null, null));
+    }
+}
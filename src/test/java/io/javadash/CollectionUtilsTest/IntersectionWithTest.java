@@ -1,9 +1,12 @@
 package io.javadash.CollectionUtilsTest;
 
+import static io.javadash.CollectionUtils.intersectionWithComparator;
 import static io.javadash.CollectionUtils.intersectionWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.javadash.Equivalence;
+import java.util.Comparator;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -112,5 +115,44 @@ void testIntersectionWithEmptyValues() {
 
         assertTrue(result.isEmpty());
     }
-}
 
+    @Test
+    void testIntersectionWithEquivalence() {
+        List<String> list1 = Arrays.asList("Apple", "Banana", "banana", "Cherry", null);
+        List<String> list2 = Arrays.asList("BANANA", "cherry", "date", null);
+        List<String> list3 = Arrays.asList("Cherry", "Banana");
+
+        List<String> result = intersectionWith(list1, Equivalence.caseInsensitive(), list2, list3);
+
+        assertEquals(Arrays.asList("Banana", "Cherry"), result);
+        assertTrue(intersectionWith(list1, Equivalence.caseInsensitive(), list2, Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void testIntersectionWithComparator() {
+        List<String> list1 = Arrays.asList("Cherry", "Apple", "Banana", "banana", null);
+        List<String> list2 = Arrays.asList("BANANA", "cherry", "date", null);
+        List<String> list3 = Arrays.asList("Banana", "Cherry");
+
+        List<String> result = intersectionWithComparator(list1, String.CASE_INSENSITIVE_ORDER, list2, list3);
+
+        assertEquals(Arrays.asList("Cherry", "Banana"), result);
+        assertTrue(intersectionWithComparator(list1, String.CASE_INSENSITIVE_ORDER, list2, null).isEmpty());
+    }
+
+    @Test
+    void testIntersectionWithComparatorOnCompositeKey() {
+        Comparator<String[]> byNameThenDate = Comparator.<String[], String>comparing(row -> row[0].toLowerCase())
+            .thenComparing(row -> row[1]);
+        List<String[]> monday = Arrays.asList(new String[]{"Ann", "01"}, new String[]{"Bob", "02"},
+            new String[]{"Cid", "03"});
+        List<String[]> tuesday = Arrays.asList(new String[]{"bob", "02"}, new String[]{"ANN", "01"},
+            new String[]{"Cid", "04"});
+
+        List<String[]> result = intersectionWithComparator(monday, byNameThenDate, tuesday);
+
+        assertEquals(2, result.size());
+        assertEquals("Ann", result.get(0)[0]);
+        assertEquals("Bob", result.get(1)[0]);
+    }
+}
@@ -0,0 +1,116 @@
+package io.javadash.CollectionUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.javadash.CollectionUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class IterableInputTest {
+
+    /**
+     * An iterable that can be iterated only once, like a stream or a cursor.
+     */
+    @SafeVarargs
+    private static <T> Iterable<T> once(T... values) {
+        Iterator<T> iterator = Arrays.asList(values).iterator();
+        boolean[] used = {false};
+        return () -> {
+            if (used[0]) {
+                throw new IllegalStateException("already iterated");
+            }
+            used[0] = true;
+            return iterator;
+        };
+    }
+
+    @Test
+    void testUniq() {
+        assertEquals(Arrays.asList(1, 2, 3), CollectionUtils.uniq(once(1, 2, 2, 3, 1)));
+        assertEquals(Collections.emptyList(), CollectionUtils.uniq((Iterable<Integer>) null));
+    }
+
+    @Test
+    void testUniqBy() {
+        List<String> result = CollectionUtils.uniqBy(once("apple", "avocado", "banana"), s -> s.charAt(0));
+        assertEquals(Arrays.asList("apple", "banana"), result);
+    }
+
+    @Test
+    void testCountBy() {
+        Stream<String> stream = Stream.of("apple", "banana", "apple", "apple", "orange");
+        Map<String, Long> result = CollectionUtils.countBy(stream::iterator, String::toUpperCase);
+
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("APPLE", 3L);
+        expected.put("BANANA", 1L);
+        expected.put("ORANGE", 1L);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void testGroupBy() {
+        Map<Character, List<String>> result =
+            CollectionUtils.groupBy(once("apple", null, "banana", "avocado"), s -> s.charAt(0));
+
+        Map<Character, List<String>> expected = new HashMap<>();
+        expected.put('a', Arrays.asList("apple", "avocado"));
+        expected.put('b', Collections.singletonList("banana"));
+        assertEquals(expected, result);
+        assertEquals(Collections.emptyMap(), CollectionUtils.groupBy((Iterable<String>) null, s -> s.charAt(0)));
+    }
+
+    @Test
+    void testKeyBy() {
+        Iterator<String> words = Arrays.asList("apple", "banana", "apricot").iterator();
+        Map<Integer, String> result = CollectionUtils.keyBy(() -> words, String::length);
+
+        assertEquals(Arrays.asList(5, 6, 7), Arrays.asList(result.keySet().toArray()));
+        assertEquals("banana", result.get(6));
+    }
+
+    @Test
+    void testPartition() {
+        List<List<Integer>> result = CollectionUtils.partition(once(1, 2, null, 3, 4, 5), n -> n % 2 == 0);
+        assertEquals(Arrays.asList(Arrays.asList(2, 4), Arrays.asList(1, 3, 5)), result);
+    }
+
+    @Test
+    void testReduce() {
+        assertEquals(15, CollectionUtils.reduce(once(1, 2, null, 3, 4, 5), 0, Integer::sum));
+        assertEquals(Optional.of(15), CollectionUtils.reduce(once(1, 2, 3, 4, 5), Integer::sum));
+        assertEquals(Optional.empty(), CollectionUtils.reduce(once(), Integer::sum));
+        assertEquals(7, CollectionUtils.reduce((Iterable<Integer>) null, 7, Integer::sum));
+    }
+
+    @Test
+    void testMinByAndMaxBy() {
+        Stream<String> words = Stream.of("kiwi", null, "banana", "fig");
+        assertEquals(Optional.of("fig"), CollectionUtils.minBy(words::iterator, String::length));
+        assertEquals(Optional.of("banana"), CollectionUtils.maxBy(once("kiwi", "banana", "fig"), String::length));
+        assertEquals(Optional.empty(), CollectionUtils.maxBy(once(), String::length));
+    }
+
+    @Test
+    void testIteratedOnlyOnce() {
+        Iterable<Integer> iterable = once(1, 2, 3);
+        CollectionUtils.groupBy(iterable, n -> n % 2);
+        assertThrows(IllegalStateException.class, () -> CollectionUtils.groupBy(iterable, n -> n % 2));
+    }
+
+    @Test
+    void testCollectionArgumentsStillUseCollectionOverloads() {
+        List<Integer> numbers = Arrays.asList(1, 2, 2, 3);
+        assertEquals(Collections.emptyList(), CollectionUtils.uniq(Collections.<Integer>emptyList()));
+        assertEquals(Arrays.asList(1, 2, 3), CollectionUtils.uniq(numbers));
+        assertEquals(Collections.emptyMap(), CollectionUtils.groupBy(null, n -> n));
+    }
+}
@@ -5,6 +5,8 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -65,5 +67,15 @@ void testLastIndexOfWithEmptyList() {
 
         assertEquals(-1, result);
     }
-}
 
+    @Test
+    void testLastIndexOfSearchesLeftFromFromIndex() {
+        List<String> array = Arrays.asList("apple", "banana", "apple", "cherry");
+
+        assertEquals(2, lastIndexOf(array, "apple", 3));
+        assertEquals(0, lastIndexOf(array, "apple", 1));
+        assertEquals(0, lastIndexOf(new LinkedList<>(array), "apple", 1));
+        assertEquals(2, lastIndexOf(new LinkedHashSet<>(Arrays.asList("a", "b", "c", "d")), "c", -1));
+        assertEquals(-1, lastIndexOf(new LinkedHashSet<>(Arrays.asList("a", "b", "c", "d")), "c", 1));
+    }
+}
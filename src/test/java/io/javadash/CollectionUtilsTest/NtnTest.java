@@ -69,4 +69,12 @@ void testNth_lastElement() {
         assertTrue(result.isPresent(), "Expected Optional to contain a value");
         assertEquals(3.3, result.get(), "Expected last element to be 3.3");
     }
+
+    @Test
+    void testNth_nonListCollection() {
+        Set<String> input = new LinkedHashSet<>(Arrays.asList("A", "B", "C"));
+
+        assertEquals(Optional.of("B"), CollectionUtils.nth(input, 1));
+        assertEquals(Optional.of("C"), CollectionUtils.nth(input, -1));
+    }
 }
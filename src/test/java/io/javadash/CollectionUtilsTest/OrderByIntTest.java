@@ -0,0 +1,59 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.orderBy;
+import static io.javadash.CollectionUtils.orderByInt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class OrderByIntTest {
+
+    @Test
+    void testOrderByInt() {
+        List<Integer> numbers = Arrays.asList(5, -3, 8, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1);
+
+        assertEquals(Arrays.asList(Integer.MIN_VALUE, -3, -1, 0, 5, 8, Integer.MAX_VALUE),
+            orderByInt(numbers, n -> n));
+        assertEquals(Arrays.asList(Integer.MAX_VALUE, 8, 5, 0, -1, -3, Integer.MIN_VALUE),
+            orderByInt(numbers, n -> ~n));
+    }
+
+    @Test
+    void testMatchesStableComparisonSort() {
+        Random random = new Random(42);
+        int[] bounds = {1, 7, 300, 70_000, Integer.MAX_VALUE};
+        for (int bound : bounds) {
+            List<int[]> rows = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                rows.add(new int[]{random.nextInt(bound) - bound / 2, i});
+            }
+
+            assertEquals(orderBy(rows, Comparator.comparingInt(row -> row[0])), orderByInt(rows, row -> row[0]));
+        }
+    }
+
+    @Test
+    void testEqualKeysKeepEncounterOrder() {
+        String first = new String("x");
+        String second = new String("x");
+        List<String> result = orderByInt(Arrays.asList(second, "a", first), String::length);
+
+        assertSame(second, result.get(0));
+        assertSame(first, result.get(2));
+    }
+
+    @Test
+    void testNulls() {
+        assertEquals(Arrays.asList(1, 2, null, null), orderByInt(Arrays.asList(null, 2, null, 1), n -> n));
+        assertEquals(Collections.emptyList(), orderByInt(null, (Integer n) -> n));
+        assertThrows(NullPointerException.class, () -> orderByInt(Arrays.asList(1, 2), null));
+    }
+}
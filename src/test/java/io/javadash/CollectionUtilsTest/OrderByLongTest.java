@@ -0,0 +1,59 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.orderBy;
+import static io.javadash.CollectionUtils.orderByLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.javadash.SortKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class OrderByLongTest {
+
+    @Test
+    void testOrderByLong() {
+        List<Long> numbers = Arrays.asList(5L, Long.MAX_VALUE, -3L, Long.MIN_VALUE, 0L, 1L << 40);
+
+        assertEquals(Arrays.asList(Long.MIN_VALUE, -3L, 0L, 5L, 1L << 40, Long.MAX_VALUE),
+            orderByLong(numbers, n -> n));
+    }
+
+    @Test
+    void testTimestampsMatchStableComparisonSort() {
+        Random random = new Random(42);
+        long start = 1_700_000_000_000L;
+        List<long[]> events = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            events.add(new long[]{start + random.nextInt(3 * 86_400_000), i});
+        }
+        events.add(new long[]{-start, -1});
+
+        List<long[]> expected = orderBy(events, Comparator.comparingLong(event -> event[0]));
+        assertEquals(expected, orderByLong(events, event -> event[0]));
+        assertEquals(expected, orderBy(events, SortKey.ascLong(event -> event[0])));
+        assertEquals(orderBy(events, Comparator.<long[]>comparingLong(event -> event[0]).reversed()),
+            orderBy(events, SortKey.descLong(event -> event[0])));
+    }
+
+    @Test
+    void testDoubleKeyRadixPath() {
+        List<Double> numbers = Arrays.asList(2.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -7.25, 1e300);
+
+        assertEquals(orderBy(numbers, Double::compare), orderBy(numbers, SortKey.ascDouble(d -> d)));
+        assertEquals(orderBy(numbers, Comparator.<Double>naturalOrder().reversed()),
+            orderBy(numbers, SortKey.descDouble(d -> d)));
+    }
+
+    @Test
+    void testNulls() {
+        assertEquals(Arrays.asList(1L, 2L, null), orderByLong(Arrays.asList(2L, null, 1L), n -> n));
+        assertEquals(Collections.emptyList(), orderByLong(Collections.<Long>emptyList(), n -> n));
+        assertThrows(NullPointerException.class, () -> orderByLong(Arrays.asList(1L, 2L), null));
+    }
+}
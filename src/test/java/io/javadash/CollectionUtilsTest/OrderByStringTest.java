@@ -0,0 +1,88 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.orderBy;
+import static io.javadash.CollectionUtils.orderByString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class OrderByStringTest {
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = random.nextInt(maxLength + 1); i > 0; i--) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void testOrderByString() {
+        List<String> words = Arrays.asList("pear", "Apple", "apple", "", "app", "\u00e9clair", "\u4e2d", "banana");
+
+        assertEquals(Arrays.asList("", "Apple", "app", "apple", "banana", "pear", "\u00e9clair", "\u4e2d"),
+            orderByString(words, word -> word));
+    }
+
+    @Test
+    void testMatchesStableComparisonSort() {
+        Random random = new Random(42);
+        String[] alphabets = {"ab", "ACGT", "abcdefghijklmnopqrstuvwxyz0123456789", "a\u00ff\u0100\uffff"};
+        for (String alphabet : alphabets) {
+            List<Map.Entry<String, Integer>> rows = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                String key = randomString(random, alphabet, 12);
+                rows.add(new SimpleEntry<>(i % 11 == 0 ? "shared/prefix/" + key : key, i));
+            }
+
+            assertEquals(orderBy(rows, Map.Entry.comparingByKey()), orderByString(rows, Map.Entry::getKey));
+        }
+    }
+
+    @Test
+    void testLongCommonPrefix() {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            prefix.append('x');
+        }
+        List<String> keys = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            keys.add(prefix + Integer.toString(i));
+        }
+
+        assertEquals(orderBy(keys, Comparator.naturalOrder()), orderByString(keys, key -> key));
+    }
+
+    @Test
+    void testNestedPrefixes() {
+        List<String> keys = new ArrayList<>();
+        StringBuilder key = new StringBuilder("b");
+        for (int i = 0; i < 10_000; i++) {
+            keys.add(key.toString());
+            key.insert(0, 'a');
+        }
+        List<String> expected = new ArrayList<>(keys);
+        Collections.reverse(expected);
+
+        assertEquals(expected, orderByString(keys, word -> word));
+    }
+
+    @Test
+    void testNulls() {
+        List<String> words = Arrays.asList("b", null, "NULL", "a");
+
+        assertEquals(Arrays.asList("a", "b", "NULL", null),
+            orderByString(words, word -> "NULL".equals(word) ? null : word));
+        assertEquals(Collections.emptyList(), orderByString(null, (String word) -> word));
+        assertThrows(NullPointerException.class, () -> orderByString(words, null));
+    }
+}
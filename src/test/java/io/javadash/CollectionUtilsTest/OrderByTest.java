@@ -4,11 +4,15 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import io.javadash.SortKey;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
 public class OrderByTest {
@@ -148,6 +152,77 @@ void testOrderBy_studentList_sortByNameAndAge() {
         assertEquals(expected, result);
     }
 
+    @Test
+    void testOrderBy_multipleKeys() {
+        List<Student> students = Arrays.asList(
+            new Student("Bob", 25),
+            new Student("alice", 22),
+            new Student("Alice", 30),
+            new Student("Bob", 20),
+            new Student("Alice", 22)
+        );
+
+        List<Student> result = orderBy(students,
+            SortKey.asc(Student::getName, String.CASE_INSENSITIVE_ORDER),
+            SortKey.descLong(Student::getAge));
+
+        List<Student> expected = Arrays.asList(
+            new Student("Alice", 30),
+            new Student("alice", 22),
+            new Student("Alice", 22),
+            new Student("Bob", 25),
+            new Student("Bob", 20)
+        );
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void testOrderBy_multipleKeysMatchesChainedComparator() {
+        Random random = new Random(42);
+        List<double[]> rows = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            rows.add(new double[]{random.nextInt(5), random.nextInt(3) - 1 + (i % 7 == 0 ? -0.0 : 0.0),
+                random.nextInt(100), i});
+        }
+        Comparator<double[]> chained = Comparator.<double[]>comparingDouble(row -> row[0])
+            .thenComparing(Comparator.<double[]>comparingDouble(row -> row[1]).reversed())
+            .thenComparingDouble(row -> row[2]);
+
+        List<double[]> result = orderBy(rows,
+            SortKey.ascDouble(row -> row[0]), SortKey.descDouble(row -> row[1]), SortKey.asc(row -> row[2]));
+
+        assertEquals(orderBy(rows, chained), result);
+    }
+
+    @Test
+    void testOrderBy_nullKeysAndElements() {
+        List<String> names = Arrays.asList("b", null, "a", "ab", "c");
+        Function<String, String> initial = name -> name.equals("ab") ? null : name.substring(0, 1);
+
+        assertEquals(Arrays.asList("a", "b", "c", "ab", null), orderBy(names, SortKey.asc(initial)));
+        assertEquals(Arrays.asList("ab", "a", "b", "c", null), orderBy(names, SortKey.asc(initial).nullsFirst()));
+        assertEquals(Arrays.asList("c", "b", "a", "ab", null), orderBy(names, SortKey.desc(initial)));
+        assertEquals(Arrays.asList("ab", "c", "b", "a", null),
+            orderBy(names, SortKey.desc(initial).nullsFirst()));
+    }
+
+    @Test
+    void testOrderBy_iterateesAndOrders() {
+        List<Student> students = Arrays.asList(
+            new Student("Bob", 25),
+            new Student("Alice", 22),
+            new Student("Bob", 30)
+        );
+        List<Function<Student, Comparable<?>>> iteratees = Arrays.asList(Student::getName, Student::getAge);
+
+        assertEquals(Arrays.asList(new Student("Alice", 22), new Student("Bob", 30), new Student("Bob", 25)),
+            orderBy(students, iteratees, Arrays.asList("asc", "DESC")));
+        assertEquals(Arrays.asList(new Student("Alice", 22), new Student("Bob", 25), new Student("Bob", 30)),
+            orderBy(students, iteratees, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> orderBy(students, iteratees, Collections.singletonList("up")));
+    }
+
     @Test
     void testOrderBy_nullComparator() {
         List<Integer> collection = Arrays.asList(5, 3, 8, 1, 7);
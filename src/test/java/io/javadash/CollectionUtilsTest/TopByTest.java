@@ -0,0 +1,111 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.bottomBy;
+import static io.javadash.CollectionUtils.bottomByKey;
+import static io.javadash.CollectionUtils.orderBy;
+import static io.javadash.CollectionUtils.take;
+import static io.javadash.CollectionUtils.topBy;
+import static io.javadash.CollectionUtils.topByKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class TopByTest {
+
+    private static List<Map.Entry<Integer, Integer>> entries(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            entries.add(new SimpleEntry<>(random.nextInt(bound), i));
+        }
+        return entries;
+    }
+
+    @Test
+    void testTopByAndBottomBy() {
+        List<Integer> numbers = Arrays.asList(5, 2, 8, 3, 9, 1);
+
+        assertEquals(Arrays.asList(9, 8, 5), topBy(numbers, 3, Integer::compareTo));
+        assertEquals(Arrays.asList(1, 2, 3), bottomBy(numbers, 3, Integer::compareTo));
+        assertEquals(Arrays.asList(9, 8, 5, 3, 2, 1), topBy(numbers, 100, Integer::compareTo));
+    }
+
+    @Test
+    void testMatchesStableSortThenTake() {
+        Comparator<Map.Entry<Integer, Integer>> byKey = Map.Entry.comparingByKey();
+        for (int k : new int[]{1, 7, 100, 999, 1000, 5000}) {
+            List<Map.Entry<Integer, Integer>> entries = entries(1000, 50, k);
+
+            assertEquals(take(orderBy(entries, byKey.reversed()), k), topBy(entries, k, byKey));
+            assertEquals(take(orderBy(entries, byKey), k), bottomBy(entries, k, byKey));
+            assertEquals(take(orderBy(entries, byKey.reversed()), k), topByKey(entries, k, e -> e.getKey()));
+            assertEquals(take(orderBy(entries, byKey), k), bottomByKey(entries, k, e -> e.getKey()));
+        }
+    }
+
+    @Test
+    void testEqualElementsKeepEncounterOrder() {
+        String first = new String("b");
+        String second = new String("b");
+        List<String> values = Arrays.asList("a", first, "c", second);
+
+        List<String> top = topBy(values, 2, Comparator.reverseOrder());
+        assertSame(first, top.get(1));
+        assertEquals(Arrays.asList("a", "b"), top);
+
+        List<String> bottom = bottomBy(values, 2, Comparator.reverseOrder());
+        assertSame(first, bottom.get(1));
+        assertEquals(Arrays.asList("c", "b"), bottom);
+    }
+
+    @Test
+    void testTopByKeyComputesEachKeyOnce() {
+        int[] calls = new int[1];
+        List<Integer> numbers = Arrays.asList(4, -7, 1, 9, -2, 6);
+
+        assertEquals(Arrays.asList(9, -7, 6), topByKey(numbers, 3, n -> {
+            calls[0]++;
+            return Math.abs(n);
+        }));
+        assertEquals(numbers.size(), calls[0]);
+        assertEquals(Arrays.asList(1.0, 2.5), bottomByKey(Arrays.asList(Double.NaN, 2.5, 1.0), 2, d -> d));
+        assertEquals(Arrays.asList(Double.NaN, 2.5), topByKey(Arrays.asList(2.5, Double.NaN, 1.0), 2, d -> d));
+    }
+
+    @Test
+    void testStreams() {
+        List<Map.Entry<Integer, Integer>> entries = entries(20_000, 100, 42);
+        Comparator<Map.Entry<Integer, Integer>> byKey = Map.Entry.comparingByKey();
+        List<Map.Entry<Integer, Integer>> expected = take(orderBy(entries, byKey.reversed()), 250);
+
+        assertEquals(expected, topBy(entries.stream(), 250, byKey));
+        assertEquals(expected, topBy(entries.parallelStream(), 250, byKey));
+        assertEquals(expected, topByKey(entries.parallelStream(), 250, e -> e.getKey()));
+        assertEquals(take(orderBy(entries, byKey), 250), bottomBy(entries.parallelStream(), 250, byKey));
+        assertEquals(Arrays.asList(3, 2), topBy(Stream.of(1, 3, 2)::iterator, 2, Integer::compareTo));
+    }
+
+    @Test
+    void testNullsAndEdgeCases() {
+        List<Integer> numbers = Arrays.asList(3, null, 1, null, 2);
+
+        assertEquals(Arrays.asList(3, 2), topBy(numbers, 2, Integer::compareTo));
+        assertEquals(Collections.emptyList(), topBy((Iterable<Integer>) null, 2, Integer::compareTo));
+        assertEquals(Collections.emptyList(), bottomBy((Stream<Integer>) null, 2, Integer::compareTo));
+        assertEquals(Collections.emptyList(), topBy(numbers, 0, Integer::compareTo));
+        assertEquals(Collections.emptyList(), topByKey(numbers, -1, n -> n));
+        assertThrows(NullPointerException.class, () -> topBy(numbers, 2, null));
+        assertThrows(NullPointerException.class, () -> topByKey(numbers, 2, null));
+    }
+}
@@ -3,6 +3,7 @@
 import static io.javadash.CollectionUtils.unionWith;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.javadash.Equivalence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -129,7 +130,14 @@ public String toString() {
             return name + ", " + age;
         }
     }
-}
 
+    @Test
+    void testUnionWithEquivalence() {
+        List<String> list1 = Arrays.asList("Apple", "Pear", null);
+        List<String> list2 = Arrays.asList("apple", "Plum", null);
 
+        List<String> result = unionWith(Equivalence.caseInsensitive(), list1, list2);
 
+        assertEquals(Arrays.asList("Apple", "Pear", null, "Plum"), result);
+    }
+}
@@ -1,8 +1,12 @@
 package io.javadash.CollectionUtilsTest;
 
+import static io.javadash.CollectionUtils.uniqWithComparator;
 import static io.javadash.CollectionUtils.uniqWith;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.javadash.Equivalence;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -96,7 +100,45 @@ public String toString() {
             return name + ", " + age;
         }
     }
-}
 
+    @Test
+    void testUniqWithEquivalence() {
+        List<String> words = Arrays.asList("Apple", "apple", "Pear", "APPLE", "pear", "Plum");
+
+        assertEquals(Arrays.asList("Apple", "Pear", "Plum"), uniqWith(words, Equivalence.caseInsensitive()));
+    }
+
+    @Test
+    void testUniqWithEquivalenceOnLargeInput() {
+        List<Double> readings = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            readings.add((i % 1000) + 0.001 * (i % 7));
+        }
+
+        List<Double> result = uniqWith(readings, Equivalence.onResultOf(value -> Math.round(value)));
+
+        assertEquals(1000, result.size());
+        assertEquals(Double.valueOf(0.0), result.get(0));
+    }
 
+    @Test
+    void testUniqWithComparatorKeepsFirstInOrder() {
+        List<String> words = Arrays.asList("pear", "Apple", "apple", "Pear", "APPLE", "Plum");
 
+        assertEquals(Arrays.asList("pear", "Apple", "Plum"), uniqWithComparator(words, String.CASE_INSENSITIVE_ORDER));
+        assertEquals(Arrays.asList(null, 2, 1), uniqWithComparator(Arrays.asList(null, 2, null, 1, 2),
+            Comparator.nullsFirst(Comparator.<Integer>naturalOrder())));
+        assertEquals(Collections.emptyList(), uniqWithComparator(null, String.CASE_INSENSITIVE_ORDER));
+    }
+
+    @Test
+    void testUniqWithComparatorMatchesPredicate() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add((i * 7919) % 613);
+        }
+
+        assertEquals(uniqWith(values, (a, b) -> a / 3 == b / 3),
+            uniqWithComparator(values, Comparator.comparingInt(value -> value / 3)));
+    }
+}
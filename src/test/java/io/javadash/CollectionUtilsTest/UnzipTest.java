@@ -5,7 +5,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -85,8 +88,16 @@ void testUnzipWithNullSublist() {
             new ArrayList<>(Arrays.asList(3, null)))
         ), result);
     }
-}
-
 
+    @Test
+    void testUnzipNonListGroups() {
+        List<Collection<Integer>> grouped = Arrays.asList(
+            new LinkedHashSet<>(Arrays.asList(1, 2, 3)),
+            new LinkedList<>(Arrays.asList(4, 5))
+        );
 
+        List<List<Integer>> result = unzip(grouped);
 
+        assertEquals(Arrays.asList(Arrays.asList(1, 4), Arrays.asList(2, 5), Arrays.asList(3, null)), result);
+    }
+}
@@ -0,0 +1,111 @@
+package io.javadash.CollectionUtilsTest;
+
+import static io.javadash.CollectionUtils.views;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ViewsTest {
+    private final List<Integer> list = Arrays.asList(1, 2, 3, 4, 5);
+
+    @Test
+    void testViewsWithNullAndEmpty() {
+        assertEquals(Collections.emptyList(), views().drop(null, 1));
+        assertEquals(Collections.emptyList(), views().slice(Collections.emptyList(), 0, 3));
+        assertEquals(Collections.emptyList(), views().reverse(null));
+        assertEquals(Collections.emptyList(), views().concat(null, null, Collections.emptyList()));
+    }
+
+    @Test
+    void testViewsMatchCopyingMethods() {
+        assertEquals(Arrays.asList(3, 4, 5), views().drop(list, 2));
+        assertEquals(list, views().drop(list, -1));
+        assertEquals(Arrays.asList(1, 2, 3), views().dropRight(list, 2));
+        assertEquals(Collections.emptyList(), views().dropRight(list, 10));
+        assertEquals(Arrays.asList(1, 2), views().take(list, 2));
+        assertEquals(Collections.emptyList(), views().take(list, -1));
+        assertEquals(Arrays.asList(4, 5), views().takeRight(list, 2));
+        assertEquals(list, views().takeRight(list, 10));
+        assertEquals(Arrays.asList(2, 3), views().slice(list, 1, 3));
+        assertEquals(Arrays.asList(4, 5), views().slice(list, 3));
+        assertEquals(Collections.emptyList(), views().slice(list, 3, 1));
+        assertEquals(Arrays.asList(1, 2, 3, 4), views().initial(list));
+        assertEquals(Arrays.asList(2, 3, 4, 5), views().tail(list));
+        assertEquals(Arrays.asList(5, 4, 3, 2, 1), views().reverse(list));
+    }
+
+    @Test
+    void testViewsAreBackedBySource() {
+        List<Integer> source = new ArrayList<>(list);
+        List<Integer> slice = views().slice(source, 1, 3);
+        List<Integer> reversed = views().reverse(source);
+
+        source.set(1, 20);
+
+        assertEquals(Arrays.asList(20, 3), slice);
+        assertEquals(Integer.valueOf(20), reversed.get(3));
+    }
+
+    @Test
+    void testViewsAreReadOnly() {
+        List<Integer> slice = views().slice(new ArrayList<>(list), 1, 3);
+
+        assertThrows(UnsupportedOperationException.class, () -> slice.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> slice.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> views().reverse(list).remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.get(2));
+    }
+
+    @Test
+    void testViewsOfViews() {
+        List<Integer> nested = views().tail(views().tail(views().reverse(list)));
+
+        assertEquals(Arrays.asList(3, 2, 1), nested);
+        assertEquals(Arrays.asList(2), nested.subList(1, 2));
+        assertTrue(nested instanceof RandomAccess);
+    }
+
+    @Test
+    void testViewsCopyNonRandomAccessOnce() {
+        assertEquals(Arrays.asList(2, 3), views().slice(new LinkedList<>(list), 1, 3));
+        assertEquals(Arrays.asList(3, 2, 1), views().reverse(new LinkedHashSet<>(Arrays.asList(1, 2, 3))));
+    }
+
+    @Test
+    void testConcat() {
+        List<Integer> concat = views().concat(Arrays.asList(1), Arrays.asList(2, 3), null, Arrays.asList(4, null));
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, null), concat);
+        assertEquals(5, concat.size());
+        assertEquals(Integer.valueOf(3), concat.get(2));
+        assertEquals(Arrays.asList(3, 4), concat.subList(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> concat.get(5));
+    }
+
+    @Test
+    void testSpliteratorIsSizedAndSplitsExactly() {
+        List<Integer> source = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        List<Integer> slice = views().slice(source, 100, 9100);
+
+        Spliterator<Integer> spliterator = slice.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(4500, prefix.estimateSize());
+        assertEquals(4500, spliterator.estimateSize());
+
+        assertEquals(slice, slice.parallelStream().collect(Collectors.toList()));
+        assertEquals(source.subList(100, 9100).stream().mapToLong(Integer::longValue).sum(),
+            views().concat(source.subList(100, 5000), source.subList(5000, 9100)).parallelStream()
+                .mapToLong(Integer::longValue).sum());
+    }
+}
@@ -1,11 +1,13 @@
 package io.javadash.CollectionUtilsTest;
 
+import static io.javadash.CollectionUtils.xorAllBy;
 import static io.javadash.CollectionUtils.xorBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
@@ -130,9 +132,34 @@ void testXorByWithEmptyLists() {
 
         assertEquals(Collections.emptyList(), result);
     }
-}
 
+    @Test
+    void testXorByCallsIterateeOncePerElement() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<Double, Double> floor = value -> {
+            calls.incrementAndGet();
+            return Math.floor(value);
+        };
+
+        List<Double> result = xorBy(floor, Arrays.asList(2.1, 1.2, 2.5), Arrays.asList(2.3, 3.4));
+
+        assertEquals(Arrays.asList(1.2, 3.4), result);
+        assertEquals(5, calls.get());
+    }
 
+    @Test
+    void testXorByCountsEachListOnce() {
+        List<String> list1 = Arrays.asList("apple", "avocado", "banana");
+        List<String> list2 = Arrays.asList("cherry", "coconut");
 
+        assertEquals(Arrays.asList("apple", "banana", "cherry"), xorBy(s -> s.charAt(0), list1, list2));
+    }
 
+    @Test
+    void testXorAllBy() {
+        List<List<Double>> lists = Arrays.asList(Arrays.asList(2.1, 1.2), null, Arrays.asList(2.3, 3.4));
 
+        assertEquals(Arrays.asList(1.2, 3.4), xorAllBy(lists, Math::floor));
+        assertThrows(NullPointerException.class, () -> xorAllBy(lists, null));
+    }
+}
@@ -1,10 +1,13 @@
 package io.javadash.CollectionUtilsTest;
 
 import static io.javadash.CollectionUtils.xor;
+import static io.javadash.CollectionUtils.xorAll;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -91,9 +94,40 @@ void testXorWithEmptyLists() {
 
         assertEquals(Collections.emptyList(), result);
     }
-}
-
 
+    @Test
+    void testXorKeepsFirstSeenOrder() {
+        List<Integer> list1 = Arrays.asList(9, 1, 9, 5);
+        List<Integer> list2 = Arrays.asList(7, 5, 3, 7);
 
+        assertEquals(Arrays.asList(9, 1, 7, 3), xor(list1, list2));
+        assertEquals(Arrays.asList(3, 1, 2), xor(Arrays.asList(3, 1, 3, 2)));
+    }
 
+    @Test
+    void testXorWithManySets() {
+        List<List<Integer>> tenants = new ArrayList<>();
+        for (int tenant = 0; tenant < 50; tenant++) {
+            tenants.add(Arrays.asList(0, 1, 1000 + tenant));
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int tenant = 0; tenant < 50; tenant++) {
+            expected.add(1000 + tenant);
+        }
+
+        assertEquals(expected, xorAll(tenants));
+    }
 
+    @Test
+    void testXorAll() {
+        List<Iterable<String>> sets = Arrays.asList(
+            new HashSet<>(Collections.singletonList("beta")),
+            null,
+            Arrays.asList("beta", "export"),
+            Collections.singletonList("dark-mode"));
+
+        assertEquals(Arrays.asList("export", "dark-mode"), xorAll(sets));
+        assertEquals(Collections.emptyList(), xorAll(null));
+    }
+}
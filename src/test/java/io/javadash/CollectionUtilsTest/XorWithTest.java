@@ -3,6 +3,7 @@
 import static io.javadash.CollectionUtils.xorWith;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.javadash.Equivalence;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -116,10 +117,14 @@ void testXorWithEdgeCase() {
         // The result should contain the elements [1, 2]
         assertEquals(Collections.emptyList(), result); // No unique elements after XOR
     }
-}
-
-
-
-
 
+    @Test
+    void testXorWithEquivalence() {
+        List<String> list1 = Arrays.asList("Apple", "Pear", "pear");
+        List<String> list2 = Arrays.asList("apple", "Plum");
+        List<String> list3 = Arrays.asList("PLUM", "Fig");
 
+        assertEquals(Arrays.asList("Pear", "Fig"), xorWith(Equivalence.caseInsensitive(), list1, list2, list3));
+        assertEquals(Collections.emptyList(), xorWith(Equivalence.caseInsensitive(), list1, list1));
+    }
+}
@@ -5,7 +5,10 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class ZipTest {
@@ -95,10 +98,14 @@ void testZipWithNullAndEmpty() {
         // The result should return an empty list
         assertEquals(Collections.emptyList(), result);
     }
-}
-
-
-
 
+    @Test
+    void testZipWithNonListCollections() {
+        Set<String> keys = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        List<Integer> values = new LinkedList<>(Arrays.asList(1, 2, 3));
 
+        List<List<Object>> result = zip(keys, values);
 
+        assertEquals(Arrays.asList(Arrays.asList("a", 1), Arrays.asList("b", 2), Arrays.asList(null, 3)), result);
+    }
+}
@@ -0,0 +1,140 @@
+package io.javadash.MetricsTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.javadash.CollectionUtils;
+import io.javadash.metrics.ComplexityGuard;
+import io.javadash.metrics.ComplexityGuardException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ComplexityGuardTest {
+    private static final List<Integer> LARGE = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    void tearDown() {
+        ComplexityGuard.setMode(ComplexityGuard.Mode.OFF);
+        ComplexityGuard.setMaxWork(ComplexityGuard.DEFAULT_MAX_WORK);
+        ComplexityGuard.clearOperationLimits();
+    }
+
+    @Test
+    void testOffByDefault() {
+        ComplexityGuard.setMaxWork(1);
+        assertEquals(200, CollectionUtils.uniqWith(LARGE, Integer::equals).size());
+    }
+
+    @Test
+    void testParseMode() {
+        assertEquals(ComplexityGuard.Mode.OFF, ComplexityGuard.Mode.parse(null));
+        assertEquals(ComplexityGuard.Mode.OFF, ComplexityGuard.Mode.parse(" "));
+        assertEquals(ComplexityGuard.Mode.LOG, ComplexityGuard.Mode.parse(" log "));
+        assertEquals(ComplexityGuard.Mode.THROW, ComplexityGuard.Mode.parse("Throw"));
+    }
+
+    @Test
+    void testParseInvalidModeFallsBackToOff() {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger("io.javadash.complexity");
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+        try {
+            assertEquals(ComplexityGuard.Mode.OFF, ComplexityGuard.Mode.parse("loud"));
+            assertEquals(1, records.size());
+            assertTrue(records.get(0).getMessage().contains("'loud'"));
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(true);
+        }
+    }
+
+    @Test
+    void testThrowsAboveThreshold() {
+        ComplexityGuard.setMode(ComplexityGuard.Mode.THROW);
+        ComplexityGuard.setMaxWork(1000);
+
+        ComplexityGuardException exception = assertThrows(ComplexityGuardException.class,
+            () -> CollectionUtils.uniqWith(LARGE, Integer::equals));
+        assertEquals("baseUniq", exception.getOperation());
+        assertEquals(40000, exception.getEstimatedWork());
+        assertTrue(exception.getMessage().contains(ComplexityGuardTest.class.getName()));
+    }
+
+    @Test
+    void testAllowsBelowThreshold() {
+        ComplexityGuard.setMode(ComplexityGuard.Mode.THROW);
+        ComplexityGuard.setMaxWork(1000);
+
+        assertEquals(3, CollectionUtils.uniqWith(Arrays.asList(1, 2, 3), Integer::equals).size());
+    }
+
+    @Test
+    void testOperationThresholdOverridesDefault() {
+        ComplexityGuard.setMode(ComplexityGuard.Mode.THROW);
+        ComplexityGuard.setMaxWork(1000);
+        ComplexityGuard.setMaxWork("pullAllWith", 100000);
+
+        assertEquals(0, CollectionUtils.pullAllWith(new ArrayList<>(LARGE), LARGE, Integer::equals).size());
+        assertThrows(ComplexityGuardException.class,
+            () -> CollectionUtils.differenceWith(LARGE, Integer::equals, LARGE));
+        assertThrows(ComplexityGuardException.class,
+            () -> CollectionUtils.xorWith(Integer::equals, LARGE, LARGE));
+    }
+
+    @Test
+    void testLogsInsteadOfThrowing() {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger("io.javadash.complexity");
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+        try {
+            ComplexityGuard.setMode(ComplexityGuard.Mode.LOG);
+            ComplexityGuard.setMaxWork(1000);
+
+            assertEquals(200, CollectionUtils.uniqWith(LARGE, Integer::equals).size());
+            assertEquals(1, records.size());
+            assertTrue(records.get(0).getMessage().startsWith("baseUniq on 200 x 200 elements"));
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(true);
+        }
+    }
+}
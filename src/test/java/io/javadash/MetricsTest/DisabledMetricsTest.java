@@ -0,0 +1,69 @@
+package io.javadash.MetricsTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.javadash.CollectionUtils;
+import io.javadash.StringUtils;
+import io.javadash.metrics.ComplexityGuard;
+import io.javadash.metrics.LongAdderMetricsRecorder;
+import io.javadash.metrics.Metrics;
+import io.javadash.metrics.MetricsRecorder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs only in the {@code metrics-disabled} surefire execution, which forks a JVM without
+ * {@code javadash.metrics.enabled} and with an invalid {@code javadash.complexityGuard.mode}.
+ */
+public class DisabledMetricsTest {
+    private MetricsRecorder previous;
+    private LongAdderMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        previous = Metrics.getRecorder();
+        recorder = new LongAdderMetricsRecorder();
+        Metrics.setRecorder(recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setRecorder(previous);
+    }
+
+    @Test
+    void testMetricsAreDisabled() {
+        assertFalse(Metrics.ENABLED);
+        assertFalse(Metrics.FLIGHT_RECORDER_ENABLED);
+    }
+
+    @Test
+    void testStartAndInputSizeCostNothing() {
+        assertEquals(0L, Metrics.start());
+        assertEquals(0L, Metrics.inputSize(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    void testCallsAreNotRecorded() {
+        List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3, 1));
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 1)), CollectionUtils.chunk(input, 2));
+        CollectionUtils.pull(input, 1);
+        assertEquals(Arrays.asList(2, 3), input);
+        assertEquals("helloWorld", StringUtils.camelCase("hello world"));
+
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test
+    void testInvalidComplexityGuardModeTurnsTheGuardOff() {
+        assertEquals("invalid", System.getProperty("javadash.complexityGuard.mode"));
+        assertEquals(ComplexityGuard.Mode.OFF, ComplexityGuard.getMode());
+    }
+}
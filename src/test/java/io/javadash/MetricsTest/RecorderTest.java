@@ -0,0 +1,125 @@
+package io.javadash.MetricsTest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.javadash.CollectionUtils;
+import io.javadash.NumberUtils;
+import io.javadash.StringUtils;
+import io.javadash.metrics.LongAdderMetricsRecorder;
+import io.javadash.metrics.MethodMetrics;
+import io.javadash.metrics.Metrics;
+import io.javadash.metrics.MetricsRecorder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RecorderTest {
+    private MetricsRecorder previous;
+    private LongAdderMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        previous = Metrics.getRecorder();
+        recorder = new LongAdderMetricsRecorder();
+        Metrics.setRecorder(recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setRecorder(previous);
+    }
+
+    @Test
+    void testMetricsAreEnabledForTheTestSuite() {
+        assertTrue(Metrics.ENABLED);
+    }
+
+    @Test
+    void testRecordsCallsAndInputSizes() {
+        List<Integer> input = Arrays.asList(1, 2, 3, 4, 5);
+
+        CollectionUtils.chunk(input, 2);
+        CollectionUtils.chunk(input, 3);
+        StringUtils.camelCase("hello world");
+
+        MethodMetrics chunk = recorder.snapshot().get("CollectionUtils.chunk");
+        assertEquals(2, chunk.getCalls());
+        assertEquals(2, chunk.getSizeHistogram()[MethodMetrics.bucketOf(5)]);
+        assertTrue(chunk.getMaxNanos() > 0);
+        assertTrue(chunk.getTotalNanos() >= chunk.getMaxNanos());
+        assertEquals(1, recorder.snapshot().get("StringUtils.camelCase").getCalls());
+    }
+
+    @Test
+    void testInternalEmptinessChecksAreNotRecorded() {
+        CollectionUtils.chunk(Arrays.asList(1, 2, 3), 2);
+        CollectionUtils.compact(Arrays.asList(0, 1, null));
+
+        assertFalse(recorder.snapshot().containsKey("CollectionUtils.isEmpty"));
+        CollectionUtils.isEmpty(null);
+        assertEquals(1, recorder.snapshot().get("CollectionUtils.isEmpty").getCalls());
+
+        recorder = new LongAdderMetricsRecorder();
+        Metrics.setRecorder(recorder);
+        NumberUtils.sumInt(Arrays.asList(1, 2, 3));
+        StringUtils.camelCase("one two three four five six seven eight nine ten");
+        CollectionUtils.flattenDeep(Arrays.asList(1, Arrays.asList(2, Arrays.asList(3, Arrays.asList(4)))));
+
+        Map<String, MethodMetrics> snapshot = recorder.snapshot();
+        assertEquals(new TreeSet<>(Arrays.asList("CollectionUtils.flattenDeep", "NumberUtils.sumInt",
+            "StringUtils.camelCase")), snapshot.keySet());
+        snapshot.values().forEach(metrics -> assertEquals(1, metrics.getCalls()));
+    }
+
+    @Test
+    void testRecordsInputSizeBeforeMutation() {
+        List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2, 3, 1));
+
+        CollectionUtils.pull(input, 1, 2, 3);
+
+        assertTrue(input.isEmpty());
+        MethodMetrics pull = recorder.snapshot().get("CollectionUtils.pull");
+        assertEquals(1, pull.getSizeHistogram()[MethodMetrics.bucketOf(16)]);
+    }
+
+    @Test
+    void testRecordsCallsThatThrow() {
+        try {
+            CollectionUtils.filter(Arrays.asList(1, 2), null);
+        } catch (NullPointerException expected) {
+            // the call is still recorded
+        }
+
+        assertEquals(1, recorder.snapshot().get("CollectionUtils.filter").getCalls());
+    }
+
+    @Test
+    void testReset() {
+        CollectionUtils.uniq(Arrays.asList(1, 1, 2));
+
+        recorder.reset();
+
+        MethodMetrics uniq = recorder.snapshot().get("CollectionUtils.uniq");
+        assertEquals(0, uniq.getCalls());
+        assertEquals(0.0, uniq.getMeanNanos());
+        assertArrayEquals(new long[MethodMetrics.BUCKETS], uniq.getSizeHistogram());
+    }
+
+    @Test
+    void testBucketOf() {
+        assertEquals(0, MethodMetrics.bucketOf(0));
+        assertEquals(1, MethodMetrics.bucketOf(1));
+        assertEquals(2, MethodMetrics.bucketOf(2));
+        assertEquals(2, MethodMetrics.bucketOf(3));
+        assertEquals(11, MethodMetrics.bucketOf(1024));
+        assertEquals(MethodMetrics.BUCKETS - 1, MethodMetrics.bucketOf(Long.MAX_VALUE));
+    }
+}
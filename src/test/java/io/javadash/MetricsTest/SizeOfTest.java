@@ -0,0 +1,53 @@
+package io.javadash.MetricsTest;
+
+import static io.javadash.metrics.Metrics.sizeOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class SizeOfTest {
+
+    @Test
+    void testSizeOfCollection() {
+        assertEquals(3, sizeOf(Arrays.asList(1, 2, 3)));
+        assertEquals(0, sizeOf(Collections.emptyList()));
+    }
+
+    @Test
+    void testSizeOfMap() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals(2, sizeOf(map));
+    }
+
+    @Test
+    void testSizeOfString() {
+        assertEquals(5, sizeOf("hello"));
+    }
+
+    @Test
+    void testSizeOfVarargsOfCollections() {
+        Collection<?>[] collections = {Arrays.asList(1, 2), null, Collections.singletonList(3)};
+
+        assertEquals(3, sizeOf(collections));
+    }
+
+    @Test
+    void testSizeOfArrays() {
+        assertEquals(2, sizeOf(new Integer[]{1, 2}));
+        assertEquals(4, sizeOf(new int[]{1, 2, 3, 4}));
+    }
+
+    @Test
+    void testSizeOfUnsizedValues() {
+        assertEquals(0, sizeOf(null));
+        assertEquals(0, sizeOf(42));
+    }
+}
@@ -0,0 +1,69 @@
+package io.javadash.NumberUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.NumberUtils;
+import io.javadash.primitive.DoubleColumn;
+import io.javadash.primitive.LongColumn;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+public class ColumnAggregationTest {
+
+    @Test
+    void testDoubleColumn() {
+        try (DoubleColumn column = DoubleColumn.of(2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0)) {
+            assertEquals(40.0, NumberUtils.sumOf(column));
+            assertEquals(OptionalDouble.of(5.0), NumberUtils.meanOf(column));
+            assertEquals(OptionalDouble.of(2.0), NumberUtils.minOf(column));
+            assertEquals(OptionalDouble.of(9.0), NumberUtils.maxOf(column));
+            assertEquals(OptionalDouble.of(4.0), NumberUtils.varianceOf(column));
+        }
+    }
+
+    @Test
+    void testLongColumn() {
+        try (LongColumn column = LongColumn.of(2L, 4L, 4L, 4L, 5L, 5L, 7L, 9L)) {
+            assertEquals(40L, NumberUtils.sumOf(column));
+            assertEquals(OptionalDouble.of(5.0), NumberUtils.meanOf(column));
+            assertEquals(OptionalLong.of(2L), NumberUtils.minOf(column));
+            assertEquals(OptionalLong.of(9L), NumberUtils.maxOf(column));
+            assertEquals(OptionalDouble.of(4.0), NumberUtils.varianceOf(column));
+        }
+    }
+
+    @Test
+    void testMatchesSumDouble() {
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0.1 * (i % 7);
+        }
+        try (DoubleColumn column = DoubleColumn.of(values)) {
+            assertEquals(NumberUtils.sumDouble(Arrays.asList(Arrays.stream(values).boxed().toArray(Double[]::new))),
+                NumberUtils.sumOf(column), 1e-9);
+        }
+    }
+
+    @Test
+    void testNullAndEmptyColumns() {
+        assertEquals(0.0, NumberUtils.sumOf((DoubleColumn) null));
+        assertEquals(0L, NumberUtils.sumOf((LongColumn) null));
+        assertFalse(NumberUtils.meanOf((DoubleColumn) null).isPresent());
+        assertFalse(NumberUtils.varianceOf((LongColumn) null).isPresent());
+        try (DoubleColumn empty = new DoubleColumn()) {
+            assertEquals(0.0, NumberUtils.sumOf(empty));
+            assertFalse(NumberUtils.minOf(empty).isPresent());
+            assertFalse(NumberUtils.maxOf(empty).isPresent());
+            assertFalse(NumberUtils.varianceOf(empty).isPresent());
+        }
+    }
+
+    @Test
+    void testClosedColumnThrows() {
+        DoubleColumn column = DoubleColumn.of(1.0);
+        column.close();
+        assertThrows(IllegalStateException.class, () -> NumberUtils.sumOf(column));
+    }
+}
@@ -7,6 +7,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class SumByTest {
@@ -88,4 +89,21 @@ void testSumByDouble() {
         // Test with null collection
         assertEquals(0.0, NumberUtils.sumByDouble(null, iteratee), "Sum of null collection should be 0.0");
     }
+
+    @Test
+    void testSumByIterable() {
+        Stream<Integer> integers = Stream.of(1, null, 3, 4);
+        assertEquals(16, NumberUtils.sumByInt(integers::iterator, i -> i * 2), "Sum should be 16 (1*2 + 3*2 + 4*2)");
+
+        Stream<Long> longs = Stream.of(10L, 20L, null);
+        assertEquals(30L, NumberUtils.sumByLong(longs::iterator, l -> l), "Sum should be 30");
+
+        Stream<Float> floats = Stream.of(1.5F, 2.5F);
+        assertEquals(4.0F, NumberUtils.sumByFloat(floats::iterator, f -> f), "Sum should be 4.0F");
+
+        Stream<Double> doubles = Stream.of(1.1, 2.2, 3.3);
+        assertEquals(13.2, NumberUtils.sumByDouble(doubles::iterator, d -> d * 2), 1e-9, "Sum should be 13.2");
+
+        assertEquals(0.0, NumberUtils.sumByDouble((Iterable<Double>) null, d -> d), "Sum of null iterable should be 0.0");
+    }
 }
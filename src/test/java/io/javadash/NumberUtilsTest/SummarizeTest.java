@@ -0,0 +1,55 @@
+package io.javadash.NumberUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.NumberUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.DoubleSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SummarizeTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSummarizeDoubles() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(1.5).putDouble(3.5).putDouble(-1.0);
+        Path path = directory.resolve("doubles.bin");
+        Files.write(path, buffer.array());
+
+        DoubleSummaryStatistics stats = NumberUtils.summarizeDoubles(path);
+
+        assertEquals(3L, stats.getCount());
+        assertEquals(4.0, stats.getSum());
+        assertEquals(-1.0, stats.getMin());
+        assertEquals(3.5, stats.getMax());
+    }
+
+    @Test
+    void testSummarizeLongs() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(40L).putLong(2L);
+        Path path = directory.resolve("longs.bin");
+        Files.write(path, buffer.array());
+
+        LongSummaryStatistics stats = NumberUtils.summarizeLongs(path);
+
+        assertEquals(42L, stats.getSum());
+        assertEquals(21.0, stats.getAverage());
+    }
+
+    @Test
+    void testNullAndMissingPaths() {
+        assertEquals(0L, NumberUtils.summarizeDoubles(null).getCount());
+        assertEquals(0L, NumberUtils.summarizeLongs(null).getCount());
+        assertThrows(UncheckedIOException.class, () -> NumberUtils.summarizeDoubles(directory.resolve("missing.bin")));
+    }
+}
@@ -0,0 +1,114 @@
+package io.javadash.ParallelCollectionUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.CollectionUtils;
+import io.javadash.NumberUtils;
+import io.javadash.ParallelCollectionUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class EquivalenceTest {
+    private static ForkJoinPool pool;
+    private static ParallelCollectionUtils parallel;
+    private static List<Integer> values;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = ParallelCollectionUtils.withPool(pool).withThreshold(100);
+        values = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            values.add(i % 97 == 0 ? null : random.nextInt(1000));
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testMapFilterReject() {
+        assertEquals(CollectionUtils.map(values, v -> v % 3 == 0 ? null : v * 2),
+            parallel.map(values, v -> v % 3 == 0 ? null : v * 2));
+        assertEquals(CollectionUtils.filter(values, v -> v > 500), parallel.filter(values, v -> v > 500));
+        assertEquals(CollectionUtils.reject(values, v -> v > 500), parallel.reject(values, v -> v > 500));
+    }
+
+    @Test
+    void testGroupByCountByKeyBy() {
+        assertEquals(CollectionUtils.groupBy(values, v -> v % 10), parallel.groupBy(values, v -> v % 10));
+        assertEquals(CollectionUtils.countBy(values, v -> v == null ? -1 : v % 10),
+            parallel.countBy(values, v -> v == null ? -1 : v % 10));
+        assertEquals(new ArrayList<>(CollectionUtils.keyBy(values, v -> v % 100).entrySet()),
+            new ArrayList<>(parallel.keyBy(values, v -> v % 100).entrySet()));
+    }
+
+    @Test
+    void testTopByBottomBy() {
+        Comparator<Integer> byValue = Integer::compareTo;
+        List<Integer> top = parallel.topBy(values, 500, byValue);
+        List<Integer> expected = CollectionUtils.topBy(values, 500, byValue);
+
+        assertEquals(expected, top);
+        for (int i = 0; i < top.size(); i++) {
+            assertSame(expected.get(i), top.get(i));
+        }
+        assertEquals(CollectionUtils.bottomBy(values, 500, byValue), parallel.bottomBy(values, 500, byValue));
+        assertEquals(CollectionUtils.topByKey(values, 500, v -> v % 100),
+            parallel.topByKey(values, 500, v -> v % 100));
+    }
+
+    @Test
+    void testPartition() {
+        assertEquals(CollectionUtils.partition(values, v -> v % 2 == 0), parallel.partition(values, v -> v % 2 == 0));
+    }
+
+    @Test
+    void testReduce() {
+        assertEquals(CollectionUtils.reduce(values, 0, Integer::sum), parallel.reduce(values, 0, Integer::sum));
+        assertEquals(Integer.valueOf(values.size() - 516),
+            parallel.reduce(values, 0, (count, v) -> count + 1, Integer::sum));
+        assertEquals("identity",
+            parallel.reduce(Collections.<Integer>emptyList(), "identity", (s, v) -> s, String::concat));
+    }
+
+    @Test
+    void testSumBy() {
+        List<Integer> integers = CollectionUtils.filter(values, v -> true);
+        List<Long> longs = CollectionUtils.map(integers, v -> (long) v * Integer.MAX_VALUE);
+        List<Double> doubles = CollectionUtils.map(integers, v -> v / 7.0);
+
+        assertEquals(NumberUtils.sumByInt(integers, v -> v * 100_000), parallel.sumByInt(integers, v -> v * 100_000));
+        assertEquals(NumberUtils.sumByLong(longs, v -> v), parallel.sumByLong(longs, v -> v));
+        assertEquals(NumberUtils.sumByDouble(doubles, v -> v), parallel.sumByDouble(doubles, v -> v), 1e-6);
+    }
+
+    @Test
+    void testEverySome() {
+        List<Integer> integers = CollectionUtils.filter(values, v -> true);
+
+        assertTrue(parallel.every(integers, v -> v < 1000));
+        assertFalse(parallel.every(integers, v -> v < 999));
+        assertFalse(parallel.every(values, v -> v != null));
+        assertTrue(parallel.some(values, v -> v == 999));
+        assertFalse(parallel.some(values, v -> v > 1000));
+    }
+
+    @Test
+    void testNonListInput() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>(CollectionUtils.filter(values, v -> true));
+
+        assertEquals(CollectionUtils.map(set, v -> v + 1), parallel.map(set, v -> v + 1));
+    }
+}
@@ -0,0 +1,74 @@
+package io.javadash.ParallelCollectionUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.ParallelCollectionUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class PoolTest {
+
+    @Test
+    void testRunsOnSuppliedPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+            ParallelCollectionUtils.withPool(pool).map(values, v -> threads.add(Thread.currentThread().getName()));
+
+            assertFalse(threads.isEmpty());
+            threads.forEach(name -> assertFalse(name.startsWith("ForkJoinPool.commonPool"), name));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSequentialBelowThreshold() {
+        String caller = Thread.currentThread().getName();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelCollectionUtils.withCommonPool().map(Arrays.asList(1, 2, 3),
+            v -> threads.add(Thread.currentThread().getName()));
+
+        assertEquals(Collections.singleton(caller), threads);
+    }
+
+    @Test
+    void testSomeStopsEarly() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            AtomicInteger calls = new AtomicInteger();
+            List<Integer> values = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toList());
+
+            assertTrue(ParallelCollectionUtils.withPool(pool).some(values, v -> {
+                calls.incrementAndGet();
+                return true;
+            }));
+            assertTrue(calls.get() < values.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testNullAndEmptyInputs() {
+        ParallelCollectionUtils parallel = ParallelCollectionUtils.withCommonPool();
+
+        assertEquals(Collections.emptyList(), parallel.map(null, v -> v));
+        assertEquals(Collections.emptyMap(), parallel.groupBy(Collections.emptyList(), v -> v));
+        assertFalse(parallel.every(null, v -> true));
+        assertEquals(0, parallel.<Integer>sumByInt(null, v -> v));
+        assertThrows(NullPointerException.class, () -> parallel.filter(null, null));
+        assertThrows(IllegalArgumentException.class, () -> parallel.withThreshold(0));
+    }
+}
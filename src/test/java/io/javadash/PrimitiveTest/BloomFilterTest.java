@@ -0,0 +1,149 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.BloomFilter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BloomFilterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter<Long> filter = BloomFilter.create(100_000, 0.01);
+        for (long id = 0; id < 100_000; id++) {
+            filter.put(id * 7);
+        }
+        for (long id = 0; id < 100_000; id++) {
+            assertTrue(filter.mightContain(id * 7));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateIsNearTarget() {
+        for (double rate : new double[] {0.01, 0.001}) {
+            BloomFilter<String> filter = BloomFilter.create(50_000, rate);
+            for (int i = 0; i < 50_000; i++) {
+                filter.put("user-" + i);
+            }
+            int falsePositives = 0;
+            for (int i = 50_000; i < 250_000; i++) {
+                if (filter.mightContain("user-" + i)) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives / 200_000.0 < rate * 1.5, rate + ": " + falsePositives);
+            assertEquals(rate, filter.expectedFalsePositiveRate(), rate * 0.5);
+        }
+    }
+
+    @Test
+    void testSizing() {
+        BloomFilter<Long> filter = BloomFilter.create(1_000_000, 0.01);
+        assertEquals(0, filter.bitSize() % 64);
+        assertEquals(9.6, filter.bitSize() / 1_000_000.0, 0.1);
+        assertEquals(7, filter.hashFunctions());
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+        assertEquals(64, BloomFilter.create(0, 0.5).bitSize());
+
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(Long.MAX_VALUE / 8, 0.01));
+    }
+
+    @Test
+    void testPutReportsChange() {
+        BloomFilter<String> filter = BloomFilter.create(100, 0.01);
+        assertTrue(filter.put("a"));
+        assertFalse(filter.put("a"));
+        assertFalse(filter.mightContain(null));
+        filter.put(null);
+        assertTrue(filter.mightContain(null));
+    }
+
+    @Test
+    void testDefaultHashAgreesAcrossIntegralTypes() {
+        assertEquals(BloomFilter.hash(5L), BloomFilter.hash(5));
+        assertEquals(BloomFilter.hash(5L), BloomFilter.hash((short) 5));
+        assertEquals(BloomFilter.hash("id"), BloomFilter.hash(new StringBuilder("id")));
+        assertNotEquals(BloomFilter.hash(1L), BloomFilter.hash(2L));
+
+        BloomFilter<Number> filter = BloomFilter.create(10, 0.01);
+        filter.put(42);
+        assertTrue(filter.mightContain(42L));
+    }
+
+    @Test
+    void testCustomHasher() {
+        BloomFilter<String> filter =
+            BloomFilter.create(10, 0.01, value -> BloomFilter.hash(value.toLowerCase()), false);
+        filter.putAll(Arrays.asList("Alice", "BOB"));
+        assertTrue(filter.mightContain("alice"));
+        assertTrue(filter.mightContain("bob"));
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        Path path = directory.resolve("ids.bloom");
+        try (BloomFilter<Long> filter = BloomFilter.create(20_000, 0.01, BloomFilter::hash, true)) {
+            assertTrue(filter.isOffHeap());
+            for (long id = 0; id < 20_000; id++) {
+                filter.put(id);
+            }
+            filter.writeTo(path);
+        }
+        assertEquals(20, Files.size(path) - BloomFilter.create(20_000, 0.01).bitSize() / 8);
+
+        try (BloomFilter<Long> onHeap = BloomFilter.readFrom(path);
+             BloomFilter<Long> offHeap = BloomFilter.readFrom(path, BloomFilter::hash, true)) {
+            for (long id = 0; id < 20_000; id++) {
+                assertTrue(onHeap.mightContain(id));
+                assertTrue(offHeap.mightContain(id));
+            }
+            int agree = 0;
+            for (long id = 20_000; id < 30_000; id++) {
+                agree += onHeap.mightContain(id) == offHeap.mightContain(id) ? 1 : 0;
+            }
+            assertEquals(10_000, agree);
+            assertFalse(onHeap.isOffHeap());
+            assertEquals(onHeap.expectedFalsePositiveRate(), offHeap.expectedFalsePositiveRate());
+        }
+    }
+
+    @Test
+    void testReadRejectsOtherData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BloomFilter<String> filter = BloomFilter.create(100, 0.01);
+        filter.put("a");
+        filter.writeTo(out);
+        byte[] bytes = out.toByteArray();
+
+        BloomFilter<String> copy = BloomFilter.readFrom(new ByteArrayInputStream(bytes), BloomFilter::hash, false);
+        assertTrue(copy.mightContain("a"));
+        assertThrows(IOException.class, () -> BloomFilter.readFrom(
+            new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)), BloomFilter::hash, false));
+        bytes[0] ^= 1;
+        assertThrows(IOException.class,
+            () -> BloomFilter.readFrom(new ByteArrayInputStream(bytes), BloomFilter::hash, false));
+    }
+
+    @Test
+    void testClose() {
+        BloomFilter<String> filter = BloomFilter.create(100, 0.01, BloomFilter::hash, true);
+        filter.close();
+        filter.close();
+        assertTrue(filter.isClosed());
+        assertThrows(IllegalStateException.class, () -> filter.put("a"));
+        assertThrows(IllegalStateException.class, () -> filter.mightContain("a"));
+    }
+}
@@ -0,0 +1,59 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.DoubleColumn;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+public class DoubleColumnTest {
+
+    @Test
+    void testAppendGetSet() {
+        try (DoubleColumn column = new DoubleColumn()) {
+            for (int i = 0; i < 5000; i++) {
+                column.append(i * 0.5);
+            }
+            assertEquals(5000L, column.size());
+            assertEquals(1249.5, column.get(2499L));
+            column.set(0L, -1.0);
+            assertEquals(-1.0, column.get(0L));
+            assertThrows(IndexOutOfBoundsException.class, () -> column.get(5000L));
+        }
+    }
+
+    @Test
+    void testAppendAllAcrossGrowth() {
+        double[] values = new double[3000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        try (DoubleColumn column = DoubleColumn.of(1.0, 2.0)) {
+            column.appendAll(values).append(-5.0);
+            assertEquals(3003L, column.size());
+            assertEquals(2.0, column.get(1L));
+            assertEquals(2999.0, column.get(3001L));
+            assertEquals(OptionalDouble.of(-5.0), column.min());
+        }
+    }
+
+    @Test
+    void testNaNPropagates() {
+        try (DoubleColumn column = DoubleColumn.of(1.0, Double.NaN)) {
+            assertTrue(Double.isNaN(column.max().getAsDouble()));
+            assertTrue(Double.isNaN(column.sum()));
+        }
+    }
+
+    @Test
+    void testCloseIsIdempotentAndFinal() {
+        DoubleColumn column = DoubleColumn.of(1.0, 2.0);
+        column.close();
+        column.close();
+        assertTrue(column.isClosed());
+        assertEquals(0L, column.size());
+        assertThrows(IllegalStateException.class, () -> column.append(3.0));
+        assertThrows(IllegalStateException.class, () -> column.get(0L));
+        assertThrows(IllegalStateException.class, column::mean);
+    }
+}
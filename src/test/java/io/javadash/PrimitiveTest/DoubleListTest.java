@@ -0,0 +1,64 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.DoubleList;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+public class DoubleListTest {
+
+    @Test
+    void testWrapDoesNotCopy() {
+        double[] array = {1.5, 2.5};
+        DoubleList list = DoubleList.wrap(array);
+
+        array[1] = 3.5;
+
+        assertEquals(5.0, list.sum());
+    }
+
+    @Test
+    void testSumIsCompensated() {
+        DoubleList list = new DoubleList();
+        for (int i = 0; i < 10; i++) {
+            list.add(0.1);
+        }
+        assertEquals(Arrays.stream(list.toArray()).sum(), list.sum());
+        assertEquals(1.0, list.sum());
+    }
+
+    @Test
+    void testMinMaxMean() {
+        DoubleList list = DoubleList.of(2.0, -1.5, 4.0);
+        assertEquals(OptionalDouble.of(-1.5), list.min());
+        assertEquals(OptionalDouble.of(4.0), list.max());
+        assertEquals(OptionalDouble.of(1.5), list.mean());
+        assertFalse(new DoubleList().min().isPresent());
+    }
+
+    @Test
+    void testMinMaxPropagateNaN() {
+        DoubleList list = DoubleList.of(1.0, Double.NaN, 2.0);
+        assertTrue(Double.isNaN(list.min().getAsDouble()));
+        assertTrue(Double.isNaN(list.max().getAsDouble()));
+    }
+
+    @Test
+    void testEqualityFollowsDoubleEquals() {
+        DoubleList list = DoubleList.of(Double.NaN, 0.0, -0.0, Double.NaN, 0.0);
+        assertEquals(DoubleList.of(Double.NaN, 0.0, -0.0), list.uniq());
+        assertEquals(0, list.indexOf(Double.NaN));
+        assertEquals(2, list.indexOf(-0.0));
+        assertEquals(4, list.lastIndexOf(0.0));
+    }
+
+    @Test
+    void testSortAndSlice() {
+        DoubleList list = DoubleList.of(Double.NaN, 3.0, -0.0, 0.0, -1.0).sort();
+        assertEquals(DoubleList.of(-1.0, -0.0, 0.0, 3.0, Double.NaN), list);
+        assertEquals(DoubleList.of(0.0, 3.0), list.slice(2, 4));
+        assertEquals("[-1.0, -0.0, 0.0, 3.0, NaN]", list.toString());
+    }
+}
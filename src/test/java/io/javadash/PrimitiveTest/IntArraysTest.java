@@ -0,0 +1,72 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.CollectionUtils;
+import io.javadash.primitive.IntArrays;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class IntArraysTest {
+
+    @Test
+    void testUniq() {
+        assertArrayEquals(new int[] {2, 1, 0}, IntArrays.uniq(new int[] {2, 1, 2, 0, 1, 0}));
+        assertArrayEquals(new int[0], IntArrays.uniq(null));
+    }
+
+    @Test
+    void testDifference() {
+        assertArrayEquals(new int[] {1}, IntArrays.difference(new int[] {2, 1, 2}, new int[] {2, 3}));
+        assertArrayEquals(new int[] {1, 2}, IntArrays.difference(new int[] {1, 2, 1}, (int[]) null));
+        assertArrayEquals(new int[] {1, 2, 1}, IntArrays.difference(new int[] {1, 2, 1}));
+        assertArrayEquals(new int[0], IntArrays.difference(null, new int[] {1}));
+    }
+
+    @Test
+    void testIntersection() {
+        assertArrayEquals(new int[] {2, 0}, IntArrays.intersection(new int[] {2, 1, 0, 2}, new int[] {0, 2},
+            new int[] {2, 0, 5}));
+        assertArrayEquals(new int[0], IntArrays.intersection(new int[] {1}, new int[] {1}, new int[0]));
+        assertArrayEquals(new int[0], IntArrays.intersection(new int[] {1}));
+    }
+
+    @Test
+    void testUnion() {
+        assertArrayEquals(new int[] {2, 1, 3}, IntArrays.union(new int[] {2}, null, new int[] {1, 2, 3}));
+        assertArrayEquals(new int[0], IntArrays.union());
+    }
+
+    @Test
+    void testXor() {
+        assertArrayEquals(new int[] {1, 3}, IntArrays.xor(new int[] {2, 1, 1}, new int[] {2, 3}));
+        assertArrayEquals(new int[] {1, 5}, IntArrays.xor(new int[] {1, 2}, null, new int[] {2, 3},
+            new int[] {3, 5, 5}));
+        assertArrayEquals(new int[] {0, 1}, IntArrays.xor(new int[] {0, 1, 0}));
+    }
+
+    @Test
+    void testMatchesCollectionUtils() {
+        Random random = new Random(3);
+        int[] a = random.ints(5000, -50, 2000).toArray();
+        int[] b = random.ints(3000, 0, 2500).toArray();
+        int[] c = random.ints(4000, -100, 1500).toArray();
+
+        assertEquals(CollectionUtils.uniq(box(a)), box(IntArrays.uniq(a)));
+        assertEquals(CollectionUtils.difference(box(a), box(b), box(c)), box(IntArrays.difference(a, b, c)));
+        assertEquals(CollectionUtils.intersection(box(a), box(b), box(c)), box(IntArrays.intersection(a, b, c)));
+        assertEquals(CollectionUtils.union(box(a), box(b), box(c)), box(IntArrays.union(a, b, c)));
+        Collection<Integer> xor = CollectionUtils.xor(box(a), box(b), box(c));
+        assertEquals(new HashSet<>(xor), new HashSet<>(box(IntArrays.xor(a, b, c))));
+        assertEquals(xor.size(), IntArrays.xor(a, b, c).length);
+    }
+
+    private static List<Integer> box(int[] array) {
+        return Arrays.stream(array).boxed().collect(Collectors.toList());
+    }
+}
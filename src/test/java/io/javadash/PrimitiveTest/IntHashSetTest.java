@@ -0,0 +1,70 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.IntHashSet;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class IntHashSetTest {
+
+    @Test
+    void testAddContainsRemove() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(0));
+        assertTrue(set.add(-7));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertTrue(set.remove(-7));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testMatchesHashSetUnderRandomOperations() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet(4);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt(5000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (int value = -100; value < 4900; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        int[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), values);
+    }
+
+    @Test
+    void testOfAndClear() {
+        IntHashSet set = IntHashSet.of(3, 3, 0, 5);
+        assertEquals(3, set.size());
+        int[] sum = {0};
+        set.forEach(value -> sum[0] += value);
+        assertEquals(8, sum[0]);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(3));
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    void testNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+    }
+}
@@ -0,0 +1,153 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.IntList;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+public class IntListTest {
+
+    @Test
+    void testAddGrowsBackingArray() {
+        IntList list = new IntList(2);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(99, list.get(99));
+    }
+
+    @Test
+    void testWrapDoesNotCopy() {
+        int[] array = {1, 2, 3};
+        IntList list = IntList.wrap(array);
+
+        list.set(0, 10);
+        array[2] = 30;
+
+        assertEquals(10, array[0]);
+        assertEquals(30, list.get(2));
+    }
+
+    @Test
+    void testWrapDetachesWhenGrowing() {
+        int[] array = {1, 2};
+        IntList list = IntList.wrap(array).add(3);
+
+        list.set(0, 10);
+
+        assertEquals(1, array[0]);
+        assertArrayEquals(new int[] {10, 2, 3}, list.toArray());
+    }
+
+    @Test
+    void testOfCopies() {
+        int[] array = {1, 2};
+        IntList list = IntList.of(array);
+        array[0] = 10;
+        assertEquals(1, list.get(0));
+        assertTrue(IntList.of((int[]) null).isEmpty());
+    }
+
+    @Test
+    void testFromSkipsNulls() {
+        assertEquals(IntList.of(1, 3), IntList.from(Arrays.asList(1, null, 3)));
+        assertTrue(IntList.from(null).isEmpty());
+    }
+
+    @Test
+    void testSumDoesNotOverflow() {
+        assertEquals(2L * Integer.MAX_VALUE, IntList.of(Integer.MAX_VALUE, Integer.MAX_VALUE).sum());
+        assertEquals(0L, new IntList().sum());
+    }
+
+    @Test
+    void testMinMaxMean() {
+        IntList list = IntList.of(4, -2, 7, 1);
+        assertEquals(OptionalInt.of(-2), list.min());
+        assertEquals(OptionalInt.of(7), list.max());
+        assertEquals(OptionalDouble.of(2.5), list.mean());
+
+        IntList empty = new IntList();
+        assertFalse(empty.min().isPresent());
+        assertFalse(empty.max().isPresent());
+        assertFalse(empty.mean().isPresent());
+    }
+
+    @Test
+    void testUniqKeepsFirstOccurrence() {
+        assertEquals(IntList.of(2, 1, 0, 3), IntList.of(2, 1, 2, 0, 3, 1, 0).uniq());
+        assertTrue(new IntList().uniq().isEmpty());
+    }
+
+    @Test
+    void testUniqLarge() {
+        IntList list = new IntList();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i % 1000);
+        }
+        IntList uniq = list.uniq();
+        assertEquals(1000, uniq.size());
+        assertEquals(999, uniq.get(999));
+    }
+
+    @Test
+    void testSortInPlace() {
+        IntList list = IntList.of(3, 1, 2);
+        assertSame(list, list.sort());
+        assertEquals(IntList.of(1, 2, 3), list);
+    }
+
+    @Test
+    void testSortOnlySortsSize() {
+        IntList list = new IntList(10).addAll(3, 1, 2);
+        list.sort().add(0);
+        assertEquals(IntList.of(1, 2, 3, 0), list);
+    }
+
+    @Test
+    void testIndexOf() {
+        IntList list = IntList.of(1, 2, 1, 3);
+        assertEquals(0, list.indexOf(1));
+        assertEquals(2, list.indexOf(1, 1));
+        assertEquals(2, list.lastIndexOf(1));
+        assertEquals(-1, list.indexOf(4));
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(4));
+    }
+
+    @Test
+    void testSlice() {
+        IntList list = IntList.of(1, 2, 3, 4);
+        assertEquals(IntList.of(2, 3), list.slice(1, 3));
+        assertEquals(IntList.of(3, 4), list.slice(2));
+        assertTrue(list.slice(3, 1).isEmpty());
+        assertEquals(list, list.slice(-5, 50));
+    }
+
+    @Test
+    void testGetOutOfBounds() {
+        IntList list = new IntList(10).add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+    }
+
+    @Test
+    void testAddAllSelf() {
+        IntList list = IntList.of(1, 2);
+        list.addAll(list);
+        assertEquals(IntList.of(1, 2, 1, 2), list);
+    }
+
+    @Test
+    void testStreamAndToString() {
+        IntList list = IntList.of(1, 2, 3);
+        assertEquals(6, list.stream().sum());
+        assertEquals("[1, 2, 3]", list.toString());
+        assertEquals(Arrays.asList(1, 2, 3).hashCode(), list.hashCode());
+    }
+}
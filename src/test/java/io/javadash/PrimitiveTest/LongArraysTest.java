@@ -0,0 +1,28 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.LongArrays;
+import org.junit.jupiter.api.Test;
+
+public class LongArraysTest {
+    private static final long BIG = 1L << 40;
+
+    @Test
+    void testUniq() {
+        assertArrayEquals(new long[] {BIG, 0L, BIG + 1}, LongArrays.uniq(new long[] {BIG, 0L, BIG, BIG + 1, 0L}));
+    }
+
+    @Test
+    void testDifferenceAndIntersection() {
+        long[] ids = {BIG, 2L, BIG, 3L};
+        assertArrayEquals(new long[] {2L, 3L}, LongArrays.difference(ids, new long[] {BIG}));
+        assertArrayEquals(new long[] {BIG, 3L}, LongArrays.intersection(ids, new long[] {3L, BIG}));
+    }
+
+    @Test
+    void testUnionAndXor() {
+        assertArrayEquals(new long[] {BIG, 1L, 2L}, LongArrays.union(new long[] {BIG, 1L}, new long[] {2L, BIG}));
+        assertArrayEquals(new long[] {1L, 2L}, LongArrays.xor(new long[] {BIG, 1L}, new long[] {2L, BIG}));
+    }
+}
@@ -0,0 +1,48 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.LongColumn;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+public class LongColumnTest {
+    private static final int SEGMENT_SIZE = 1 << 24;
+
+    @Test
+    void testSpansSeveralSegments() {
+        long size = SEGMENT_SIZE + 1000L;
+        try (LongColumn column = new LongColumn(size)) {
+            for (long i = 0; i < size; i++) {
+                column.append(i);
+            }
+            assertEquals(size, column.size());
+            assertEquals(SEGMENT_SIZE - 1L, column.get(SEGMENT_SIZE - 1L));
+            assertEquals(SEGMENT_SIZE, column.get(SEGMENT_SIZE));
+            assertEquals(size * (size - 1) / 2, column.sum());
+            assertEquals(OptionalLong.of(0L), column.min());
+            assertEquals(OptionalLong.of(size - 1), column.max());
+            assertEquals(OptionalDouble.of((size - 1) / 2.0), column.mean());
+        }
+    }
+
+    @Test
+    void testVarianceIsStable() {
+        try (LongColumn column = new LongColumn()) {
+            for (int i = 0; i < 1000; i++) {
+                column.append(1_000_000_000_000L + (i % 2) * 2);
+            }
+            assertEquals(1.0, column.variance().getAsDouble(), 1e-9);
+        }
+    }
+
+    @Test
+    void testForEachInOrder() {
+        try (LongColumn column = LongColumn.of(3L, 1L, 2L)) {
+            StringBuilder builder = new StringBuilder();
+            column.forEach(builder::append);
+            assertEquals("312", builder.toString());
+        }
+    }
+}
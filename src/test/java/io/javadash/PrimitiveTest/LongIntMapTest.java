@@ -0,0 +1,62 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.LongIntMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LongIntMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        LongIntMap map = new LongIntMap();
+        map.put(1L << 40, 7);
+        map.put(0L, 3);
+        map.put(1L << 40, 8);
+
+        assertEquals(2, map.size());
+        assertEquals(8, map.getOrDefault(1L << 40, -1));
+        assertEquals(3, map.getOrDefault(0L, -1));
+        assertEquals(-1, map.getOrDefault(5L, -1));
+        assertTrue(map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testAddTo() {
+        LongIntMap map = new LongIntMap(1);
+        for (long key : new long[] {5L, 0L, 5L, 5L, 0L}) {
+            map.addTo(key, 1);
+        }
+        assertEquals(3, map.getOrDefault(5L, 0));
+        assertEquals(2, map.getOrDefault(0L, 0));
+        assertEquals(13, map.addTo(5L, 10));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        Random random = new Random(7);
+        LongIntMap map = new LongIntMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(3000) * 0x100000001L;
+            int action = random.nextInt(4);
+            if (action == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else if (action == 1) {
+                map.put(key, i);
+                expected.put(key, i);
+            } else {
+                assertEquals(expected.merge(key, 1, Integer::sum).intValue(), map.addTo(key, 1));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,54 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.LongList;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+public class LongListTest {
+
+    @Test
+    void testWrapDoesNotCopy() {
+        long[] array = {1L, 2L, 3L};
+        LongList list = LongList.wrap(array);
+
+        list.set(0, 10L);
+
+        assertEquals(10L, array[0]);
+        assertEquals(15L, list.sum());
+    }
+
+    @Test
+    void testAggregations() {
+        LongList list = LongList.of(Long.MIN_VALUE, 5L, Long.MAX_VALUE);
+        assertEquals(OptionalLong.of(Long.MIN_VALUE), list.min());
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), list.max());
+        assertEquals(OptionalDouble.of(2.0), LongList.of(1L, 2L, 3L).mean());
+        assertFalse(new LongList().mean().isPresent());
+    }
+
+    @Test
+    void testUniqKeepsFirstOccurrence() {
+        assertEquals(LongList.of(0L, -1L, 1L << 40), LongList.of(0L, -1L, 1L << 40, 0L, 1L << 40).uniq());
+    }
+
+    @Test
+    void testSortIndexOfSlice() {
+        LongList list = LongList.of(30L, 10L, 20L).sort();
+        assertEquals(LongList.of(10L, 20L, 30L), list);
+        assertEquals(1, list.indexOf(20L));
+        assertEquals(-1, list.lastIndexOf(40L));
+        assertEquals(LongList.of(20L), list.slice(1, 2));
+    }
+
+    @Test
+    void testFromAndToString() {
+        LongList list = LongList.from(Arrays.asList(1L, null, 2L));
+        assertArrayEquals(new long[] {1L, 2L}, list.toArray());
+        assertEquals("[1, 2]", list.toString());
+        assertEquals(Arrays.asList(1L, 2L).hashCode(), list.hashCode());
+    }
+}
@@ -0,0 +1,132 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.MappedDoubleFile;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedDoubleFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAggregatesSmallFile() throws IOException {
+        Path path = write(ByteOrder.LITTLE_ENDIAN, 1.5, -2.0, 4.5);
+        try (MappedDoubleFile file = MappedDoubleFile.open(path)) {
+            assertEquals(3L, file.size());
+            assertEquals(-2.0, file.get(1));
+            assertEquals(4.0, file.sum());
+            assertEquals(OptionalDouble.of(4.0 / 3), file.mean());
+            assertEquals(OptionalDouble.of(-2.0), file.min());
+            assertEquals(OptionalDouble.of(4.5), file.max());
+        }
+    }
+
+    @Test
+    void testParallelMatchesSequential() throws IOException {
+        double[] values = IntStream.range(0, 3_000_001).mapToDouble(i -> (i % 1000) * 0.25 - 7).toArray();
+        Path path = write(ByteOrder.LITTLE_ENDIAN, values);
+        DoubleSummaryStatistics expected = Arrays.stream(values).summaryStatistics();
+        try (MappedDoubleFile file = MappedDoubleFile.open(path)) {
+            DoubleSummaryStatistics actual = file.summaryStatistics();
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getSum(), actual.getSum(), 1e-6);
+            assertEquals(expected.getMin(), actual.getMin());
+            assertEquals(expected.getMax(), actual.getMax());
+        }
+    }
+
+    @Test
+    void testStride() throws IOException {
+        // records of (id, value)
+        Path path = write(ByteOrder.LITTLE_ENDIAN, 1, 10, 2, 20, 3, 30);
+        try (MappedDoubleFile file = MappedDoubleFile.open(path)) {
+            DoubleSummaryStatistics values = file.summaryStatistics(1, 2);
+            assertEquals(3L, values.getCount());
+            assertEquals(60.0, values.getSum());
+            assertEquals(0L, file.summaryStatistics(6, 2).getCount());
+            assertThrows(IllegalArgumentException.class, () -> file.summaryStatistics(0, 0));
+        }
+    }
+
+    @Test
+    void testBySegment() throws IOException {
+        Path path = write(ByteOrder.LITTLE_ENDIAN, 1, 2, 3, 4, 5);
+        try (MappedDoubleFile file = MappedDoubleFile.open(path)) {
+            List<DoubleSummaryStatistics> runs = file.summaryStatisticsBySegment(2);
+            assertEquals(3, runs.size());
+            assertEquals(3.0, runs.get(0).getSum());
+            assertEquals(7.0, runs.get(1).getSum());
+            assertEquals(5.0, runs.get(2).getSum());
+        }
+    }
+
+    @Test
+    void testByteOrder() throws IOException {
+        Path path = write(ByteOrder.BIG_ENDIAN, 42.0);
+        try (MappedDoubleFile file = MappedDoubleFile.open(path, ByteOrder.BIG_ENDIAN)) {
+            assertEquals(42.0, file.get(0));
+        }
+    }
+
+    @Test
+    void testEmptyAndInvalidFiles() throws IOException {
+        try (MappedDoubleFile file = MappedDoubleFile.open(write(ByteOrder.LITTLE_ENDIAN))) {
+            assertEquals(0.0, file.sum());
+            assertFalse(file.mean().isPresent());
+            assertTrue(file.summaryStatisticsBySegment(10).isEmpty());
+        }
+        Path odd = directory.resolve("odd.bin");
+        Files.write(odd, new byte[] {1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> MappedDoubleFile.open(odd));
+    }
+
+    @Test
+    void testClosedFileThrows() throws IOException {
+        MappedDoubleFile file = MappedDoubleFile.open(write(ByteOrder.LITTLE_ENDIAN, 1.0));
+        file.close();
+        assertTrue(file.isClosed());
+        assertThrows(IllegalStateException.class, file::summaryStatistics);
+        assertThrows(IllegalStateException.class, () -> file.get(0));
+    }
+
+    @Test
+    void testCloseWaitsForRunningAggregation() throws IOException {
+        Path path = write(ByteOrder.LITTLE_ENDIAN, IntStream.range(0, 3_000_001).mapToDouble(i -> i % 1000).toArray());
+        for (int i = 0; i < 5; i++) {
+            MappedDoubleFile file = MappedDoubleFile.open(path);
+            CompletableFuture<DoubleSummaryStatistics> running = CompletableFuture.supplyAsync(file::summaryStatistics);
+            file.close();
+            // the aggregation either finished before the unmap or never started reading
+            try {
+                assertEquals(3_000_001L, running.join().getCount());
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            assertThrows(IllegalStateException.class, file::summaryStatistics);
+        }
+    }
+
+    private Path write(ByteOrder order, double... values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(order);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        Path path = Files.createTempFile(directory, "values", ".bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+}
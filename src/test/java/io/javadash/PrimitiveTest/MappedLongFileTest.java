@@ -0,0 +1,54 @@
+package io.javadash.PrimitiveTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.javadash.primitive.MappedLongFile;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedLongFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAggregates() throws IOException {
+        try (MappedLongFile file = MappedLongFile.open(write(5L, Long.MAX_VALUE, -3L))) {
+            assertEquals(OptionalLong.of(-3L), file.min());
+            assertEquals(OptionalLong.of(Long.MAX_VALUE), file.max());
+            assertEquals(5L + Long.MAX_VALUE - 3L, file.sum());
+        }
+    }
+
+    @Test
+    void testParallelStride() throws IOException {
+        int records = 1_500_000;
+        long[] values = new long[records * 2];
+        for (int i = 0; i < records; i++) {
+            values[2 * i] = i;
+            values[2 * i + 1] = 1;
+        }
+        try (MappedLongFile file = MappedLongFile.open(write(values))) {
+            LongSummaryStatistics ids = file.summaryStatistics(0, 2);
+            assertEquals(records, ids.getCount());
+            assertEquals((long) records * (records - 1) / 2, ids.getSum());
+            assertEquals(records, file.summaryStatistics(1, 2).getSum());
+        }
+    }
+
+    private Path write(long... values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long value : values) {
+            buffer.putLong(value);
+        }
+        Path path = Files.createTempFile(directory, "values", ".bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+}
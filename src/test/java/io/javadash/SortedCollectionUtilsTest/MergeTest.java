@@ -0,0 +1,86 @@
+package io.javadash.SortedCollectionUtilsTest;
+
+import static io.javadash.SortedCollectionUtils.merge;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class MergeTest {
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    void testMerge() {
+        Iterator<Integer> merged = merge(Arrays.asList(
+            Arrays.asList(1, 4, 7).iterator(),
+            Arrays.asList(2, 5).iterator(),
+            Arrays.asList(3, 4).iterator()));
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 4, 5, 7), drain(merged));
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    @Test
+    void testMergeMatchesSort() {
+        Random random = new Random(7);
+        List<Iterator<Integer>> iterators = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<Integer> values = random.ints(random.nextInt(200), 0, 500).sorted().boxed()
+                .collect(Collectors.toList());
+            expected.addAll(values);
+            iterators.add(values.iterator());
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected, drain(merge(iterators)));
+    }
+
+    @Test
+    void testMergeIsStableAcrossIterators() {
+        Comparator<String> byLength = Comparator.comparing(String::length);
+        Iterator<String> merged = merge(Arrays.asList(
+            Arrays.asList("b", "dd", "fff").iterator(),
+            Arrays.asList("a", "cc").iterator(),
+            Arrays.asList("e", "gg").iterator()), byLength);
+
+        assertEquals(Arrays.asList("b", "a", "e", "dd", "cc", "gg", "fff"), drain(merged));
+    }
+
+    @Test
+    void testMergeIsLazy() {
+        Iterator<Integer> evens = Stream.iterate(0, n -> n + 2).iterator();
+        Iterator<Integer> odds = Stream.iterate(1, n -> n + 2).iterator();
+        Iterator<Integer> merged = merge(Arrays.asList(evens, odds));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, merged.next());
+        }
+    }
+
+    @Test
+    void testMergeSkipsNullAndEmptyIterators() {
+        List<Iterator<Integer>> iterators = Arrays.asList(null, Collections.emptyIterator(),
+            Arrays.asList(2, 3).iterator(), null, Collections.singletonList(1).iterator());
+
+        assertEquals(Arrays.asList(1, 2, 3), drain(merge(iterators)));
+        assertFalse(merge((List<Iterator<Integer>>) null).hasNext());
+        assertFalse(merge(Collections.<Iterator<Integer>>emptyList()).hasNext());
+    }
+}
@@ -0,0 +1,186 @@
+package io.javadash.SortedCollectionUtilsTest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.javadash.CollectionUtils;
+import io.javadash.SortedCollectionUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class SetOperationsTest {
+
+    private static List<Integer> sortedRandom(Random random, int size, int bound) {
+        return random.ints(size, 0, bound).sorted().boxed().collect(Collectors.toList());
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        List<Integer> result = new ArrayList<>(values);
+        Collections.sort(result);
+        return result;
+    }
+
+    private static int[] ints(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static long[] longs(List<Integer> values) {
+        return values.stream().mapToLong(Integer::longValue).toArray();
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    void testListOperations() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 5, 7);
+        List<Integer> other = Arrays.asList(2, 3, 5, 5, 6);
+
+        assertEquals(Arrays.asList(1, 2, 3, 5, 6, 7), SortedCollectionUtils.union(list, other));
+        assertEquals(Arrays.asList(3, 5), SortedCollectionUtils.intersection(list, other));
+        assertEquals(Arrays.asList(1, 7), SortedCollectionUtils.difference(list, other));
+        assertEquals(Arrays.asList(1, 2, 6, 7), SortedCollectionUtils.xor(list, other));
+    }
+
+    @Test
+    void testMatchesHashBasedOperations() {
+        Random random = new Random(42);
+        int[][] sizes = {{0, 10}, {1, 1000}, {50, 50}, {1000, 3}, {2000, 2000}, {10, 5000}};
+        for (int[] size : sizes) {
+            List<Integer> list = sortedRandom(random, size[0], 3000);
+            List<Integer> other = sortedRandom(random, size[1], 3000);
+
+            List<Integer> union = sorted(CollectionUtils.union(list, other));
+            List<Integer> intersection = sorted(CollectionUtils.intersection(list, other));
+            List<Integer> difference = sorted(CollectionUtils.uniq(CollectionUtils.difference(list, other)));
+            List<Integer> xor = sorted(CollectionUtils.xor(list, other));
+
+            assertEquals(union, SortedCollectionUtils.union(list, other));
+            assertEquals(intersection, SortedCollectionUtils.intersection(list, other));
+            assertEquals(difference, SortedCollectionUtils.difference(list, other));
+            assertEquals(xor, SortedCollectionUtils.xor(list, other));
+
+            assertEquals(union, drain(SortedCollectionUtils.union(list.iterator(), other.iterator())));
+            assertEquals(intersection, drain(SortedCollectionUtils.intersection(list.iterator(), other.iterator())));
+            assertEquals(difference, drain(SortedCollectionUtils.difference(list.iterator(), other.iterator())));
+            assertEquals(xor, drain(SortedCollectionUtils.xor(list.iterator(), other.iterator())));
+
+            assertArrayEquals(ints(union), SortedCollectionUtils.union(ints(list), ints(other)));
+            assertArrayEquals(ints(intersection), SortedCollectionUtils.intersection(ints(list), ints(other)));
+            assertArrayEquals(ints(difference), SortedCollectionUtils.difference(ints(list), ints(other)));
+            assertArrayEquals(ints(xor), SortedCollectionUtils.xor(ints(list), ints(other)));
+
+            assertArrayEquals(longs(union), SortedCollectionUtils.union(longs(list), longs(other)));
+            assertArrayEquals(longs(intersection), SortedCollectionUtils.intersection(longs(list), longs(other)));
+            assertArrayEquals(longs(difference), SortedCollectionUtils.difference(longs(list), longs(other)));
+            assertArrayEquals(longs(xor), SortedCollectionUtils.xor(longs(list), longs(other)));
+        }
+    }
+
+    @Test
+    void testGallopingAtArrayBounds() {
+        int[] large = new int[100_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2;
+        }
+        int[] probes = {-1, 0, 3, 199_998, 199_999, Integer.MAX_VALUE};
+
+        assertArrayEquals(new int[]{0, 199_998}, SortedCollectionUtils.intersection(probes, large));
+        assertArrayEquals(new int[]{-1, 3, 199_999, Integer.MAX_VALUE},
+            SortedCollectionUtils.difference(probes, large));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MAX_VALUE},
+            SortedCollectionUtils.difference(new long[]{Long.MIN_VALUE, 4, Long.MAX_VALUE}, new long[]{2, 4, 6}));
+    }
+
+    @Test
+    void testWithComparator() {
+        List<String> list = Arrays.asList("pear", "Fig", "apple");
+        List<String> other = Arrays.asList("plum", "fig", "Date");
+        Comparator<String> ignoreCase = String.CASE_INSENSITIVE_ORDER.reversed();
+
+        assertEquals(Arrays.asList("plum", "pear", "Fig", "Date", "apple"),
+            SortedCollectionUtils.union(list, other, ignoreCase));
+        assertEquals(Collections.singletonList("Fig"), SortedCollectionUtils.intersection(list, other, ignoreCase));
+        assertEquals(Arrays.asList("pear", "apple"), SortedCollectionUtils.difference(list, other, ignoreCase));
+        assertEquals(Arrays.asList("plum", "pear", "Date", "apple"),
+            SortedCollectionUtils.xor(list, other, ignoreCase));
+    }
+
+    @Test
+    void testIntersectionTakesValuesFromFirstList() {
+        List<String> list = Arrays.asList("A", "B", "C", "D", "E");
+        List<String> other = Arrays.asList("b", "d");
+
+        assertEquals(Arrays.asList("B", "D"),
+            SortedCollectionUtils.intersection(list, other, String.CASE_INSENSITIVE_ORDER));
+    }
+
+    @Test
+    void testNonRandomAccessLists() {
+        List<Integer> list = new LinkedList<>(Arrays.asList(1, 2, 4, 8, 16));
+        List<Integer> other = new LinkedList<>(Arrays.asList(2, 3, 4));
+
+        assertEquals(Arrays.asList(2, 4), SortedCollectionUtils.intersection(list, other));
+        assertEquals(Arrays.asList(1, 8, 16), SortedCollectionUtils.difference(list, other));
+    }
+
+    @Test
+    void testIteratorsAreLazy() {
+        Iterator<Integer> evens = Stream.iterate(0, n -> n + 2).iterator();
+        Iterator<Integer> threes = Stream.iterate(0, n -> n + 3).iterator();
+        Iterator<Integer> sixes = SortedCollectionUtils.intersection(evens, threes);
+
+        assertEquals(0, sixes.next());
+        assertEquals(6, sixes.next());
+        assertEquals(12, sixes.next());
+
+        Iterator<Integer> union = SortedCollectionUtils.union(Stream.iterate(1, n -> n + 2).iterator(),
+            Stream.iterate(0, n -> n + 2).iterator());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, union.next());
+        }
+    }
+
+    @Test
+    void testIntersectionStopsReadingWhenEitherSideEnds() {
+        Iterator<Integer> naturals = Stream.iterate(0, n -> n + 1).iterator();
+        Iterator<Integer> result = SortedCollectionUtils.intersection(Arrays.asList(2, 4).iterator(), naturals);
+
+        assertEquals(Arrays.asList(2, 4), drain(result));
+        // 5 was read to look past the last match, and nothing after it
+        assertEquals(6, naturals.next());
+        assertThrows(NoSuchElementException.class, result::next);
+    }
+
+    @Test
+    void testNullInputs() {
+        List<Integer> values = Arrays.asList(1, 2, 2);
+
+        assertEquals(Arrays.asList(1, 2), SortedCollectionUtils.union(values, (List<Integer>) null));
+        assertEquals(Collections.emptyList(), SortedCollectionUtils.intersection((List<Integer>) null, values));
+        assertEquals(Arrays.asList(1, 2), SortedCollectionUtils.difference(values, (List<Integer>) null));
+        assertEquals(Collections.emptyList(), SortedCollectionUtils.difference((List<Integer>) null, values));
+        assertEquals(Arrays.asList(1, 2), SortedCollectionUtils.xor((List<Integer>) null, values));
+
+        assertFalse(SortedCollectionUtils.union((Iterator<Integer>) null, (Iterator<Integer>) null).hasNext());
+        assertArrayEquals(new int[]{1, 2}, SortedCollectionUtils.union(new int[]{1, 1, 2}, (int[]) null));
+        assertArrayEquals(new int[0], SortedCollectionUtils.intersection((int[]) null, new int[]{1}));
+        assertArrayEquals(new long[]{3}, SortedCollectionUtils.xor((long[]) null, new long[]{3, 3}));
+        assertArrayEquals(new long[0], SortedCollectionUtils.difference((long[]) null, new long[]{1}));
+    }
+}
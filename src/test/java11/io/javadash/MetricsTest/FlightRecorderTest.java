@@ -0,0 +1,52 @@
+package io.javadash.MetricsTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.javadash.CollectionUtils;
+import io.javadash.metrics.Metrics;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs only in the {@code flight-recorder} surefire execution of the {@code java11} profile, which puts the JDK 11
+ * classes first and starts the JVM with {@code javadash.jfr.enabled} and a {@code javadash.jfr.minInputSize} of 1,000.
+ */
+public class FlightRecorderTest {
+    @Test
+    void testFlightRecorderIsEnabled() {
+        assertTrue(Metrics.FLIGHT_RECORDER_ENABLED);
+    }
+
+    @Test
+    void testRecordsOperationEvent() throws Exception {
+        List<Integer> large = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Path file = Files.createTempFile("javadash", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.javadash.Operation");
+            recording.start();
+            CollectionUtils.chunk(large, 10);
+            CollectionUtils.chunk(large.subList(0, 999), 10);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.javadash.Operation"))
+                .collect(Collectors.toList());
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("CollectionUtils.chunk", event.getString("method"));
+            assertEquals(1000, event.getLong("inputSize"));
+            assertTrue(event.getLong("elapsed") > 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}